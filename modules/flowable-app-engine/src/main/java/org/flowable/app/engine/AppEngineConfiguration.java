@@ -98,10 +98,13 @@ import org.flowable.variable.service.impl.types.LongStringType;
 import org.flowable.variable.service.impl.types.LongType;
 import org.flowable.variable.service.impl.types.NullType;
 import org.flowable.variable.service.impl.types.SerializableType;
+import org.flowable.variable.service.impl.types.SerializableVariableCodec;
 import org.flowable.variable.service.impl.types.ShortType;
 import org.flowable.variable.service.impl.types.StringType;
 import org.flowable.variable.service.impl.types.UUIDType;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 public class AppEngineConfiguration extends AbstractBuildableEngineConfiguration<AppEngine> implements
         AppEngineConfigurationApi, HasExpressionManagerEngineConfiguration, HasVariableTypes {
 
@@ -142,6 +145,12 @@ public class AppEngineConfiguration extends AbstractBuildableEngineConfiguration
     protected List<VariableType> customPostVariableTypes;
     protected VariableServiceConfiguration variableServiceConfiguration;
     protected boolean serializableVariableTypeTrackDeserializedObjects = true;
+
+    /**
+     * The codecs that write the values of 'serializable' variables of the classes they can encode, instead of Java serialization.
+     */
+    protected List<SerializableVariableCodec> serializableVariableTypeCodecs;
+
     /**
      * This flag determines whether variables of the type 'json' and 'longJson' will be tracked.
      * <p>
@@ -154,6 +163,25 @@ public class AppEngineConfiguration extends AbstractBuildableEngineConfiguration
      */
     protected boolean jsonVariableTypeTrackObjects = true;
 
+    /**
+     * The object mapper that encodes the 'json' variables that are too long to be stored as text, e.g. an object mapper with a Smile or CBOR factory.
+     * When null (the default), these variables are stored as json text. Values stored as json text can always be read.
+     */
+    protected ObjectMapper jsonVariableTypeBinaryObjectMapper;
+
+    /**
+     * The number of bytes from which the 'json' variables that are too long to be stored as text are compressed.
+     * A negative value (the default) disables compression.
+     */
+    protected int jsonVariableTypeCompressionThreshold = -1;
+
+    /**
+     * Whether tracked 'json' and 'serializable' variables (see {@link #jsonVariableTypeTrackObjects} and {@link #serializableVariableTypeTrackDeserializedObjects})
+     * detect changes with a fingerprint of the value that is computed when it is read, instead of a copy of the value.
+     * The value is then only serialized again when the fingerprint changed, and no copy of a json value is kept in memory.
+     */
+    protected boolean trackedVariableFingerprints;
+
 
     protected BusinessCalendarManager businessCalendarManager;
 
@@ -404,12 +432,14 @@ public class AppEngineConfiguration extends AbstractBuildableEngineConfiguration
             variableTypes.addType(new JodaDateTimeType());
             variableTypes.addType(new DoubleType());
             variableTypes.addType(new UUIDType());
-            variableTypes.addType(new JsonType(getMaxLengthString(), objectMapper, jsonVariableTypeTrackObjects));
+            variableTypes.addType(configureJsonType(new JsonType(getMaxLengthString(), objectMapper, jsonVariableTypeTrackObjects)));
             // longJsonType only needed for reading purposes
-            variableTypes.addType(JsonType.longJsonType(getMaxLengthString(), objectMapper, jsonVariableTypeTrackObjects));
+            variableTypes.addType(configureJsonType(JsonType.longJsonType(getMaxLengthString(), objectMapper, jsonVariableTypeTrackObjects)));
             variableTypes.addType(new ByteArrayType());
             variableTypes.addType(new EmptyCollectionType());
-            variableTypes.addType(new SerializableType(serializableVariableTypeTrackDeserializedObjects));
+            SerializableType serializableType = new SerializableType(serializableVariableTypeTrackDeserializedObjects);
+            serializableType.setCodecs(serializableVariableTypeCodecs);
+            variableTypes.addType(serializableType);
             if (customPostVariableTypes != null) {
                 for (VariableType customVariableType : customPostVariableTypes) {
                     variableTypes.addType(customVariableType);
@@ -418,6 +448,12 @@ public class AppEngineConfiguration extends AbstractBuildableEngineConfiguration
         }
     }
     
+    protected JsonType configureJsonType(JsonType jsonType) {
+        jsonType.setBinaryObjectMapper(jsonVariableTypeBinaryObjectMapper);
+        jsonType.setCompressionThreshold(jsonVariableTypeCompressionThreshold);
+        return jsonType;
+    }
+
     public void configureVariableServiceConfiguration() {
         this.variableServiceConfiguration = new VariableServiceConfiguration(ScopeTypes.APP);
 
@@ -428,6 +464,7 @@ public class AppEngineConfiguration extends AbstractBuildableEngineConfiguration
 
         this.variableServiceConfiguration.setMaxLengthString(this.getMaxLengthString());
         this.variableServiceConfiguration.setSerializableVariableTypeTrackDeserializedObjects(this.isSerializableVariableTypeTrackDeserializedObjects());
+        this.variableServiceConfiguration.setTrackedVariableFingerprints(this.isTrackedVariableFingerprints());
     }
 
     public void initVariableServiceConfiguration() {
@@ -727,6 +764,15 @@ public class AppEngineConfiguration extends AbstractBuildableEngineConfiguration
         return this;
     }
 
+    public List<SerializableVariableCodec> getSerializableVariableTypeCodecs() {
+        return serializableVariableTypeCodecs;
+    }
+
+    public AppEngineConfiguration setSerializableVariableTypeCodecs(List<SerializableVariableCodec> serializableVariableTypeCodecs) {
+        this.serializableVariableTypeCodecs = serializableVariableTypeCodecs;
+        return this;
+    }
+
     public boolean isJsonVariableTypeTrackObjects() {
         return jsonVariableTypeTrackObjects;
     }
@@ -736,6 +782,33 @@ public class AppEngineConfiguration extends AbstractBuildableEngineConfiguration
         return this;
     }
 
+    public ObjectMapper getJsonVariableTypeBinaryObjectMapper() {
+        return jsonVariableTypeBinaryObjectMapper;
+    }
+
+    public AppEngineConfiguration setJsonVariableTypeBinaryObjectMapper(ObjectMapper jsonVariableTypeBinaryObjectMapper) {
+        this.jsonVariableTypeBinaryObjectMapper = jsonVariableTypeBinaryObjectMapper;
+        return this;
+    }
+
+    public int getJsonVariableTypeCompressionThreshold() {
+        return jsonVariableTypeCompressionThreshold;
+    }
+
+    public AppEngineConfiguration setJsonVariableTypeCompressionThreshold(int jsonVariableTypeCompressionThreshold) {
+        this.jsonVariableTypeCompressionThreshold = jsonVariableTypeCompressionThreshold;
+        return this;
+    }
+
+    public boolean isTrackedVariableFingerprints() {
+        return trackedVariableFingerprints;
+    }
+
+    public AppEngineConfiguration setTrackedVariableFingerprints(boolean trackedVariableFingerprints) {
+        this.trackedVariableFingerprints = trackedVariableFingerprints;
+        return this;
+    }
+
     public boolean isDisableIdmEngine() {
         return disableIdmEngine;
     }
@@ -0,0 +1 @@
+update ACT_GE_PROPERTY set VALUE_ = '7.1.0.3' where NAME_ = 'app.schema.version';
@@ -13,7 +13,6 @@
 package org.flowable.bpmn.converter;
 
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -282,11 +281,7 @@ public abstract class BaseBpmnXMLConverter implements BpmnXMLConstants {
 
     protected void parseChildElements(String elementName, BaseElement parentElement, Map<String, BaseChildElementParser> additionalParsers, BpmnModel model, XMLStreamReader xtr) throws Exception {
 
-        Map<String, BaseChildElementParser> childParsers = new HashMap<>();
-        if (additionalParsers != null) {
-            childParsers.putAll(additionalParsers);
-        }
-        BpmnXMLUtil.parseChildElements(elementName, parentElement, xtr, childParsers, model);
+        BpmnXMLUtil.parseChildElements(elementName, parentElement, xtr, additionalParsers, model);
     }
 
     @SuppressWarnings("unchecked")
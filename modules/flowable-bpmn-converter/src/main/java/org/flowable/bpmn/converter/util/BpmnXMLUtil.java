@@ -132,27 +132,22 @@ public class BpmnXMLUtil implements BpmnXMLConstants {
     public static void parseChildElements(String elementName, BaseElement parentElement, XMLStreamReader xtr,
             Map<String, BaseChildElementParser> childParsers, BpmnModel model) throws Exception {
 
-        Map<String, BaseChildElementParser> localParserMap = new HashMap<>(genericChildParserMap);
-        if (childParsers != null) {
-            localParserMap.putAll(childParsers);
-        }
-
         boolean inExtensionElements = false;
         boolean readyWithChildElements = false;
         while (!readyWithChildElements && xtr.hasNext()) {
             xtr.next();
             if (xtr.isStartElement()) {
+                BaseChildElementParser childParser = getChildElementParser(xtr.getLocalName(), childParsers);
                 if (ELEMENT_EXTENSIONS.equals(xtr.getLocalName())) {
                     inExtensionElements = true;
-                } else if (localParserMap.containsKey(xtr.getLocalName())) {
-                    BaseChildElementParser childParser = localParserMap.get(xtr.getLocalName());
+                } else if (childParser != null) {
                     // if we're into an extension element but the current element is not accepted by this parentElement then is read as a custom extension element
                     if (inExtensionElements && !childParser.accepts(parentElement)) {
                         ExtensionElement extensionElement = BpmnXMLUtil.parseExtensionElement(xtr);
                         parentElement.addExtensionElement(extensionElement);
                         continue;
                     }
-                    localParserMap.get(xtr.getLocalName()).parseChildElement(xtr, parentElement, model);
+                    childParser.parseChildElement(xtr, parentElement, model);
                 } else if (inExtensionElements) {
                     ExtensionElement extensionElement = BpmnXMLUtil.parseExtensionElement(xtr);
                     parentElement.addExtensionElement(extensionElement);
@@ -170,6 +165,15 @@ public class BpmnXMLUtil implements BpmnXMLConstants {
         }
     }
 
+    /**
+     * Returns the parser for the given child element, the given child parsers take precedence over the generic child parsers.
+     * The parser maps are not merged, as that would copy the generic child parsers for every parsed element.
+     */
+    protected static BaseChildElementParser getChildElementParser(String elementName, Map<String, BaseChildElementParser> childParsers) {
+        BaseChildElementParser childParser = childParsers != null ? childParsers.get(elementName) : null;
+        return childParser != null ? childParser : genericChildParserMap.get(elementName);
+    }
+
     public static ExtensionElement parseExtensionElement(XMLStreamReader xtr) throws Exception {
         ExtensionElement extensionElement = new ExtensionElement();
         BpmnXMLUtil.addXMLLocation(extensionElement, xtr);
@@ -199,6 +199,12 @@ public class Process extends BaseElement implements FlowElementsContainer, HasEx
     }
 
     protected FlowElement findFlowElementInList(String flowElementId) {
+        // The map also contains the flow elements of the sub processes, so only a flow element of this process can be returned directly
+        FlowElement flowElement = flowElementId != null ? flowElementMap.get(flowElementId) : null;
+        if (flowElement != null && flowElement.getParentContainer() == this && flowElementId.equals(flowElement.getId())) {
+            return flowElement;
+        }
+
         for (FlowElement f : flowElementList) {
             if (f.getId() != null && f.getId().equals(flowElementId)) {
                 return f;
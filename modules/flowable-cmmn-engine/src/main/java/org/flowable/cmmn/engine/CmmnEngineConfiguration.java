@@ -253,6 +253,7 @@ import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
 import org.flowable.common.engine.impl.javax.el.ELResolver;
 import org.flowable.common.engine.impl.persistence.deploy.DefaultDeploymentCache;
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
+import org.flowable.common.engine.impl.persistence.deploy.LatestDefinitionIndex;
 import org.flowable.common.engine.impl.persistence.entity.TableDataManager;
 import org.flowable.common.engine.impl.scripting.BeansResolverFactory;
 import org.flowable.common.engine.impl.scripting.ResolverFactory;
@@ -316,10 +317,13 @@ import org.flowable.variable.service.impl.types.LongStringType;
 import org.flowable.variable.service.impl.types.LongType;
 import org.flowable.variable.service.impl.types.NullType;
 import org.flowable.variable.service.impl.types.SerializableType;
+import org.flowable.variable.service.impl.types.SerializableVariableCodec;
 import org.flowable.variable.service.impl.types.ShortType;
 import org.flowable.variable.service.impl.types.StringType;
 import org.flowable.variable.service.impl.types.UUIDType;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 public class CmmnEngineConfiguration extends AbstractBuildableEngineConfiguration<CmmnEngine> implements CmmnEngineConfigurationApi,
         ScriptingEngineAwareEngineConfiguration, HasExpressionManagerEngineConfiguration, HasVariableTypes, 
         HasVariableServiceConfiguration {
@@ -473,6 +477,7 @@ public class CmmnEngineConfiguration extends AbstractBuildableEngineConfiguratio
     protected InternalTaskAssignmentManager internalTaskAssignmentManager;
     protected IdentityLinkEventHandler identityLinkEventHandler;
     protected boolean isEnableTaskRelationshipCounts = true;
+    protected boolean enableTaskCandidateIndex;
 
     // Batch support
     protected BatchServiceConfiguration batchServiceConfiguration;
@@ -486,6 +491,12 @@ public class CmmnEngineConfiguration extends AbstractBuildableEngineConfiguratio
     protected Collection<ServiceConfigurator<VariableServiceConfiguration>> variableServiceConfigurators;
     protected InternalHistoryVariableManager internalHistoryVariableManager;
     protected boolean serializableVariableTypeTrackDeserializedObjects = true;
+
+    /**
+     * The codecs that write the values of 'serializable' variables of the classes they can encode, instead of Java serialization.
+     */
+    protected List<SerializableVariableCodec> serializableVariableTypeCodecs;
+
     /**
      * This flag determines whether variables of the type 'json' and 'longJson' will be tracked.
      * <p>
@@ -498,6 +509,25 @@ public class CmmnEngineConfiguration extends AbstractBuildableEngineConfiguratio
      */
     protected boolean jsonVariableTypeTrackObjects = true;
 
+    /**
+     * The object mapper that encodes the 'json' variables that are too long to be stored as text, e.g. an object mapper with a Smile or CBOR factory.
+     * When null (the default), these variables are stored as json text. Values stored as json text can always be read.
+     */
+    protected ObjectMapper jsonVariableTypeBinaryObjectMapper;
+
+    /**
+     * The number of bytes from which the 'json' variables that are too long to be stored as text are compressed.
+     * A negative value (the default) disables compression.
+     */
+    protected int jsonVariableTypeCompressionThreshold = -1;
+
+    /**
+     * Whether tracked 'json' and 'serializable' variables (see {@link #jsonVariableTypeTrackObjects} and {@link #serializableVariableTypeTrackDeserializedObjects})
+     * detect changes with a fingerprint of the value that is computed when it is read, instead of a copy of the value.
+     * The value is then only serialized again when the fingerprint changed, and no copy of a json value is kept in memory.
+     */
+    protected boolean trackedVariableFingerprints;
+
     protected List<CaseInstanceMigrationCallback> caseInstanceMigrationCallbacks;
 
     // Set Http Client config defaults
@@ -713,6 +743,7 @@ public class CmmnEngineConfiguration extends AbstractBuildableEngineConfiguratio
         initConfigurators();
         configuratorsBeforeInit();
         initClock();
+        initQueryCountCache();
         initObjectMapper();
         initCaseDiagramGenerator();
         initCommandContextFactory();
@@ -1111,6 +1142,10 @@ public class CmmnEngineConfiguration extends AbstractBuildableEngineConfiguratio
             deploymentManager.setDeployers(deployers);
             deploymentManager.setCaseDefinitionEntityManager(caseDefinitionEntityManager);
             deploymentManager.setDeploymentEntityManager(cmmnDeploymentEntityManager);
+            if (enableLatestDefinitionIndex) {
+                deploymentManager.setLatestCaseDefinitionIndex(new LatestDefinitionIndex(this, CmmnDeploymentManager.LATEST_DEFINITION_REVISION_PROPERTY,
+                        caseDefinitionCacheLimit));
+            }
         }
     }
 
@@ -1386,13 +1421,15 @@ public class CmmnEngineConfiguration extends AbstractBuildableEngineConfiguratio
             variableTypes.addType(new JodaDateTimeType());
             variableTypes.addType(new DoubleType());
             variableTypes.addType(new UUIDType());
-            variableTypes.addType(new JsonType(getMaxLengthString(), objectMapper, jsonVariableTypeTrackObjects));
+            variableTypes.addType(configureJsonType(new JsonType(getMaxLengthString(), objectMapper, jsonVariableTypeTrackObjects)));
             // longJsonType only needed for reading purposes
-            variableTypes.addType(JsonType.longJsonType(getMaxLengthString(), objectMapper, jsonVariableTypeTrackObjects));
+            variableTypes.addType(configureJsonType(JsonType.longJsonType(getMaxLengthString(), objectMapper, jsonVariableTypeTrackObjects)));
             variableTypes.addType(new CmmnAggregatedVariableType(this));
             variableTypes.addType(new ByteArrayType());
             variableTypes.addType(new EmptyCollectionType());
-            variableTypes.addType(new SerializableType(serializableVariableTypeTrackDeserializedObjects));
+            SerializableType serializableType = new SerializableType(serializableVariableTypeTrackDeserializedObjects);
+            serializableType.setCodecs(serializableVariableTypeCodecs);
+            variableTypes.addType(serializableType);
 
         } else {
             if (customPreVariableTypes != null) {
@@ -1422,6 +1459,12 @@ public class CmmnEngineConfiguration extends AbstractBuildableEngineConfiguratio
         }
     }
 
+    protected JsonType configureJsonType(JsonType jsonType) {
+        jsonType.setBinaryObjectMapper(jsonVariableTypeBinaryObjectMapper);
+        jsonType.setCompressionThreshold(jsonVariableTypeCompressionThreshold);
+        return jsonType;
+    }
+
     public void configureVariableServiceConfiguration() {
         this.variableServiceConfiguration = instantiateVariableServiceConfiguration();
 
@@ -1438,6 +1481,7 @@ public class CmmnEngineConfiguration extends AbstractBuildableEngineConfiguratio
 
         this.variableServiceConfiguration.setMaxLengthString(this.getMaxLengthString());
         this.variableServiceConfiguration.setSerializableVariableTypeTrackDeserializedObjects(this.isSerializableVariableTypeTrackDeserializedObjects());
+        this.variableServiceConfiguration.setTrackedVariableFingerprints(this.isTrackedVariableFingerprints());
         this.variableServiceConfiguration.setLoggingSessionEnabled(isLoggingSessionEnabled());
         this.variableServiceConfiguration.setConfigurators(variableServiceConfigurators);
     }
@@ -1488,6 +1532,7 @@ public class CmmnEngineConfiguration extends AbstractBuildableEngineConfiguratio
         }
 
         this.taskServiceConfiguration.setEnableTaskRelationshipCounts(this.isEnableTaskRelationshipCounts);
+        this.taskServiceConfiguration.setEnableTaskCandidateIndex(this.enableTaskCandidateIndex);
 
         this.taskServiceConfiguration.setConfigurators(this.taskServiceConfigurators);
         this.taskServiceConfiguration.init();
@@ -1510,6 +1555,7 @@ public class CmmnEngineConfiguration extends AbstractBuildableEngineConfiguratio
         this.identityLinkServiceConfiguration.setObjectMapper(this.objectMapper);
         this.identityLinkServiceConfiguration.setEventDispatcher(this.eventDispatcher);
         this.identityLinkServiceConfiguration.setIdentityLinkEventHandler(this.identityLinkEventHandler);
+        this.identityLinkServiceConfiguration.setEnableTaskCandidateIndex(this.enableTaskCandidateIndex);
 
         this.identityLinkServiceConfiguration.setConfigurators(this.identityLinkServiceConfigurators);
         this.identityLinkServiceConfiguration.init();
@@ -2875,6 +2921,15 @@ public class CmmnEngineConfiguration extends AbstractBuildableEngineConfiguratio
         return this;
     }
 
+    public boolean isEnableTaskCandidateIndex() {
+        return enableTaskCandidateIndex;
+    }
+
+    public CmmnEngineConfiguration setEnableTaskCandidateIndex(boolean enableTaskCandidateIndex) {
+        this.enableTaskCandidateIndex = enableTaskCandidateIndex;
+        return this;
+    }
+
     public BatchServiceConfiguration getBatchServiceConfiguration() {
         return batchServiceConfiguration;
     }
@@ -2921,6 +2976,15 @@ public class CmmnEngineConfiguration extends AbstractBuildableEngineConfiguratio
         return this;
     }
 
+    public List<SerializableVariableCodec> getSerializableVariableTypeCodecs() {
+        return serializableVariableTypeCodecs;
+    }
+
+    public CmmnEngineConfiguration setSerializableVariableTypeCodecs(List<SerializableVariableCodec> serializableVariableTypeCodecs) {
+        this.serializableVariableTypeCodecs = serializableVariableTypeCodecs;
+        return this;
+    }
+
     public boolean isJsonVariableTypeTrackObjects() {
         return jsonVariableTypeTrackObjects;
     }
@@ -2930,6 +2994,33 @@ public class CmmnEngineConfiguration extends AbstractBuildableEngineConfiguratio
         return this;
     }
 
+    public ObjectMapper getJsonVariableTypeBinaryObjectMapper() {
+        return jsonVariableTypeBinaryObjectMapper;
+    }
+
+    public CmmnEngineConfiguration setJsonVariableTypeBinaryObjectMapper(ObjectMapper jsonVariableTypeBinaryObjectMapper) {
+        this.jsonVariableTypeBinaryObjectMapper = jsonVariableTypeBinaryObjectMapper;
+        return this;
+    }
+
+    public int getJsonVariableTypeCompressionThreshold() {
+        return jsonVariableTypeCompressionThreshold;
+    }
+
+    public CmmnEngineConfiguration setJsonVariableTypeCompressionThreshold(int jsonVariableTypeCompressionThreshold) {
+        this.jsonVariableTypeCompressionThreshold = jsonVariableTypeCompressionThreshold;
+        return this;
+    }
+
+    public boolean isTrackedVariableFingerprints() {
+        return trackedVariableFingerprints;
+    }
+
+    public CmmnEngineConfiguration setTrackedVariableFingerprints(boolean trackedVariableFingerprints) {
+        this.trackedVariableFingerprints = trackedVariableFingerprints;
+        return this;
+    }
+
     public CaseDiagramGenerator getCaseDiagramGenerator() {
         return caseDiagramGenerator;
     }
@@ -24,16 +24,21 @@ import org.flowable.cmmn.engine.impl.persistence.entity.CmmnDeploymentEntity;
 import org.flowable.cmmn.engine.impl.persistence.entity.CmmnDeploymentEntityManager;
 import org.flowable.cmmn.engine.impl.persistence.entity.deploy.CaseDefinitionCacheEntry;
 import org.flowable.cmmn.engine.impl.repository.CaseDefinitionQueryImpl;
+import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.FlowableObjectNotFoundException;
 import org.flowable.common.engine.api.repository.EngineDeployment;
 import org.flowable.common.engine.impl.EngineDeployer;
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
+import org.flowable.common.engine.impl.persistence.deploy.LatestDefinitionIndex;
 
 public class CmmnDeploymentManager {
 
+    public static final String LATEST_DEFINITION_REVISION_PROPERTY = "cfg.definition-revision.cmmn";
+
     protected DeploymentCache<CaseDefinitionCacheEntry> caseDefinitionCache;
+    protected LatestDefinitionIndex latestCaseDefinitionIndex;
     protected List<EngineDeployer> deployers;
     protected CmmnEngineConfiguration cmmnEngineConfiguration;
     protected CmmnDeploymentEntityManager deploymentEntityManager;
@@ -47,6 +52,10 @@ public class CmmnDeploymentManager {
         for (EngineDeployer deployer : deployers) {
             deployer.deploy(deployment, deploymentSettings);
         }
+
+        if (deployment.isNew()) {
+            latestCaseDefinitionsChanged();
+        }
     }
 
     public CaseDefinition findDeployedCaseDefinitionById(String caseDefinitionId) {
@@ -68,24 +77,62 @@ public class CmmnDeploymentManager {
     }
 
     public CaseDefinition findDeployedLatestCaseDefinitionByKey(String caseDefinitionKey) {
-        CaseDefinition caseDefinition = caseDefinitionEntityManager.findLatestCaseDefinitionByKey(caseDefinitionKey);
+        CaseDefinition caseDefinition = resolveLatestCaseDefinition(caseDefinitionKey, null);
 
         if (caseDefinition == null) {
             throw new FlowableObjectNotFoundException("no case definition deployed with key '" + caseDefinitionKey + "'", CaseDefinition.class);
         }
-        caseDefinition = resolveCaseDefinition(caseDefinition).getCaseDefinition();
         return caseDefinition;
     }
 
     public CaseDefinition findDeployedLatestCaseDefinitionByKeyAndTenantId(String caseDefinitionKey, String tenantId) {
-        CaseDefinition caseDefinition = caseDefinitionEntityManager.findLatestCaseDefinitionByKeyAndTenantId(caseDefinitionKey, tenantId);
+        CaseDefinition caseDefinition = resolveLatestCaseDefinition(caseDefinitionKey, tenantId);
         if (caseDefinition == null) {
             throw new FlowableObjectNotFoundException("no case definition deployed with key '" + caseDefinitionKey + "' for tenant identifier '" + tenantId + "'", CaseDefinition.class);
         }
-        caseDefinition = resolveCaseDefinition(caseDefinition).getCaseDefinition();
         return caseDefinition;
     }
 
+    /**
+     * Returns the latest deployed version of the case definition with the given key, or null when there is no such case definition.
+     * The id of the latest version is taken from the {@link LatestDefinitionIndex} when it is enabled, which avoids querying the case definition table.
+     *
+     * @param tenantId the tenant of the case definition, null or empty for case definitions without a tenant
+     */
+    public CaseDefinition resolveLatestCaseDefinition(String caseDefinitionKey, String tenantId) {
+        String definitionTenantId = tenantId == null || CmmnEngineConfiguration.NO_TENANT_ID.equals(tenantId) ? null : tenantId;
+
+        if (latestCaseDefinitionIndex == null) {
+            CaseDefinition caseDefinition = findLatestCaseDefinitionInDatabase(caseDefinitionKey, definitionTenantId);
+            return caseDefinition != null ? resolveCaseDefinition(caseDefinition).getCaseDefinition() : null;
+        }
+
+        String caseDefinitionId = latestCaseDefinitionIndex.getLatestDefinitionId(CommandContextUtil.getCommandContext(),
+                caseDefinitionKey, definitionTenantId, () -> {
+                    CaseDefinition caseDefinition = findLatestCaseDefinitionInDatabase(caseDefinitionKey, definitionTenantId);
+                    return caseDefinition != null ? caseDefinition.getId() : null;
+                });
+        return caseDefinitionId != null ? findDeployedCaseDefinitionById(caseDefinitionId) : null;
+    }
+
+    protected CaseDefinition findLatestCaseDefinitionInDatabase(String caseDefinitionKey, String tenantId) {
+        if (tenantId == null) {
+            return caseDefinitionEntityManager.findLatestCaseDefinitionByKey(caseDefinitionKey);
+        } else {
+            return caseDefinitionEntityManager.findLatestCaseDefinitionByKeyAndTenantId(caseDefinitionKey, tenantId);
+        }
+    }
+
+    /**
+     * Invalidates the latest case definition index on all nodes, once the current transaction is committed.
+     * Needs to be called by every operation that changes which case definition is the latest version for a key and tenant.
+     */
+    public void latestCaseDefinitionsChanged() {
+        if (latestCaseDefinitionIndex != null) {
+            latestCaseDefinitionIndex.definitionsChanged(CommandContextUtil.getCommandContext());
+        }
+    }
+
     public CaseDefinition findDeployedCaseDefinitionByKeyAndVersionAndTenantId(String caseDefinitionKey, Integer caseDefinitionVersion, String tenantId) {
         CaseDefinition caseDefinition = (CaseDefinitionEntity) caseDefinitionEntityManager
                 .findCaseDefinitionByKeyAndVersionAndTenantId(caseDefinitionKey, caseDefinitionVersion, tenantId);
@@ -126,6 +173,7 @@ public class CmmnDeploymentManager {
         }
         
         deploymentEntityManager.deleteDeploymentAndRelatedData(deploymentId, cascade);
+        latestCaseDefinitionsChanged();
         
         for (CaseDefinition caseDefinition : new CaseDefinitionQueryImpl().deploymentId(deploymentId).list()) {
             caseDefinitionCache.remove(caseDefinition.getId());
@@ -148,6 +196,14 @@ public class CmmnDeploymentManager {
         this.caseDefinitionCache = caseDefinitionCache;
     }
 
+    public LatestDefinitionIndex getLatestCaseDefinitionIndex() {
+        return latestCaseDefinitionIndex;
+    }
+
+    public void setLatestCaseDefinitionIndex(LatestDefinitionIndex latestCaseDefinitionIndex) {
+        this.latestCaseDefinitionIndex = latestCaseDefinitionIndex;
+    }
+
     public CmmnEngineConfiguration getCaseEngineConfiguration() {
         return cmmnEngineConfiguration;
     }
@@ -33,6 +33,8 @@ import org.flowable.cmmn.model.PlanItem;
 import org.flowable.common.engine.api.constant.ReferenceTypes;
 import org.flowable.common.engine.api.lock.LockManager;
 import org.flowable.common.engine.api.scope.ScopeTypes;
+import org.flowable.common.engine.impl.cfg.TransactionPropagation;
+import org.flowable.common.engine.impl.interceptor.CommandConfig;
 import org.flowable.eventregistry.api.EventConsumerInfo;
 import org.flowable.eventregistry.api.EventRegistryProcessingInfo;
 import org.flowable.eventregistry.api.runtime.EventInstance;
@@ -84,7 +86,15 @@ public class CmmnEventRegistryEventConsumer extends BaseEventRegistryEventConsum
         for (EventSubscription eventSubscription : eventSubscriptions) {
             EventConsumerInfo eventConsumerInfo = new EventConsumerInfo(eventSubscription.getId(), eventSubscription.getSubScopeId(), 
                     eventSubscription.getScopeDefinitionId(), ScopeTypes.CMMN);
-            boolean eventSubscriptionHandled = handleEventSubscription(cmmnRuntimeService, eventSubscription, eventInstance, correlationKeys, eventConsumerInfo);
+            boolean eventSubscriptionHandled;
+            if (isInboundEventBatchActive() && isUniqueStartEventSubscription(eventSubscription)) {
+                // The unique instance check needs to see the instances started for the previous events of the batch,
+                // hence the check and the start happen in their own transaction, like they do for events received one by one
+                eventSubscriptionHandled = commandExecutor.execute(new CommandConfig(false, TransactionPropagation.REQUIRES_NEW),
+                        commandContext -> handleEventSubscription(cmmnRuntimeService, eventSubscription, eventInstance, correlationKeys, eventConsumerInfo));
+            } else {
+                eventSubscriptionHandled = handleEventSubscription(cmmnRuntimeService, eventSubscription, eventInstance, correlationKeys, eventConsumerInfo);
+            }
             
             if (eventSubscriptionHandled) {
                 eventRegistryProcessingInfo.addEventConsumerInfo(eventConsumerInfo);
@@ -212,6 +222,11 @@ public class CmmnEventRegistryEventConsumer extends BaseEventRegistryEventConsum
         return true;
     }
 
+    protected boolean isUniqueStartEventSubscription(EventSubscription eventSubscription) {
+        return eventSubscription.getSubScopeId() == null && eventSubscription.getScopeDefinitionId() != null && eventSubscription.getScopeId() == null
+                && Objects.equals(getStartCorrelationConfiguration(eventSubscription), CmmnXmlConstants.START_EVENT_CORRELATION_STORE_AS_UNIQUE_REFERENCE_ID);
+    }
+
     protected long countCaseInstances(CmmnRuntimeService cmmnRuntimeService, EventInstance eventInstance,
             CorrelationKey correlationKey, CaseDefinition caseDefinition) {
 
@@ -122,6 +122,7 @@ public class CaseInstanceHelperImpl implements CaseInstanceHelper {
         } else if (caseInstanceBuilder.getCaseDefinitionKey() != null) {
             String caseDefinitionKey = caseInstanceBuilder.getCaseDefinitionKey();
             CaseDefinitionEntityManager caseDefinitionEntityManager = cmmnEngineConfiguration.getCaseDefinitionEntityManager();
+            CmmnDeploymentManager deploymentManager = cmmnEngineConfiguration.getDeploymentManager();
             String tenantId = caseInstanceBuilder.getTenantId();
             String parentDeploymentId = caseInstanceBuilder.getCaseDefinitionParentDeploymentId();
             if (tenantId == null || CmmnEngineConfiguration.NO_TENANT_ID.equals(tenantId)) {
@@ -131,7 +132,7 @@ public class CaseInstanceHelperImpl implements CaseInstanceHelper {
                 }
 
                 if (caseDefinition == null) {
-                    caseDefinition = caseDefinitionEntityManager.findLatestCaseDefinitionByKey(caseDefinitionKey);
+                    caseDefinition = deploymentManager.resolveLatestCaseDefinition(caseDefinitionKey, null);
                 }
 
                 if (caseDefinition == null) {
@@ -145,18 +146,18 @@ public class CaseInstanceHelperImpl implements CaseInstanceHelper {
                 }
 
                 if (caseDefinition == null) {
-                    caseDefinition = caseDefinitionEntityManager.findLatestCaseDefinitionByKeyAndTenantId(caseDefinitionKey, tenantId);
+                    caseDefinition = deploymentManager.resolveLatestCaseDefinition(caseDefinitionKey, tenantId);
                 }
 
                 if (caseDefinition == null) {
                     if (caseInstanceBuilder.isFallbackToDefaultTenant() || cmmnEngineConfiguration.isFallbackToDefaultTenant()) {
                         String defaultTenant = cmmnEngineConfiguration.getDefaultTenantProvider().getDefaultTenant(tenantId, ScopeTypes.CMMN, caseDefinitionKey);
                         if (StringUtils.isNotEmpty(defaultTenant)) {
-                            caseDefinition = caseDefinitionEntityManager.findLatestCaseDefinitionByKeyAndTenantId(caseDefinitionKey, defaultTenant);
+                            caseDefinition = deploymentManager.resolveLatestCaseDefinition(caseDefinitionKey, defaultTenant);
                             caseInstanceBuilder.overrideCaseDefinitionTenantId(tenantId);
                             
                         } else {
-                            caseDefinition = caseDefinitionEntityManager.findLatestCaseDefinitionByKey(caseDefinitionKey);
+                            caseDefinition = deploymentManager.resolveLatestCaseDefinition(caseDefinitionKey, null);
                         }
                         
                         if (caseDefinition == null) {
@@ -26,6 +26,7 @@ import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.query.CacheAwareQuery;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.common.engine.impl.query.QueryKeyset;
 import org.flowable.variable.service.impl.AbstractVariableQueryImpl;
 
 /**
@@ -33,6 +34,9 @@ import org.flowable.variable.service.impl.AbstractVariableQueryImpl;
  */
 public class PlanItemInstanceQueryImpl extends AbstractVariableQueryImpl<PlanItemInstanceQuery, PlanItemInstance> implements PlanItemInstanceQuery,
         CacheAwareQuery<PlanItemInstanceEntity> {
+
+    protected static final QueryKeyset<PlanItemInstance> KEYSET = new QueryKeyset<PlanItemInstance>("RES.ID_", PlanItemInstance::getId)
+            .column(PlanItemInstanceQueryProperty.CREATE_TIME.getName(), PlanItemInstance::getCreateTime);
     
     protected CmmnEngineConfiguration cmmnEngineConfiguration;
     
@@ -1097,6 +1101,11 @@ public class PlanItemInstanceQueryImpl extends AbstractVariableQueryImpl<PlanIte
         return this;
     }
 
+    @Override
+    protected QueryKeyset<PlanItemInstance> getKeyset() {
+        return KEYSET;
+    }
+
     @Override
     public long executeCount(CommandContext commandContext) {
         ensureVariablesInitialized();
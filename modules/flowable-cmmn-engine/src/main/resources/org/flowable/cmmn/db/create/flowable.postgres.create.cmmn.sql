@@ -255,4 +255,7 @@ CREATE TABLE ACT_CMMN_HI_PLAN_ITEM_INST
 CREATE INDEX ACT_IDX_HI_PLAN_ITEM_INST_CASE ON ACT_CMMN_HI_PLAN_ITEM_INST (CASE_INST_ID_);
 
 insert into ACT_GE_PROPERTY
-values ('cmmn.schema.version', '7.1.0.2', 1);
+values ('cmmn.schema.version', '7.1.0.3', 1);
+
+insert into ACT_GE_PROPERTY
+values ('cfg.definition-revision.cmmn', '', 1);
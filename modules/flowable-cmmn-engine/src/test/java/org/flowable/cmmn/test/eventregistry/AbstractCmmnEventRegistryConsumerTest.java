@@ -12,6 +12,7 @@
  */
 package org.flowable.cmmn.test.eventregistry;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -20,6 +21,7 @@ import java.util.Random;
 import org.flowable.eventregistry.api.EventDeployment;
 import org.flowable.eventregistry.api.EventRegistry;
 import org.flowable.eventregistry.api.EventRepositoryService;
+import org.flowable.eventregistry.api.InboundEvent;
 import org.flowable.eventregistry.api.InboundEventChannelAdapter;
 import org.flowable.eventregistry.api.model.EventPayloadTypes;
 import org.flowable.eventregistry.impl.DefaultInboundEvent;
@@ -129,6 +131,18 @@ public abstract class AbstractCmmnEventRegistryConsumerTest extends FlowableEven
             }
         }
 
+        public void triggerTestEvents(String... customerIds) {
+            try {
+                List<InboundEvent> inboundEvents = new ArrayList<>(customerIds.length);
+                for (String customerId : customerIds) {
+                    inboundEvents.add(new DefaultInboundEvent(objectMapper.writeValueAsString(createTestEventNode(customerId, null))));
+                }
+                eventRegistry.eventsReceived(inboundChannelModel, inboundEvents);
+            } catch (JsonProcessingException e) {
+                throw new RuntimeException(e);
+            }
+        }
+
         public void triggerTestEventWithJson(ObjectNode eventJson) {
             try {
                 eventRegistry.eventReceived(inboundChannelModel, objectMapper.writeValueAsString(eventJson));
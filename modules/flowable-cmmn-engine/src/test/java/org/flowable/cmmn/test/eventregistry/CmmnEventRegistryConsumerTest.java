@@ -79,6 +79,37 @@ public class CmmnEventRegistryConsumerTest extends AbstractCmmnEventRegistryCons
         assertThat(cmmnTaskService.createTaskQuery().caseInstanceId(gonzoCase.getId()).list()).hasSize(2);
     }
 
+    @Test
+    @CmmnDeployment(resources = "org/flowable/cmmn/test/eventregistry/CmmnEventRegistryConsumerTest.testGenericEventListenerWithCorrelation.cmmn")
+    public void testGenericEventListenerWithCorrelationEventBatch() {
+        CaseInstance kermitCase = cmmnRuntimeService.createCaseInstanceBuilder()
+                .caseDefinitionKey("singleCorrelationCase")
+                .variable("customerIdVar", "kermit")
+                .start();
+        CaseInstance gonzoCase = cmmnRuntimeService.createCaseInstanceBuilder()
+                .caseDefinitionKey("singleCorrelationCase")
+                .variable("customerIdVar", "gonzo")
+                .start();
+
+        // The repeated event listener of the kermit case is created by the first kermit event of the batch and is found by the second one,
+        // as it would be when the events are handled one by one
+        inboundEventChannelAdapter.triggerTestEvents("kermit", "gonzo", "kermit", "fozzie");
+
+        assertThat(cmmnTaskService.createTaskQuery().caseInstanceId(kermitCase.getId()).list()).hasSize(3);
+        assertThat(cmmnTaskService.createTaskQuery().caseInstanceId(gonzoCase.getId()).list()).hasSize(2);
+
+        getEventRegistryEngineConfiguration().setInboundEventBatchTransactionSize(1);
+        try {
+            inboundEventChannelAdapter.triggerTestEvents("gonzo", "kermit");
+
+        } finally {
+            getEventRegistryEngineConfiguration().setInboundEventBatchTransactionSize(100);
+        }
+
+        assertThat(cmmnTaskService.createTaskQuery().caseInstanceId(kermitCase.getId()).list()).hasSize(4);
+        assertThat(cmmnTaskService.createTaskQuery().caseInstanceId(gonzoCase.getId()).list()).hasSize(3);
+    }
+
     @Test
     @CmmnDeployment(resources = {
             "org/flowable/cmmn/test/eventregistry/CmmnEventRegistryConsumerTest.testGenericEventListenerNoCorrelation.cmmn",
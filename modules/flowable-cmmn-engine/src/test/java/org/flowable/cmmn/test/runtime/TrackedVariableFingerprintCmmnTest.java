@@ -0,0 +1,132 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.test.runtime;
+
+import static net.javacrumbs.jsonunit.assertj.JsonAssertions.assertThatJson;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.Serializable;
+
+import org.flowable.cmmn.api.runtime.CaseInstance;
+import org.flowable.cmmn.engine.CmmnEngineConfiguration;
+import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
+import org.flowable.cmmn.engine.test.CmmnDeployment;
+import org.flowable.cmmn.test.impl.CustomCmmnConfigurationFlowableTestCase;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+public class TrackedVariableFingerprintCmmnTest extends CustomCmmnConfigurationFlowableTestCase {
+
+    protected ObjectMapper objectMapper = new ObjectMapper();
+
+    @Override
+    protected String getEngineName() {
+        return "cmmnEngineWithTrackedVariableFingerprints";
+    }
+
+    @Override
+    protected void configureConfiguration(CmmnEngineConfiguration cmmnEngineConfiguration) {
+        cmmnEngineConfiguration.setTrackedVariableFingerprints(true);
+    }
+
+    @Test
+    @CmmnDeployment(resources = "org/flowable/cmmn/test/one-human-task-model.cmmn")
+    public void testJsonChangeIsStored() {
+        assertThat(cmmnEngineConfiguration.getVariableServiceConfiguration().isTrackedVariableFingerprints()).isTrue();
+
+        ObjectNode customer = objectMapper.createObjectNode();
+        customer.put("name", "Kermit");
+        customer.putObject("address").put("street", "Sesame Street");
+        CaseInstance caseInstance = cmmnRuntimeService.createCaseInstanceBuilder()
+                .caseDefinitionKey("oneTaskCase")
+                .variable("customer", customer)
+                .start();
+
+        // Reading without changing does not update the variable
+        int revision = getVariableRevision(caseInstance.getId(), "customer");
+        cmmnEngineConfiguration.getCommandExecutor().execute(commandContext -> getVariable(caseInstance.getId(), "customer"));
+        assertThat(getVariableRevision(caseInstance.getId(), "customer")).isEqualTo(revision);
+
+        cmmnEngineConfiguration.getCommandExecutor().execute(commandContext -> {
+            ObjectNode customerVar = (ObjectNode) getVariable(caseInstance.getId(), "customer");
+            ((ObjectNode) customerVar.get("address")).put("street", "Elm Street");
+            return null;
+        });
+
+        assertThat(getVariableRevision(caseInstance.getId(), "customer")).isGreaterThan(revision);
+        assertThatJson(cmmnRuntimeService.getVariable(caseInstance.getId(), "customer"))
+                .isEqualTo("{ name: 'Kermit', address: { street: 'Elm Street' } }");
+    }
+
+    @Test
+    @CmmnDeployment(resources = "org/flowable/cmmn/test/one-human-task-model.cmmn")
+    public void testSerializableChangeIsStored() {
+        CaseInstance caseInstance = cmmnRuntimeService.createCaseInstanceBuilder()
+                .caseDefinitionKey("oneTaskCase")
+                .variable("var", new TestSerializableVariable(1))
+                .start();
+
+        // Reading without changing does not update the variable
+        int revision = getVariableRevision(caseInstance.getId(), "var");
+        cmmnEngineConfiguration.getCommandExecutor().execute(commandContext -> getVariable(caseInstance.getId(), "var"));
+        assertThat(getVariableRevision(caseInstance.getId(), "var")).isEqualTo(revision);
+
+        cmmnEngineConfiguration.getCommandExecutor().execute(commandContext -> {
+            ((TestSerializableVariable) getVariable(caseInstance.getId(), "var")).setNumber(2);
+            return null;
+        });
+
+        assertThat(getVariableRevision(caseInstance.getId(), "var")).isGreaterThan(revision);
+        assertThat(cmmnRuntimeService.getVariable(caseInstance.getId(), "var")).isEqualTo(new TestSerializableVariable(2));
+    }
+
+    protected Object getVariable(String caseInstanceId, String variableName) {
+        return CommandContextUtil.getCaseInstanceEntityManager().findById(caseInstanceId).getVariable(variableName);
+    }
+
+    protected int getVariableRevision(String caseInstanceId, String variableName) {
+        return ((VariableInstanceEntity) cmmnRuntimeService.getVariableInstance(caseInstanceId, variableName)).getRevision();
+    }
+
+    public static class TestSerializableVariable implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        protected int number;
+
+        public TestSerializableVariable(int number) {
+            this.number = number;
+        }
+
+        public int getNumber() {
+            return number;
+        }
+
+        public void setNumber(int number) {
+            this.number = number;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof TestSerializableVariable && ((TestSerializableVariable) o).number == number;
+        }
+
+        @Override
+        public int hashCode() {
+            return number;
+        }
+    }
+}
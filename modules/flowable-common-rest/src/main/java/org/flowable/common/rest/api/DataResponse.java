@@ -15,6 +15,8 @@ package org.flowable.common.rest.api;
 
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 /**
  * @author Tijs Rademakers
  */
@@ -26,6 +28,8 @@ public class DataResponse<T> {
     String sort;
     String order;
     int size;
+    String nextCursor;
+    Boolean totalApproximate;
 
     public List<T> getData() {
         return data;
@@ -36,6 +40,9 @@ public class DataResponse<T> {
         return this;
     }
 
+    /**
+     * The number of results of the query, or -1 when the total was not requested.
+     */
     public long getTotal() {
         return total;
     }
@@ -75,4 +82,28 @@ public class DataResponse<T> {
     public void setSize(int size) {
         this.size = size;
     }
+
+    /**
+     * The cursor to request the next page with when using keyset pagination, or {@code null} when there are no more results.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * Whether the total is a recent count of the results that can differ from the current number of results, only set when it is.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public Boolean getTotalApproximate() {
+        return totalApproximate;
+    }
+
+    public void setTotalApproximate(Boolean totalApproximate) {
+        this.totalApproximate = totalApproximate;
+    }
 }
@@ -12,6 +12,7 @@
  */
 package org.flowable.common.rest.api;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 
@@ -26,6 +27,15 @@ import org.flowable.common.engine.api.query.QueryProperty;
  */
 public interface PaginateListUtil {
 
+    String TOTAL_MODE_EXACT = "exact";
+    String TOTAL_MODE_APPROXIMATE = "approximate";
+    String TOTAL_MODE_NONE = "none";
+
+    /**
+     * The maximum age of the cached count that is used as total when an approximate total is requested.
+     */
+    Duration APPROXIMATE_TOTAL_MAX_AGE = Duration.ofSeconds(10);
+
     /**
      * Uses the pagination parameters from the request and makes sure to order the result and set all pagination attributes for the response to render.
      *
@@ -56,6 +66,17 @@ public interface PaginateListUtil {
      */
     static <RES, REQ> DataResponse<RES> paginateList(Map<String, String> requestParams, PaginateRequest paginateRequest, Query<?, REQ> query,
         String defaultSort, Map<String, QueryProperty> properties, ListProcessor<REQ, RES> listProcessor) {
+        return paginateList(completePaginateRequest(requestParams, paginateRequest), query, defaultSort, properties, listProcessor);
+    }
+
+    /**
+     * Fills the pagination parameters that are missing in the paginated request with the values found in the request parameters.
+     *
+     * @param requestParams The request containing the pagination parameters
+     * @param paginateRequest The paginated request that can be used to get the parameters from, can be {@code null}
+     * @return the completed paginated request
+     */
+    static PaginateRequest completePaginateRequest(Map<String, String> requestParams, PaginateRequest paginateRequest) {
         if (paginateRequest == null) {
             paginateRequest = new PaginateRequest();
         }
@@ -77,11 +98,21 @@ public interface PaginateListUtil {
             paginateRequest.setSort(requestParams.get("sort"));
         }
 
-        return paginateList(paginateRequest, query, defaultSort, properties, listProcessor);
+        if (paginateRequest.getCursor() == null) {
+            paginateRequest.setCursor(requestParams.get("cursor"));
+        }
+
+        if (paginateRequest.getTotalMode() == null) {
+            paginateRequest.setTotalMode(requestParams.get("totalMode"));
+        }
+
+        return paginateRequest;
     }
 
     /**
      * Uses the pagination attributes perform the querying and render the response.
+     * When the paginated request contains a cursor the page after that cursor is returned using keyset pagination,
+     * and the response contains the cursor of the next page when the page is full.
      *
      * @param paginateRequest The paginated request that is used to get the pagination parameters from
      * @param query The query to get the paged list from
@@ -93,6 +124,90 @@ public interface PaginateListUtil {
      */
     static <RES, REQ> DataResponse<RES> paginateList(PaginateRequest paginateRequest, Query<?, REQ> query, String defaultSort,
         Map<String, QueryProperty> properties, ListProcessor<REQ, RES> listProcessor) {
+        PaginateRequest pagination = orderQuery(paginateRequest, query, defaultSort, properties);
+        int start = pagination.getStart();
+        int size = pagination.getSize();
+
+        DataResponse<RES> response = new DataResponse<>();
+        response.setStart(start);
+        response.setSort(pagination.getSort());
+        response.setOrder(pagination.getOrder());
+
+        String cursor = pagination.getCursor();
+        if (cursor != null) {
+            return paginateListAfter(response, cursor, query, size, pagination.getTotalMode(), listProcessor);
+        }
+
+        // Get result and set pagination parameters
+        List<RES> list = listProcessor.processList(query.listPage(start, size));
+        if (start == 0 && list.size() < size) {
+            response.setTotal(list.size());
+        } else {
+            setTotal(response, query, pagination.getTotalMode());
+        }
+
+        response.setSize(list.size());
+        response.setData(list);
+
+        return response;
+    }
+
+    private static <RES, REQ> DataResponse<RES> paginateListAfter(DataResponse<RES> response, String cursor, Query<?, REQ> query, int size,
+        String totalMode, ListProcessor<REQ, RES> listProcessor) {
+        // An empty cursor requests the first page
+        List<REQ> results = query.listAfter(cursor.isEmpty() ? null : cursor, size);
+        if (!results.isEmpty() && results.size() == size) {
+            response.setNextCursor(query.createCursor(results.get(results.size() - 1)));
+        }
+
+        List<RES> list = listProcessor.processList(results);
+        response.setStart(0);
+        if (cursor.isEmpty() && list.size() < size) {
+            response.setTotal(list.size());
+        } else {
+            setTotal(response, query, totalMode);
+        }
+        response.setSize(list.size());
+        response.setData(list);
+        return response;
+    }
+
+    private static void setTotal(DataResponse<?> response, Query<?, ?> query, String totalMode) {
+        Long total = countTotal(query, totalMode);
+        response.setTotal(total != null ? total : -1);
+        if (total != null && TOTAL_MODE_APPROXIMATE.equals(totalMode)) {
+            response.setTotalApproximate(true);
+        }
+    }
+
+    /**
+     * Counts the results of the query for the total of a response.
+     *
+     * @param query The query to count the results of
+     * @param totalMode {@link #TOTAL_MODE_EXACT} to execute the count, {@link #TOTAL_MODE_APPROXIMATE} to use a count of the same query
+     *         of at most {@link #APPROXIMATE_TOTAL_MAX_AGE} ago when there is one, or {@link #TOTAL_MODE_NONE} to not count at all
+     * @return the total, or {@code null} when no total was requested
+     */
+    static Long countTotal(Query<?, ?> query, String totalMode) {
+        if (TOTAL_MODE_NONE.equals(totalMode)) {
+            return null;
+        } else if (TOTAL_MODE_APPROXIMATE.equals(totalMode)) {
+            return query.count(APPROXIMATE_TOTAL_MAX_AGE);
+        } else {
+            return query.count();
+        }
+    }
+
+    /**
+     * Applies the defaults for the pagination attributes that are not set and orders the query accordingly.
+     *
+     * @param paginateRequest The paginated request that is used to get the pagination parameters from
+     * @param query The query to order
+     * @param defaultSort The default sort column (the rest attribute) that later will be mapped to an internal engine name
+     * @param properties The sort properties
+     * @return a paginated request with all the pagination attributes set
+     */
+    static PaginateRequest orderQuery(PaginateRequest paginateRequest, Query<?, ?> query, String defaultSort, Map<String, QueryProperty> properties) {
         // Use defaults for paging, if not set in the PaginationRequest, nor in the URL
         Integer start = paginateRequest.getStart();
         if (start == null || start < 0) {
@@ -130,23 +245,21 @@ public interface PaginateListUtil {
             }
         }
 
-        DataResponse<RES> response = new DataResponse<>();
-        response.setStart(start);
-        response.setSort(sort);
-        response.setOrder(order);
-
-        // Get result and set pagination parameters
-        List<RES> list = listProcessor.processList(query.listPage(start, size));
-        if (start == 0 && list.size() < size) {
-            response.setTotal(list.size());
-        } else {
-            response.setTotal(query.count());
+        String totalMode = paginateRequest.getTotalMode();
+        if (totalMode == null) {
+            totalMode = TOTAL_MODE_EXACT;
+        } else if (!TOTAL_MODE_EXACT.equals(totalMode) && !TOTAL_MODE_APPROXIMATE.equals(totalMode) && !TOTAL_MODE_NONE.equals(totalMode)) {
+            throw new FlowableIllegalArgumentException("Value for param 'totalMode' is not valid : '" + totalMode + "', must be 'exact', 'approximate' or 'none'");
         }
 
-        response.setSize(list.size());
-        response.setData(list);
-
-        return response;
+        PaginateRequest pagination = new PaginateRequest();
+        pagination.setStart(start);
+        pagination.setSize(size);
+        pagination.setSort(sort);
+        pagination.setOrder(order);
+        pagination.setCursor(paginateRequest.getCursor());
+        pagination.setTotalMode(totalMode);
+        return pagination;
     }
 
 }
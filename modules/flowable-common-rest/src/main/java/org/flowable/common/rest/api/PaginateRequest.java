@@ -29,6 +29,10 @@ public class PaginateRequest {
 
     protected String order;
 
+    protected String cursor;
+
+    protected String totalMode;
+
     public Integer getStart() {
         return start;
     }
@@ -60,4 +64,28 @@ public class PaginateRequest {
     public void setOrder(String order) {
         this.order = order;
     }
+
+    public String getCursor() {
+        return cursor;
+    }
+
+    /**
+     * Sets the cursor to continue from when using keyset pagination, an empty cursor requests the first page.
+     */
+    public void setCursor(String cursor) {
+        this.cursor = cursor;
+    }
+
+    public String getTotalMode() {
+        return totalMode;
+    }
+
+    /**
+     * Sets how the total of the response is counted: {@code exact} (the default), {@code approximate} or {@code none}.
+     *
+     * @see PaginateListUtil#countTotal(org.flowable.common.engine.api.query.Query, String)
+     */
+    public void setTotalMode(String totalMode) {
+        this.totalMode = totalMode;
+    }
 }
@@ -0,0 +1,325 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.rest.api;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.query.Query;
+import org.flowable.common.engine.api.query.QueryProperty;
+import org.flowable.common.rest.exception.ErrorInfo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Writes a paged query result straight to the servlet response, instead of building a {@link DataResponse} in memory first.
+ * <p>
+ * The requested page is fetched from the query in windows of {@link #getFetchSize()} elements, and every window is converted and
+ * written before the next one is fetched. The memory used is therefore bounded by the fetch size and not by the requested page size,
+ * and the first elements reach the client while the rest of the page is still being fetched.
+ * <p>
+ * The first window is fetched and converted before the status is committed, so a failing query still gets a regular error response.
+ * When a later window fails, the data written so far is followed by an {@code error} attribute instead of the {@code total},
+ * or by a last line with only an {@code error} attribute for newline delimited JSON, so the client can tell that the data is incomplete.
+ * <p>
+ * The output is the same JSON document as the one of a {@link DataResponse}, with the {@code data} written first.
+ * When the client accepts {@value #NDJSON_MEDIA_TYPE}, every element is written as a separate JSON document on its own line instead,
+ * without the pagination attributes. The output is gzip compressed when the client accepts it.
+ *
+ * @see PaginateListUtil
+ */
+public class StreamingDataResponseWriter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(StreamingDataResponseWriter.class);
+
+    public static final String NDJSON_MEDIA_TYPE = "application/x-ndjson";
+
+    public static final int DEFAULT_FETCH_SIZE = 100;
+
+    protected final ObjectMapper objectMapper;
+    protected int fetchSize = DEFAULT_FETCH_SIZE;
+
+    public StreamingDataResponseWriter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Uses the pagination parameters from the request to order the query and writes the requested page to the response.
+     *
+     * @param request The request containing the accepted media types and encodings
+     * @param response The response to write to
+     * @param requestParams The request parameters containing the pagination parameters
+     * @param paginateRequest The paginated request that can be used to get the parameters from, can be {@code null}
+     * @param query The query to get the paged list from
+     * @param defaultSort The default sort column (the rest attribute) that later will be mapped to an internal engine name
+     * @param properties The sort properties
+     * @param listProcessor The processor that would convert the result elements of the query into the response elements
+     * @param <REQ> The type returned by the {@code query}
+     * @param <RES> The type of the response
+     */
+    public <RES, REQ> void writeList(HttpServletRequest request, HttpServletResponse response, Map<String, String> requestParams,
+            PaginateRequest paginateRequest, Query<?, REQ> query, String defaultSort, Map<String, QueryProperty> properties,
+            ListProcessor<REQ, RES> listProcessor) throws IOException {
+
+        // Everything that can fail because of the request is done before anything is written to the response,
+        // including fetching and converting the first window
+        PaginateRequest pagination = PaginateListUtil.orderQuery(PaginateListUtil.completePaginateRequest(requestParams, paginateRequest),
+                query, defaultSort, properties);
+
+        QueryWindows<REQ> windows = new QueryWindows<>(query, pagination.getStart(), pagination.getSize(), fetchSize);
+        List<RES> firstElements = processWindow(windows.first(), listProcessor);
+
+        boolean ndjson = accepts(request.getHeader("Accept"), NDJSON_MEDIA_TYPE);
+        boolean gzip = accepts(request.getHeader("Accept-Encoding"), "gzip");
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(ndjson ? NDJSON_MEDIA_TYPE : "application/json");
+        response.setCharacterEncoding("UTF-8");
+        response.addHeader("Vary", "Accept-Encoding");
+        if (gzip) {
+            response.setHeader("Content-Encoding", "gzip");
+        }
+
+        OutputStream outputStream = response.getOutputStream();
+        GZIPOutputStream gzipOutputStream = null;
+        if (gzip) {
+            gzipOutputStream = new GZIPOutputStream(outputStream, true);
+            outputStream = gzipOutputStream;
+        }
+
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            if (ndjson) {
+                generator.setRootValueSeparator(new SerializedString("\n"));
+                writeData(generator, windows, firstElements, listProcessor);
+                if (windows.getFailure() != null) {
+                    generator.writeStartObject();
+                    generator.writeObjectField("error", createErrorInfo(request, windows.getFailure()));
+                    generator.writeEndObject();
+                }
+                if (windows.getWritten() > 0 || windows.getFailure() != null) {
+                    generator.writeRaw('\n');
+                }
+
+            } else {
+                generator.writeStartObject();
+                generator.writeFieldName("data");
+                generator.writeStartArray();
+                writeData(generator, windows, firstElements, listProcessor);
+                generator.writeEndArray();
+
+                Long total = null;
+                boolean totalApproximate = false;
+                if (windows.getFailure() == null) {
+                    if (pagination.getStart() == 0 && windows.getFetched() < pagination.getSize()) {
+                        total = (long) windows.getFetched();
+                    } else {
+                        try {
+                            total = PaginateListUtil.countTotal(query, pagination.getTotalMode());
+                            totalApproximate = total != null && PaginateListUtil.TOTAL_MODE_APPROXIMATE.equals(pagination.getTotalMode());
+                        } catch (RuntimeException e) {
+                            windows.failure = e;
+                        }
+                    }
+                }
+
+                if (windows.getFailure() != null) {
+                    // The status is already committed, so the error replaces the total to tell the client that the response is incomplete
+                    generator.writeObjectField("error", createErrorInfo(request, windows.getFailure()));
+
+                } else {
+                    generator.writeNumberField("total", total != null ? total : -1);
+                    if (totalApproximate) {
+                        generator.writeBooleanField("totalApproximate", true);
+                    }
+                }
+                generator.writeNumberField("start", pagination.getStart());
+                generator.writeStringField("sort", pagination.getSort());
+                generator.writeStringField("order", pagination.getOrder());
+                generator.writeNumberField("size", windows.getWritten());
+                generator.writeEndObject();
+            }
+        }
+
+        if (gzipOutputStream != null) {
+            gzipOutputStream.finish();
+        }
+        outputStream.flush();
+    }
+
+    /**
+     * Writes the already converted first window and then the other windows of the page.
+     * An exception that is thrown while fetching or converting a later window is kept as the failure of the windows.
+     */
+    protected <RES, REQ> void writeData(JsonGenerator generator, QueryWindows<REQ> windows, List<RES> firstElements,
+            ListProcessor<REQ, RES> listProcessor) throws IOException {
+
+        List<RES> elements = firstElements;
+        while (true) {
+            for (RES element : elements) {
+                generator.writeObject(element);
+            }
+            windows.written += elements.size();
+
+            // Hand the window over to the client before the next one is fetched
+            generator.flush();
+
+            if (!windows.hasNext()) {
+                break;
+            }
+
+            try {
+                elements = processWindow(windows.next(), listProcessor);
+            } catch (RuntimeException e) {
+                windows.failure = e;
+                break;
+            }
+        }
+    }
+
+    protected <RES, REQ> List<RES> processWindow(List<REQ> window, ListProcessor<REQ, RES> listProcessor) {
+        return window.isEmpty() ? Collections.emptyList() : listProcessor.processList(window);
+    }
+
+    protected ErrorInfo createErrorInfo(HttpServletRequest request, RuntimeException exception) {
+        // Same as the fall back of the exception handler advice, the exception details are only logged
+        String errorIdentifier = UUID.randomUUID().toString();
+        LOGGER.error("Streaming the response failed after it was committed. Error ID: {}. Request: {} {}", errorIdentifier,
+                request.getMethod(), request.getRequestURI(), exception);
+        ErrorInfo errorInfo = new ErrorInfo("Internal server error", exception);
+        errorInfo.setException("Error with ID: " + errorIdentifier);
+        return errorInfo;
+    }
+
+    protected boolean accepts(String headerValue, String value) {
+        if (headerValue == null) {
+            return false;
+        }
+
+        for (String acceptedValue : headerValue.split(",")) {
+            String[] parts = acceptedValue.split(";");
+            if (value.equalsIgnoreCase(parts[0].trim())) {
+                // A quality of 0 means that the value is explicitly not accepted
+                for (int i = 1; i < parts.length; i++) {
+                    String parameter = parts[i].trim();
+                    if (parameter.startsWith("q=")) {
+                        try {
+                            return Double.parseDouble(parameter.substring(2)) > 0;
+                        } catch (NumberFormatException e) {
+                            return false;
+                        }
+                    }
+                }
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Fetches the windows of a page. A page that starts at the first element is fetched with keyset pagination when the query and its order
+     * support it (see {@link Query#listAfter(String, int)}), so deep windows cost the same as the first one and rows that are inserted or
+     * removed while the page is streamed don't shift the windows. Other pages are fetched with offset windows.
+     */
+    protected static class QueryWindows<REQ> {
+
+        protected final Query<?, REQ> query;
+        protected final int start;
+        protected final int size;
+        protected final int fetchSize;
+        protected boolean keyset;
+        protected String cursor;
+        protected int fetched;
+        protected boolean exhausted;
+        protected int written;
+        protected RuntimeException failure;
+
+        public QueryWindows(Query<?, REQ> query, int start, int size, int fetchSize) {
+            this.query = query;
+            this.start = start;
+            this.size = size;
+            this.fetchSize = fetchSize;
+        }
+
+        public List<REQ> first() {
+            if (start == 0 && size > 0) {
+                try {
+                    keyset = true;
+                    return next();
+                } catch (FlowableIllegalArgumentException e) {
+                    // The query or its order doesn't support keyset pagination
+                    keyset = false;
+                }
+            }
+            return next();
+        }
+
+        public boolean hasNext() {
+            return !exhausted && fetched < size;
+        }
+
+        public List<REQ> next() {
+            if (!hasNext()) {
+                return Collections.emptyList();
+            }
+
+            int windowSize = Math.min(fetchSize, size - fetched);
+            List<REQ> window = keyset ? query.listAfter(cursor, windowSize) : query.listPage(start + fetched, windowSize);
+            fetched += window.size();
+            if (window.size() < windowSize) {
+                exhausted = true;
+            } else if (keyset) {
+                cursor = query.createCursor(window.get(window.size() - 1));
+            }
+            return window;
+        }
+
+        public int getFetched() {
+            return fetched;
+        }
+
+        public int getWritten() {
+            return written;
+        }
+
+        public RuntimeException getFailure() {
+            return failure;
+        }
+    }
+
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
+    public StreamingDataResponseWriter setFetchSize(int fetchSize) {
+        if (fetchSize <= 0) {
+            throw new FlowableIllegalArgumentException("The fetch size must be greater than 0");
+        }
+        this.fetchSize = fetchSize;
+        return this;
+    }
+}
@@ -42,6 +42,7 @@ import org.flowable.common.engine.impl.interceptor.SessionFactory;
 import org.flowable.common.engine.impl.javax.el.ELResolver;
 import org.flowable.common.engine.impl.persistence.deploy.DefaultDeploymentCache;
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
+import org.flowable.common.engine.impl.persistence.deploy.LatestDefinitionIndex;
 import org.flowable.common.engine.impl.persistence.entity.TableDataManager;
 import org.flowable.common.engine.impl.runtime.Clock;
 import org.flowable.common.engine.impl.tenant.ChangeTenantIdManager;
@@ -512,6 +513,9 @@ public class DmnEngineConfiguration extends AbstractBuildableEngineConfiguration
         deploymentManager.setDeployers(deployers);
         deploymentManager.setDeploymentEntityManager(deploymentEntityManager);
         deploymentManager.setDecisionEntityManager(decisionEntityManager);
+        if (enableLatestDefinitionIndex) {
+            deploymentManager.setLatestDecisionIndex(new LatestDefinitionIndex(this, DeploymentManager.LATEST_DEFINITION_REVISION_PROPERTY, decisionCacheLimit));
+        }
     }
 
     public Collection<? extends Deployer> getDefaultDeployers() {
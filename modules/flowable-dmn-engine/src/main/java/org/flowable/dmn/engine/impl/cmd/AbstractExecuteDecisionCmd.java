@@ -28,6 +28,7 @@ import org.flowable.dmn.engine.DmnEngineConfiguration;
 import org.flowable.dmn.engine.impl.DmnDeploymentQueryImpl;
 import org.flowable.dmn.engine.impl.ExecuteDecisionBuilderImpl;
 import org.flowable.dmn.engine.impl.persistence.deploy.DecisionCacheEntry;
+import org.flowable.dmn.engine.impl.persistence.deploy.DeploymentManager;
 import org.flowable.dmn.engine.impl.persistence.entity.DecisionEntityManager;
 import org.flowable.dmn.engine.impl.util.CommandContextUtil;
 import org.flowable.dmn.model.Decision;
@@ -69,6 +70,7 @@ public abstract class AbstractExecuteDecisionCmd implements Serializable {
         DmnDecision decision = null;
         DmnEngineConfiguration dmnEngineConfiguration = CommandContextUtil.getDmnEngineConfiguration();
         DecisionEntityManager decisionEntityManager = dmnEngineConfiguration.getDecisionEntityManager();
+        DeploymentManager deploymentManager = dmnEngineConfiguration.getDeploymentManager();
 
         String decisionKey = executeDecisionContext.getDecisionKey();
         String parentDeploymentId = executeDecisionContext.getParentDeploymentId();
@@ -87,21 +89,21 @@ public abstract class AbstractExecuteDecisionCmd implements Serializable {
 
             if (decision == null) {
                 // If there is no decision table found linked to the deployment id, try to find one without a specific deployment id.
-                decision = decisionEntityManager.findLatestDecisionByKeyAndTenantId(decisionKey, tenantId);
+                decision = deploymentManager.resolveLatestDecision(decisionKey, tenantId);
 
                 if (decision == null) {
                     // if fallback to default tenant is enabled do a final lookup query
                     if (executeDecisionContext.isFallbackToDefaultTenant() || dmnEngineConfiguration.isFallbackToDefaultTenant()) {
                         String defaultTenant = dmnEngineConfiguration.getDefaultTenantProvider().getDefaultTenant(tenantId, ScopeTypes.DMN, decisionKey);
                         if (StringUtils.isNotEmpty(defaultTenant)) {
-                            decision = decisionEntityManager.findLatestDecisionByKeyAndTenantId(decisionKey, defaultTenant);
+                            decision = deploymentManager.resolveLatestDecision(decisionKey, defaultTenant);
                             if (decision == null) {
                                 throw new FlowableObjectNotFoundException("No decision found for key: " + decisionKey +
                                     ". There was also no fall back decision found for default tenant " + defaultTenant);
                             }
                             
                         } else {
-                            decision = decisionEntityManager.findLatestDecisionByKey(decisionKey);
+                            decision = deploymentManager.resolveLatestDecision(decisionKey, null);
                             if (decision == null) {
                                 throw new FlowableObjectNotFoundException("No decision found for key: " + decisionKey +
                                     ". There was also no fall back decision table found without tenant.");
@@ -128,7 +130,7 @@ public abstract class AbstractExecuteDecisionCmd implements Serializable {
 
             if (decision == null) {
                 // If there is no decision table found linked to the deployment id, try to find one without a specific deployment id.
-                decision = decisionEntityManager.findLatestDecisionByKey(decisionKey);
+                decision = deploymentManager.resolveLatestDecision(decisionKey, null);
 
                 if (decision == null) {
                     throw new FlowableObjectNotFoundException("No decision found for key: " + decisionKey +
@@ -138,12 +140,12 @@ public abstract class AbstractExecuteDecisionCmd implements Serializable {
             }
             
         } else if (StringUtils.isNotEmpty(decisionKey) && StringUtils.isNotEmpty(tenantId)) {
-            decision = decisionEntityManager.findLatestDecisionByKeyAndTenantId(decisionKey, tenantId);
+            decision = deploymentManager.resolveLatestDecision(decisionKey, tenantId);
             if (decision == null) {
                 if (executeDecisionContext.isFallbackToDefaultTenant() || dmnEngineConfiguration.isFallbackToDefaultTenant()) {
                     String defaultTenant = dmnEngineConfiguration.getDefaultTenantProvider().getDefaultTenant(tenantId, ScopeTypes.DMN, decisionKey);
                     if (StringUtils.isNotEmpty(defaultTenant)) {
-                        decision = decisionEntityManager.findLatestDecisionByKeyAndTenantId(decisionKey, defaultTenant);
+                        decision = deploymentManager.resolveLatestDecision(decisionKey, defaultTenant);
                         if (decision == null) {
                             throw new FlowableObjectNotFoundException("No decision found for key: " + decisionKey +
                                 ". There was also no fall back decision found for default tenant " +
@@ -151,7 +153,7 @@ public abstract class AbstractExecuteDecisionCmd implements Serializable {
                         }
 
                     } else {
-                        decision = decisionEntityManager.findLatestDecisionByKey(decisionKey);
+                        decision = deploymentManager.resolveLatestDecision(decisionKey, null);
                         if (decision == null) {
                             throw new FlowableObjectNotFoundException("No decision found for key: " + decisionKey +
                                 ". There was also no fall back decision found without tenant.");
@@ -165,7 +167,7 @@ public abstract class AbstractExecuteDecisionCmd implements Serializable {
             }
 
         } else if (StringUtils.isNotEmpty(decisionKey)) {
-            decision = decisionEntityManager.findLatestDecisionByKey(decisionKey);
+            decision = deploymentManager.resolveLatestDecision(decisionKey, null);
             if (decision == null) {
                 throw new FlowableObjectNotFoundException("No decision found for key: " + decisionKey + ".");
             }
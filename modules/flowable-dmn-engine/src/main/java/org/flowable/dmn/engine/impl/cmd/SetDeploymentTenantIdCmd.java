@@ -57,6 +57,7 @@ public class SetDeploymentTenantIdCmd implements Command<Void>, Serializable {
         // Doing process instances, executions and tasks with direct SQL updates
         // (otherwise would not be performant)
         CommandContextUtil.getDecisionEntityManager(commandContext).updateDecisionTenantIdForDeployment(deploymentId, newTenantId);
+        CommandContextUtil.getDmnEngineConfiguration(commandContext).getDeploymentManager().latestDecisionsChanged();
 
         // Doing decision tables in memory, cause we need to clear the decision table cache
         List<DmnDecision> decisionTables = new DecisionQueryImpl().deploymentId(deploymentId).list();
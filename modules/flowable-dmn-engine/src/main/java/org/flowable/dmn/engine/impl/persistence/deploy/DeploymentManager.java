@@ -18,6 +18,7 @@ import java.util.Map;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableObjectNotFoundException;
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
+import org.flowable.common.engine.impl.persistence.deploy.LatestDefinitionIndex;
 import org.flowable.dmn.api.DmnDecision;
 import org.flowable.dmn.engine.DmnEngineConfiguration;
 import org.flowable.dmn.engine.impl.DecisionQueryImpl;
@@ -26,6 +27,7 @@ import org.flowable.dmn.engine.impl.persistence.entity.DecisionEntityManager;
 import org.flowable.dmn.engine.impl.persistence.entity.DmnDeploymentEntity;
 import org.flowable.dmn.engine.impl.persistence.entity.DmnDeploymentEntityManager;
 import org.flowable.dmn.engine.impl.persistence.entity.DmnResourceEntity;
+import org.flowable.dmn.engine.impl.util.CommandContextUtil;
 
 /**
  * @author Tijs Rademakers
@@ -34,8 +36,11 @@ import org.flowable.dmn.engine.impl.persistence.entity.DmnResourceEntity;
  */
 public class DeploymentManager {
 
+    public static final String LATEST_DEFINITION_REVISION_PROPERTY = "cfg.definition-revision.dmn";
+
     protected DmnEngineConfiguration engineConfig;
     protected DeploymentCache<DecisionCacheEntry> decisionCache;
+    protected LatestDefinitionIndex latestDecisionIndex;
 
     protected List<Deployer> deployers;
     protected DecisionEntityManager decisionEntityManager;
@@ -54,6 +59,10 @@ public class DeploymentManager {
         for (Deployer deployer : deployers) {
             deployer.deploy(deployment, deploymentSettings);
         }
+
+        if (deployment.isNew()) {
+            latestDecisionsChanged();
+        }
     }
 
     public DecisionEntity findDeployedDecisionById(String decisionId) {
@@ -76,25 +85,62 @@ public class DeploymentManager {
     }
 
     public DecisionEntity findDeployedLatestDefinitionByKey(String definitionKey) {
-        DecisionEntity definition = decisionEntityManager.findLatestDecisionByKey(definitionKey);
+        DecisionEntity definition = resolveLatestDecision(definitionKey, null);
 
         if (definition == null) {
             throw new FlowableObjectNotFoundException("no decisions deployed with key '" + definitionKey + "'");
         }
-        definition = resolveDecision(definition).getDecisionEntity();
         return definition;
     }
 
     public DecisionEntity findDeployedLatestDefinitionByKeyAndTenantId(String definitionKey, String tenantId) {
-        DecisionEntity definition = decisionEntityManager.findLatestDecisionByKeyAndTenantId(definitionKey, tenantId);
+        DecisionEntity definition = resolveLatestDecision(definitionKey, tenantId);
 
         if (definition == null) {
             throw new FlowableObjectNotFoundException("no decisions deployed with key '" + definitionKey + "' for tenant identifier '" + tenantId + "'");
         }
-        definition = resolveDecision(definition).getDecisionEntity();
         return definition;
     }
 
+    /**
+     * Returns the latest deployed version of the decision with the given key, or null when there is no such decision.
+     * The id of the latest version is taken from the {@link LatestDefinitionIndex} when it is enabled, which avoids querying the decision table.
+     *
+     * @param tenantId the tenant of the decision, null or empty for decisions without a tenant
+     */
+    public DecisionEntity resolveLatestDecision(String decisionKey, String tenantId) {
+        String decisionTenantId = tenantId == null || DmnEngineConfiguration.NO_TENANT_ID.equals(tenantId) ? null : tenantId;
+
+        if (latestDecisionIndex == null) {
+            DecisionEntity decision = findLatestDecisionInDatabase(decisionKey, decisionTenantId);
+            return decision != null ? resolveDecision(decision).getDecisionEntity() : null;
+        }
+
+        String decisionId = latestDecisionIndex.getLatestDefinitionId(CommandContextUtil.getCommandContext(), decisionKey, decisionTenantId, () -> {
+            DecisionEntity decision = findLatestDecisionInDatabase(decisionKey, decisionTenantId);
+            return decision != null ? decision.getId() : null;
+        });
+        return decisionId != null ? findDeployedDecisionById(decisionId) : null;
+    }
+
+    protected DecisionEntity findLatestDecisionInDatabase(String decisionKey, String tenantId) {
+        if (tenantId == null) {
+            return decisionEntityManager.findLatestDecisionByKey(decisionKey);
+        } else {
+            return decisionEntityManager.findLatestDecisionByKeyAndTenantId(decisionKey, tenantId);
+        }
+    }
+
+    /**
+     * Invalidates the latest decision index on all nodes, once the current transaction is committed.
+     * Needs to be called by every operation that changes which decision is the latest version for a key and tenant.
+     */
+    public void latestDecisionsChanged() {
+        if (latestDecisionIndex != null) {
+            latestDecisionIndex.definitionsChanged(CommandContextUtil.getCommandContext());
+        }
+    }
+
     public DecisionEntity findDeployedLatestDecisionByKeyAndDeploymentId(String definitionKey, String deploymentId) {
         DecisionEntity definition = decisionEntityManager.findDecisionByDeploymentAndKey(deploymentId, definitionKey);
 
@@ -168,6 +214,7 @@ public class DeploymentManager {
 
         // Delete data
         deploymentEntityManager.deleteDeployment(deploymentId);
+        latestDecisionsChanged();
 
         for (DmnDecision definition : definitions) {
             decisionCache.remove(definition.getId());
@@ -190,6 +237,14 @@ public class DeploymentManager {
         this.decisionCache = decisionCache;
     }
 
+    public LatestDefinitionIndex getLatestDecisionIndex() {
+        return latestDecisionIndex;
+    }
+
+    public void setLatestDecisionIndex(LatestDefinitionIndex latestDecisionIndex) {
+        this.latestDecisionIndex = latestDecisionIndex;
+    }
+
     public DecisionEntityManager getDecisionEntityManager() {
         return decisionEntityManager;
     }
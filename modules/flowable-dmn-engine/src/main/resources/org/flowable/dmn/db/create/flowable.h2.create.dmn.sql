@@ -15,4 +15,7 @@ ALTER TABLE ACT_DMN_DECISION ADD DECISION_TYPE_ VARCHAR(255);
 CREATE INDEX ACT_IDX_DMN_INSTANCE_ID ON ACT_DMN_HI_DECISION_EXECUTION(INSTANCE_ID_);
 
 insert into ACT_GE_PROPERTY
-values ('dmn.schema.version', '7.1.0.2', 1);
+values ('dmn.schema.version', '7.1.0.3', 1);
+
+insert into ACT_GE_PROPERTY
+values ('cfg.definition-revision.dmn', '', 1);
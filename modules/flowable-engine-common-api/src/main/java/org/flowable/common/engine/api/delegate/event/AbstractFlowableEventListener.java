@@ -18,6 +18,7 @@ package org.flowable.common.engine.api.delegate.event;
 public abstract class AbstractFlowableEventListener implements FlowableEventListener {
 
     protected String onTransaction;
+    protected boolean async;
     
     @Override
     public boolean isFireOnTransactionLifecycleEvent() {
@@ -33,4 +34,13 @@ public abstract class AbstractFlowableEventListener implements FlowableEventList
         this.onTransaction = onTransaction;
     }
 
+    @Override
+    public boolean isAsync() {
+        return async;
+    }
+
+    public void setAsync(boolean async) {
+        this.async = async;
+    }
+
 }
@@ -46,6 +46,16 @@ public interface FlowableEventListener {
      * @return if non-null, indicates the point in the lifecycle of the current transaction when the event should be fired.
      */
     String getOnTransaction();
+
+    /**
+     * @return whether this event listener should be notified asynchronously, after the transaction has been committed,
+     *         on the dedicated thread pool of the engine's async event listener executor.
+     *         When no such executor is configured, the listener is notified synchronously as usual.
+     *         Asynchronous listeners can't fail the current operation, {@link #isFailOnException()} is ignored for them.
+     */
+    default boolean isAsync() {
+        return false;
+    }
     
     /**
      * The event types that this event listener needs to be registered for
@@ -13,8 +13,11 @@
 
 package org.flowable.common.engine.api.query;
 
+import java.time.Duration;
 import java.util.List;
 
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+
 /**
  * Describes basic methods for querying.
  *
@@ -45,6 +48,16 @@ public interface Query<T extends Query<?, ?>, U extends Object> {
      */
     long count();
 
+    /**
+     * Executes the query and returns the number of results, unless the same query, with the same parameters, was counted at most maxAge ago.
+     * In that case the number of results of that earlier execution is returned, which can differ from the current number of results.
+     * This is meant for counts that are shown next to a page of results and that are requested very often with the same parameters.
+     * A query that does not support cached counts always executes the count.
+     */
+    default long count(Duration maxAge) {
+        return count();
+    }
+
     /**
      * Executes the query and returns the resulting entity or null if no entity matches the query criteria.
      *
@@ -61,4 +74,28 @@ public interface Query<T extends Query<?, ?>, U extends Object> {
      * Executes the query and get a list of entities as the result.
      */
     List<U> listPage(int firstResult, int maxResults);
+
+    /**
+     * Executes the query and gets the entities that come after the given cursor in the order of the query (keyset pagination).
+     * Unlike {@link #listPage(int, int)}, the database does not need to skip the previous results, so deep pages are as fast as the first one.
+     * <p>
+     * The order of the query is always completed with the id, so that every result has a unique position.
+     * Only the order by properties backed by a mandatory column can be used.
+     *
+     * @param cursor a cursor created by {@link #createCursor(Object)} with the same order, or null to get the first results
+     * @param maxResults the maximum number of results to return
+     * @throws org.flowable.common.engine.api.FlowableIllegalArgumentException when the query does not support keyset pagination for its order,
+     *         or when the cursor was not created for the order of the query.
+     */
+    default List<U> listAfter(String cursor, int maxResults) {
+        throw new FlowableIllegalArgumentException(getClass().getName() + " does not support keyset pagination");
+    }
+
+    /**
+     * Creates an opaque cursor that points to the position of the given result in the order of the query.
+     * Pass the cursor of the last result of a page to {@link #listAfter(String, int)} to get the next page.
+     */
+    default String createCursor(U result) {
+        throw new FlowableIllegalArgumentException(getClass().getName() + " does not support keyset pagination");
+    }
 }
@@ -84,6 +84,7 @@ import org.flowable.common.engine.impl.db.SchemaManager;
 import org.flowable.common.engine.impl.db.SchemaManagerDatabaseConfiguration;
 import org.flowable.common.engine.impl.db.SchemaManagerDatabaseConfigurationSessionFactory;
 import org.flowable.common.engine.impl.db.SchemaOperationsEngineBuild;
+import org.flowable.common.engine.impl.event.AsyncEventListenerExecutor;
 import org.flowable.common.engine.impl.event.EventDispatchAction;
 import org.flowable.common.engine.impl.event.FlowableEventDispatcherImpl;
 import org.flowable.common.engine.impl.interceptor.Command;
@@ -116,6 +117,7 @@ import org.flowable.common.engine.impl.persistence.entity.data.ByteArrayDataMana
 import org.flowable.common.engine.impl.persistence.entity.data.PropertyDataManager;
 import org.flowable.common.engine.impl.persistence.entity.data.impl.MybatisByteArrayDataManager;
 import org.flowable.common.engine.impl.persistence.entity.data.impl.MybatisPropertyDataManager;
+import org.flowable.common.engine.impl.query.QueryCountCache;
 import org.flowable.common.engine.impl.runtime.Clock;
 import org.flowable.common.engine.impl.service.CommonEngineServiceImpl;
 import org.flowable.common.engine.impl.util.DbUtil;
@@ -257,6 +259,12 @@ public abstract class AbstractEngineConfiguration {
     protected Map<String, List<FlowableEventListener>> typedEventListeners;
     protected List<EventDispatchAction> additionalEventDispatchActions;
 
+    /**
+     * Executor used to notify event listeners that are marked as {@link FlowableEventListener#isAsync() asynchronous}.
+     * When not set, asynchronous event listeners are notified synchronously.
+     */
+    protected AsyncEventListenerExecutor asyncEventListenerExecutor;
+
     protected LoggingListener loggingListener;
 
     protected boolean transactionsExternallyManaged;
@@ -326,6 +334,13 @@ public abstract class AbstractEngineConfiguration {
      */
     protected DefaultTenantProvider defaultTenantProvider = (tenantId, scope, scopeKey) -> NO_TENANT_ID;
 
+    /**
+     * Set to true to keep the id of the latest version of a definition in memory, instead of looking it up in the database every time.
+     * The in-memory index is checked against a definition revision property, which is updated whenever definitions are deployed or deleted.
+     * All the engines of a cluster that share the same database need to enable it, as only engines with the index update the revision property.
+     */
+    protected boolean enableLatestDefinitionIndex;
+
     /**
      * Enables the MyBatis plugin that logs the execution time of sql statements.
      */
@@ -390,6 +405,13 @@ public abstract class AbstractEngineConfiguration {
     protected Clock clock;
     protected ObjectMapper objectMapper;
 
+    /**
+     * The counts that are kept for {@link org.flowable.common.engine.api.query.Query#count(java.time.Duration)}.
+     * Cached counts are not used when this is set to null.
+     */
+    protected QueryCountCache queryCountCache;
+    protected int queryCountCacheLimit = QueryCountCache.DEFAULT_LIMIT;
+
     // Variables
 
     public static final int DEFAULT_GENERIC_MAX_LENGTH_STRING = 4000;
@@ -646,6 +668,12 @@ public abstract class AbstractEngineConfiguration {
         }
     }
 
+    public void initQueryCountCache() {
+        if (queryCountCache == null && queryCountCacheLimit > 0) {
+            queryCountCache = new QueryCountCache(queryCountCacheLimit);
+        }
+    }
+
     // Data managers ///////////////////////////////////////////////////////////
 
     public void initDataManagers() {
@@ -1068,6 +1096,10 @@ public abstract class AbstractEngineConfiguration {
     }
 
     public void close() {
+        if (asyncEventListenerExecutor != null) {
+            asyncEventListenerExecutor.shutdown();
+        }
+
         if (forceCloseMybatisConnectionPool && dataSource instanceof PooledDataSource) {
             /*
              * When the datasource is created by a Flowable engine (i.e. it's an instance of PooledDataSource),
@@ -1742,6 +1774,15 @@ public abstract class AbstractEngineConfiguration {
         return this;
     }
 
+    public boolean isEnableLatestDefinitionIndex() {
+        return enableLatestDefinitionIndex;
+    }
+
+    public AbstractEngineConfiguration setEnableLatestDefinitionIndex(boolean enableLatestDefinitionIndex) {
+        this.enableLatestDefinitionIndex = enableLatestDefinitionIndex;
+        return this;
+    }
+
     public AbstractEngineConfiguration setDefaultTenantValue(String defaultTenantValue) {
         this.defaultTenantProvider = (tenantId, scope, scopeKey) -> defaultTenantValue;
         return this;
@@ -1836,12 +1877,22 @@ public abstract class AbstractEngineConfiguration {
         return this;
     }
 
+    public AsyncEventListenerExecutor getAsyncEventListenerExecutor() {
+        return asyncEventListenerExecutor;
+    }
+
+    public AbstractEngineConfiguration setAsyncEventListenerExecutor(AsyncEventListenerExecutor asyncEventListenerExecutor) {
+        this.asyncEventListenerExecutor = asyncEventListenerExecutor;
+        return this;
+    }
+
     public void initEventDispatcher() {
         if (this.eventDispatcher == null) {
             this.eventDispatcher = new FlowableEventDispatcherImpl();
         }
 
         initAdditionalEventDispatchActions();
+        initAsyncEventListenerExecutor();
 
         this.eventDispatcher.setEnabled(enableEventDispatcher);
 
@@ -1863,6 +1914,13 @@ public abstract class AbstractEngineConfiguration {
         }
     }
 
+    protected void initAsyncEventListenerExecutor() {
+        if (asyncEventListenerExecutor != null && eventDispatcher instanceof FlowableEventDispatcherImpl) {
+            asyncEventListenerExecutor.start();
+            ((FlowableEventDispatcherImpl) eventDispatcher).getEventSupport().setAsyncEventListenerExecutor(asyncEventListenerExecutor);
+        }
+    }
+
     protected void initTypedEventListeners() {
         if (typedEventListeners != null) {
             for (Map.Entry<String, List<FlowableEventListener>> listenersToAdd : typedEventListeners.entrySet()) {
@@ -1897,6 +1955,24 @@ public abstract class AbstractEngineConfiguration {
         return this;
     }
 
+    public QueryCountCache getQueryCountCache() {
+        return queryCountCache;
+    }
+
+    public AbstractEngineConfiguration setQueryCountCache(QueryCountCache queryCountCache) {
+        this.queryCountCache = queryCountCache;
+        return this;
+    }
+
+    public int getQueryCountCacheLimit() {
+        return queryCountCacheLimit;
+    }
+
+    public AbstractEngineConfiguration setQueryCountCacheLimit(int queryCountCacheLimit) {
+        this.queryCountCacheLimit = queryCountCacheLimit;
+        return this;
+    }
+
     public ObjectMapper getObjectMapper() {
         return objectMapper;
     }
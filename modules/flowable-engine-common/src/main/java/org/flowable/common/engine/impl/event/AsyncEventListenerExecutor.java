@@ -0,0 +1,357 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.event;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.flowable.common.engine.api.delegate.event.FlowableEntityEvent;
+import org.flowable.common.engine.api.delegate.event.FlowableEvent;
+import org.flowable.common.engine.api.delegate.event.FlowableEventListener;
+import org.flowable.common.engine.impl.persistence.entity.Entity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Delivers events to {@link FlowableEventListener#isAsync() asynchronous} event listeners on a dedicated thread pool with a bounded queue.
+ * The events are handed over once the transaction in which they were dispatched has been committed,
+ * which means that the listeners never hold on to the engine thread or its database connection.
+ * <p>
+ * The listeners don't receive the original event, but a snapshot that is taken on the committing thread before the event is handed over
+ * (see {@link #createEventSnapshot(FlowableEvent)}). Entity events are copied into a {@link FlowableEntityEventSnapshot} with a shallow copy of the entity,
+ * as the original entity belongs to the command context of the transaction and can be changed by the engine afterwards.
+ * The copy is shallow to keep the work on the committing thread small, even for entities that reference a large graph of loaded entities.
+ * <p>
+ * Basic metrics (queue depth, delivered, dropped and failed events and listener latency) are exposed through getters,
+ * so they can be bound to any metrics library.
+ */
+public class AsyncEventListenerExecutor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncEventListenerExecutor.class);
+
+    protected int corePoolSize = 2;
+    protected int maxPoolSize = 2;
+    protected long keepAliveTime = 5000L;
+    protected int queueSize = 1000;
+    protected long secondsToWaitOnShutdown = 60L;
+    protected String threadPoolNamingPattern = "flowable-async-event-listener-thread-%d";
+    protected AsyncEventListenerOverflowPolicy overflowPolicy = AsyncEventListenerOverflowPolicy.BLOCK;
+
+    protected ThreadFactory threadFactory;
+    protected BlockingQueue<Runnable> threadPoolQueue;
+    protected ThreadPoolExecutor executorService;
+
+    protected final LongAdder deliveredEventCount = new LongAdder();
+    protected final LongAdder failedEventCount = new LongAdder();
+    protected final LongAdder droppedEventCount = new LongAdder();
+    protected final LongAdder totalListenerTimeNanos = new LongAdder();
+    protected final AtomicLong maxListenerTimeNanos = new AtomicLong();
+
+    protected final Map<Class<?>, List<Field>> entityFields = new ConcurrentHashMap<>();
+
+    public synchronized void start() {
+        if (executorService != null) {
+            return;
+        }
+
+        if (threadPoolQueue == null) {
+            threadPoolQueue = new ArrayBlockingQueue<>(queueSize);
+        }
+
+        if (threadFactory == null) {
+            threadFactory = new BasicThreadFactory.Builder().namingPattern(threadPoolNamingPattern).build();
+        }
+
+        LOGGER.info("Starting async event listener executor with corePoolSize {}, maxPoolSize {}, queueSize {} and overflow policy {}",
+                corePoolSize, maxPoolSize, queueSize, overflowPolicy);
+        executorService = new ThreadPoolExecutor(corePoolSize, maxPoolSize, keepAliveTime, TimeUnit.MILLISECONDS, threadPoolQueue, threadFactory,
+                createRejectedExecutionHandler());
+    }
+
+    public synchronized void shutdown() {
+        if (executorService == null) {
+            return;
+        }
+
+        executorService.shutdown();
+        try {
+            if (!executorService.awaitTermination(secondsToWaitOnShutdown, TimeUnit.SECONDS)) {
+                LOGGER.warn("Timeout during shutdown of async event listener executor. {} events were not delivered within {} seconds after shutdown operation.",
+                        threadPoolQueue.size(), secondsToWaitOnShutdown);
+            }
+        } catch (InterruptedException e) {
+            LOGGER.warn("Interrupted while shutting down the async event listener executor.", e);
+            Thread.currentThread().interrupt();
+        }
+
+        executorService = null;
+    }
+
+    /**
+     * Hands the event over to the thread pool. Needs to be called on the thread that dispatched the event,
+     * while the command context in which the event was dispatched is still active, as the snapshot of the event is taken here.
+     */
+    public void execute(FlowableEventListener listener, FlowableEvent event) {
+        FlowableEvent eventSnapshot = createEventSnapshot(event);
+        Runnable task = () -> deliverEvent(listener, eventSnapshot);
+        ThreadPoolExecutor executor = executorService;
+        if (executor == null) {
+            // Not started or already shut down, deliver on the current thread so that the event is not lost
+            task.run();
+        } else {
+            executor.execute(task);
+        }
+    }
+
+    /**
+     * Creates the immutable snapshot of the event that is delivered to the listener.
+     * Entity events are copied into a {@link FlowableEntityEventSnapshot}, which means that only the type, the scope information and the entity are kept.
+     * Other events only hold values and are delivered as they are.
+     */
+    protected FlowableEvent createEventSnapshot(FlowableEvent event) {
+        if (event instanceof FlowableEntityEvent) {
+            FlowableEntityEvent entityEvent = (FlowableEntityEvent) event;
+            return new FlowableEntityEventSnapshot(entityEvent, detachEntity(entityEvent.getEntity()));
+        }
+        return event;
+    }
+
+    /**
+     * Creates a shallow copy of the entity: a new instance of the same type of which all fields hold the values of the original entity when the transaction was committed.
+     * Values (ids, names, dates, ...) can safely be read on another thread. References to other objects (e.g. the loaded child executions or variables)
+     * are shared with the original entity, relations that are not loaded yet can't be loaded without a command context. They need to be fetched through the services.
+     * Entities that can't be instantiated through a no-argument constructor are replaced by an unmodifiable map with their persistent state and id.
+     */
+    protected Object detachEntity(Object entity) {
+        if (!(entity instanceof Entity)) {
+            // Not an engine entity (e.g. a custom event), there is no way to know how to copy it
+            return entity;
+        }
+
+        Object copy = copyFields(entity);
+        if (copy != null) {
+            return copy;
+        }
+
+        Map<String, Object> state = new HashMap<>();
+        Object persistentState = ((Entity) entity).getPersistentState();
+        if (persistentState instanceof Map) {
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) persistentState).entrySet()) {
+                state.put(String.valueOf(entry.getKey()), entry.getValue());
+            }
+        }
+        state.put("id", ((Entity) entity).getId());
+        return Collections.unmodifiableMap(state);
+    }
+
+    protected Object copyFields(Object entity) {
+        try {
+            Constructor<?> constructor = entity.getClass().getDeclaredConstructor();
+            constructor.setAccessible(true);
+            Object copy = constructor.newInstance();
+            for (Field field : entityFields.computeIfAbsent(entity.getClass(), this::findEntityFields)) {
+                field.set(copy, field.get(entity));
+            }
+            return copy;
+
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            LOGGER.debug("Could not copy entity {} for async event listeners, falling back to its persistent state", entity, e);
+            return null;
+        }
+    }
+
+    protected List<Field> findEntityFields(Class<?> entityClass) {
+        List<Field> fields = new ArrayList<>();
+        for (Class<?> type = entityClass; type != null && type != Object.class; type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers())) {
+                    field.setAccessible(true);
+                    fields.add(field);
+                }
+            }
+        }
+        return fields;
+    }
+
+    protected void deliverEvent(FlowableEventListener listener, FlowableEvent event) {
+        long start = System.nanoTime();
+        try {
+            listener.onEvent(event);
+            deliveredEventCount.increment();
+        } catch (Throwable t) {
+            // There is no transaction anymore that could be failed, so failOnException can't be honoured here
+            failedEventCount.increment();
+            LOGGER.warn("Exception while executing async event-listener {} for event {}", listener, event, t);
+        } finally {
+            long duration = System.nanoTime() - start;
+            totalListenerTimeNanos.add(duration);
+            maxListenerTimeNanos.accumulateAndGet(duration, Math::max);
+        }
+    }
+
+    protected RejectedExecutionHandler createRejectedExecutionHandler() {
+        switch (overflowPolicy) {
+            case DROP:
+                return (task, executor) -> {
+                    droppedEventCount.increment();
+                    LOGGER.warn("Async event listener queue is full ({} events), the event was dropped", executor.getQueue().size());
+                };
+            case CALLER_RUNS:
+                return (task, executor) -> task.run();
+            case BLOCK:
+            default:
+                return (task, executor) -> {
+                    if (executor.isShutdown()) {
+                        throw new RejectedExecutionException("Async event listener executor has been shut down");
+                    }
+                    try {
+                        executor.getQueue().put(task);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new RejectedExecutionException("Interrupted while waiting for space in the async event listener queue", e);
+                    }
+                };
+        }
+    }
+
+    // metrics
+
+    public int getQueueDepth() {
+        return threadPoolQueue != null ? threadPoolQueue.size() : 0;
+    }
+
+    public int getRemainingQueueCapacity() {
+        return threadPoolQueue != null ? threadPoolQueue.remainingCapacity() : queueSize;
+    }
+
+    public int getActiveCount() {
+        ThreadPoolExecutor executor = executorService;
+        return executor != null ? executor.getActiveCount() : 0;
+    }
+
+    public long getDeliveredEventCount() {
+        return deliveredEventCount.sum();
+    }
+
+    public long getFailedEventCount() {
+        return failedEventCount.sum();
+    }
+
+    public long getDroppedEventCount() {
+        return droppedEventCount.sum();
+    }
+
+    public long getTotalListenerTimeNanos() {
+        return totalListenerTimeNanos.sum();
+    }
+
+    public long getMaxListenerTimeNanos() {
+        return maxListenerTimeNanos.get();
+    }
+
+    public long getAverageListenerTimeNanos() {
+        long count = getDeliveredEventCount() + getFailedEventCount();
+        return count == 0 ? 0 : getTotalListenerTimeNanos() / count;
+    }
+
+    // getters and setters
+
+    public int getCorePoolSize() {
+        return corePoolSize;
+    }
+
+    public void setCorePoolSize(int corePoolSize) {
+        this.corePoolSize = corePoolSize;
+    }
+
+    public int getMaxPoolSize() {
+        return maxPoolSize;
+    }
+
+    public void setMaxPoolSize(int maxPoolSize) {
+        this.maxPoolSize = maxPoolSize;
+    }
+
+    public long getKeepAliveTime() {
+        return keepAliveTime;
+    }
+
+    public void setKeepAliveTime(long keepAliveTime) {
+        this.keepAliveTime = keepAliveTime;
+    }
+
+    public int getQueueSize() {
+        return queueSize;
+    }
+
+    public void setQueueSize(int queueSize) {
+        this.queueSize = queueSize;
+    }
+
+    public long getSecondsToWaitOnShutdown() {
+        return secondsToWaitOnShutdown;
+    }
+
+    public void setSecondsToWaitOnShutdown(long secondsToWaitOnShutdown) {
+        this.secondsToWaitOnShutdown = secondsToWaitOnShutdown;
+    }
+
+    public String getThreadPoolNamingPattern() {
+        return threadPoolNamingPattern;
+    }
+
+    public void setThreadPoolNamingPattern(String threadPoolNamingPattern) {
+        this.threadPoolNamingPattern = threadPoolNamingPattern;
+    }
+
+    public AsyncEventListenerOverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    public void setOverflowPolicy(AsyncEventListenerOverflowPolicy overflowPolicy) {
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    public ThreadFactory getThreadFactory() {
+        return threadFactory;
+    }
+
+    public void setThreadFactory(ThreadFactory threadFactory) {
+        this.threadFactory = threadFactory;
+    }
+
+    public BlockingQueue<Runnable> getThreadPoolQueue() {
+        return threadPoolQueue;
+    }
+
+    public void setThreadPoolQueue(BlockingQueue<Runnable> threadPoolQueue) {
+        this.threadPoolQueue = threadPoolQueue;
+    }
+}
@@ -0,0 +1,35 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.event;
+
+/**
+ * Determines what the {@link AsyncEventListenerExecutor} does with an event when its queue is full.
+ */
+public enum AsyncEventListenerOverflowPolicy {
+
+    /**
+     * Block the thread that completed the transaction until there is space in the queue.
+     */
+    BLOCK,
+
+    /**
+     * Drop the event and log a warning. The dropped events are counted in {@link AsyncEventListenerExecutor#getDroppedEventCount()}.
+     */
+    DROP,
+
+    /**
+     * Deliver the event on the thread that completed the transaction, i.e. fall back to synchronous (post-commit) delivery.
+     */
+    CALLER_RUNS
+
+}
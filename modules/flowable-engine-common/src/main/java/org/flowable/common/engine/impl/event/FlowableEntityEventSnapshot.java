@@ -0,0 +1,111 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.event;
+
+import org.flowable.common.engine.api.delegate.event.FlowableEngineEntityEvent;
+import org.flowable.common.engine.api.delegate.event.FlowableEngineEvent;
+import org.flowable.common.engine.api.delegate.event.FlowableEntityEvent;
+import org.flowable.common.engine.api.delegate.event.FlowableEventType;
+
+/**
+ * Immutable copy of a {@link FlowableEntityEvent}, taken when the transaction in which the event was dispatched is committed,
+ * which is delivered to asynchronous event listeners instead of the original event.
+ * <p>
+ * The entity is a shallow copy of the original entity (see {@link AsyncEventListenerExecutor#detachEntity(Object)}),
+ * so its values can safely be read on another thread and don't change when the original entity is changed afterwards.
+ */
+public class FlowableEntityEventSnapshot implements FlowableEngineEntityEvent {
+
+    protected final FlowableEventType type;
+    protected final Object entity;
+    protected final String executionId;
+    protected final String processInstanceId;
+    protected final String processDefinitionId;
+    protected final String scopeType;
+    protected final String scopeId;
+    protected final String subScopeId;
+    protected final String scopeDefinitionId;
+
+    public FlowableEntityEventSnapshot(FlowableEntityEvent event, Object entity) {
+        this.type = event.getType();
+        this.entity = entity;
+        if (event instanceof FlowableEngineEvent) {
+            FlowableEngineEvent engineEvent = (FlowableEngineEvent) event;
+            this.executionId = engineEvent.getExecutionId();
+            this.processInstanceId = engineEvent.getProcessInstanceId();
+            this.processDefinitionId = engineEvent.getProcessDefinitionId();
+            this.scopeType = engineEvent.getScopeType();
+            this.scopeId = engineEvent.getScopeId();
+            this.subScopeId = engineEvent.getSubScopeId();
+            this.scopeDefinitionId = engineEvent.getScopeDefinitionId();
+        } else {
+            this.executionId = null;
+            this.processInstanceId = null;
+            this.processDefinitionId = null;
+            this.scopeType = null;
+            this.scopeId = null;
+            this.subScopeId = null;
+            this.scopeDefinitionId = null;
+        }
+    }
+
+    @Override
+    public FlowableEventType getType() {
+        return type;
+    }
+
+    @Override
+    public Object getEntity() {
+        return entity;
+    }
+
+    @Override
+    public String getExecutionId() {
+        return executionId;
+    }
+
+    @Override
+    public String getProcessInstanceId() {
+        return processInstanceId;
+    }
+
+    @Override
+    public String getProcessDefinitionId() {
+        return processDefinitionId;
+    }
+
+    @Override
+    public String getScopeType() {
+        return scopeType;
+    }
+
+    @Override
+    public String getScopeId() {
+        return scopeId;
+    }
+
+    @Override
+    public String getSubScopeId() {
+        return subScopeId;
+    }
+
+    @Override
+    public String getScopeDefinitionId() {
+        return scopeDefinitionId;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[type=" + type + ", entity=" + entity + "]";
+    }
+}
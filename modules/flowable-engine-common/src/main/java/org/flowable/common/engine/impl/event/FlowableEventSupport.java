@@ -39,6 +39,7 @@ public class FlowableEventSupport {
 
     protected List<FlowableEventListener> eventListeners;
     protected Map<FlowableEventType, List<FlowableEventListener>> typedListeners;
+    protected AsyncEventListenerExecutor asyncEventListenerExecutor;
 
     public FlowableEventSupport() {
         eventListeners = new CopyOnWriteArrayList<>();
@@ -110,7 +111,9 @@ public class FlowableEventSupport {
     }
 
     protected void dispatchEvent(FlowableEvent event, FlowableEventListener listener) {
-        if (listener.isFireOnTransactionLifecycleEvent()) {
+        if (listener.isAsync() && asyncEventListenerExecutor != null) {
+            dispatchAsyncEventListener(event, listener);
+        } else if (listener.isFireOnTransactionLifecycleEvent()) {
             dispatchTransactionEventListener(event, listener);
         } else {
             dispatchNormalEventListener(event, listener);
@@ -131,6 +134,17 @@ public class FlowableEventSupport {
         }
     }
 
+    protected void dispatchAsyncEventListener(FlowableEvent event, FlowableEventListener listener) {
+        TransactionContext transactionContext = Context.getTransactionContext();
+        if (transactionContext == null) {
+            // No transaction (e.g. the event is dispatched outside of a command), hand over the event immediately
+            asyncEventListenerExecutor.execute(listener, event);
+        } else {
+            transactionContext.addTransactionListener(TransactionState.COMMITTED,
+                    new ExecuteAsyncEventListenerTransactionListener(asyncEventListenerExecutor, listener, event));
+        }
+    }
+
     protected void dispatchTransactionEventListener(FlowableEvent event, FlowableEventListener listener) {
         TransactionContext transactionContext = Context.getTransactionContext();
         if (transactionContext == null) {
@@ -167,4 +181,12 @@ public class FlowableEventSupport {
             listeners.add(listener);
         }
     }
+
+    public AsyncEventListenerExecutor getAsyncEventListenerExecutor() {
+        return asyncEventListenerExecutor;
+    }
+
+    public void setAsyncEventListenerExecutor(AsyncEventListenerExecutor asyncEventListenerExecutor) {
+        this.asyncEventListenerExecutor = asyncEventListenerExecutor;
+    }
 }
@@ -302,6 +302,17 @@ public class CommandContext {
         this.engineConfigurations = engineConfigurations;
     }
 
+    /**
+     * @return the configuration of the engine that is executing the current command, or null if it is not known
+     */
+    public AbstractEngineConfiguration getCurrentEngineConfiguration() {
+        String currentEngineCfgKey = engineCfgStack.peek();
+        if (currentEngineCfgKey == null || engineConfigurations == null) {
+            return null;
+        }
+        return engineConfigurations.get(currentEngineCfgKey);
+    }
+
     public void pushEngineCfgToStack(String engineCfgKey) {
         engineCfgStack.push(engineCfgKey);
     }
@@ -0,0 +1,185 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.deploy;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.AbstractEngineConfiguration;
+import org.flowable.common.engine.impl.cfg.TransactionPropagation;
+import org.flowable.common.engine.impl.interceptor.CommandConfig;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.persistence.entity.PropertyEntity;
+import org.flowable.common.engine.impl.persistence.entity.PropertyEntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps the id of the latest definition for every definition key and tenant in memory,
+ * so that looking up the latest definition by key doesn't need to query the definition table.
+ * <p>
+ * The entries are stamped with the definition revision, a property that gets a new random value in every transaction
+ * that deploys, deletes or moves definitions. An entry is only used when its stamp is equal to the current definition revision,
+ * which keeps the index consistent between the nodes of a cluster at the cost of a primary key lookup of the revision property.
+ * Within a transaction that changed the definitions the index is bypassed, as those changes are not visible to other transactions yet.
+ * <p>
+ * Keys without a definition are not indexed, so that lookups of arbitrary keys don't fill the index.
+ * The index can be limited to a number of entries, like the definition cache, in which case the least recently used entries are evicted.
+ */
+public class LatestDefinitionIndex {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LatestDefinitionIndex.class);
+
+    protected static final String NO_REVISION = "";
+
+    protected final AbstractEngineConfiguration engineConfiguration;
+    protected final String revisionPropertyName;
+    protected final String revisionAttributeName;
+    protected final String changedAttributeName;
+
+    protected final Map<String, IndexEntry> latestDefinitionIds;
+
+    /** Index with no limit */
+    public LatestDefinitionIndex(AbstractEngineConfiguration engineConfiguration, String revisionPropertyName) {
+        this(engineConfiguration, revisionPropertyName, -1);
+    }
+
+    /**
+     * Index which keeps at most {@code limit} entries, no limit is applied when the limit is not positive.
+     */
+    public LatestDefinitionIndex(AbstractEngineConfiguration engineConfiguration, String revisionPropertyName, int limit) {
+        this.engineConfiguration = engineConfiguration;
+        this.revisionPropertyName = revisionPropertyName;
+        this.revisionAttributeName = LatestDefinitionIndex.class.getName() + ".revision." + revisionPropertyName;
+        this.changedAttributeName = LatestDefinitionIndex.class.getName() + ".changed." + revisionPropertyName;
+
+        if (limit > 0) {
+            // The same LRU map as the DefaultDeploymentCache with a limit
+            this.latestDefinitionIds = Collections.synchronizedMap(new LinkedHashMap<>(limit + 1, 0.75f, true) {
+
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, IndexEntry> eldest) {
+                    return size() > limit;
+                }
+            });
+        } else {
+            this.latestDefinitionIds = new ConcurrentHashMap<>();
+        }
+    }
+
+    /**
+     * Returns the id of the latest definition with the given key, or {@code null} when there is no such definition.
+     *
+     * @param tenantId the tenant of the definition, {@code null} for definitions without a tenant
+     * @param latestDefinitionIdLoader fetches the id of the latest definition from the database, when the index doesn't have a current entry
+     */
+    public String getLatestDefinitionId(CommandContext commandContext, String definitionKey, String tenantId, Supplier<String> latestDefinitionIdLoader) {
+        if (commandContext.getAttribute(changedAttributeName) != null) {
+            return latestDefinitionIdLoader.get();
+        }
+
+        String indexKey = createIndexKey(definitionKey, tenantId);
+        String revision = getDefinitionRevision(commandContext);
+        IndexEntry entry = latestDefinitionIds.get(indexKey);
+        if (entry != null && entry.revision.equals(revision)) {
+            return entry.definitionId;
+        }
+
+        String definitionId = latestDefinitionIdLoader.get();
+        if (definitionId != null) {
+            latestDefinitionIds.put(indexKey, new IndexEntry(revision, definitionId));
+        } else if (entry != null) {
+            latestDefinitionIds.remove(indexKey);
+        }
+        return definitionId;
+    }
+
+    /**
+     * Marks the definitions as changed by the current transaction, which invalidates the index on all nodes once the transaction is committed.
+     */
+    public void definitionsChanged(CommandContext commandContext) {
+        if (commandContext.getAttribute(changedAttributeName) != null) {
+            return;
+        }
+        commandContext.addAttribute(changedAttributeName, Boolean.TRUE);
+
+        String revision = UUID.randomUUID().toString();
+        PropertyEntityManager propertyEntityManager = engineConfiguration.getPropertyEntityManager();
+        if (propertyEntityManager.directUpdatePropertyValue(revisionPropertyName, revision) == 0) {
+            createRevisionProperty();
+            if (propertyEntityManager.directUpdatePropertyValue(revisionPropertyName, revision) == 0) {
+                throw new FlowableException("Could not update the definition revision property " + revisionPropertyName);
+            }
+        }
+    }
+
+    protected void createRevisionProperty() {
+        // The property is created in a separate transaction, as a concurrent insert on another node fails the inserting transaction
+        try {
+            engineConfiguration.getCommandExecutor().execute(new CommandConfig(false, TransactionPropagation.REQUIRES_NEW), commandContext -> {
+                PropertyEntityManager propertyEntityManager = engineConfiguration.getPropertyEntityManager();
+                if (propertyEntityManager.findById(revisionPropertyName) == null) {
+                    PropertyEntity property = propertyEntityManager.create();
+                    property.setName(revisionPropertyName);
+                    property.setValue(NO_REVISION);
+                    propertyEntityManager.insert(property);
+                }
+                return null;
+            });
+
+        } catch (RuntimeException e) {
+            LOGGER.debug("Could not create property {}, it was probably created concurrently", revisionPropertyName, e);
+        }
+    }
+
+    protected String getDefinitionRevision(CommandContext commandContext) {
+        String revision = (String) commandContext.getAttribute(revisionAttributeName);
+        if (revision == null) {
+            revision = Objects.toString(engineConfiguration.getPropertyEntityManager().findPropertyValue(revisionPropertyName), NO_REVISION);
+            commandContext.addAttribute(revisionAttributeName, revision);
+        }
+        return revision;
+    }
+
+    protected String createIndexKey(String definitionKey, String tenantId) {
+        // A definition key can't contain a '|', so the key is unambiguous
+        return tenantId != null ? definitionKey + '|' + tenantId : definitionKey;
+    }
+
+    public void clear() {
+        latestDefinitionIds.clear();
+    }
+
+    public String getRevisionPropertyName() {
+        return revisionPropertyName;
+    }
+
+    protected static class IndexEntry {
+
+        protected final String revision;
+        protected final String definitionId;
+
+        protected IndexEntry(String revision, String definitionId) {
+            this.revision = revision;
+            this.definitionId = definitionId;
+        }
+    }
+}
@@ -22,4 +22,13 @@ public interface PropertyEntityManager extends EntityManager<PropertyEntity> {
     List<PropertyEntity> findAll();
 
     void directInsertProperty(String name, String value);
+
+    /**
+     * Updates the value of the property, without an optimistic locking check on its revision.
+     *
+     * @return the number of updated rows, 0 when the property does not exist
+     */
+    int directUpdatePropertyValue(String name, String value);
+
+    String findPropertyValue(String name);
 }
\ No newline at end of file
@@ -40,4 +40,14 @@ public class PropertyEntityManagerImpl
         dataManager.directInsertProperty(name, value);
     }
 
+    @Override
+    public int directUpdatePropertyValue(String name, String value) {
+        return dataManager.directUpdatePropertyValue(name, value);
+    }
+
+    @Override
+    public String findPropertyValue(String name) {
+        return dataManager.findPropertyValue(name);
+    }
+
 }
@@ -24,4 +24,8 @@ public interface PropertyDataManager extends DataManager<PropertyEntity> {
     List<PropertyEntity> findAll();
 
     void directInsertProperty(String name, String value);
+
+    int directUpdatePropertyValue(String name, String value);
+
+    String findPropertyValue(String name);
 }
@@ -49,6 +49,19 @@ public class MybatisPropertyDataManager extends AbstractDataManager<PropertyEnti
         getDbSqlSession().directInsert("insertPropertyWithMap", params);
     }
 
+    @Override
+    public int directUpdatePropertyValue(String name, String value) {
+        HashMap<String, Object> params = new HashMap<>();
+        params.put("name", name);
+        params.put("value", value);
+        return getDbSqlSession().directUpdate("updatePropertyValue", params);
+    }
+
+    @Override
+    public String findPropertyValue(String name) {
+        return (String) getDbSqlSession().selectOne("selectPropertyValue", name);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public List<PropertyEntity> findAll() {
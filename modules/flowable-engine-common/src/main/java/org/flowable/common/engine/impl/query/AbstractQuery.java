@@ -13,12 +13,15 @@
 package org.flowable.common.engine.impl.query;
 
 import java.io.Serializable;
+import java.time.Duration;
+import java.util.Date;
 import java.util.List;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.query.Query;
 import org.flowable.common.engine.api.query.QueryProperty;
+import org.flowable.common.engine.impl.AbstractEngineConfiguration;
 import org.flowable.common.engine.impl.Direction;
 import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.db.ListQueryParameterObject;
@@ -38,6 +41,8 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
     protected transient CommandExecutor commandExecutor;
     protected transient CommandContext commandContext;
 
+    protected transient List<QueryKeyset.KeysetCondition> keysetConditions;
+
     protected AbstractQuery() {
         parameter = this;
     }
@@ -144,6 +149,46 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
         return executeList(Context.getCommandContext());
     }
 
+    @Override
+    public List<U> listAfter(String cursor, int maxResults) {
+        QueryKeyset<U> keyset = getKeysetSafe();
+        List<OrderBy> keysetOrder = keyset.getOrder(getOrderByCollectionSafe());
+        orderByCollection = keysetOrder;
+        keysetConditions = keyset.getConditions(keysetOrder, cursor);
+        try {
+            return listPage(0, maxResults);
+        } finally {
+            keysetConditions = null;
+        }
+    }
+
+    @Override
+    public String createCursor(U result) {
+        QueryKeyset<U> keyset = getKeysetSafe();
+        return keyset.createCursor(keyset.getOrder(getOrderByCollectionSafe()), result);
+    }
+
+    /**
+     * Returns the columns that can be used for keyset pagination, or null when the query does not support it.
+     * Only queries that add the {@code org.flowable.common.engine.db.keysetCriteria} to their criteria can support keyset pagination.
+     */
+    protected QueryKeyset<U> getKeyset() {
+        return null;
+    }
+
+    protected QueryKeyset<U> getKeysetSafe() {
+        checkQueryOk();
+        QueryKeyset<U> keyset = getKeyset();
+        if (keyset == null) {
+            throw new FlowableIllegalArgumentException(getClass().getName() + " does not support keyset pagination");
+        }
+        return keyset;
+    }
+
+    public List<QueryKeyset.KeysetCondition> getKeysetConditions() {
+        return keysetConditions;
+    }
+
     @Override
     public long count() {
         this.resultType = ResultType.COUNT;
@@ -155,6 +200,41 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
         return executeCount(Context.getCommandContext());
     }
 
+    @Override
+    public long count(Duration maxAge) {
+        if (maxAge == null || maxAge.isNegative() || maxAge.isZero()) {
+            return count();
+        }
+        checkQueryOk();
+        if (commandExecutor != null) {
+            return commandExecutor.execute(commandContext -> executeCachedCount(commandContext, maxAge));
+        }
+        return executeCachedCount(Context.getCommandContext(), maxAge);
+    }
+
+    protected long executeCachedCount(CommandContext commandContext, Duration maxAge) {
+        AbstractEngineConfiguration engineConfiguration = commandContext.getCurrentEngineConfiguration();
+        QueryCountCache queryCountCache = engineConfiguration != null ? engineConfiguration.getQueryCountCache() : null;
+        this.resultType = ResultType.COUNT;
+        if (queryCountCache == null) {
+            return executeCount(commandContext);
+        }
+
+        // The key has to be created before the query is executed, see QueryCountCache#createKey
+        String key = queryCountCache.createKey(this);
+        if (key == null) {
+            return executeCount(commandContext);
+        }
+
+        Date now = engineConfiguration.getClock().getCurrentTime();
+        Long count = queryCountCache.get(key, maxAge, now);
+        if (count == null) {
+            count = executeCount(commandContext);
+            queryCountCache.put(key, count, now);
+        }
+        return count;
+    }
+
     @Override
     public Object execute(CommandContext commandContext) {
         checkQueryOk();
@@ -0,0 +1,239 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.query;
+
+import java.io.Serializable;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Keeps the results of count queries for a short time, so that a count of an identical query can be returned without executing it again.
+ * <p>
+ * Two queries are identical when they are of the same type and have the same parameters. The parameters are the non transient fields of the query,
+ * where nested serializable Flowable values are compared by their fields as well and other values by their string representation. Flowable values that are
+ * not serializable, like the engine and service configurations a query holds on to, are not parameters. The paging and ordering of a query do not change its count
+ * and are not part of the key either.
+ * <p>
+ * A query with a parameter that has no string representation of its own, like a variable value of a custom type that is not serializable,
+ * has no key and its count is not cached.
+ * <p>
+ * A cached count is never updated, it is only used as long as it is not older than the maximum age requested by the caller.
+ */
+public class QueryCountCache {
+
+    public static final int DEFAULT_LIMIT = 1000;
+
+    protected final Map<String, CachedCount> counts;
+
+    public QueryCountCache() {
+        this(DEFAULT_LIMIT);
+    }
+
+    public QueryCountCache(final int limit) {
+        this.counts = Collections.synchronizedMap(new LinkedHashMap<>(limit + 1, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedCount> eldest) {
+                return size() > limit;
+            }
+        });
+    }
+
+    /**
+     * @return the cached count for the key, or null when there is none that was counted at most maxAge before now
+     */
+    public Long get(String key, Duration maxAge, Date now) {
+        CachedCount cachedCount = counts.get(key);
+        if (cachedCount != null && now.getTime() - cachedCount.getCountTime() <= maxAge.toMillis()) {
+            return cachedCount.getCount();
+        }
+        return null;
+    }
+
+    public void put(String key, long count, Date now) {
+        counts.put(key, new CachedCount(count, now.getTime()));
+    }
+
+    public void clear() {
+        counts.clear();
+    }
+
+    /**
+     * Creates the key of the count of the given query from its parameters. This has to happen before the query is executed,
+     * since the execution can initialize derived fields of the query.
+     *
+     * @return the key, or null when the query has a parameter that the key cannot represent, in which case the count must not be cached
+     */
+    public String createKey(AbstractQuery<?, ?> query) {
+        StringBuilder key = new StringBuilder();
+        if (!appendValue(key, query, Collections.newSetFromMap(new IdentityHashMap<>()))) {
+            return null;
+        }
+        return key.toString();
+    }
+
+    /**
+     * @return false when the value cannot be represented in the key
+     */
+    protected boolean appendValue(StringBuilder key, Object value, Set<Object> visited) {
+        if (value == null) {
+            key.append("null");
+
+        } else if (value instanceof CharSequence || value instanceof Number || value instanceof Boolean || value instanceof Character
+                || value instanceof Enum) {
+            key.append(value.getClass().getSimpleName()).append(':').append(value);
+
+        } else if (value instanceof Date) {
+            key.append("Date:").append(((Date) value).getTime());
+
+        } else if (value instanceof Set) {
+            // The order of the elements of a set does not change the query
+            List<String> elementKeys = new ArrayList<>();
+            for (Object element : (Set<?>) value) {
+                StringBuilder elementKey = new StringBuilder();
+                if (!appendValue(elementKey, element, visited)) {
+                    return false;
+                }
+                elementKeys.add(elementKey.toString());
+            }
+            Collections.sort(elementKeys);
+            key.append(elementKeys);
+
+        } else if (value instanceof Collection) {
+            key.append('[');
+            for (Object element : (Collection<?>) value) {
+                if (!appendValue(key, element, visited)) {
+                    return false;
+                }
+                key.append(',');
+            }
+            key.append(']');
+
+        } else if (value instanceof Map) {
+            key.append('{');
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                if (!appendValue(key, entry.getKey(), visited)) {
+                    return false;
+                }
+                key.append('=');
+                if (!appendValue(key, entry.getValue(), visited)) {
+                    return false;
+                }
+                key.append(',');
+            }
+            key.append('}');
+
+        } else if (value.getClass().isArray()) {
+            key.append('[');
+            for (int i = 0; i < Array.getLength(value); i++) {
+                if (!appendValue(key, Array.get(value, i), visited)) {
+                    return false;
+                }
+                key.append(',');
+            }
+            key.append(']');
+
+        } else if (value.getClass().getName().startsWith("org.flowable.")) {
+            if (!(value instanceof Serializable)) {
+                // Engine infrastructure, like the engine and service configurations a query holds on to
+                key.append('-');
+
+            } else if (!visited.add(value)) {
+                key.append("@").append(value.getClass().getName());
+
+            } else {
+                return appendFields(key, value, visited);
+            }
+
+        } else if (value instanceof Serializable && hasOwnToString(value)) {
+            // Values of other types are only identical when their string representations are
+            key.append(value.getClass().getName()).append(':').append(value);
+
+        } else {
+            // E.g. a variable value of a custom type that is compared by its identity
+            return false;
+        }
+
+        return true;
+    }
+
+    protected boolean appendFields(StringBuilder key, Object value, Set<Object> visited) {
+        key.append(value.getClass().getName()).append('(');
+        // The fields of AbstractQuery and its superclasses hold the paging, ordering and execution state of a query
+        for (Class<?> type = value.getClass(); type != null && type != AbstractQuery.class && type != Object.class; type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers()) || Modifier.isTransient(field.getModifiers()) || field.isSynthetic()) {
+                    continue;
+                }
+
+                Object fieldValue;
+                try {
+                    field.setAccessible(true);
+                    fieldValue = field.get(value);
+                } catch (RuntimeException | IllegalAccessException e) {
+                    return false;
+                }
+
+                if (fieldValue != null) {
+                    key.append(field.getName()).append('=');
+                    if (!appendValue(key, fieldValue, visited)) {
+                        return false;
+                    }
+                    key.append(';');
+                }
+            }
+        }
+        key.append(')');
+        return true;
+    }
+
+    protected boolean hasOwnToString(Object value) {
+        try {
+            return value.getClass().getMethod("toString").getDeclaringClass() != Object.class;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    protected static class CachedCount {
+
+        protected final long count;
+        protected final long countTime;
+
+        public CachedCount(long count, long countTime) {
+            this.count = count;
+            this.countTime = countTime;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getCountTime() {
+            return countTime;
+        }
+    }
+}
@@ -0,0 +1,231 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.query;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.impl.db.ListQueryParameterObject;
+import org.flowable.common.engine.impl.db.ListQueryParameterObject.OrderBy;
+
+/**
+ * Describes the columns a query can use for keyset pagination, and how to get their values from a result.
+ * <p>
+ * A cursor contains the order by columns and directions of the query, and the values of those columns for a result.
+ * The results after the cursor are the ones that come after those values in the order of the query,
+ * which is always completed with the id column so that every result has a unique position.
+ * Only mandatory columns can be used, since a null value has no well defined position in the order.
+ *
+ * @param <U> the type of the query results
+ */
+public class QueryKeyset<U> {
+
+    protected static final byte STRING_VALUE = 'S';
+    protected static final byte DATE_VALUE = 'D';
+    protected static final byte INTEGER_VALUE = 'I';
+    protected static final byte LONG_VALUE = 'L';
+
+    protected final String idColumn;
+    protected final Map<String, Function<U, Object>> columnValueAccessors = new HashMap<>();
+
+    public QueryKeyset(String idColumn, Function<U, Object> idAccessor) {
+        this.idColumn = idColumn;
+        column(idColumn, idAccessor);
+    }
+
+    /**
+     * Allows ordering on the given column when using keyset pagination. The column must not contain null values.
+     */
+    public QueryKeyset<U> column(String columnName, Function<U, Object> valueAccessor) {
+        columnValueAccessors.put(columnName, valueAccessor);
+        return this;
+    }
+
+    /**
+     * Returns the order the query has to use for keyset pagination: the given order completed with the id column.
+     */
+    public List<OrderBy> getOrder(Collection<OrderBy> queryOrder) {
+        List<OrderBy> order = new ArrayList<>(queryOrder.size() + 1);
+        String direction = ListQueryParameterObject.SORTORDER_ASC;
+        boolean orderedById = false;
+        for (OrderBy orderBy : queryOrder) {
+            if (!columnValueAccessors.containsKey(orderBy.getColumnName())) {
+                throw new FlowableIllegalArgumentException("Keyset pagination is not supported when ordering by " + orderBy.getColumnName());
+            }
+            if (orderBy.getNullHandlingOnOrder() != null) {
+                throw new FlowableIllegalArgumentException("Keyset pagination is not supported with null handling on the order by " + orderBy.getColumnName());
+            }
+            order.add(orderBy);
+            direction = orderBy.getDirection();
+            orderedById |= idColumn.equals(orderBy.getColumnName());
+        }
+
+        if (!orderedById) {
+            order.add(new OrderBy(idColumn, direction, null));
+        }
+        return order;
+    }
+
+    public String createCursor(List<OrderBy> order, U result) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            output.writeByte(order.size());
+            for (OrderBy orderBy : order) {
+                output.writeUTF(orderBy.getColumnName());
+                output.writeBoolean(ListQueryParameterObject.SORTORDER_DESC.equals(orderBy.getDirection()));
+                writeValue(output, orderBy.getColumnName(), columnValueAccessors.get(orderBy.getColumnName()).apply(result));
+            }
+        } catch (IOException e) {
+            throw new FlowableException("Could not create cursor", e);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray());
+    }
+
+    /**
+     * Returns the conditions that select the results after the cursor: the rows that have the same values for the first columns
+     * and come after the cursor for the next column, for every column of the order.
+     */
+    public List<KeysetCondition> getConditions(List<OrderBy> order, String cursor) {
+        if (cursor == null) {
+            return null;
+        }
+
+        List<Object> values = new ArrayList<>(order.size());
+        try (DataInputStream input = new DataInputStream(new ByteArrayInputStream(Base64.getUrlDecoder().decode(cursor)))) {
+            if (input.readUnsignedByte() != order.size()) {
+                throw new FlowableIllegalArgumentException("The cursor " + cursor + " does not match the order of the query");
+            }
+            for (OrderBy orderBy : order) {
+                boolean descending = ListQueryParameterObject.SORTORDER_DESC.equals(orderBy.getDirection());
+                if (!orderBy.getColumnName().equals(input.readUTF()) || descending != input.readBoolean()) {
+                    throw new FlowableIllegalArgumentException("The cursor " + cursor + " does not match the order of the query");
+                }
+                values.add(readValue(input));
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            throw new FlowableIllegalArgumentException("Invalid cursor " + cursor, e);
+        }
+
+        List<KeysetCondition> conditions = new ArrayList<>(order.size());
+        for (int i = 0; i < order.size(); i++) {
+            List<KeysetColumnValue> equalColumns = new ArrayList<>(i);
+            for (int j = 0; j < i; j++) {
+                equalColumns.add(new KeysetColumnValue(order.get(j).getColumnName(), values.get(j)));
+            }
+            OrderBy orderBy = order.get(i);
+            String operator = ListQueryParameterObject.SORTORDER_DESC.equals(orderBy.getDirection()) ? "<" : ">";
+            conditions.add(new KeysetCondition(equalColumns, orderBy.getColumnName(), operator, values.get(i)));
+        }
+        return conditions;
+    }
+
+    protected void writeValue(DataOutputStream output, String columnName, Object value) throws IOException {
+        if (value instanceof String) {
+            output.writeByte(STRING_VALUE);
+            output.writeUTF((String) value);
+        } else if (value instanceof Date) {
+            output.writeByte(DATE_VALUE);
+            output.writeLong(((Date) value).getTime());
+        } else if (value instanceof Integer) {
+            output.writeByte(INTEGER_VALUE);
+            output.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            output.writeByte(LONG_VALUE);
+            output.writeLong((Long) value);
+        } else if (value == null) {
+            throw new FlowableException("Could not create cursor, the value of " + columnName + " is null");
+        } else {
+            throw new FlowableException("Could not create cursor, unsupported value type " + value.getClass().getName() + " for " + columnName);
+        }
+    }
+
+    protected Object readValue(DataInputStream input) throws IOException {
+        byte type = input.readByte();
+        switch (type) {
+            case STRING_VALUE:
+                return input.readUTF();
+            case DATE_VALUE:
+                return new Date(input.readLong());
+            case INTEGER_VALUE:
+                return input.readInt();
+            case LONG_VALUE:
+                return input.readLong();
+            default:
+                throw new IOException("Unknown value type " + type);
+        }
+    }
+
+    public static class KeysetCondition {
+
+        protected final List<KeysetColumnValue> equalColumns;
+        protected final String columnName;
+        protected final String operator;
+        protected final Object value;
+
+        public KeysetCondition(List<KeysetColumnValue> equalColumns, String columnName, String operator, Object value) {
+            this.equalColumns = equalColumns != null ? equalColumns : Collections.emptyList();
+            this.columnName = columnName;
+            this.operator = operator;
+            this.value = value;
+        }
+
+        public List<KeysetColumnValue> getEqualColumns() {
+            return equalColumns;
+        }
+
+        public String getColumnName() {
+            return columnName;
+        }
+
+        public String getOperator() {
+            return operator;
+        }
+
+        public Object getValue() {
+            return value;
+        }
+    }
+
+    public static class KeysetColumnValue {
+
+        protected final String columnName;
+        protected final Object value;
+
+        public KeysetColumnValue(String columnName, Object value) {
+            this.columnName = columnName;
+            this.value = value;
+        }
+
+        public String getColumnName() {
+            return columnName;
+        }
+
+        public Object getValue() {
+            return value;
+        }
+    }
+}
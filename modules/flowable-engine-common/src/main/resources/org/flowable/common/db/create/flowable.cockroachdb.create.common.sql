@@ -16,7 +16,7 @@ CREATE TABLE if not exists ACT_GE_BYTEARRAY  (
 );
 
 insert into ACT_GE_PROPERTY
-values ('common.schema.version', '7.1.0.2', 1);
+values ('common.schema.version', '7.1.0.3', 1);
 
 insert into ACT_GE_PROPERTY
 values ('next.dbid', '1', 1);
@@ -59,3 +59,13 @@ alter table FLW_RU_BATCH_PART
     add constraint FLW_FK_BATCH_PART_PARENT
     foreign key (BATCH_ID_)
     references FLW_RU_BATCH (ID_);
+
+create table ACT_RU_TASK_CANDIDATE (
+    ID_ varchar(64),
+    TASK_ID_ varchar(64),
+    CANDIDATE_ varchar(257),
+    primary key (ID_)
+);
+
+create index ACT_IDX_TASK_CAND_CANDIDATE on ACT_RU_TASK_CANDIDATE(CANDIDATE_, TASK_ID_);
+create index ACT_IDX_TASK_CAND_TASK on ACT_RU_TASK_CANDIDATE(TASK_ID_);
@@ -16,7 +16,7 @@ create table ACT_GE_BYTEARRAY (
 );
 
 insert into ACT_GE_PROPERTY
-values ('common.schema.version', '7.1.0.2', 1);
+values ('common.schema.version', '7.1.0.3', 1);
 
 insert into ACT_GE_PROPERTY
 values ('next.dbid', '1', 1);
@@ -92,6 +92,16 @@ create index ACT_IDX_IDENT_LNK_SCOPE on ACT_RU_IDENTITYLINK(SCOPE_ID_, SCOPE_TYP
 create index ACT_IDX_IDENT_LNK_SUB_SCOPE on ACT_RU_IDENTITYLINK(SUB_SCOPE_ID_, SCOPE_TYPE_);
 create index ACT_IDX_IDENT_LNK_SCOPE_DEF on ACT_RU_IDENTITYLINK(SCOPE_DEFINITION_ID_, SCOPE_TYPE_);
 
+create table ACT_RU_TASK_CANDIDATE (
+    ID_ nvarchar(64),
+    TASK_ID_ nvarchar(64),
+    CANDIDATE_ nvarchar(257),
+    primary key (ID_)
+);
+
+create index ACT_IDX_TASK_CAND_CANDIDATE on ACT_RU_TASK_CANDIDATE(CANDIDATE_) include (TASK_ID_);
+create index ACT_IDX_TASK_CAND_TASK on ACT_RU_TASK_CANDIDATE(TASK_ID_);
+
 create table ACT_HI_IDENTITYLINK (
     ID_ nvarchar(64),
     GROUP_ID_ nvarchar(255),
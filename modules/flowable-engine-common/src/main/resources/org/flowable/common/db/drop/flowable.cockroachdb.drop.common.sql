@@ -3,6 +3,10 @@ drop table if exists flw_ru_batch cascade;
 
 -- force-commit
 
+drop table if exists act_ru_task_candidate cascade;
+
+-- force-commit
+
 drop table if exists act_ru_entitylink cascade;
 drop table if exists act_hi_entitylink cascade;
 
@@ -32,6 +32,11 @@ drop index if exists ACT_IDX_IDENT_LNK_SCOPE;
 drop index if exists ACT_IDX_IDENT_LNK_SUB_SCOPE;
 drop index if exists ACT_IDX_IDENT_LNK_SCOPE_DEF;
 
+drop table if exists ACT_RU_TASK_CANDIDATE cascade constraints;
+
+drop index if exists ACT_IDX_TASK_CAND_CANDIDATE;
+drop index if exists ACT_IDX_TASK_CAND_TASK;
+
 drop table if exists ACT_HI_IDENTITYLINK cascade constraints;
 
 drop index if exists ACT_IDX_HI_IDENT_LNK_USER;
@@ -33,6 +33,11 @@ IF EXISTS (SELECT name FROM sysindexes WHERE name = 'ACT_IDX_IDENT_LNK_SCOPE_DEF
 
 if exists (select TABLE_NAME from INFORMATION_SCHEMA.TABLES where TABLE_NAME = 'ACT_RU_IDENTITYLINK') drop table ACT_RU_IDENTITYLINK;
 
+IF EXISTS (SELECT name FROM sysindexes WHERE name = 'ACT_IDX_TASK_CAND_CANDIDATE') drop index ACT_RU_TASK_CANDIDATE.ACT_IDX_TASK_CAND_CANDIDATE;
+IF EXISTS (SELECT name FROM sysindexes WHERE name = 'ACT_IDX_TASK_CAND_TASK') drop index ACT_RU_TASK_CANDIDATE.ACT_IDX_TASK_CAND_TASK;
+
+if exists (select TABLE_NAME from INFORMATION_SCHEMA.TABLES where TABLE_NAME = 'ACT_RU_TASK_CANDIDATE') drop table ACT_RU_TASK_CANDIDATE;
+
 IF EXISTS (SELECT name FROM sysindexes WHERE name = 'ACT_IDX_HI_IDENT_LNK_USER') drop index ACT_HI_IDENTITYLINK.ACT_IDX_HI_IDENT_LNK_USER;
 IF EXISTS (SELECT name FROM sysindexes WHERE name = 'ACT_IDX_HI_IDENT_LNK_SCOPE') drop index ACT_HI_IDENTITYLINK.ACT_IDX_HI_IDENT_LNK_SCOPE;
 IF EXISTS (SELECT name FROM sysindexes WHERE name = 'ACT_IDX_HI_IDENT_LNK_SUB_SCOPE') drop index ACT_HI_IDENTITYLINK.ACT_IDX_HI_IDENT_LNK_SUB_SCOPE;
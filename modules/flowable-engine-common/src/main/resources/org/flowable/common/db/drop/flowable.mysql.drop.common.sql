@@ -35,6 +35,11 @@ drop index ACT_IDX_IDENT_LNK_SCOPE_DEF on ACT_RU_IDENTITYLINK;
 
 drop table if exists ACT_RU_IDENTITYLINK;
 
+drop index ACT_IDX_TASK_CAND_CANDIDATE on ACT_RU_TASK_CANDIDATE;
+drop index ACT_IDX_TASK_CAND_TASK on ACT_RU_TASK_CANDIDATE;
+
+drop table if exists ACT_RU_TASK_CANDIDATE;
+
 drop index ACT_IDX_HI_IDENT_LNK_USER on ACT_HI_IDENTITYLINK;
 drop index ACT_IDX_HI_IDENT_LNK_SCOPE on ACT_HI_IDENTITYLINK;
 drop index ACT_IDX_HI_IDENT_LNK_SUB_SCOPE on ACT_HI_IDENTITYLINK;
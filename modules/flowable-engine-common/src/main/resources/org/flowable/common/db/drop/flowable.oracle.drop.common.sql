@@ -35,6 +35,11 @@ drop index ACT_IDX_IDENT_LNK_SCOPE_DEF;
 
 drop table ACT_RU_IDENTITYLINK;
 
+drop index ACT_IDX_TASK_CAND_CANDIDATE;
+drop index ACT_IDX_TASK_CAND_TASK;
+
+drop table ACT_RU_TASK_CANDIDATE;
+
 drop index ACT_IDX_HI_IDENT_LNK_USER;
 drop index ACT_IDX_HI_IDENT_LNK_SCOPE;
 drop index ACT_IDX_HI_IDENT_LNK_SUB_SCOPE;
@@ -7,6 +7,7 @@ drop table if exists ACT_HI_ENTITYLINK cascade;
 drop table if exists ACT_RU_EVENT_SUBSCR cascade;
 
 drop table if exists ACT_RU_IDENTITYLINK cascade;
+drop table if exists ACT_RU_TASK_CANDIDATE cascade;
 drop table if exists ACT_HI_IDENTITYLINK cascade;
 
 drop table if exists ACT_RU_JOB cascade;
@@ -0,0 +1,11 @@
+create table ACT_RU_TASK_CANDIDATE (
+    ID_ varchar(64) not null,
+    TASK_ID_ varchar(64),
+    CANDIDATE_ varchar(257),
+    primary key (ID_)
+);
+
+create index ACT_IDX_TASK_CAND_CANDIDATE on ACT_RU_TASK_CANDIDATE(CANDIDATE_, TASK_ID_);
+create index ACT_IDX_TASK_CAND_TASK on ACT_RU_TASK_CANDIDATE(TASK_ID_);
+
+update ACT_GE_PROPERTY set VALUE_ = '7.1.0.3' where NAME_ = 'common.schema.version';
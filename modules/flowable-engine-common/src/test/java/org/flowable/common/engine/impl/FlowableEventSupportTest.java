@@ -21,16 +21,26 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.delegate.event.AbstractFlowableEventListener;
+import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
+import org.flowable.common.engine.api.delegate.event.FlowableEntityEvent;
 import org.flowable.common.engine.api.delegate.event.FlowableEvent;
 import org.flowable.common.engine.api.delegate.event.FlowableEventType;
 import org.flowable.common.engine.impl.cfg.TransactionContext;
 import org.flowable.common.engine.impl.cfg.TransactionListener;
 import org.flowable.common.engine.impl.cfg.TransactionState;
 import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.event.AsyncEventListenerExecutor;
+import org.flowable.common.engine.impl.event.AsyncEventListenerOverflowPolicy;
+import org.flowable.common.engine.impl.event.FlowableEntityEventImpl;
+import org.flowable.common.engine.impl.event.FlowableEntityEventSnapshot;
 import org.flowable.common.engine.impl.event.FlowableEventSupport;
+import org.flowable.common.engine.impl.persistence.entity.AbstractEntity;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -480,6 +490,184 @@ class FlowableEventSupportTest {
 
     }
 
+    @Test
+    void shouldDispatchAsyncListenersAfterCommitOnExecutor() throws Exception {
+        AsyncEventListenerExecutor asyncEventListenerExecutor = new AsyncEventListenerExecutor();
+        asyncEventListenerExecutor.start();
+        flowableEventSupport.setAsyncEventListenerExecutor(asyncEventListenerExecutor);
+
+        CountDownLatch latch = new CountDownLatch(1);
+        List<String> threadNames = new CopyOnWriteArrayList<>();
+        TestFlowableEventListener asyncListener = new TestFlowableEventListener() {
+
+            @Override
+            public void onEvent(FlowableEvent event) {
+                super.onEvent(event);
+                threadNames.add(Thread.currentThread().getName());
+                latch.countDown();
+            }
+        };
+        asyncListener.setAsync(true);
+        asyncListener.setFailOnException(true);
+        flowableEventSupport.addEventListener(asyncListener);
+
+        TestFlowableEventListener normalListener = new TestFlowableEventListener();
+        flowableEventSupport.addEventListener(normalListener);
+
+        try {
+            TestTransactionContext transactionContext = new TestTransactionContext();
+            Context.setTransactionContext(transactionContext);
+            TestFlowableEvent event = new TestFlowableEvent(new TestFlowableEventType("event"));
+
+            flowableEventSupport.dispatchEvent(event);
+
+            assertThat(normalListener.getReceivedEvents()).containsExactly(event);
+            assertThat(asyncListener.getReceivedEvents()).isEmpty();
+            assertThat(transactionContext.getTransactionStateListeners()).containsOnlyKeys(TransactionState.COMMITTED);
+
+            transactionContext.getTransactionStateListeners().get(TransactionState.COMMITTED)
+                .forEach(transactionListener -> transactionListener.execute(null));
+
+            assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+            assertThat(asyncListener.getReceivedEvents()).containsExactly(event);
+            assertThat(threadNames).allSatisfy(threadName -> assertThat(threadName).startsWith("flowable-async-event-listener-thread-"));
+
+        } finally {
+            Context.removeTransactionContext();
+            asyncEventListenerExecutor.shutdown();
+        }
+
+        assertThat(asyncEventListenerExecutor.getDeliveredEventCount()).isEqualTo(1);
+        assertThat(asyncEventListenerExecutor.getQueueDepth()).isZero();
+    }
+
+    @Test
+    void shouldDispatchAsyncListenersSynchronouslyWithoutExecutor() {
+        TestFlowableEventListener asyncListener = new TestFlowableEventListener();
+        asyncListener.setAsync(true);
+        flowableEventSupport.addEventListener(asyncListener);
+
+        TestFlowableEvent event = new TestFlowableEvent(new TestFlowableEventType("event"));
+        flowableEventSupport.dispatchEvent(event);
+
+        assertThat(asyncListener.getReceivedEvents()).containsExactly(event);
+    }
+
+    @Test
+    void shouldDropAsyncEventsWhenQueueIsFull() throws Exception {
+        AsyncEventListenerExecutor asyncEventListenerExecutor = new AsyncEventListenerExecutor();
+        asyncEventListenerExecutor.setCorePoolSize(1);
+        asyncEventListenerExecutor.setMaxPoolSize(1);
+        asyncEventListenerExecutor.setQueueSize(1);
+        asyncEventListenerExecutor.setOverflowPolicy(AsyncEventListenerOverflowPolicy.DROP);
+        asyncEventListenerExecutor.start();
+        flowableEventSupport.setAsyncEventListenerExecutor(asyncEventListenerExecutor);
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        TestFlowableEventListener blockingListener = new TestFlowableEventListener() {
+
+            @Override
+            public void onEvent(FlowableEvent event) {
+                started.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        blockingListener.setAsync(true);
+        flowableEventSupport.addEventListener(blockingListener);
+
+        try {
+            flowableEventSupport.dispatchEvent(new TestFlowableEvent(new TestFlowableEventType("first")));
+            assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+
+            // The first event is being processed, the second one is queued and the third one does not fit anymore
+            flowableEventSupport.dispatchEvent(new TestFlowableEvent(new TestFlowableEventType("second")));
+            flowableEventSupport.dispatchEvent(new TestFlowableEvent(new TestFlowableEventType("third")));
+
+            assertThat(asyncEventListenerExecutor.getQueueDepth()).isEqualTo(1);
+            assertThat(asyncEventListenerExecutor.getDroppedEventCount()).isEqualTo(1);
+        } finally {
+            release.countDown();
+            asyncEventListenerExecutor.shutdown();
+        }
+
+        assertThat(asyncEventListenerExecutor.getDeliveredEventCount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldDeliverDetachedEntitySnapshotsToAsyncListeners() throws Exception {
+        AsyncEventListenerExecutor asyncEventListenerExecutor = new AsyncEventListenerExecutor();
+        asyncEventListenerExecutor.start();
+        flowableEventSupport.setAsyncEventListenerExecutor(asyncEventListenerExecutor);
+
+        CountDownLatch latch = new CountDownLatch(2);
+        List<FlowableEvent> receivedEvents = new CopyOnWriteArrayList<>();
+        List<Object> entityNames = new CopyOnWriteArrayList<>();
+        TestFlowableEventListener asyncListener = new TestFlowableEventListener() {
+
+            @Override
+            public void onEvent(FlowableEvent event) {
+                receivedEvents.add(event);
+                Object entity = ((FlowableEntityEvent) event).getEntity();
+                if (entity instanceof TestEntity) {
+                    entityNames.add(((TestEntity) entity).getName());
+                } else {
+                    entityNames.add(((Map<?, ?>) entity).get("name"));
+                }
+                latch.countDown();
+            }
+        };
+        asyncListener.setAsync(true);
+        flowableEventSupport.addEventListener(asyncListener);
+
+        TestEntity entity = new TestEntity();
+        entity.setId("copyable");
+        entity.setRevision(3);
+        entity.setName("before commit");
+        TestEntityWithoutDefaultConstructor entityWithoutDefaultConstructor = new TestEntityWithoutDefaultConstructor("before commit");
+        entityWithoutDefaultConstructor.setId("not-copyable");
+
+        try {
+            TestTransactionContext transactionContext = new TestTransactionContext();
+            Context.setTransactionContext(transactionContext);
+
+            flowableEventSupport.dispatchEvent(new FlowableEntityEventImpl(entity, FlowableEngineEventType.ENTITY_CREATED));
+            flowableEventSupport.dispatchEvent(new FlowableEntityEventImpl(entityWithoutDefaultConstructor, FlowableEngineEventType.ENTITY_CREATED));
+
+            transactionContext.getTransactionStateListeners().get(TransactionState.COMMITTED)
+                .forEach(transactionListener -> transactionListener.execute(null));
+
+            // Changes after the commit are not visible to the listeners
+            entity.setName("after commit");
+            entityWithoutDefaultConstructor.setName("after commit");
+
+            assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+
+        } finally {
+            Context.removeTransactionContext();
+            asyncEventListenerExecutor.shutdown();
+        }
+
+        assertThat(entityNames).containsExactly("before commit", "before commit");
+        assertThat(receivedEvents).allSatisfy(event -> assertThat(event).isInstanceOf(FlowableEntityEventSnapshot.class));
+
+        TestEntity entityCopy = (TestEntity) ((FlowableEntityEvent) receivedEvents.get(0)).getEntity();
+        assertThat(entityCopy).isNotSameAs(entity);
+        assertThat(entityCopy.getId()).isEqualTo("copyable");
+        assertThat(entityCopy.getRevision()).isEqualTo(3);
+        // The copy is shallow
+        assertThat(entityCopy.getChildren()).isSameAs(entity.getChildren());
+
+        Map<?, ?> entityState = (Map<?, ?>) ((FlowableEntityEvent) receivedEvents.get(1)).getEntity();
+        assertThat(entityState).containsEntry("id", "not-copyable");
+        assertThatThrownBy(() -> ((Map<Object, Object>) entityState).put("name", "changed"))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
     private static class TestFlowableEventType implements FlowableEventType {
 
         protected final String name;
@@ -573,6 +761,61 @@ class FlowableEventSupportTest {
         }
     }
 
+    private static class TestEntity extends AbstractEntity {
+
+        protected String name;
+        protected List<TestEntity> children = new ArrayList<>();
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public List<TestEntity> getChildren() {
+            return children;
+        }
+
+        @Override
+        public String getIdPrefix() {
+            return "";
+        }
+
+        @Override
+        public Object getPersistentState() {
+            Map<String, Object> persistentState = new HashMap<>();
+            persistentState.put("name", name);
+            return persistentState;
+        }
+    }
+
+    private static class TestEntityWithoutDefaultConstructor extends AbstractEntity {
+
+        protected String name;
+
+        TestEntityWithoutDefaultConstructor(String name) {
+            this.name = name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String getIdPrefix() {
+            return "";
+        }
+
+        @Override
+        public Object getPersistentState() {
+            Map<String, Object> persistentState = new HashMap<>();
+            persistentState.put("name", name);
+            return persistentState;
+        }
+    }
+
     private static class TestTransactionContext implements TransactionContext {
 
         protected final Map<TransactionState, List<TransactionListener>> transactionStateListeners = new HashMap<>();
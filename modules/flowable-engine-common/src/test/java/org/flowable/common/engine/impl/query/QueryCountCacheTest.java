@@ -0,0 +1,90 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.junit.jupiter.api.Test;
+
+class QueryCountCacheTest {
+
+    protected QueryCountCache queryCountCache = new QueryCountCache();
+
+    @Test
+    void identicalQueriesHaveTheSameKey() {
+        TestQuery query = new TestQuery("kermit", Arrays.asList("a", "b"));
+        TestQuery identicalQuery = new TestQuery("kermit", Arrays.asList("a", "b"));
+        identicalQuery.setFirstResult(10);
+        identicalQuery.setMaxResults(20);
+
+        assertThat(queryCountCache.createKey(query))
+                .isNotNull()
+                .isEqualTo(queryCountCache.createKey(identicalQuery))
+                .isNotEqualTo(queryCountCache.createKey(new TestQuery("gonzo", Arrays.asList("a", "b"))))
+                .isNotEqualTo(queryCountCache.createKey(new TestQuery("kermit", Arrays.asList("b", "a"))));
+    }
+
+    @Test
+    void valuesWithAStringRepresentationArePartOfTheKey() {
+        TestQuery query = new TestQuery("kermit", Collections.singletonList(new Date(1000)));
+        assertThat(queryCountCache.createKey(query))
+                .isNotNull()
+                .isEqualTo(queryCountCache.createKey(new TestQuery("kermit", Collections.singletonList(new Date(1000)))))
+                .isNotEqualTo(queryCountCache.createKey(new TestQuery("kermit", Collections.singletonList(new Date(2000)))));
+
+        query = new TestQuery("kermit", Collections.singletonList(URI.create("a")));
+        assertThat(queryCountCache.createKey(query))
+                .isNotNull()
+                .isEqualTo(queryCountCache.createKey(new TestQuery("kermit", Collections.singletonList(URI.create("a")))))
+                .isNotEqualTo(queryCountCache.createKey(new TestQuery("kermit", Collections.singletonList(URI.create("b")))));
+    }
+
+    @Test
+    void queryWithValueWithoutStringRepresentationHasNoKey() {
+        // Not serializable
+        assertThat(queryCountCache.createKey(new TestQuery("kermit", Collections.singletonList(new Object())))).isNull();
+        // Serializable, but only identical to itself
+        assertThat(queryCountCache.createKey(new TestQuery("kermit", Collections.singletonList(new Random())))).isNull();
+    }
+
+    protected static class TestQuery extends AbstractQuery<TestQuery, Object> {
+
+        private static final long serialVersionUID = 1L;
+
+        protected String name;
+        protected List<Object> values;
+
+        public TestQuery(String name, List<?> values) {
+            this.name = name;
+            this.values = Collections.unmodifiableList(values);
+        }
+
+        @Override
+        public long executeCount(CommandContext commandContext) {
+            return 0;
+        }
+
+        @Override
+        public List<Object> executeList(CommandContext commandContext) {
+            return Collections.emptyList();
+        }
+    }
+}
@@ -554,4 +554,12 @@ public interface ManagementService {
      */
     ChangeTenantIdBuilder createChangeTenantIdBuilder(String fromTenantId, String toTenantId);
 
+    /**
+     * Fills the task candidate index again from the candidate users and groups of all tasks.
+     * This is needed once when the task candidate index is enabled on a database that already contains tasks.
+     *
+     * @return the number of entries in the index
+     */
+    long rebuildTaskCandidateIndex();
+
 }
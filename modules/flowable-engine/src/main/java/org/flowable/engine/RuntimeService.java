@@ -36,6 +36,7 @@ import org.flowable.engine.runtime.NativeExecutionQuery;
 import org.flowable.engine.runtime.NativeProcessInstanceQuery;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.engine.runtime.ProcessInstanceBuilder;
+import org.flowable.engine.runtime.ProcessInstanceBulkStartBuilder;
 import org.flowable.engine.runtime.ProcessInstanceQuery;
 import org.flowable.engine.runtime.ProcessInstanceStartEventSubscriptionBuilder;
 import org.flowable.engine.runtime.ProcessInstanceStartEventSubscriptionDeletionBuilder;
@@ -64,6 +65,12 @@ public interface RuntimeService {
      */
     ProcessInstanceBuilder createProcessInstanceBuilder();
 
+    /**
+     * Create a {@link ProcessInstanceBulkStartBuilder}, that allows to start a large number of process instances of the same process definition
+     * in batches, reporting the process instances that could not be started instead of aborting.
+     */
+    ProcessInstanceBulkStartBuilder createProcessInstanceBulkStartBuilder();
+
     /**
      * Starts a new process instance in the latest version of the process definition with the given key.
      *
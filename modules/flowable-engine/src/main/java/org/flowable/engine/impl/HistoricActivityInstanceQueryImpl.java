@@ -21,6 +21,7 @@ import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
 import org.flowable.common.engine.impl.query.AbstractQuery;
+import org.flowable.common.engine.impl.query.QueryKeyset;
 import org.flowable.engine.history.HistoricActivityInstance;
 import org.flowable.engine.history.HistoricActivityInstanceQuery;
 import org.flowable.engine.impl.cmd.DeleteHistoricActivityInstancesCmd;
@@ -34,6 +35,15 @@ import org.flowable.engine.impl.util.CommandContextUtil;
 public class HistoricActivityInstanceQueryImpl extends AbstractQuery<HistoricActivityInstanceQuery, HistoricActivityInstance> implements HistoricActivityInstanceQuery {
 
     private static final long serialVersionUID = 1L;
+
+    protected static final QueryKeyset<HistoricActivityInstance> KEYSET = new QueryKeyset<HistoricActivityInstance>("RES.ID_", HistoricActivityInstance::getId)
+            .column(HistoricActivityInstanceQueryProperty.HISTORIC_ACTIVITY_INSTANCE_ID.getName(), HistoricActivityInstance::getId)
+            .column(HistoricActivityInstanceQueryProperty.PROCESS_INSTANCE_ID.getName(), HistoricActivityInstance::getProcessInstanceId)
+            .column(HistoricActivityInstanceQueryProperty.EXECUTION_ID.getName(), HistoricActivityInstance::getExecutionId)
+            .column(HistoricActivityInstanceQueryProperty.ACTIVITY_ID.getName(), HistoricActivityInstance::getActivityId)
+            .column(HistoricActivityInstanceQueryProperty.ACTIVITY_TYPE.getName(), HistoricActivityInstance::getActivityType)
+            .column(HistoricActivityInstanceQueryProperty.PROCESS_DEFINITION_ID.getName(), HistoricActivityInstance::getProcessDefinitionId)
+            .column(HistoricActivityInstanceQueryProperty.START.getName(), HistoricActivityInstance::getStartTime);
     protected String activityInstanceId;
     protected String processInstanceId;
     protected String executionId;
@@ -67,6 +77,11 @@ public class HistoricActivityInstanceQueryImpl extends AbstractQuery<HistoricAct
         super(commandExecutor);
     }
 
+    @Override
+    protected QueryKeyset<HistoricActivityInstance> getKeyset() {
+        return KEYSET;
+    }
+
     @Override
     public long executeCount(CommandContext commandContext) {
         return CommandContextUtil.getHistoricActivityInstanceEntityManager(commandContext).findHistoricActivityInstanceCountByQueryCriteria(this);
@@ -27,6 +27,7 @@ import org.flowable.common.engine.impl.interceptor.CommandConfig;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
 import org.flowable.common.engine.impl.persistence.cache.EntityCache;
+import org.flowable.common.engine.impl.query.QueryKeyset;
 import org.flowable.engine.history.HistoricProcessInstance;
 import org.flowable.engine.history.HistoricProcessInstanceQuery;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
@@ -51,6 +52,11 @@ public class HistoricProcessInstanceQueryImpl extends AbstractVariableQueryImpl<
         implements HistoricProcessInstanceQuery, CacheAwareQuery<HistoricProcessInstanceEntity> {
 
     private static final long serialVersionUID = 1L;
+
+    protected static final QueryKeyset<HistoricProcessInstance> KEYSET = new QueryKeyset<HistoricProcessInstance>("RES.ID_", HistoricProcessInstance::getId)
+            .column(HistoricProcessInstanceQueryProperty.PROCESS_INSTANCE_ID_.getName(), HistoricProcessInstance::getId)
+            .column(HistoricProcessInstanceQueryProperty.PROCESS_DEFINITION_ID.getName(), HistoricProcessInstance::getProcessDefinitionId)
+            .column(HistoricProcessInstanceQueryProperty.START_TIME.getName(), HistoricProcessInstance::getStartTime);
     
     protected ProcessEngineConfigurationImpl processEngineConfiguration;
     
@@ -1056,6 +1062,11 @@ public class HistoricProcessInstanceQueryImpl extends AbstractVariableQueryImpl<
         return orderBy(HistoricProcessInstanceQueryProperty.TENANT_ID);
     }
 
+    @Override
+    protected QueryKeyset<HistoricProcessInstance> getKeyset() {
+        return KEYSET;
+    }
+
     @Override
     public long executeCount(CommandContext commandContext) {
         ensureVariablesInitialized();
@@ -61,6 +61,7 @@ import org.flowable.engine.impl.cmd.GetBatchPartDocumentCmd;
 import org.flowable.engine.impl.cmd.GetEventLogEntriesCmd;
 import org.flowable.engine.impl.cmd.GetTableNameCmd;
 import org.flowable.engine.impl.cmd.HandleHistoryCleanupTimerJobCmd;
+import org.flowable.engine.impl.cmd.RebuildTaskCandidateIndexCmd;
 import org.flowable.engine.impl.cmd.RescheduleTimerJobCmd;
 import org.flowable.engine.impl.externalworker.ExternalWorkerCompletionBuilderImpl;
 import org.flowable.engine.impl.util.CommandContextUtil;
@@ -490,4 +491,9 @@ public class ManagementServiceImpl extends CommonEngineServiceImpl<ProcessEngine
         return new ChangeTenantIdBuilderImpl(fromTenantId, toTenantId, configuration.getChangeTenantIdManager());
     }
 
+    @Override
+    public long rebuildTaskCandidateIndex() {
+        return commandExecutor.execute(new RebuildTaskCandidateIndexCmd());
+    }
+
 }
@@ -26,6 +26,7 @@ import org.flowable.common.engine.impl.AbstractEngineConfiguration;
 import org.flowable.common.engine.impl.db.SuspensionState;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.common.engine.impl.query.QueryKeyset;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 import org.flowable.engine.runtime.ProcessInstance;
@@ -45,6 +46,11 @@ public class ProcessInstanceQueryImpl extends AbstractVariableQueryImpl<ProcessI
         ProcessInstanceQuery, CacheAwareQuery<ExecutionEntity>, Serializable {
 
     private static final long serialVersionUID = 1L;
+
+    protected static final QueryKeyset<ProcessInstance> KEYSET = new QueryKeyset<ProcessInstance>("RES.ID_", ProcessInstance::getId)
+            .column(ProcessInstanceQueryProperty.PROCESS_INSTANCE_ID.getName(), ProcessInstance::getId)
+            .column(ProcessInstanceQueryProperty.PROCESS_DEFINITION_ID.getName(), ProcessInstance::getProcessDefinitionId)
+            .column(ProcessInstanceQueryProperty.PROCESS_START_TIME.getName(), ProcessInstance::getStartTime);
     
     protected ProcessEngineConfigurationImpl processEngineConfiguration;
     
@@ -971,6 +977,11 @@ public class ProcessInstanceQueryImpl extends AbstractVariableQueryImpl<ProcessI
         return this;
     }
 
+    @Override
+    protected QueryKeyset<ProcessInstance> getKeyset() {
+        return KEYSET;
+    }
+
     // results /////////////////////////////////////////////////////////////////
 
     @Override
@@ -15,7 +15,9 @@ package org.flowable.engine.impl;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -25,6 +27,7 @@ import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
 import org.flowable.common.engine.api.delegate.event.FlowableEvent;
 import org.flowable.common.engine.api.delegate.event.FlowableEventListener;
+import org.flowable.common.engine.impl.interceptor.CommandConfig;
 import org.flowable.common.engine.impl.service.CommonEngineServiceImpl;
 import org.flowable.engine.RuntimeService;
 import org.flowable.engine.form.FormData;
@@ -81,11 +84,15 @@ import org.flowable.engine.impl.cmd.SetProcessInstanceOwnerCmd;
 import org.flowable.engine.impl.cmd.SignalEventReceivedCmd;
 import org.flowable.engine.impl.cmd.StartProcessInstanceAsyncCmd;
 import org.flowable.engine.impl.cmd.StartProcessInstanceByMessageCmd;
+import org.flowable.engine.impl.cmd.StartProcessInstanceBatchCmd;
 import org.flowable.engine.impl.cmd.StartProcessInstanceCmd;
 import org.flowable.engine.impl.cmd.SuspendProcessInstanceCmd;
 import org.flowable.engine.impl.cmd.TriggerCmd;
 import org.flowable.engine.impl.runtime.ChangeActivityStateBuilderImpl;
 import org.flowable.engine.impl.runtime.ProcessInstanceBuilderImpl;
+import org.flowable.engine.impl.runtime.ProcessInstanceBulkStartBuilderImpl;
+import org.flowable.engine.impl.runtime.ProcessInstanceBulkStartBuilderImpl.BulkStartItem;
+import org.flowable.engine.impl.runtime.ProcessInstanceBulkStartResultImpl;
 import org.flowable.engine.impl.runtime.ProcessInstanceStartEventSubscriptionBuilderImpl;
 import org.flowable.engine.impl.runtime.ProcessInstanceStartEventSubscriptionDeletionBuilderImpl;
 import org.flowable.engine.impl.runtime.ProcessInstanceStartEventSubscriptionModificationBuilderImpl;
@@ -97,6 +104,8 @@ import org.flowable.engine.runtime.NativeExecutionQuery;
 import org.flowable.engine.runtime.NativeProcessInstanceQuery;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.engine.runtime.ProcessInstanceBuilder;
+import org.flowable.engine.runtime.ProcessInstanceBulkStartBuilder;
+import org.flowable.engine.runtime.ProcessInstanceBulkStartResult;
 import org.flowable.engine.runtime.ProcessInstanceQuery;
 import org.flowable.engine.runtime.ProcessInstanceStartEventSubscriptionBuilder;
 import org.flowable.engine.runtime.ProcessInstanceStartEventSubscriptionDeletionBuilder;
@@ -797,6 +806,11 @@ public class RuntimeServiceImpl extends CommonEngineServiceImpl<ProcessEngineCon
         return new ProcessInstanceBuilderImpl(this);
     }
 
+    @Override
+    public ProcessInstanceBulkStartBuilder createProcessInstanceBulkStartBuilder() {
+        return new ProcessInstanceBulkStartBuilderImpl(this);
+    }
+
     @Override
     public ChangeActivityStateBuilder createChangeActivityStateBuilder() {
         return new ChangeActivityStateBuilderImpl(this);
@@ -838,6 +852,97 @@ public class RuntimeServiceImpl extends CommonEngineServiceImpl<ProcessEngineCon
         commandExecutor.execute(new ModifyProcessInstanceStartEventSubscriptionCmd(builder));
     }
 
+    public ProcessInstanceBulkStartResult startProcessInstances(ProcessInstanceBulkStartBuilderImpl bulkStartBuilder) {
+        ProcessInstanceBulkStartResultImpl result = new ProcessInstanceBulkStartResultImpl();
+        StartProcessInstanceBatchCmd resolvedBatchCmd = null;
+
+        Iterator<BulkStartItem> items = bulkStartBuilder.getItems();
+        List<BulkStartItem> batch = new ArrayList<>(bulkStartBuilder.getBatchSize());
+        while (items.hasNext()) {
+            if (result.getAbortException() != null) {
+                // The remaining items can't be started either, they are reported with the exception that aborted the bulk start
+                result.addFailure(items.next(), result.getAbortException());
+                continue;
+            }
+
+            batch.add(items.next());
+            if (batch.size() == bulkStartBuilder.getBatchSize() || !items.hasNext()) {
+                resolvedBatchCmd = startProcessInstanceBatch(bulkStartBuilder, resolvedBatchCmd, batch, result);
+                batch = new ArrayList<>(bulkStartBuilder.getBatchSize());
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Starts the batch in one transaction. When a start fails, the batch is rolled back, the failure is recorded and the batch is retried without the failed item.
+     * When the transaction fails after all items were started, the items are started one by one to find out which ones can't be started.
+     * When the process definition can no longer be resolved after earlier batches were committed, the bulk start is aborted
+     * and the items that were not started are recorded as failures, so that the ids of the committed process instances are not lost.
+     *
+     * @return the last command that resolved the process definition
+     */
+    protected StartProcessInstanceBatchCmd startProcessInstanceBatch(ProcessInstanceBulkStartBuilderImpl bulkStartBuilder, StartProcessInstanceBatchCmd resolvedBatchCmd,
+            List<BulkStartItem> batch, ProcessInstanceBulkStartResultImpl result) {
+
+        CommandConfig commandConfig = commandExecutor.getDefaultConfig().transactionRequiresNew();
+        List<BulkStartItem> remainingItems = batch;
+        while (!remainingItems.isEmpty()) {
+            StartProcessInstanceBatchCmd batchCmd;
+            if (resolvedBatchCmd != null) {
+                batchCmd = new StartProcessInstanceBatchCmd(null, resolvedBatchCmd.getProcessDefinitionId(), null, false,
+                        resolvedBatchCmd.getOverrideDefinitionTenantId(), remainingItems);
+            } else {
+                batchCmd = new StartProcessInstanceBatchCmd(bulkStartBuilder.getProcessDefinitionKey(), bulkStartBuilder.getProcessDefinitionId(),
+                        bulkStartBuilder.getTenantId(), bulkStartBuilder.isFallbackToDefaultTenant(), null, remainingItems);
+            }
+
+            try {
+                result.addProcessInstanceIds(commandExecutor.execute(commandConfig, batchCmd));
+                return batchCmd;
+
+            } catch (RuntimeException e) {
+                int failedItemIndex = batchCmd.getFailedItemIndex();
+                if (failedItemIndex < 0) {
+                    // The process definition could not be resolved, none of the process instances can be started
+                    if (result.getProcessInstanceIds().isEmpty() && result.getFailures().isEmpty()) {
+                        throw e;
+                    }
+
+                    // Earlier batches are committed, so the ids of their process instances are returned and the remaining items are reported as failed
+                    for (BulkStartItem item : remainingItems) {
+                        result.addFailure(item, e);
+                    }
+                    result.setAbortException(e);
+                    return resolvedBatchCmd;
+                }
+                resolvedBatchCmd = batchCmd;
+
+                if (failedItemIndex < remainingItems.size()) {
+                    result.addFailure(remainingItems.get(failedItemIndex), e);
+                    remainingItems = new ArrayList<>(remainingItems);
+                    remainingItems.remove(failedItemIndex);
+
+                } else if (remainingItems.size() == 1) {
+                    result.addFailure(remainingItems.get(0), e);
+                    return resolvedBatchCmd;
+
+                } else {
+                    for (BulkStartItem item : remainingItems) {
+                        if (result.getAbortException() != null) {
+                            result.addFailure(item, result.getAbortException());
+                        } else {
+                            resolvedBatchCmd = startProcessInstanceBatch(bulkStartBuilder, resolvedBatchCmd, Collections.singletonList(item), result);
+                        }
+                    }
+                    return resolvedBatchCmd;
+                }
+            }
+        }
+        return resolvedBatchCmd;
+    }
+
     public void deleteProcessInstanceStartEventSubscriptions(ProcessInstanceStartEventSubscriptionDeletionBuilderImpl builder) {
         commandExecutor.execute(new DeleteProcessInstanceStartEventSubscriptionCmd(builder));
     }
@@ -46,7 +46,7 @@ import org.flowable.engine.impl.context.Context;
 import org.flowable.engine.impl.delegate.SubProcessActivityBehavior;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntityManager;
-import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntity;
+import org.flowable.engine.impl.persistence.deploy.DeploymentManager;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntityManager;
 import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.engine.impl.util.EntityLinkUtil;
@@ -300,7 +300,7 @@ public class CallActivityBehavior extends AbstractBpmnActivityBehavior implement
         String tenantId = execution.getTenantId();
 
         ProcessDefinitionEntityManager processDefinitionEntityManager = Context.getProcessEngineConfiguration().getProcessDefinitionEntityManager();
-        ProcessDefinitionEntity processDefinition;
+        ProcessDefinition processDefinition;
 
         if (isSameDeployment) {
             String deploymentId = ProcessDefinitionUtil.getProcessDefinition(execution.getProcessDefinitionId()).getDeploymentId();
@@ -315,18 +315,18 @@ public class CallActivityBehavior extends AbstractBpmnActivityBehavior implement
             }
         }
 
+        DeploymentManager deploymentManager = processEngineConfiguration.getDeploymentManager();
         if (tenantId == null || ProcessEngineConfiguration.NO_TENANT_ID.equals(tenantId)) {
-            processDefinition = processDefinitionEntityManager.findLatestProcessDefinitionByKey(processDefinitionKey);
+            processDefinition = deploymentManager.resolveLatestProcessDefinition(processDefinitionKey, null);
         } else {
-            processDefinition = processDefinitionEntityManager.findLatestProcessDefinitionByKeyAndTenantId(processDefinitionKey, tenantId);
+            processDefinition = deploymentManager.resolveLatestProcessDefinition(processDefinitionKey, tenantId);
             if (processDefinition == null && ((this.fallbackToDefaultTenant != null && this.fallbackToDefaultTenant) || processEngineConfiguration.isFallbackToDefaultTenant())) {
 
                 String defaultTenant = processEngineConfiguration.getDefaultTenantProvider().getDefaultTenant(tenantId, ScopeTypes.BPMN, processDefinitionKey);
                 if (StringUtils.isNotEmpty(defaultTenant)) {
-                    processDefinition = processDefinitionEntityManager.findLatestProcessDefinitionByKeyAndTenantId(
-                                    processDefinitionKey, defaultTenant);
+                    processDefinition = deploymentManager.resolveLatestProcessDefinition(processDefinitionKey, defaultTenant);
                 } else {
-                    processDefinition = processDefinitionEntityManager.findLatestProcessDefinitionByKey(processDefinitionKey);
+                    processDefinition = deploymentManager.resolveLatestProcessDefinition(processDefinitionKey, null);
                 }
             }
         }
@@ -103,6 +103,10 @@ public abstract class MultiInstanceActivityBehavior extends FlowNodeActivityBeha
     protected static final String NUMBER_OF_INSTANCES = "nrOfInstances";
     protected static final String NUMBER_OF_ACTIVE_INSTANCES = "nrOfActiveInstances";
     protected static final String NUMBER_OF_COMPLETED_INSTANCES = "nrOfCompletedInstances";
+    // Number of parallel instances that are not created yet, when they are created in chunks
+    protected static final String NUMBER_OF_PENDING_INSTANCES = "nrOfPendingInstances";
+    // Elements of the collection, resolved once when the parallel instances are created in chunks
+    protected static final String COLLECTION_SNAPSHOT = "multiInstanceCollectionSnapshot";
 
     // Instance members
     protected Activity activity;
@@ -461,17 +465,30 @@ public abstract class MultiInstanceActivityBehavior extends FlowNodeActivityBeha
         }
     }
 
-    @SuppressWarnings("rawtypes")
     protected void executeOriginalBehavior(DelegateExecution execution, ExecutionEntity multiInstanceRootExecution, int loopCounter) {
-        if (usesCollection() && collectionElementVariable != null) {
-            Collection collection = resolveAndValidateCollection(execution);
+        executeOriginalBehavior(execution, multiInstanceRootExecution, loopCounter, null);
+    }
 
+    /**
+     * Executes the activity for the instance with the given loop counter.
+     * The collection element of the instance is taken from the given collection elements, or from the resolved collection when they are null.
+     */
+    @SuppressWarnings("rawtypes")
+    protected void executeOriginalBehavior(DelegateExecution execution, ExecutionEntity multiInstanceRootExecution, int loopCounter, List<?> collectionElements) {
+        if (usesCollection() && collectionElementVariable != null) {
             Object value = null;
-            int index = 0;
-            Iterator it = collection.iterator();
-            while (index <= loopCounter) {
-                value = it.next();
-                index++;
+            if (collectionElements != null) {
+                value = collectionElements.get(loopCounter);
+
+            } else {
+                Collection collection = resolveAndValidateCollection(execution);
+
+                int index = 0;
+                Iterator it = collection.iterator();
+                while (index <= loopCounter) {
+                    value = it.next();
+                    index++;
+                }
             }
             setLoopVariable(execution, collectionElementVariable, value);
         }
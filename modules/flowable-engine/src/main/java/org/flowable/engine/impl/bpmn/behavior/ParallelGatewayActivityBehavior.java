@@ -13,9 +13,12 @@
 
 package org.flowable.engine.impl.bpmn.behavior;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.flowable.bpmn.model.Activity;
 import org.flowable.bpmn.model.FlowElement;
@@ -43,6 +46,11 @@ import org.slf4j.LoggerFactory;
  * Note that a Parallel Gateway having one incoming and multiple outgoing sequence flow, is the same as having multiple outgoing sequence flow on a given activity. However, a parallel gateway does NOT
  * check conditions on the outgoing sequence flow.
  * 
+ * When parallel gateway join counts are enabled in the {@link org.flowable.engine.impl.cfg.PerformanceSettings}, the arriving executions are counted on the process instance
+ * (or on the multi instance execution of a gateway in a multi instance subprocess), and the waiting executions are only queried when the count reaches the number of incoming
+ * sequence flow. The query verifies the count before the gateway activates and corrects it when executions left the gateway in another way.
+ * Counts that are malformed or don't fit in the column are dropped, which also falls back to the query.
+ * 
  * @author Joram Barrez
  * @author Tom Baeyens
  */
@@ -52,6 +60,17 @@ public class ParallelGatewayActivityBehavior extends GatewayActivityBehavior {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ParallelGatewayActivityBehavior.class);
 
+    protected static final char JOIN_COUNT_SEPARATOR = ',';
+    protected static final char JOIN_COUNT_ASSIGNMENT = '=';
+    /** Ends the join counts, so that a value that was cut off by the database is recognized */
+    protected static final char JOIN_COUNTS_END = ';';
+
+    /**
+     * The length of the JOIN_COUNTS_ column. It is compared with the UTF-8 byte length of the value, which is never less than its length
+     * in characters (e.g. MySQL, Postgres), in UTF-16 code units (nvarchar on MSSQL, NVARCHAR2 on Oracle) or in bytes (e.g. DB2).
+     */
+    protected static final int MAX_JOIN_COUNTS_LENGTH = 2000;
+
     @Override
     public void execute(DelegateExecution execution) {
 
@@ -76,15 +95,45 @@ public class ParallelGatewayActivityBehavior extends GatewayActivityBehavior {
             multiInstanceExecution = findMultiInstanceParentExecution(execution);
         }
 
+        int nbrOfExecutionsToJoin = parallelGateway.getIncomingFlows().size();
+
+        ExecutionEntity joinCountExecution = null;
+        if (CommandContextUtil.getProcessEngineConfiguration().getPerformanceSettings().isEnableParallelGatewayJoinCounts()) {
+            if (nbrOfExecutionsToJoin == 1) {
+                // Nothing to join, the gateway only forks
+                CommandContextUtil.getActivityInstanceEntityManager().recordActivityEnd((ExecutionEntity) execution, null);
+                CommandContextUtil.getAgenda().planTakeOutgoingSequenceFlowsOperation((ExecutionEntity) execution, false);
+                return;
+            }
+
+            // The joined executions are counted on the execution that limits the executions found by the query below
+            joinCountExecution = multiInstanceExecution != null ? (ExecutionEntity) multiInstanceExecution : ((ExecutionEntity) execution).getProcessInstance();
+            Integer joinCount = getJoinCount(joinCountExecution, parallelGateway.getId());
+            if (joinCount != null && joinCount + 1 < nbrOfExecutionsToJoin) {
+                // The count is never lower than the number of joined executions, so the gateway can not activate yet
+                setJoinCount(joinCountExecution, parallelGateway.getId(), joinCount + 1);
+                CommandContextUtil.getActivityInstanceEntityManager().recordActivityEnd((ExecutionEntity) execution, null);
+
+                LOGGER.debug("parallel gateway '{}' ({}) does not activate: {} of {} counted", execution.getCurrentActivityId(),
+                        execution.getId(), joinCount + 1, nbrOfExecutionsToJoin);
+                return;
+            }
+        }
+
         ExecutionEntityManager executionEntityManager = CommandContextUtil.getExecutionEntityManager();
         Collection<ExecutionEntity> joinedExecutions = executionEntityManager.findInactiveExecutionsByActivityIdAndProcessInstanceId(execution.getCurrentActivityId(), execution.getProcessInstanceId());
         if (multiInstanceExecution != null) {
             joinedExecutions = cleanJoinedExecutions(joinedExecutions, multiInstanceExecution);
         }
 
-        int nbrOfExecutionsToJoin = parallelGateway.getIncomingFlows().size();
         int nbrOfExecutionsCurrentlyJoined = joinedExecutions.size();
 
+        if (joinCountExecution != null) {
+            // The count is (re)calibrated with the number of joined executions, and starts over when the gateway activates
+            setJoinCount(joinCountExecution, parallelGateway.getId(),
+                    nbrOfExecutionsCurrentlyJoined == nbrOfExecutionsToJoin ? null : nbrOfExecutionsCurrentlyJoined);
+        }
+
         // Fork
 
         // Is needed to set the endTime for all historic activity joins
@@ -122,6 +171,92 @@ public class ParallelGatewayActivityBehavior extends GatewayActivityBehavior {
 
     }
 
+    /**
+     * @return the number of executions counted for the gateway on the given execution, or null when they have not been counted
+     */
+    protected Integer getJoinCount(ExecutionEntity joinCountExecution, String gatewayId) {
+        return parseJoinCounts(joinCountExecution.getJoinCounts()).get(gatewayId);
+    }
+
+    /**
+     * Stores the number of executions counted for the gateway on the given execution. A null count removes the count,
+     * which is also done when the count can not be stored, so that the joined executions are queried instead.
+     */
+    protected void setJoinCount(ExecutionEntity joinCountExecution, String gatewayId, Integer joinCount) {
+        Map<String, Integer> joinCounts = parseJoinCounts(joinCountExecution.getJoinCounts());
+        if (joinCount != null && gatewayId.indexOf(JOIN_COUNT_SEPARATOR) < 0 && gatewayId.indexOf(JOIN_COUNT_ASSIGNMENT) < 0) {
+            joinCounts.put(gatewayId, joinCount);
+        } else {
+            joinCounts.remove(gatewayId);
+        }
+
+        String formattedJoinCounts = formatJoinCounts(joinCounts);
+        if (exceedsMaxJoinCountsLength(formattedJoinCounts)) {
+            joinCounts.remove(gatewayId);
+            formattedJoinCounts = formatJoinCounts(joinCounts);
+            if (exceedsMaxJoinCountsLength(formattedJoinCounts)) {
+                // The counts of the other gateways are dropped as well, their joined executions are queried instead
+                formattedJoinCounts = null;
+            }
+        }
+        joinCountExecution.setJoinCounts(formattedJoinCounts);
+    }
+
+    protected boolean exceedsMaxJoinCountsLength(String formattedJoinCounts) {
+        return formattedJoinCounts != null && formattedJoinCounts.getBytes(StandardCharsets.UTF_8).length > MAX_JOIN_COUNTS_LENGTH;
+    }
+
+    /**
+     * @return the join counts of the gateways, or no counts at all when the given value is malformed or was cut off,
+     *         so that the joined executions are queried instead
+     */
+    protected Map<String, Integer> parseJoinCounts(String joinCounts) {
+        Map<String, Integer> parsedJoinCounts = new LinkedHashMap<>();
+        if (joinCounts == null || joinCounts.isEmpty()) {
+            return parsedJoinCounts;
+        }
+
+        if (joinCounts.charAt(joinCounts.length() - 1) != JOIN_COUNTS_END) {
+            LOGGER.warn("Ignoring parallel gateway join counts '{}' that are not complete", joinCounts);
+            return parsedJoinCounts;
+        }
+
+        for (String joinCount : joinCounts.substring(0, joinCounts.length() - 1).split(String.valueOf(JOIN_COUNT_SEPARATOR))) {
+            int assignmentIndex = joinCount.lastIndexOf(JOIN_COUNT_ASSIGNMENT);
+            Integer count = null;
+            if (assignmentIndex > 0) {
+                try {
+                    count = Integer.valueOf(joinCount.substring(assignmentIndex + 1));
+                } catch (NumberFormatException e) {
+                    // Handled below
+                }
+            }
+
+            if (count == null || count < 0) {
+                LOGGER.warn("Ignoring malformed parallel gateway join counts '{}'", joinCounts);
+                parsedJoinCounts.clear();
+                return parsedJoinCounts;
+            }
+            parsedJoinCounts.put(joinCount.substring(0, assignmentIndex), count);
+        }
+        return parsedJoinCounts;
+    }
+
+    protected String formatJoinCounts(Map<String, Integer> joinCounts) {
+        if (joinCounts.isEmpty()) {
+            return null;
+        }
+
+        StringBuilder formattedJoinCounts = new StringBuilder();
+        for (Map.Entry<String, Integer> joinCount : joinCounts.entrySet()) {
+            if (formattedJoinCounts.length() > 0) {
+                formattedJoinCounts.append(JOIN_COUNT_SEPARATOR);
+            }
+            formattedJoinCounts.append(joinCount.getKey()).append(JOIN_COUNT_ASSIGNMENT).append(joinCount.getValue());
+        }
+        return formattedJoinCounts.append(JOIN_COUNTS_END).toString();
+    }
+
     protected Collection<ExecutionEntity> cleanJoinedExecutions(Collection<ExecutionEntity> joinedExecutions, DelegateExecution multiInstanceExecution) {
         List<ExecutionEntity> cleanedExecutions = new ArrayList<>();
         for (ExecutionEntity executionEntity : joinedExecutions) {
@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.bpmn.behavior;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
@@ -33,6 +34,7 @@ import org.flowable.engine.impl.bpmn.helper.ScopeUtil;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.delegate.ActivityBehavior;
 import org.flowable.engine.impl.jobexecutor.ParallelMultiInstanceActivityCompletionJobHandler;
+import org.flowable.engine.impl.jobexecutor.ParallelMultiInstanceCreateInstancesJobHandler;
 import org.flowable.engine.impl.jobexecutor.ParallelMultiInstanceWithNoWaitStatesAsyncLeaveJobHandler;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntityManager;
@@ -71,14 +73,86 @@ public class ParallelMultiInstanceBehavior extends MultiInstanceActivityBehavior
             return nrOfInstances;
         }
 
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration();
+        int nrOfInstancesToCreate = nrOfInstances;
+        int chunkSize = processEngineConfiguration.getParallelMultiInstanceCreationChunkSize();
+        boolean createInChunks = chunkSize > 0 && nrOfInstances > chunkSize && !isAsyncWithoutWaitStates(processEngineConfiguration);
+        List<Object> collectionElements = null;
+        if (createInChunks && usesCollection() && collectionElementVariable != null) {
+            // The later chunks are created in other transactions, in which the collection can have changed.
+            // The elements are therefore resolved once and stored, and every chunk takes the elements of its instances from them.
+            collectionElements = new ArrayList<>(resolveAndValidateCollection(multiInstanceRootExecution));
+            if (collectionElements.size() != nrOfInstances || !isSerializable(collectionElements)) {
+                LOGGER.debug("Elements of the collection of multi-instance '{}' can't be stored, creating all instances at once", activity.getId());
+                createInChunks = false;
+                collectionElements = null;
+            }
+        }
+
+        if (createInChunks) {
+            nrOfInstancesToCreate = chunkSize;
+            setLoopVariable(multiInstanceRootExecution, NUMBER_OF_PENDING_INSTANCES, nrOfInstances - nrOfInstancesToCreate);
+            if (collectionElements != null) {
+                setLoopVariable(multiInstanceRootExecution, COLLECTION_SNAPSHOT, collectionElements);
+            }
+        }
+
         setLoopVariable(multiInstanceRootExecution, NUMBER_OF_INSTANCES, nrOfInstances);
         setLoopVariable(multiInstanceRootExecution, NUMBER_OF_COMPLETED_INSTANCES, ParallelMultiInstanceLoopVariable.completed(multiInstanceRootExecution.getId()));
         setLoopVariable(multiInstanceRootExecution, NUMBER_OF_ACTIVE_INSTANCES, ParallelMultiInstanceLoopVariable.active(multiInstanceRootExecution.getId()));
 
+        List<ExecutionEntity> concurrentExecutions = createConcurrentExecutions((ExecutionEntity) multiInstanceRootExecution, 0, nrOfInstancesToCreate, nrOfInstances,
+                collectionElements);
+
+        // See ACT-1586: ExecutionQuery returns wrong results when using multi
+        // instance on a receive task The parent execution must be set to false, so it wouldn't show up in
+        // the execution query when using .activityId(something). Do not we cannot nullify the
+        // activityId (that would have been a better solution), as it would break boundary event behavior.
+        if (!concurrentExecutions.isEmpty()) {
+            multiInstanceRootExecution.setActive(false);
+        }
+
+        if (createInChunks) {
+            scheduleCreateInstancesJob((ExecutionEntity) multiInstanceRootExecution, nrOfInstancesToCreate, processEngineConfiguration);
+        }
+
+        // No need to check the completed variable for backwards compatibility(like below),
+        // as this is for new instances and not for existing ones that get completed and might be started in the 'old way'
+        if (isAsyncWithoutWaitStates(processEngineConfiguration)) {
+
+            // The difference with the ParallelMultiInstanceActivityCompletionJobHandler approach is that here the job gets created up front
+            // (as the flag for no wait states has been set, this won't create an ever-recreating job).
+
+            JobEntity job = JobUtil.createJob(concurrentExecutions.get(0), ParallelMultiInstanceWithNoWaitStatesAsyncLeaveJobHandler.TYPE, processEngineConfiguration);
+            JobService jobService = processEngineConfiguration.getJobServiceConfiguration().getJobService();
+            jobService.createAsyncJobNoTriggerAsyncExecutor(job, true);
+            jobService.insertJob(job);
+        }
+
+        return nrOfInstances;
+    }
+
+    protected boolean isSerializable(List<Object> collectionElements) {
+        for (Object element : collectionElements) {
+            if (element != null && !(element instanceof Serializable)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Creates the concurrent executions for the instances with a loop counter from (inclusive) to (exclusive) the given loop counters,
+     * and executes the activity for each of them.
+     * The collection elements are the elements of all instances, indexed by loop counter, or null when the collection is resolved per instance.
+     */
+    protected List<ExecutionEntity> createConcurrentExecutions(ExecutionEntity multiInstanceRootExecution, int fromLoopCounter, int toLoopCounter,
+            int nrOfInstances, List<?> collectionElements) {
+
         List<ExecutionEntity> concurrentExecutions = new ArrayList<>();
-        for (int loopCounter = 0; loopCounter < nrOfInstances; loopCounter++) {
+        for (int loopCounter = fromLoopCounter; loopCounter < toLoopCounter; loopCounter++) {
             ExecutionEntity concurrentExecution = CommandContextUtil.getExecutionEntityManager()
-                    .createChildExecution((ExecutionEntity) multiInstanceRootExecution);
+                    .createChildExecution(multiInstanceRootExecution);
             concurrentExecution.setCurrentFlowElement(activity);
             concurrentExecution.setActive(true);
             concurrentExecution.setScope(false);
@@ -92,40 +166,56 @@ public class ParallelMultiInstanceBehavior extends MultiInstanceActivityBehavior
         // Before the activities are executed, all executions MUST be created up front
         // Do not try to merge this loop with the previous one, as it will lead
         // to bugs, due to possible child execution pruning.
-        for (int loopCounter = 0; loopCounter < nrOfInstances; loopCounter++) {
-            ExecutionEntity concurrentExecution = concurrentExecutions.get(loopCounter);
+        for (int i = 0; i < concurrentExecutions.size(); i++) {
+            ExecutionEntity concurrentExecution = concurrentExecutions.get(i);
             // executions can be inactive, if instances are all automatics
             // (no-waitstate) and completionCondition has been met in the meantime
             if (concurrentExecution.isActive() 
                     && !concurrentExecution.isEnded() 
                     && !concurrentExecution.getParent().isEnded()) {
-                executeOriginalBehavior(concurrentExecution, (ExecutionEntity) multiInstanceRootExecution, loopCounter);
+                executeOriginalBehavior(concurrentExecution, multiInstanceRootExecution, fromLoopCounter + i, collectionElements);
             } 
         }
 
-        // See ACT-1586: ExecutionQuery returns wrong results when using multi
-        // instance on a receive task The parent execution must be set to false, so it wouldn't show up in
-        // the execution query when using .activityId(something). Do not we cannot nullify the
-        // activityId (that would have been a better solution), as it would break boundary event behavior.
-        if (!concurrentExecutions.isEmpty()) {
-            multiInstanceRootExecution.setActive(false);
-        }
+        return concurrentExecutions;
+    }
 
+    /**
+     * Creates the next chunk of instances, when the instances are created in chunks.
+     * Called by the {@link ParallelMultiInstanceCreateInstancesJobHandler} with the loop counter of the first instance that is not created yet.
+     */
+    public void createNextInstances(ExecutionEntity multiInstanceRootExecution, int fromLoopCounter) {
+        int nrOfInstances = getLoopVariable(multiInstanceRootExecution, NUMBER_OF_INSTANCES);
         ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration();
-        // No need to check the completed variable for backwards compatibility(like below),
-        // as this is for new instances and not for existing ones that get completed and might be started in the 'old way'
-        if (isAsyncWithoutWaitStates(processEngineConfiguration)) {
+        int chunkSize = processEngineConfiguration.getParallelMultiInstanceCreationChunkSize();
+        int toLoopCounter = chunkSize > 0 ? Math.min(fromLoopCounter + chunkSize, nrOfInstances) : nrOfInstances;
+
+        // Completing instances need to see the created instances and the pending instances together
+        multiInstanceRootExecution.forceUpdate();
+        setLoopVariable(multiInstanceRootExecution, NUMBER_OF_PENDING_INSTANCES, nrOfInstances - toLoopCounter);
+
+        List<?> collectionElements = null;
+        if (usesCollection() && collectionElementVariable != null) {
+            collectionElements = (List<?>) multiInstanceRootExecution.getVariableLocal(COLLECTION_SNAPSHOT);
+            if (toLoopCounter == nrOfInstances && collectionElements != null) {
+                multiInstanceRootExecution.removeVariableLocal(COLLECTION_SNAPSHOT);
+            }
+        }
 
-            // The difference with the ParallelMultiInstanceActivityCompletionJobHandler approach is that here the job gets created up front
-            // (as the flag for no wait states has been set, this won't create an ever-recreating job).
+        createConcurrentExecutions(multiInstanceRootExecution, fromLoopCounter, toLoopCounter, nrOfInstances, collectionElements);
 
-            JobEntity job = JobUtil.createJob(concurrentExecutions.get(0), ParallelMultiInstanceWithNoWaitStatesAsyncLeaveJobHandler.TYPE, processEngineConfiguration);
-            JobService jobService = processEngineConfiguration.getJobServiceConfiguration().getJobService();
-            jobService.createAsyncJobNoTriggerAsyncExecutor(job, true);
-            jobService.insertJob(job);
+        if (toLoopCounter < nrOfInstances) {
+            scheduleCreateInstancesJob(multiInstanceRootExecution, toLoopCounter, processEngineConfiguration);
         }
+    }
 
-        return nrOfInstances;
+    protected void scheduleCreateInstancesJob(ExecutionEntity multiInstanceRootExecution, int fromLoopCounter, ProcessEngineConfigurationImpl processEngineConfiguration) {
+        JobService jobService = processEngineConfiguration.getJobServiceConfiguration().getJobService();
+        JobEntity job = JobUtil.createJob(multiInstanceRootExecution, ParallelMultiInstanceCreateInstancesJobHandler.TYPE, processEngineConfiguration);
+        job.setJobHandlerConfiguration(String.valueOf(fromLoopCounter));
+
+        jobService.createAsyncJob(job, true);
+        jobService.scheduleAsyncJob(job);
     }
 
     public boolean isAsyncWithoutWaitStates(ProcessEngineConfigurationImpl processEngineConfiguration) {
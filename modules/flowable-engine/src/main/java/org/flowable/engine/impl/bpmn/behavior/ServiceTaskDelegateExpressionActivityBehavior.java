@@ -44,6 +44,7 @@ import org.flowable.engine.impl.delegate.invocation.JavaDelegateInvocation;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 import org.flowable.engine.impl.util.BpmnLoggingSessionUtil;
 import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.impl.util.ParkedFutureUtil;
 
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
@@ -194,7 +195,12 @@ public class ServiceTaskDelegateExpressionActivityBehavior extends TaskActivityB
                     if (invocationResult instanceof CompletableFuture) {
                         CompletableFuture<Object> future = (CompletableFuture<Object>) invocationResult;
 
-                        CommandContextUtil.getAgenda(commandContext).planFutureOperation(future, new FutureJavaDelegateCompleteAction(futureJavaDelegate, execution, loggingSessionEnabled));
+                        if (processEngineConfiguration.isParkFutureJavaDelegates()) {
+                            ParkedFutureUtil.parkExecution((ExecutionEntity) execution, future,
+                                    parkedExecution -> new FutureJavaDelegateCompleteAction(futureJavaDelegate, parkedExecution, loggingSessionEnabled));
+                        } else {
+                            CommandContextUtil.getAgenda(commandContext).planFutureOperation(future, new FutureJavaDelegateCompleteAction(futureJavaDelegate, execution, loggingSessionEnabled));
+                        }
                     } else {
                         throw new FlowableIllegalStateException(
                                 "Invocation result " + invocationResult + " from invocation " + invocation + " was not a CompletableFuture");
@@ -38,6 +38,7 @@ import org.flowable.engine.impl.delegate.invocation.FutureJavaDelegateInvocation
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 import org.flowable.engine.impl.util.BpmnLoggingSessionUtil;
 import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.impl.util.ParkedFutureUtil;
 
 /**
  * @author Filip Hrisafov
@@ -136,7 +137,12 @@ public class ServiceTaskFutureJavaDelegateActivityBehavior extends TaskActivityB
                 if (invocationResult instanceof CompletableFuture) {
                     CompletableFuture<Object> future = (CompletableFuture<Object>) invocationResult;
 
-                    CommandContextUtil.getAgenda(commandContext).planFutureOperation(future, new FutureJavaDelegateCompleteAction(futureJavaDelegate, execution, loggingSessionEnabled));
+                    if (processEngineConfiguration.isParkFutureJavaDelegates()) {
+                        ParkedFutureUtil.parkExecution((ExecutionEntity) execution, future,
+                                parkedExecution -> new FutureJavaDelegateCompleteAction(futureJavaDelegate, parkedExecution, loggingSessionEnabled));
+                    } else {
+                        CommandContextUtil.getAgenda(commandContext).planFutureOperation(future, new FutureJavaDelegateCompleteAction(futureJavaDelegate, execution, loggingSessionEnabled));
+                    }
                 } else {
                     throw new FlowableIllegalStateException(
                             "Invocation result " + invocationResult + " from invocation " + invocation + " was not a CompletableFuture");
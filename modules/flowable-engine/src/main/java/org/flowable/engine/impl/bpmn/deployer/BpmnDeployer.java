@@ -345,6 +345,8 @@ public class BpmnDeployer implements EngineDeployer {
                 processDefinition.setSuspensionState(persistedProcessDefinition.getSuspensionState());
                 processDefinition.setHasStartFormKey(persistedProcessDefinition.hasStartFormKey());
                 processDefinition.setGraphicalNotationDefined(persistedProcessDefinition.isGraphicalNotationDefined());
+                // The diagram isn't part of the resources when only the resource of a single process definition is resolved
+                processDefinition.setDiagramResourceName(persistedProcessDefinition.getDiagramResourceName());
             }
         }
     }
@@ -17,14 +17,20 @@ import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
+import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.repository.EngineDeployment;
 import org.flowable.common.engine.api.repository.EngineResource;
 import org.flowable.engine.impl.bpmn.parser.BpmnParse;
 import org.flowable.engine.impl.bpmn.parser.BpmnParser;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.cmd.DeploymentSettings;
 import org.flowable.engine.impl.persistence.entity.DeploymentEntity;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntity;
+import org.flowable.engine.impl.util.CommandContextUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -49,15 +55,40 @@ public class ParsedDeploymentBuilder {
         Map<ProcessDefinitionEntity, EngineResource> processDefinitionsToResourceMap = new LinkedHashMap<>();
 
         DeploymentEntity deploymentEntity = (DeploymentEntity) deployment;
+        List<EngineResource> bpmnResources = new ArrayList<>();
         for (EngineResource resource : deploymentEntity.getResources().values()) {
             if (isBpmnResource(resource.getName())) {
-                LOGGER.debug("Processing BPMN resource {}", resource.getName());
-                BpmnParse parse = createBpmnParseFromResource(resource);
-                for (ProcessDefinitionEntity processDefinition : parse.getProcessDefinitions()) {
-                    processDefinitions.add(processDefinition);
-                    processDefinitionsToBpmnParseMap.put(processDefinition, parse);
-                    processDefinitionsToResourceMap.put(processDefinition, resource);
-                }
+                bpmnResources.add(resource);
+            }
+        }
+
+        List<BpmnParse> bpmnParses = new ArrayList<>(bpmnResources.size());
+        for (EngineResource resource : bpmnResources) {
+            bpmnParses.add(initBpmnParseFromResource(resource));
+        }
+
+        // When converting in parallel, the parses are still executed in resource order,
+        // so that the process definitions and the reported errors are the same as when converting sequentially
+        List<RuntimeException> conversionExceptions = null;
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration();
+        if (bpmnParses.size() > 1 && processEngineConfiguration != null && processEngineConfiguration.isEnableParallelDeploymentParsing()
+                && processEngineConfiguration.getDeploymentParsingExecutor() != null) {
+            conversionExceptions = convertAndValidateInParallel(bpmnParses, processEngineConfiguration);
+        }
+
+        for (int i = 0; i < bpmnResources.size(); i++) {
+            EngineResource resource = bpmnResources.get(i);
+            LOGGER.debug("Processing BPMN resource {}", resource.getName());
+            if (conversionExceptions != null && conversionExceptions.get(i) != null) {
+                LOGGER.error("Could not parse resource {}", resource.getName(), conversionExceptions.get(i));
+                throw conversionExceptions.get(i);
+            }
+
+            BpmnParse parse = executeBpmnParse(bpmnParses.get(i), resource);
+            for (ProcessDefinitionEntity processDefinition : parse.getProcessDefinitions()) {
+                processDefinitions.add(processDefinition);
+                processDefinitionsToBpmnParseMap.put(processDefinition, parse);
+                processDefinitionsToResourceMap.put(processDefinition, resource);
             }
         }
 
@@ -66,6 +97,10 @@ public class ParsedDeploymentBuilder {
     }
 
     protected BpmnParse createBpmnParseFromResource(EngineResource resource) {
+        return executeBpmnParse(initBpmnParseFromResource(resource), resource);
+    }
+
+    protected BpmnParse initBpmnParseFromResource(EngineResource resource) {
         String resourceName = resource.getName();
         ByteArrayInputStream inputStream = new ByteArrayInputStream(resource.getBytes());
 
@@ -93,6 +128,61 @@ public class ParsedDeploymentBuilder {
             bpmnParse.setValidateProcess(false);
         }
 
+        return bpmnParse;
+    }
+
+    /**
+     * Converts the resources to BPMN models and validates them on the deployment parsing executor of the engine.
+     * Only the conversion and validation run on the workers, without a command context, as a command context can't be shared between threads.
+     * The workers use the context class loader of the deploying thread, so that custom converters and validators can load the same classes.
+     *
+     * @return the exception of every resource that failed, or null for the resources that succeeded, in the order of the given parses
+     */
+    protected List<RuntimeException> convertAndValidateInParallel(List<BpmnParse> bpmnParses, ProcessEngineConfigurationImpl processEngineConfiguration) {
+        ExecutorService executor = processEngineConfiguration.getDeploymentParsingExecutor();
+        try {
+            ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+            List<Future<RuntimeException>> futures = new ArrayList<>(bpmnParses.size());
+            for (BpmnParse bpmnParse : bpmnParses) {
+                futures.add(executor.submit(() -> convertAndValidate(bpmnParse, processEngineConfiguration, contextClassLoader)));
+            }
+
+            List<RuntimeException> exceptions = new ArrayList<>(futures.size());
+            for (Future<RuntimeException> future : futures) {
+                exceptions.add(future.get());
+            }
+            return exceptions;
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FlowableException("Interrupted while converting the resources of deployment " + deployment.getName(), e);
+
+        } catch (ExecutionException e) {
+            throw new FlowableException("Could not convert the resources of deployment " + deployment.getName(), e.getCause());
+        }
+    }
+
+    /**
+     * @return the exception of the resource if it failed, or null when it succeeded.
+     * The exception is returned instead of thrown, as the executor would wrap it.
+     */
+    protected RuntimeException convertAndValidate(BpmnParse bpmnParse, ProcessEngineConfigurationImpl processEngineConfiguration, ClassLoader contextClassLoader) {
+        Thread currentThread = Thread.currentThread();
+        ClassLoader originalClassLoader = currentThread.getContextClassLoader();
+        currentThread.setContextClassLoader(contextClassLoader);
+        try {
+            bpmnParse.convertAndValidate(processEngineConfiguration);
+            return null;
+
+        } catch (RuntimeException e) {
+            return e;
+
+        } finally {
+            currentThread.setContextClassLoader(originalClassLoader);
+        }
+    }
+
+    protected BpmnParse executeBpmnParse(BpmnParse bpmnParse, EngineResource resource) {
         try {
             bpmnParse.execute();
         } catch (Exception e) {
@@ -101,7 +101,10 @@ public class DefaultBpmnHttpActivityDelegate extends BaseHttpActivityDelegate im
         validateRequest(request.getHttpRequest());
 
         boolean parallelInSameTransaction;
-        if (httpServiceTask.getParallelInSameTransaction() != null) {
+        if (processEngineConfiguration.isParkFutureJavaDelegates()) {
+            // A parked execution does not wait for the request, so the request must not be executed on the thread of the command
+            parallelInSameTransaction = true;
+        } else if (httpServiceTask.getParallelInSameTransaction() != null) {
             parallelInSameTransaction = httpServiceTask.getParallelInSameTransaction();
         } else {
             parallelInSameTransaction = processEngineConfiguration.getHttpClientConfig().isDefaultParallelInSameTransaction();
@@ -84,6 +84,8 @@ public class BpmnParse implements BpmnXMLConstants {
     protected String sourceSystemId;
 
     protected BpmnModel bpmnModel;
+    protected boolean modelConverted;
+    protected String validationWarnings;
 
     protected String targetNamespace;
 
@@ -134,7 +136,41 @@ public class BpmnParse implements BpmnXMLConstants {
     public BpmnParse execute() {
         try {
 
-            ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration();
+            if (!modelConverted) {
+                convertAndValidate(CommandContextUtil.getProcessEngineConfiguration());
+            }
+
+            // Write out warnings (if any)
+            if (validationWarnings != null) {
+                LOGGER.warn("Following warnings encountered during process validation: {}", validationWarnings);
+            }
+
+            bpmnModel.setSourceSystemId(sourceSystemId);
+            bpmnModel.setEventSupport(new FlowableEventSupport());
+
+            // Validation successful (or no validation)
+
+            // Attach logic to the processes (eg. map ActivityBehaviors to bpmn model elements)
+            applyParseHandlers();
+
+            // Finally, process the diagram interchange info
+            processDI();
+
+        } catch (Exception e) {
+            throw toParseException(e);
+        }
+
+        return this;
+    }
+
+    /**
+     * Converts the XML source to a {@link BpmnModel} and validates it, which is the first part of {@link #execute()}.
+     * <p>
+     * This doesn't need a command context, so it can be done for multiple resources in parallel before the parses are executed.
+     * Validation warnings are logged when the parse is executed, to keep the logging in the same order as when the parses are executed one after the other.
+     */
+    public BpmnParse convertAndValidate(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        try {
             BpmnXMLConverter converter = new BpmnXMLConverter();
 
             boolean enableSafeBpmnXml = false;
@@ -177,39 +213,33 @@ public class BpmnParse implements BpmnXMLConstants {
                             throw new FlowableException("Errors while parsing:\n" + errorBuilder);
                         }
 
-                        // Write out warnings (if any)
                         if (warningBuilder.length() > 0) {
-                            LOGGER.warn("Following warnings encountered during process validation: {}", warningBuilder);
+                            validationWarnings = warningBuilder.toString();
                         }
 
                     }
                 }
             }
 
-            bpmnModel.setSourceSystemId(sourceSystemId);
-            bpmnModel.setEventSupport(new FlowableEventSupport());
-
-            // Validation successful (or no validation)
-
-            // Attach logic to the processes (eg. map ActivityBehaviors to bpmn model elements)
-            applyParseHandlers();
-
-            // Finally, process the diagram interchange info
-            processDI();
+            modelConverted = true;
 
         } catch (Exception e) {
-            if (e instanceof FlowableException) {
-                throw (FlowableException) e;
-            } else if (e instanceof XMLException) {
-                throw (XMLException) e;
-            } else {
-                throw new FlowableException("Error parsing XML", e);
-            }
+            throw toParseException(e);
         }
 
         return this;
     }
 
+    protected RuntimeException toParseException(Exception e) {
+        if (e instanceof FlowableException) {
+            return (FlowableException) e;
+        } else if (e instanceof XMLException) {
+            return (XMLException) e;
+        } else {
+            return new FlowableException("Error parsing XML", e);
+        }
+    }
+
     public BpmnParse name(String name) {
         this.name = name;
         return this;
@@ -61,6 +61,19 @@ public class PerformanceSettings {
      */
     protected boolean enableLocalization = true;
 
+    /**
+     * Keeps the task candidate users and groups in a separate index table, which the task queries on candidate users and groups use
+     * instead of the identity link table. When enabling this on a database with existing tasks, the index needs to be rebuilt once
+     * with {@link org.flowable.engine.ManagementService#rebuildTaskCandidateIndex()}.
+     */
+    protected boolean enableTaskCandidateIndex = false;
+
+    /**
+     * Counts the executions arriving at a parallel gateway join on the first parent scope execution, so that only the arrival
+     * completing the join needs to fetch the waiting executions. Without it, every arrival fetches all the waiting executions.
+     */
+    protected boolean enableParallelGatewayJoinCounts = false;
+
     public boolean isEnableEagerExecutionTreeFetching() {
         return enableEagerExecutionTreeFetching;
     }
@@ -109,4 +122,20 @@ public class PerformanceSettings {
         this.enableLocalization = enableLocalization;
     }
 
+    public boolean isEnableTaskCandidateIndex() {
+        return enableTaskCandidateIndex;
+    }
+
+    public void setEnableTaskCandidateIndex(boolean enableTaskCandidateIndex) {
+        this.enableTaskCandidateIndex = enableTaskCandidateIndex;
+    }
+
+    public boolean isEnableParallelGatewayJoinCounts() {
+        return enableParallelGatewayJoinCounts;
+    }
+
+    public void setEnableParallelGatewayJoinCounts(boolean enableParallelGatewayJoinCounts) {
+        this.enableParallelGatewayJoinCounts = enableParallelGatewayJoinCounts;
+    }
+
 }
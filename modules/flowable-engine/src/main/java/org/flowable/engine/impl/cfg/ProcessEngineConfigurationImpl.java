@@ -29,12 +29,15 @@ import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.function.Consumer;
 
 import javax.xml.namespace.QName;
 
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 import org.apache.ibatis.session.Configuration;
 import org.apache.ibatis.session.SqlSessionFactory;
 import org.apache.ibatis.transaction.TransactionFactory;
@@ -100,6 +103,7 @@ import org.flowable.common.engine.impl.persistence.cache.EntityCache;
 import org.flowable.common.engine.impl.persistence.cache.EntityCacheImpl;
 import org.flowable.common.engine.impl.persistence.deploy.DefaultDeploymentCache;
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
+import org.flowable.common.engine.impl.persistence.deploy.LatestDefinitionIndex;
 import org.flowable.common.engine.impl.persistence.entity.ByteArrayEntityManager;
 import org.flowable.common.engine.impl.persistence.entity.PropertyEntityManager;
 import org.flowable.common.engine.impl.persistence.entity.TableDataManager;
@@ -236,6 +240,8 @@ import org.flowable.engine.impl.event.EventHandler;
 import org.flowable.engine.impl.event.MessageEventHandler;
 import org.flowable.engine.impl.event.SignalEventHandler;
 import org.flowable.engine.impl.event.logger.EventLogger;
+import org.flowable.engine.impl.event.logger.file.EventLogFile;
+import org.flowable.engine.impl.event.logger.file.EventLogFileLogger;
 import org.flowable.engine.impl.eventregistry.BpmnEventRegistryEventConsumer;
 import org.flowable.engine.impl.form.BooleanFormType;
 import org.flowable.engine.impl.form.DateFormType;
@@ -268,6 +274,8 @@ import org.flowable.engine.impl.jobexecutor.BpmnHistoryCleanupJobHandler;
 import org.flowable.engine.impl.jobexecutor.DefaultFailedJobCommandFactory;
 import org.flowable.engine.impl.jobexecutor.ExternalWorkerTaskCompleteJobHandler;
 import org.flowable.engine.impl.jobexecutor.ParallelMultiInstanceActivityCompletionJobHandler;
+import org.flowable.engine.impl.jobexecutor.ParallelMultiInstanceCreateInstancesJobHandler;
+import org.flowable.engine.impl.jobexecutor.ParkedFutureTimeoutJobHandler;
 import org.flowable.engine.impl.jobexecutor.ParallelMultiInstanceWithNoWaitStatesAsyncLeaveJobHandler;
 import org.flowable.engine.impl.jobexecutor.ProcessEventJobHandler;
 import org.flowable.engine.impl.jobexecutor.ProcessInstanceMigrationJobHandler;
@@ -418,10 +426,13 @@ import org.flowable.variable.service.impl.types.LongStringType;
 import org.flowable.variable.service.impl.types.LongType;
 import org.flowable.variable.service.impl.types.NullType;
 import org.flowable.variable.service.impl.types.SerializableType;
+import org.flowable.variable.service.impl.types.SerializableVariableCodec;
 import org.flowable.variable.service.impl.types.ShortType;
 import org.flowable.variable.service.impl.types.StringType;
 import org.flowable.variable.service.impl.types.UUIDType;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 /**
  * @author Tom Baeyens
  * @author Joram Barrez
@@ -560,6 +571,12 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected int processDefinitionInfoCacheLimit = -1; // By default, no limit
     protected DeploymentCache<ProcessDefinitionInfoCacheObject> processDefinitionInfoCache;
 
+    /**
+     * When set, cached process definition info is trusted until the info change stamp moves,
+     * and that stamp is read at most once per interval. When not set, the info is queried on every access.
+     */
+    protected Duration processDefinitionInfoCacheChangeCheckInterval;
+
     protected int knowledgeBaseCacheLimit = -1;
     protected DeploymentCache<Object> knowledgeBaseCache;
 
@@ -703,6 +720,13 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
      */
     protected boolean serializableVariableTypeTrackDeserializedObjects = true;
 
+    /**
+     * The codecs that write the values of 'serializable' variables of the classes they can encode, instead of Java serialization,
+     * e.g. a {@link org.flowable.variable.service.impl.types.CompactBeanSerializableVariableCodec} for the packages of the domain classes.
+     * Values written with Java serialization can still be read when codecs are added.
+     */
+    protected List<SerializableVariableCodec> serializableVariableTypeCodecs;
+
     /**
      * This flag determines whether variables of the type 'json' and 'longJson' will be tracked.
      * <p>
@@ -715,12 +739,51 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
      */
     protected boolean jsonVariableTypeTrackObjects = true;
 
+    /**
+     * The object mapper that encodes the 'json' variables that are too long to be stored as text, e.g. an object mapper with a Smile or CBOR factory.
+     * When null (the default), these variables are stored as json text. Values stored as json text can always be read.
+     */
+    protected ObjectMapper jsonVariableTypeBinaryObjectMapper;
+
+    /**
+     * The number of bytes from which the 'json' variables that are too long to be stored as text are compressed.
+     * A negative value (the default) disables compression.
+     */
+    protected int jsonVariableTypeCompressionThreshold = -1;
+
+    /**
+     * Whether tracked 'json' and 'serializable' variables (see {@link #jsonVariableTypeTrackObjects} and {@link #serializableVariableTypeTrackDeserializedObjects})
+     * detect changes with a fingerprint of the value that is computed when it is read, instead of a copy of the value.
+     * The value is then only serialized again when the fingerprint changed, and no copy of a json value is kept in memory.
+     */
+    protected boolean trackedVariableFingerprints;
+
     /**
      * Whether the Parallel Multi instance should perform the leave operation through an async exclusive job.
      * When this is true then non exclusive parallel multi instances can run in non exclusive asynchronously without an exception being thrown.
      */
     protected boolean parallelMultiInstanceAsyncLeave = true;
 
+    /**
+     * The maximum number of instances that a parallel multi instance activity creates in one transaction.
+     * When a parallel multi instance activity has more instances, the first ones are created right away and the others are created
+     * by async exclusive jobs, this number at a time. A value of 0 (the default) creates all instances right away.
+     */
+    protected int parallelMultiInstanceCreationChunkSize;
+
+    /**
+     * Whether a service task with a {@link org.flowable.engine.delegate.FutureJavaDelegate} (this includes the http task) parks its execution
+     * instead of waiting for the returned future in the open transaction.
+     * When this is true, the transaction is committed while the future is running and its result is delivered in a new transaction
+     * when the future completes. A timeout job fails the execution when the result does not arrive within the {@link #parkedFutureTimeout}.
+     */
+    protected boolean parkFutureJavaDelegates;
+
+    /**
+     * The maximum amount of time a parked execution waits for the result of its future. By default 1 hour.
+     */
+    protected Duration parkedFutureTimeout = Duration.ofHours(1);
+
     protected ExpressionManager expressionManager;
     protected Collection<Consumer<ExpressionManager>> expressionManagerConfigurers;
     protected Collection<ELResolver> preDefaultELResolvers;
@@ -791,6 +854,28 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
      */
     protected boolean enableSafeBpmnXml;
 
+    /**
+     * Set this to true to convert and validate the BPMN resources of a deployment in parallel, which speeds up deployments with many BPMN resources.
+     * The parse handlers and the persistence of the process definitions are still done one resource after the other, in the order of the resources.
+     * If more than one resource is invalid, the exception of the first invalid resource is thrown, like when the resources are parsed sequentially.
+     * Custom converters and validators are then called concurrently for different resources, without a command context.
+     */
+    protected boolean enableParallelDeploymentParsing;
+
+    /**
+     * The executor, shared by all deployments, that converts and validates the BPMN resources when {@link #enableParallelDeploymentParsing} is true.
+     * When not set, the engine creates one with {@link #deploymentParsingPoolSize} threads and shuts it down when the engine is closed.
+     * Without an executor, the resources are converted and validated one after the other.
+     */
+    protected ExecutorService deploymentParsingExecutor;
+    protected boolean shutdownDeploymentParsingExecutor;
+
+    /**
+     * The number of threads of the {@link #deploymentParsingExecutor} that is created by the engine.
+     * With 1 or less, no executor is created and the resources are converted and validated one after the other.
+     */
+    protected int deploymentParsingPoolSize = Runtime.getRuntime().availableProcessors();
+
     /**
      * The following settings will determine the amount of entities loaded at once when the engine needs to load multiple entities (eg. when suspending a process definition with all its process
      * instances).
@@ -802,6 +887,13 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
     // Event logging to database
     protected boolean enableDatabaseEventLogging;
+
+    /**
+     * When set, the event log entries are appended to this file instead of being inserted into the ACT_EVT_LOG table,
+     * independent of {@link #enableDatabaseEventLogging}. The entries can be loaded into the table in the background
+     * with an {@link org.flowable.engine.impl.event.logger.file.EventLogFileLoader}. The file is closed when the engine is closed.
+     */
+    protected EventLogFile eventLogFile;
     protected boolean enableHistoricTaskLogging;
 
     /**
@@ -875,6 +967,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         initConfigurators();
         configuratorsBeforeInit();
         initClock();
+        initQueryCountCache();
         initObjectMapper();
         initProcessDiagramGenerator();
         initCommandContextFactory();
@@ -961,6 +1054,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         initAsyncTaskInvoker();
         initAsyncExecutor();
         initAsyncHistoryExecutor();
+        initDeploymentParsingExecutor();
 
         configuratorsAfterInit();
         afterInitTaskServiceConfiguration();
@@ -1323,6 +1417,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
         this.variableServiceConfiguration.setMaxLengthString(this.getMaxLengthString());
         this.variableServiceConfiguration.setSerializableVariableTypeTrackDeserializedObjects(this.isSerializableVariableTypeTrackDeserializedObjects());
+        this.variableServiceConfiguration.setTrackedVariableFingerprints(this.isTrackedVariableFingerprints());
         this.variableServiceConfiguration.setLoggingSessionEnabled(isLoggingSessionEnabled());
         this.variableServiceConfiguration.setConfigurators(variableServiceConfigurators);
     }
@@ -1347,6 +1442,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         this.identityLinkServiceConfiguration.setObjectMapper(this.objectMapper);
         this.identityLinkServiceConfiguration.setEventDispatcher(this.eventDispatcher);
         this.identityLinkServiceConfiguration.setIdentityLinkEventHandler(this.identityLinkEventHandler);
+        this.identityLinkServiceConfiguration.setEnableTaskCandidateIndex(this.performanceSettings.isEnableTaskCandidateIndex());
 
         this.identityLinkServiceConfiguration.setConfigurators(this.identityLinkServiceConfigurators);
         this.identityLinkServiceConfiguration.init();
@@ -1435,6 +1531,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
         this.taskServiceConfiguration.setEnableTaskRelationshipCounts(this.performanceSettings.isEnableTaskRelationshipCounts());
         this.taskServiceConfiguration.setEnableLocalization(this.performanceSettings.isEnableLocalization());
+        this.taskServiceConfiguration.setEnableTaskCandidateIndex(this.performanceSettings.isEnableTaskCandidateIndex());
         this.taskServiceConfiguration.setTaskQueryInterceptor(this.taskQueryInterceptor);
         this.taskServiceConfiguration.setHistoricTaskQueryInterceptor(this.historicTaskQueryInterceptor);
         
@@ -1623,11 +1720,14 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
     public void initProcessDefinitionInfoCache() {
         if (processDefinitionInfoCache == null) {
+            ProcessDefinitionInfoCache infoCache;
             if (processDefinitionInfoCacheLimit <= 0) {
-                processDefinitionInfoCache = new ProcessDefinitionInfoCache(commandExecutor);
+                infoCache = new ProcessDefinitionInfoCache(commandExecutor);
             } else {
-                processDefinitionInfoCache = new ProcessDefinitionInfoCache(commandExecutor, processDefinitionInfoCacheLimit);
+                infoCache = new ProcessDefinitionInfoCache(commandExecutor, processDefinitionInfoCacheLimit);
             }
+            infoCache.setChangeCheckInterval(processDefinitionInfoCacheChangeCheckInterval);
+            processDefinitionInfoCache = infoCache;
         }
     }
 
@@ -1674,6 +1774,10 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             deploymentManager.setProcessEngineConfiguration(this);
             deploymentManager.setProcessDefinitionEntityManager(processDefinitionEntityManager);
             deploymentManager.setDeploymentEntityManager(deploymentEntityManager);
+            if (enableLatestDefinitionIndex) {
+                deploymentManager.setLatestProcessDefinitionIndex(new LatestDefinitionIndex(this, DeploymentManager.LATEST_DEFINITION_REVISION_PROPERTY,
+                        processDefinitionCacheLimit));
+            }
         }
 
         if (appResourceConverter == null) {
@@ -1931,6 +2035,12 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         ParallelMultiInstanceWithNoWaitStatesAsyncLeaveJobHandler parallelMultiInstanceWithNoWaitStateCompletionJobHandler = new ParallelMultiInstanceWithNoWaitStatesAsyncLeaveJobHandler();
         jobHandlers.put(parallelMultiInstanceWithNoWaitStateCompletionJobHandler.getType(), parallelMultiInstanceWithNoWaitStateCompletionJobHandler);
 
+        ParallelMultiInstanceCreateInstancesJobHandler parallelMultiInstanceCreateInstancesJobHandler = new ParallelMultiInstanceCreateInstancesJobHandler();
+        jobHandlers.put(parallelMultiInstanceCreateInstancesJobHandler.getType(), parallelMultiInstanceCreateInstancesJobHandler);
+
+        ParkedFutureTimeoutJobHandler parkedFutureTimeoutJobHandler = new ParkedFutureTimeoutJobHandler();
+        jobHandlers.put(parkedFutureTimeoutJobHandler.getType(), parkedFutureTimeoutJobHandler);
+
         ComputeDeleteHistoricProcessInstanceIdsJobHandler computeDeleteHistoricProcessInstanceIdsJobHandler = new ComputeDeleteHistoricProcessInstanceIdsJobHandler();
         jobHandlers.put(computeDeleteHistoricProcessInstanceIdsJobHandler.getType(), computeDeleteHistoricProcessInstanceIdsJobHandler);
 
@@ -2003,6 +2113,16 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         }
     }
 
+    protected void initDeploymentParsingExecutor() {
+        if (enableParallelDeploymentParsing && deploymentParsingExecutor == null && deploymentParsingPoolSize > 1) {
+            deploymentParsingExecutor = Executors.newFixedThreadPool(deploymentParsingPoolSize, new BasicThreadFactory.Builder()
+                    .namingPattern("flowable-deployment-parsing-%d")
+                    .daemon(true)
+                    .build());
+            shutdownDeploymentParsingExecutor = true;
+        }
+    }
+
     public void initAsyncExecutor() {
         initAsyncTaskExecutor();
         if (asyncExecutor == null) {
@@ -2172,14 +2292,14 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             variableTypes.addType(new JodaDateTimeType());
             variableTypes.addType(new DoubleType());
             variableTypes.addType(new UUIDType());
-            variableTypes.addType(new JsonType(getMaxLengthString(), objectMapper, jsonVariableTypeTrackObjects));
+            variableTypes.addType(configureJsonType(new JsonType(getMaxLengthString(), objectMapper, jsonVariableTypeTrackObjects)));
             // longJsonType only needed for reading purposes
-            variableTypes.addType(JsonType.longJsonType(getMaxLengthString(), objectMapper, jsonVariableTypeTrackObjects));
+            variableTypes.addType(configureJsonType(JsonType.longJsonType(getMaxLengthString(), objectMapper, jsonVariableTypeTrackObjects)));
             variableTypes.addType(new ParallelMultiInstanceLoopVariableType(this));
             variableTypes.addType(new BpmnAggregatedVariableType(this));
             variableTypes.addType(new ByteArrayType());
             variableTypes.addType(new EmptyCollectionType());
-            variableTypes.addType(new SerializableType(serializableVariableTypeTrackDeserializedObjects));
+            variableTypes.addType(configureSerializableType(new SerializableType(serializableVariableTypeTrackDeserializedObjects)));
 
         } else {
             if (customPreVariableTypes != null) {
@@ -2213,6 +2333,17 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         }
     }
 
+    protected JsonType configureJsonType(JsonType jsonType) {
+        jsonType.setBinaryObjectMapper(jsonVariableTypeBinaryObjectMapper);
+        jsonType.setCompressionThreshold(jsonVariableTypeCompressionThreshold);
+        return jsonType;
+    }
+
+    protected SerializableType configureSerializableType(SerializableType serializableType) {
+        serializableType.setCodecs(serializableVariableTypeCodecs);
+        return serializableType;
+    }
+
     public void initFormEngines() {
         if (formEngines == null) {
             formEngines = new HashMap<>();
@@ -2488,7 +2619,10 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     }
 
     public void initDatabaseEventLogging() {
-        if (enableDatabaseEventLogging) {
+        if (eventLogFile != null) {
+            getEventDispatcher().addEventListener(new EventLogFileLogger(clock, objectMapper, eventLogFile));
+
+        } else if (enableDatabaseEventLogging) {
             // Database event logging uses the default logging mechanism and adds
             // a specific event listener to the list of event listeners
             getEventDispatcher().addEventListener(new EventLogger(clock, objectMapper));
@@ -2563,7 +2697,16 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             asyncTaskInvokerTaskExecutor.shutdown();
         }
 
+        if (deploymentParsingExecutor != null && shutdownDeploymentParsingExecutor) {
+            // Only shutdown if it was created by this configuration
+            deploymentParsingExecutor.shutdown();
+        }
+
         httpClientConfig.close();
+
+        if (eventLogFile != null) {
+            eventLogFile.close();
+        }
     }
 
 
@@ -3176,6 +3319,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         this.serializableVariableTypeTrackDeserializedObjects = serializableVariableTypeTrackDeserializedObjects;
     }
 
+    public List<SerializableVariableCodec> getSerializableVariableTypeCodecs() {
+        return serializableVariableTypeCodecs;
+    }
+
+    public ProcessEngineConfigurationImpl setSerializableVariableTypeCodecs(List<SerializableVariableCodec> serializableVariableTypeCodecs) {
+        this.serializableVariableTypeCodecs = serializableVariableTypeCodecs;
+        return this;
+    }
+
     public boolean isJsonVariableTypeTrackObjects() {
         return jsonVariableTypeTrackObjects;
     }
@@ -3185,6 +3337,33 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isTrackedVariableFingerprints() {
+        return trackedVariableFingerprints;
+    }
+
+    public ProcessEngineConfigurationImpl setTrackedVariableFingerprints(boolean trackedVariableFingerprints) {
+        this.trackedVariableFingerprints = trackedVariableFingerprints;
+        return this;
+    }
+
+    public ObjectMapper getJsonVariableTypeBinaryObjectMapper() {
+        return jsonVariableTypeBinaryObjectMapper;
+    }
+
+    public ProcessEngineConfigurationImpl setJsonVariableTypeBinaryObjectMapper(ObjectMapper jsonVariableTypeBinaryObjectMapper) {
+        this.jsonVariableTypeBinaryObjectMapper = jsonVariableTypeBinaryObjectMapper;
+        return this;
+    }
+
+    public int getJsonVariableTypeCompressionThreshold() {
+        return jsonVariableTypeCompressionThreshold;
+    }
+
+    public ProcessEngineConfigurationImpl setJsonVariableTypeCompressionThreshold(int jsonVariableTypeCompressionThreshold) {
+        this.jsonVariableTypeCompressionThreshold = jsonVariableTypeCompressionThreshold;
+        return this;
+    }
+
     public boolean isParallelMultiInstanceAsyncLeave() {
         return parallelMultiInstanceAsyncLeave;
     }
@@ -3194,6 +3373,33 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public int getParallelMultiInstanceCreationChunkSize() {
+        return parallelMultiInstanceCreationChunkSize;
+    }
+
+    public ProcessEngineConfigurationImpl setParallelMultiInstanceCreationChunkSize(int parallelMultiInstanceCreationChunkSize) {
+        this.parallelMultiInstanceCreationChunkSize = parallelMultiInstanceCreationChunkSize;
+        return this;
+    }
+
+    public boolean isParkFutureJavaDelegates() {
+        return parkFutureJavaDelegates;
+    }
+
+    public ProcessEngineConfigurationImpl setParkFutureJavaDelegates(boolean parkFutureJavaDelegates) {
+        this.parkFutureJavaDelegates = parkFutureJavaDelegates;
+        return this;
+    }
+
+    public Duration getParkedFutureTimeout() {
+        return parkedFutureTimeout;
+    }
+
+    public ProcessEngineConfigurationImpl setParkedFutureTimeout(Duration parkedFutureTimeout) {
+        this.parkedFutureTimeout = parkedFutureTimeout;
+        return this;
+    }
+
     public Collection<ELResolver> getPreDefaultELResolvers() {
         return preDefaultELResolvers;
     }
@@ -3750,6 +3956,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return processDefinitionInfoCache;
     }
 
+    public Duration getProcessDefinitionInfoCacheChangeCheckInterval() {
+        return processDefinitionInfoCacheChangeCheckInterval;
+    }
+
+    public ProcessEngineConfigurationImpl setProcessDefinitionInfoCacheChangeCheckInterval(Duration processDefinitionInfoCacheChangeCheckInterval) {
+        this.processDefinitionInfoCacheChangeCheckInterval = processDefinitionInfoCacheChangeCheckInterval;
+        return this;
+    }
+
     public int getKnowledgeBaseCacheLimit() {
         return knowledgeBaseCacheLimit;
     }
@@ -3804,6 +4019,33 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isEnableParallelDeploymentParsing() {
+        return enableParallelDeploymentParsing;
+    }
+
+    public ProcessEngineConfigurationImpl setEnableParallelDeploymentParsing(boolean enableParallelDeploymentParsing) {
+        this.enableParallelDeploymentParsing = enableParallelDeploymentParsing;
+        return this;
+    }
+
+    public ExecutorService getDeploymentParsingExecutor() {
+        return deploymentParsingExecutor;
+    }
+
+    public ProcessEngineConfigurationImpl setDeploymentParsingExecutor(ExecutorService deploymentParsingExecutor) {
+        this.deploymentParsingExecutor = deploymentParsingExecutor;
+        return this;
+    }
+
+    public int getDeploymentParsingPoolSize() {
+        return deploymentParsingPoolSize;
+    }
+
+    public ProcessEngineConfigurationImpl setDeploymentParsingPoolSize(int deploymentParsingPoolSize) {
+        this.deploymentParsingPoolSize = deploymentParsingPoolSize;
+        return this;
+    }
+
     @Override
     public ProcessEngineConfigurationImpl setEventDispatcher(FlowableEventDispatcher eventDispatcher) {
         this.eventDispatcher = eventDispatcher;
@@ -3935,6 +4177,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public EventLogFile getEventLogFile() {
+        return eventLogFile;
+    }
+
+    public ProcessEngineConfigurationImpl setEventLogFile(EventLogFile eventLogFile) {
+        this.eventLogFile = eventLogFile;
+        return this;
+    }
+
     public boolean isEnableHistoricTaskLogging() {
         return enableHistoricTaskLogging;
     }
@@ -3987,6 +4238,16 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public ProcessEngineConfigurationImpl setEnableTaskCandidateIndex(boolean enableTaskCandidateIndex) {
+        this.performanceSettings.setEnableTaskCandidateIndex(enableTaskCandidateIndex);
+        return this;
+    }
+
+    public ProcessEngineConfigurationImpl setEnableParallelGatewayJoinCounts(boolean enableParallelGatewayJoinCounts) {
+        this.performanceSettings.setEnableParallelGatewayJoinCounts(enableParallelGatewayJoinCounts);
+        return this;
+    }
+
     public AttachmentDataManager getAttachmentDataManager() {
         return attachmentDataManager;
     }
@@ -109,6 +109,7 @@ public class ChangeDeploymentTenantIdCmd implements Command<Void>, Serializable
         processEngineConfiguration.getEventSubscriptionServiceConfiguration().getEventSubscriptionService().updateEventSubscriptionTenantId(oldTenantId, newTenantId);
 
         deploymentMergeStrategy.finalizeMerge(commandContext, deploymentId, newTenantId);
+        processEngineConfiguration.getDeploymentManager().latestProcessDefinitionsChanged();
 
         // Doing process definitions in memory, cause we need to clear the process definition cache
         List<ProcessDefinition> processDefinitions = new ProcessDefinitionQueryImpl().deploymentId(deploymentId).list();
@@ -0,0 +1,73 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.cmd;
+
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.delegate.DelegateExecution;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.job.service.TimerJobService;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Delivers the result of the future of a parked execution.
+ * The result is ignored when the timeout job of the execution no longer exists or already failed, since the execution then timed out or was removed.
+ *
+ * @see org.flowable.engine.impl.util.ParkedFutureUtil
+ */
+public class CompleteParkedFutureCmd implements Command<Void> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CompleteParkedFutureCmd.class);
+
+    protected String timeoutJobId;
+    protected String executionId;
+    protected Object value;
+    protected Throwable throwable;
+    protected Function<DelegateExecution, BiConsumer<Object, Throwable>> completeActionFactory;
+
+    public CompleteParkedFutureCmd(String timeoutJobId, String executionId, Object value, Throwable throwable,
+            Function<DelegateExecution, BiConsumer<Object, Throwable>> completeActionFactory) {
+        this.timeoutJobId = timeoutJobId;
+        this.executionId = executionId;
+        this.value = value;
+        this.throwable = throwable;
+        this.completeActionFactory = completeActionFactory;
+    }
+
+    @Override
+    public Void execute(CommandContext commandContext) {
+        TimerJobService timerJobService = CommandContextUtil.getTimerJobService(commandContext);
+        TimerJobEntity timeoutJob = timerJobService.findTimerJobById(timeoutJobId);
+        if (timeoutJob == null || timeoutJob.getExceptionMessage() != null) {
+            LOGGER.debug("Parked execution {} timed out or was removed, ignoring the result of its future", executionId);
+            return null;
+        }
+
+        ExecutionEntity execution = CommandContextUtil.getExecutionEntityManager(commandContext).findById(executionId);
+        if (execution == null) {
+            LOGGER.debug("Parked execution {} does not exist anymore, ignoring the result of its future", executionId);
+            return null;
+        }
+
+        timerJobService.deleteTimerJob(timeoutJob);
+        completeActionFactory.apply(execution).accept(value, throwable);
+        return null;
+    }
+
+}
@@ -0,0 +1,62 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.cmd;
+
+import org.apache.commons.lang3.StringUtils;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.impl.util.ParkedFutureUtil;
+import org.flowable.job.service.TimerJobService;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
+
+/**
+ * Replaces the timeout job of a parked execution with a job that is due right away, when the result of its future could not be delivered.
+ * The job then fails the execution with the given failure message, and keeps the retries of the timeout job.
+ *
+ * @see org.flowable.engine.impl.util.ParkedFutureUtil
+ */
+public class FailParkedFutureCmd implements Command<Void> {
+
+    protected static final int MAX_FAILURE_MESSAGE_LENGTH = 2000;
+
+    protected String timeoutJobId;
+    protected String failureMessage;
+
+    public FailParkedFutureCmd(String timeoutJobId, String failureMessage) {
+        this.timeoutJobId = timeoutJobId;
+        this.failureMessage = failureMessage;
+    }
+
+    @Override
+    public Void execute(CommandContext commandContext) {
+        TimerJobService timerJobService = CommandContextUtil.getTimerJobService(commandContext);
+        TimerJobEntity timeoutJob = timerJobService.findTimerJobById(timeoutJobId);
+        if (timeoutJob == null) {
+            return null;
+        }
+
+        ExecutionEntity execution = CommandContextUtil.getExecutionEntityManager(commandContext).findById(timeoutJob.getExecutionId());
+        if (execution != null) {
+            ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+            timerJobService.deleteTimerJob(timeoutJob);
+            ParkedFutureUtil.createTimeoutJob(execution, processEngineConfiguration.getClock().getCurrentTime(),
+                    StringUtils.abbreviate(failureMessage != null ? failureMessage : "unknown failure", MAX_FAILURE_MESSAGE_LENGTH),
+                    timeoutJob.getRetries(), processEngineConfiguration);
+        }
+        return null;
+    }
+
+}
@@ -0,0 +1,104 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.cmd;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.runtime.ProcessInstanceBulkStartBuilderImpl.BulkStartItem;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.impl.util.ProcessInstanceHelper;
+import org.flowable.engine.repository.ProcessDefinition;
+import org.flowable.engine.runtime.ProcessInstance;
+
+/**
+ * Starts a batch of process instances of the same process definition in one transaction, as part of a bulk start.
+ * <p>
+ * The process definition is looked up by key only for the first batch, the next batches get the resolved id.
+ * When a start fails, {@link #getFailedItemIndex()} tells which item of the batch failed,
+ * so that the batch can be retried without it.
+ */
+public class StartProcessInstanceBatchCmd implements Command<List<String>> {
+
+    protected String processDefinitionKey;
+    protected String processDefinitionId;
+    protected String tenantId;
+    protected boolean fallbackToDefaultTenant;
+    protected String overrideDefinitionTenantId;
+    protected List<BulkStartItem> items;
+
+    protected int currentItemIndex = -1;
+
+    public StartProcessInstanceBatchCmd(String processDefinitionKey, String processDefinitionId, String tenantId, boolean fallbackToDefaultTenant,
+            String overrideDefinitionTenantId, List<BulkStartItem> items) {
+
+        this.processDefinitionKey = processDefinitionKey;
+        this.processDefinitionId = processDefinitionId;
+        this.tenantId = tenantId;
+        this.fallbackToDefaultTenant = fallbackToDefaultTenant;
+        this.overrideDefinitionTenantId = overrideDefinitionTenantId;
+        this.items = items;
+    }
+
+    @Override
+    public List<String> execute(CommandContext commandContext) {
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        ProcessDefinition processDefinition = getProcessDefinition(processEngineConfiguration, commandContext);
+
+        ProcessInstanceHelper processInstanceHelper = processEngineConfiguration.getProcessInstanceHelper();
+        List<String> processInstanceIds = new ArrayList<>(items.size());
+        for (currentItemIndex = 0; currentItemIndex < items.size(); currentItemIndex++) {
+            BulkStartItem item = items.get(currentItemIndex);
+            ProcessInstance processInstance = processInstanceHelper.createProcessInstance(processDefinition, item.getBusinessKey(), null, null,
+                    null, overrideDefinitionTenantId, null, item.getVariables(), null, null, null, null, null, null, null, null, true);
+            processInstanceIds.add(processInstance.getId());
+        }
+
+        return processInstanceIds;
+    }
+
+    protected ProcessDefinition getProcessDefinition(ProcessEngineConfigurationImpl processEngineConfiguration, CommandContext commandContext) {
+        // The definition is resolved exactly like for a single start, including the fallback to the default tenant
+        StartProcessInstanceCmd<ProcessInstance> startProcessInstanceCmd = new StartProcessInstanceCmd<>(processDefinitionId == null ? processDefinitionKey : null,
+                processDefinitionId, null, null, tenantId);
+        startProcessInstanceCmd.fallbackToDefaultTenant = fallbackToDefaultTenant;
+        startProcessInstanceCmd.overrideDefinitionTenantId = overrideDefinitionTenantId;
+
+        ProcessDefinition processDefinition = startProcessInstanceCmd.getProcessDefinition(processEngineConfiguration, commandContext);
+        processDefinitionId = processDefinition.getId();
+        overrideDefinitionTenantId = startProcessInstanceCmd.overrideDefinitionTenantId;
+        return processDefinition;
+    }
+
+    /**
+     * The id of the process definition, resolved from the key by the first batch.
+     */
+    public String getProcessDefinitionId() {
+        return processDefinitionId;
+    }
+
+    public String getOverrideDefinitionTenantId() {
+        return overrideDefinitionTenantId;
+    }
+
+    /**
+     * The index of the item whose start failed, equal to the number of items when all starts succeeded but the transaction failed,
+     * or -1 when the process definition could not be resolved.
+     */
+    public int getFailedItemIndex() {
+        return currentItemIndex;
+    }
+}
@@ -284,7 +284,7 @@ public class StartProcessInstanceCmd<T> implements Command<ProcessInstance>, Ser
             }
 
             if (processDefinition == null) {
-                processDefinition = processDefinitionEntityManager.findLatestProcessDefinitionByKey(processDefinitionKey);
+                processDefinition = deploymentCache.resolveLatestProcessDefinition(processDefinitionKey, null);
             }
 
             if (processDefinition == null) {
@@ -299,20 +299,20 @@ public class StartProcessInstanceCmd<T> implements Command<ProcessInstance>, Ser
             }
 
             if (processDefinition == null) {
-                processDefinition = processDefinitionEntityManager.findLatestProcessDefinitionByKeyAndTenantId(processDefinitionKey, tenantId);
+                processDefinition = deploymentCache.resolveLatestProcessDefinition(processDefinitionKey, tenantId);
             }
 
             if (processDefinition == null) {
                 if (fallbackToDefaultTenant || processEngineConfiguration.isFallbackToDefaultTenant()) {
                     String defaultTenant = processEngineConfiguration.getDefaultTenantProvider().getDefaultTenant(tenantId, ScopeTypes.BPMN, processDefinitionKey);
                     if (StringUtils.isNotEmpty(defaultTenant)) {
-                        processDefinition = processDefinitionEntityManager.findLatestProcessDefinitionByKeyAndTenantId(processDefinitionKey, defaultTenant);
+                        processDefinition = deploymentCache.resolveLatestProcessDefinition(processDefinitionKey, defaultTenant);
                         if (processDefinition != null) {
                             overrideDefinitionTenantId = tenantId;
                         }
                         
                     } else {
-                        processDefinition = processDefinitionEntityManager.findLatestProcessDefinitionByKey(processDefinitionKey);
+                        processDefinition = deploymentCache.resolveLatestProcessDefinition(processDefinitionKey, null);
                     }
                     
                     if (processDefinition == null) {
@@ -435,6 +435,14 @@ public abstract class AbstractDynamicStateManager {
         ExecutionEntity processInstanceExecution = executionEntityManager.findById(processInstanceChangeState.getProcessInstanceId());
         processInstanceExecution.setVariables(processInstanceChangeState.getProcessInstanceVariables());
 
+        if (CommandContextUtil.getProcessEngineConfiguration(commandContext).getPerformanceSettings().isEnableParallelGatewayJoinCounts()) {
+            // Executions can be moved into a waiting parallel gateway join without being counted, the counts are recalibrated on the next arrival
+            processInstanceExecution.setJoinCounts(null);
+            for (ExecutionEntity childExecution : executionEntityManager.findChildExecutionsByProcessInstanceId(processInstanceExecution.getId())) {
+                childExecution.setJoinCounts(null);
+            }
+        }
+
         for (MoveExecutionEntityContainer moveExecutionContainer : processInstanceChangeState.getMoveExecutionEntityContainers()) {
             prepareMoveExecutionEntityContainer(moveExecutionContainer, processInstanceChangeState.getProcessDefinitionToMigrateTo(), commandContext);
             // Action the moves (changeState)
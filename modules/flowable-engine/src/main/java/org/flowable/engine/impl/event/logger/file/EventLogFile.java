@@ -0,0 +1,461 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.event.logger.file;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.zip.CRC32;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.engine.event.EventLogEntry;
+import org.flowable.engine.impl.persistence.entity.EventLogEntryEntityImpl;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An append-only log of event log entries, stored in memory-mapped segment files in a directory.
+ * <p>
+ * Each segment file is named after the log number of its first entry. An entry is stored as a record with its length,
+ * a CRC32 checksum and the entry fields. When the log is opened again, the last segment is scanned and a record that was only partially
+ * written (e.g. because of a crash) is discarded.
+ * <p>
+ * Entries are appended per transaction with {@link #append(Collection)}. When {@link #isForceOnAppend()} is true (the default),
+ * the appended entries are forced to the storage device before the method returns. Transactions that append at the same time share one force
+ * of the segment (group commit), so the number of forces does not grow with the number of concurrent transactions.
+ * <p>
+ * The log is read with an {@link EventLogFileReader}, which can both replay the stored entries and tail the newly appended ones.
+ * Old segments are removed with {@link #setMaxSegments(int)} or {@link #deleteSegmentsBefore(long)}.
+ */
+public class EventLogFile implements Closeable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EventLogFile.class);
+
+    public static final String SEGMENT_FILE_SUFFIX = ".evtlog";
+
+    public static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+
+    // length + crc32
+    protected static final int RECORD_HEADER_SIZE = 8;
+
+    protected final Path directory;
+    protected final int segmentSize;
+    protected boolean forceOnAppend = true;
+    protected int maxSegments = -1;
+
+    // First log number -> segment file, readers use this to find the segments
+    protected final NavigableMap<Long, Path> segmentFiles = new ConcurrentSkipListMap<>();
+
+    protected final Object appendLock = new Object();
+    protected final Object forceLock = new Object();
+
+    // Guarded by appendLock
+    protected Segment currentSegment;
+    protected long nextLogNumber = 1;
+
+    // Guarded by forceLock
+    protected long lastForcedLogNumber;
+
+    protected volatile long lastAppendedLogNumber;
+    protected volatile boolean closed;
+
+    public EventLogFile(Path directory) {
+        this(directory, DEFAULT_SEGMENT_SIZE);
+    }
+
+    public EventLogFile(Path directory, int segmentSize) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        open();
+    }
+
+    protected void open() {
+        try {
+            Files.createDirectories(directory);
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + SEGMENT_FILE_SUFFIX)) {
+                for (Path segmentFile : stream) {
+                    segmentFiles.put(getFirstLogNumber(segmentFile), segmentFile);
+                }
+            }
+
+            if (!segmentFiles.isEmpty()) {
+                Map.Entry<Long, Path> lastSegmentFile = segmentFiles.lastEntry();
+                currentSegment = Segment.open(lastSegmentFile.getValue(), lastSegmentFile.getKey());
+                nextLogNumber = currentSegment.recover();
+                lastAppendedLogNumber = nextLogNumber - 1;
+                lastForcedLogNumber = lastAppendedLogNumber;
+            }
+
+        } catch (IOException e) {
+            throw new FlowableException("Could not open event log file in " + directory, e);
+        }
+    }
+
+    /**
+     * Appends the entries of one transaction. The entries get consecutive log numbers.
+     *
+     * @return the log number of the last appended entry
+     */
+    public long append(Collection<? extends EventLogEntry> entries) {
+        if (entries.isEmpty()) {
+            return lastAppendedLogNumber;
+        }
+
+        long lastLogNumber;
+        synchronized (appendLock) {
+            if (closed) {
+                throw new FlowableException("Event log file in " + directory + " is closed");
+            }
+
+            try {
+                for (EventLogEntry entry : entries) {
+                    byte[] record = encode(nextLogNumber, entry);
+                    if (currentSegment == null || currentSegment.remaining() < record.length) {
+                        rollSegment(record.length);
+                    }
+                    currentSegment.write(record);
+                    nextLogNumber++;
+                }
+            } catch (IOException e) {
+                throw new FlowableException("Could not append to event log file in " + directory, e);
+            }
+
+            lastLogNumber = nextLogNumber - 1;
+            lastAppendedLogNumber = lastLogNumber;
+        }
+
+        if (forceOnAppend) {
+            force(lastLogNumber);
+        }
+        return lastLogNumber;
+    }
+
+    protected void force(long logNumber) {
+        synchronized (forceLock) {
+            // Another transaction might have forced this entry already
+            if (lastForcedLogNumber >= logNumber) {
+                return;
+            }
+
+            long appendedLogNumber;
+            Segment segment;
+            synchronized (appendLock) {
+                appendedLogNumber = nextLogNumber - 1;
+                segment = currentSegment;
+            }
+
+            // Previous segments are forced when they are rolled over
+            segment.force();
+            lastForcedLogNumber = appendedLogNumber;
+        }
+    }
+
+    protected void rollSegment(int recordLength) throws IOException {
+        if (currentSegment != null) {
+            currentSegment.force();
+            currentSegment.close();
+        }
+
+        Path segmentFile = directory.resolve(getSegmentFileName(nextLogNumber));
+        currentSegment = Segment.create(segmentFile, nextLogNumber, Math.max(segmentSize, recordLength));
+        segmentFiles.put(nextLogNumber, segmentFile);
+
+        if (maxSegments > 0) {
+            while (segmentFiles.size() > maxSegments) {
+                deleteSegment(segmentFiles.firstKey());
+            }
+        }
+    }
+
+    /**
+     * Deletes the segments that only contain entries with a log number lower than the given log number.
+     * The segment that is currently appended to is never deleted.
+     */
+    public void deleteSegmentsBefore(long logNumber) {
+        synchronized (appendLock) {
+            Map.Entry<Long, Path> firstSegmentFile = segmentFiles.firstEntry();
+            while (firstSegmentFile != null) {
+                Long nextFirstLogNumber = segmentFiles.higherKey(firstSegmentFile.getKey());
+                if (nextFirstLogNumber == null || nextFirstLogNumber > logNumber) {
+                    break;
+                }
+                deleteSegment(firstSegmentFile.getKey());
+                firstSegmentFile = segmentFiles.firstEntry();
+            }
+        }
+    }
+
+    protected void deleteSegment(long firstLogNumber) {
+        Path segmentFile = segmentFiles.remove(firstLogNumber);
+        try {
+            Files.deleteIfExists(segmentFile);
+        } catch (IOException e) {
+            LOGGER.warn("Could not delete event log segment {}", segmentFile, e);
+        }
+    }
+
+    public EventLogFileReader createReader(long fromLogNumber) {
+        return new EventLogFileReader(this, fromLogNumber);
+    }
+
+    @Override
+    public void close() {
+        synchronized (appendLock) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (currentSegment != null) {
+                currentSegment.force();
+                currentSegment.close();
+            }
+        }
+    }
+
+    protected byte[] encode(long logNumber, EventLogEntry entry) {
+        byte[] type = toBytes(entry.getType());
+        byte[] processDefinitionId = toBytes(entry.getProcessDefinitionId());
+        byte[] processInstanceId = toBytes(entry.getProcessInstanceId());
+        byte[] executionId = toBytes(entry.getExecutionId());
+        byte[] taskId = toBytes(entry.getTaskId());
+        byte[] userId = toBytes(entry.getUserId());
+        byte[] data = entry.getData();
+
+        int bodyLength = 8 + 8 + 7 * 4 + length(type) + length(processDefinitionId) + length(processInstanceId) + length(executionId)
+                + length(taskId) + length(userId) + length(data);
+        ByteBuffer buffer = ByteBuffer.allocate(RECORD_HEADER_SIZE + bodyLength);
+        buffer.putInt(bodyLength);
+        buffer.putInt(0); // crc32, set below
+        buffer.putLong(logNumber);
+        buffer.putLong(entry.getTimeStamp() != null ? entry.getTimeStamp().getTime() : Long.MIN_VALUE);
+        putBytes(buffer, type);
+        putBytes(buffer, processDefinitionId);
+        putBytes(buffer, processInstanceId);
+        putBytes(buffer, executionId);
+        putBytes(buffer, taskId);
+        putBytes(buffer, userId);
+        putBytes(buffer, data);
+
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), RECORD_HEADER_SIZE, bodyLength);
+        buffer.putInt(4, (int) crc.getValue());
+        return buffer.array();
+    }
+
+    /**
+     * Reads the record at the position of the buffer and moves the position after it.
+     *
+     * @return the entry, or null when there is no (complete) record at the position
+     */
+    protected static EventLogEntryEntityImpl decode(ByteBuffer buffer) {
+        if (buffer.remaining() < RECORD_HEADER_SIZE) {
+            return null;
+        }
+
+        int start = buffer.position();
+        int bodyLength = buffer.getInt(start);
+        if (bodyLength <= 0 || bodyLength > buffer.remaining() - RECORD_HEADER_SIZE) {
+            return null;
+        }
+
+        int crcValue = buffer.getInt(start + 4);
+        ByteBuffer body = buffer.duplicate();
+        body.position(start + RECORD_HEADER_SIZE).limit(start + RECORD_HEADER_SIZE + bodyLength);
+        CRC32 crc = new CRC32();
+        crc.update(body.duplicate());
+        if ((int) crc.getValue() != crcValue) {
+            return null;
+        }
+
+        EventLogEntryEntityImpl entry = new EventLogEntryEntityImpl();
+        entry.setLogNumber(body.getLong());
+        long timeStamp = body.getLong();
+        entry.setTimeStamp(timeStamp != Long.MIN_VALUE ? new Date(timeStamp) : null);
+        entry.setType(toString(getBytes(body)));
+        entry.setProcessDefinitionId(toString(getBytes(body)));
+        entry.setProcessInstanceId(toString(getBytes(body)));
+        entry.setExecutionId(toString(getBytes(body)));
+        entry.setTaskId(toString(getBytes(body)));
+        entry.setUserId(toString(getBytes(body)));
+        entry.setData(getBytes(body));
+
+        buffer.position(start + RECORD_HEADER_SIZE + bodyLength);
+        return entry;
+    }
+
+    protected static byte[] toBytes(String value) {
+        return value != null ? value.getBytes(StandardCharsets.UTF_8) : null;
+    }
+
+    protected static String toString(byte[] bytes) {
+        return bytes != null ? new String(bytes, StandardCharsets.UTF_8) : null;
+    }
+
+    protected static int length(byte[] bytes) {
+        return bytes != null ? bytes.length : 0;
+    }
+
+    protected static void putBytes(ByteBuffer buffer, byte[] bytes) {
+        if (bytes == null) {
+            buffer.putInt(-1);
+        } else {
+            buffer.putInt(bytes.length);
+            buffer.put(bytes);
+        }
+    }
+
+    protected static byte[] getBytes(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    protected static String getSegmentFileName(long firstLogNumber) {
+        return String.format("%020d", firstLogNumber) + SEGMENT_FILE_SUFFIX;
+    }
+
+    protected static long getFirstLogNumber(Path segmentFile) {
+        String fileName = segmentFile.getFileName().toString();
+        return Long.parseLong(fileName.substring(0, fileName.length() - SEGMENT_FILE_SUFFIX.length()));
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    public int getSegmentSize() {
+        return segmentSize;
+    }
+
+    public long getLastAppendedLogNumber() {
+        return lastAppendedLogNumber;
+    }
+
+    public List<Path> getSegmentFiles() {
+        return List.copyOf(segmentFiles.values());
+    }
+
+    public boolean isForceOnAppend() {
+        return forceOnAppend;
+    }
+
+    /**
+     * Whether {@link #append(Collection)} forces the appended entries to the storage device before it returns.
+     * When false, the entries are written by the operating system at a moment of its choice, and can be lost when the machine crashes.
+     */
+    public void setForceOnAppend(boolean forceOnAppend) {
+        this.forceOnAppend = forceOnAppend;
+    }
+
+    public int getMaxSegments() {
+        return maxSegments;
+    }
+
+    /**
+     * The number of segments that are kept. The oldest segments are deleted when a new segment is started.
+     * A value of zero or lower (the default) keeps all segments.
+     */
+    public void setMaxSegments(int maxSegments) {
+        this.maxSegments = maxSegments;
+    }
+
+    /**
+     * One segment file, mapped in memory for appending.
+     */
+    protected static class Segment {
+
+        protected final Path file;
+        protected final long firstLogNumber;
+        protected final FileChannel channel;
+        protected final MappedByteBuffer buffer;
+
+        protected Segment(Path file, long firstLogNumber, FileChannel channel, MappedByteBuffer buffer) {
+            this.file = file;
+            this.firstLogNumber = firstLogNumber;
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+
+        protected static Segment create(Path file, long firstLogNumber, int size) throws IOException {
+            // An existing file with this name cannot contain any complete record, e.g. when the last segment was empty when the log was opened
+            FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE);
+            return new Segment(file, firstLogNumber, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, size));
+        }
+
+        protected static Segment open(Path file, long firstLogNumber) throws IOException {
+            FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            return new Segment(file, firstLogNumber, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size()));
+        }
+
+        /**
+         * Positions the buffer after the last complete record. A partially written record after it is overwritten by the next append,
+         * and is never read as its checksum does not match.
+         *
+         * @return the log number of the next entry
+         */
+        protected long recover() {
+            long nextLogNumber = firstLogNumber;
+            int position = buffer.position();
+            EventLogEntryEntityImpl entry = decode(buffer);
+            while (entry != null && entry.getLogNumber() == nextLogNumber) {
+                nextLogNumber++;
+                position = buffer.position();
+                entry = decode(buffer);
+            }
+
+            if (entry != null) {
+                LOGGER.warn("Discarding event log records after log number {} in {}", nextLogNumber - 1, file);
+            }
+            buffer.position(position);
+            return nextLogNumber;
+        }
+
+        protected int remaining() {
+            return buffer.remaining();
+        }
+
+        protected void write(byte[] record) {
+            buffer.put(record);
+        }
+
+        protected void force() {
+            buffer.force();
+        }
+
+        protected void close() {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                LOGGER.warn("Could not close event log segment {}", file, e);
+            }
+        }
+    }
+}
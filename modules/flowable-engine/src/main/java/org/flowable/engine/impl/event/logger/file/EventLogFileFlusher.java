@@ -0,0 +1,119 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.event.logger.file;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.flowable.common.engine.impl.cfg.TransactionContext;
+import org.flowable.common.engine.impl.cfg.TransactionState;
+import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.event.logger.AbstractEventFlusher;
+import org.flowable.engine.impl.event.logger.handler.EventLoggerEventHandler;
+import org.flowable.engine.impl.persistence.entity.EventLogEntryEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Appends the event log entries of a transaction to an {@link EventLogFile}, instead of inserting them into the database.
+ * <p>
+ * The entries are generated when the command context is closing, and appended in one group when the transaction is committed.
+ * The entries of a transaction that is rolled back are never appended. When appending the entries of a committed transaction fails,
+ * the entries are lost and counted in the given failed entry counter (see {@link EventLogFileLogger#getFailedEntryCount()}).
+ */
+public class EventLogFileFlusher extends AbstractEventFlusher {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EventLogFileFlusher.class);
+
+    protected final EventLogFile eventLogFile;
+    protected final AtomicLong failedEntryCounter;
+    protected List<EventLogEntryEntity> eventLogEntries;
+    protected boolean appendWhenClosed;
+
+    public EventLogFileFlusher(EventLogFile eventLogFile) {
+        this(eventLogFile, new AtomicLong());
+    }
+
+    public EventLogFileFlusher(EventLogFile eventLogFile, AtomicLong failedEntryCounter) {
+        this.eventLogFile = eventLogFile;
+        this.failedEntryCounter = failedEntryCounter;
+    }
+
+    @Override
+    public void closing(CommandContext commandContext) {
+
+        if (commandContext.getException() != null) {
+            return; // Not interested in events about exceptions
+        }
+
+        eventLogEntries = new ArrayList<>(eventHandlers.size());
+        for (EventLoggerEventHandler eventHandler : eventHandlers) {
+            try {
+                eventLogEntries.add(eventHandler.generateEventLogEntry(commandContext));
+            } catch (Exception e) {
+                LOGGER.warn("Could not create event log", e);
+            }
+        }
+
+        TransactionContext transactionContext = Context.getTransactionContext();
+        if (transactionContext != null) {
+            transactionContext.addTransactionListener(TransactionState.COMMITTED, committedCommandContext -> appendEventLogEntries());
+        } else {
+            appendWhenClosed = true;
+        }
+    }
+
+    @Override
+    public void closed(CommandContext commandContext) {
+        if (appendWhenClosed) {
+            appendEventLogEntries();
+        }
+    }
+
+    protected void appendEventLogEntries() {
+        try {
+            eventLogFile.append(eventLogEntries);
+        } catch (Exception e) {
+            // The transaction is committed already, so the entries are lost
+            long failedEntryCount = failedEntryCounter.addAndGet(eventLogEntries.size());
+            LOGGER.error("Could not append {} event log entries to {}, {} entries could not be appended in total",
+                    eventLogEntries.size(), eventLogFile.getDirectory(), failedEntryCount, e);
+        }
+    }
+
+    @Override
+    public void afterSessionsFlush(CommandContext commandContext) {
+
+    }
+
+    @Override
+    public void closeFailure(CommandContext commandContext) {
+
+    }
+
+    @Override
+    public Integer order() {
+        return 100;
+    }
+
+    @Override
+    public boolean multipleAllowed() {
+        return false;
+    }
+
+    public EventLogFile getEventLogFile() {
+        return eventLogFile;
+    }
+}
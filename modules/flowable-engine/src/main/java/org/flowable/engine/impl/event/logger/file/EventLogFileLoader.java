@@ -0,0 +1,165 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.event.logger.file;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.engine.event.EventLogEntry;
+import org.flowable.engine.impl.persistence.entity.EventLogEntryEntity;
+import org.flowable.engine.impl.persistence.entity.EventLogEntryEntityManager;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Loads the entries of an {@link EventLogFile} into the ACT_EVT_LOG table, so that they can be queried with the management service.
+ * <p>
+ * The loader is meant to be run periodically in the background, e.g. with a scheduled executor, so the inserts are not done by the transactions
+ * that produce the events. The entries are inserted in batches of {@link #setBatchSize(int) batch size} entries, one transaction per batch,
+ * which uses a bulk insert when the database supports it.
+ * <p>
+ * The log number of the last loaded entry is stored in a checkpoint file in the directory of the log, so a loader continues where the previous
+ * one stopped. The checkpoint is written after the transaction of a batch is committed: when the process stops in between,
+ * the entries of that batch are loaded again.
+ */
+public class EventLogFileLoader implements Runnable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EventLogFileLoader.class);
+
+    public static final String CHECKPOINT_FILE_NAME = "ACT_EVT_LOG.checkpoint";
+
+    protected final EventLogFile eventLogFile;
+    protected final CommandExecutor commandExecutor;
+    protected final Path checkpointFile;
+
+    protected int batchSize = 500;
+    protected boolean deleteLoadedSegments;
+
+    protected EventLogFileReader reader;
+
+    public EventLogFileLoader(EventLogFile eventLogFile, CommandExecutor commandExecutor) {
+        this.eventLogFile = eventLogFile;
+        this.commandExecutor = commandExecutor;
+        this.checkpointFile = eventLogFile.getDirectory().resolve(CHECKPOINT_FILE_NAME);
+    }
+
+    @Override
+    public void run() {
+        try {
+            loadAvailableEntries();
+        } catch (Exception e) {
+            LOGGER.warn("Could not load the event log entries of {}", eventLogFile.getDirectory(), e);
+        }
+    }
+
+    /**
+     * Loads the entries that were appended since the last load.
+     *
+     * @return the number of loaded entries
+     */
+    public synchronized int loadAvailableEntries() {
+        if (reader == null) {
+            reader = eventLogFile.createReader(readCheckpoint() + 1);
+        }
+
+        int loadedEntries = 0;
+        List<EventLogEntry> entries = reader.read(batchSize);
+        while (!entries.isEmpty()) {
+            try {
+                insertEntries(entries);
+            } catch (RuntimeException e) {
+                // The next load starts again from the checkpoint
+                reader = null;
+                throw e;
+            }
+
+            long lastLoadedLogNumber = entries.get(entries.size() - 1).getLogNumber();
+            writeCheckpoint(lastLoadedLogNumber);
+            if (deleteLoadedSegments) {
+                eventLogFile.deleteSegmentsBefore(lastLoadedLogNumber + 1);
+            }
+
+            loadedEntries += entries.size();
+            entries = reader.read(batchSize);
+        }
+        return loadedEntries;
+    }
+
+    protected void insertEntries(List<EventLogEntry> entries) {
+        commandExecutor.execute(commandContext -> {
+            EventLogEntryEntityManager eventLogEntryEntityManager = CommandContextUtil.getEventLogEntryEntityManager(commandContext);
+            for (EventLogEntry entry : entries) {
+                EventLogEntryEntity eventLogEntry = eventLogEntryEntityManager.create();
+                eventLogEntry.setType(entry.getType());
+                eventLogEntry.setProcessDefinitionId(entry.getProcessDefinitionId());
+                eventLogEntry.setProcessInstanceId(entry.getProcessInstanceId());
+                eventLogEntry.setExecutionId(entry.getExecutionId());
+                eventLogEntry.setTaskId(entry.getTaskId());
+                eventLogEntry.setTimeStamp(entry.getTimeStamp());
+                eventLogEntry.setUserId(entry.getUserId());
+                eventLogEntry.setData(entry.getData());
+                eventLogEntryEntityManager.insert(eventLogEntry, false);
+            }
+            return null;
+        });
+    }
+
+    protected long readCheckpoint() {
+        try {
+            if (Files.exists(checkpointFile)) {
+                return Long.parseLong(Files.readString(checkpointFile, StandardCharsets.UTF_8).trim());
+            }
+            return 0L;
+
+        } catch (IOException | NumberFormatException e) {
+            throw new FlowableException("Could not read event log checkpoint " + checkpointFile, e);
+        }
+    }
+
+    protected void writeCheckpoint(long logNumber) {
+        try {
+            Path tempFile = checkpointFile.resolveSibling(CHECKPOINT_FILE_NAME + ".tmp");
+            Files.writeString(tempFile, Long.toString(logNumber), StandardCharsets.UTF_8);
+            Files.move(tempFile, checkpointFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        } catch (IOException e) {
+            throw new FlowableException("Could not write event log checkpoint " + checkpointFile, e);
+        }
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public boolean isDeleteLoadedSegments() {
+        return deleteLoadedSegments;
+    }
+
+    /**
+     * Whether the segments of which all entries are loaded are deleted from the log.
+     */
+    public void setDeleteLoadedSegments(boolean deleteLoadedSegments) {
+        this.deleteLoadedSegments = deleteLoadedSegments;
+    }
+}
@@ -0,0 +1,55 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.event.logger.file;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.flowable.common.engine.impl.runtime.Clock;
+import org.flowable.engine.impl.event.logger.EventFlusher;
+import org.flowable.engine.impl.event.logger.EventLogger;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * An {@link EventLogger} that writes the event log entries to an {@link EventLogFile}.
+ */
+public class EventLogFileLogger extends EventLogger {
+
+    protected EventLogFile eventLogFile;
+    protected final AtomicLong failedEntryCounter = new AtomicLong();
+
+    public EventLogFileLogger(Clock clock, ObjectMapper objectMapper, EventLogFile eventLogFile) {
+        super(clock, objectMapper);
+        this.eventLogFile = eventLogFile;
+    }
+
+    @Override
+    protected EventFlusher createEventFlusher() {
+        return new EventLogFileFlusher(eventLogFile, failedEntryCounter);
+    }
+
+    /**
+     * Returns the number of event log entries of committed transactions that could not be appended to the event log file, and are lost.
+     */
+    public long getFailedEntryCount() {
+        return failedEntryCounter.get();
+    }
+
+    public EventLogFile getEventLogFile() {
+        return eventLogFile;
+    }
+
+    public void setEventLogFile(EventLogFile eventLogFile) {
+        this.eventLogFile = eventLogFile;
+    }
+}
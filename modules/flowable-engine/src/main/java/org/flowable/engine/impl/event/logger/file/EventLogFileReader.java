@@ -0,0 +1,118 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.event.logger.file;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.engine.event.EventLogEntry;
+import org.flowable.engine.impl.persistence.entity.EventLogEntryEntityImpl;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reads the entries of an {@link EventLogFile} in log number order, starting from a given log number.
+ * <p>
+ * A reader returns the entries that are appended at the moment of the {@link #read(int)} call, so calling it again later returns the entries
+ * that were appended in the meantime (tailing). When the segment with the next entry was deleted by the retention of the log,
+ * the reader continues with the oldest entry that is still available.
+ * <p>
+ * A reader is not thread safe.
+ */
+public class EventLogFileReader {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EventLogFileReader.class);
+
+    protected final EventLogFile eventLogFile;
+    protected long nextLogNumber;
+
+    protected long segmentFirstLogNumber;
+    protected MappedByteBuffer buffer;
+
+    public EventLogFileReader(EventLogFile eventLogFile, long fromLogNumber) {
+        this.eventLogFile = eventLogFile;
+        this.nextLogNumber = Math.max(fromLogNumber, 1);
+    }
+
+    /**
+     * Reads at most the given number of entries.
+     *
+     * @return the entries, or an empty list when no new entries were appended
+     */
+    public List<EventLogEntry> read(int maxEntries) {
+        List<EventLogEntry> entries = new ArrayList<>();
+        long lastAppendedLogNumber = eventLogFile.getLastAppendedLogNumber();
+        while (entries.size() < maxEntries && nextLogNumber <= lastAppendedLogNumber) {
+            if (buffer == null && !openSegment(eventLogFile.segmentFiles.floorEntry(nextLogNumber))) {
+                break;
+            }
+
+            EventLogEntryEntityImpl entry = EventLogFile.decode(buffer);
+            if (entry == null) {
+                // The end of the segment, the next entry is in the next segment
+                if (!openSegment(eventLogFile.segmentFiles.higherEntry(segmentFirstLogNumber))) {
+                    break;
+                }
+
+            } else if (entry.getLogNumber() >= nextLogNumber) {
+                entries.add(entry);
+                nextLogNumber = entry.getLogNumber() + 1;
+            }
+        }
+        return entries;
+    }
+
+    protected boolean openSegment(Map.Entry<Long, Path> segmentFile) {
+        if (segmentFile == null) {
+            // The segment of the next entry was deleted, continue with the oldest segment
+            segmentFile = eventLogFile.segmentFiles.firstEntry();
+            if (segmentFile == null || segmentFile.getKey() <= segmentFirstLogNumber) {
+                return false;
+            }
+        }
+
+        try (FileChannel channel = FileChannel.open(segmentFile.getValue(), StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            segmentFirstLogNumber = segmentFile.getKey();
+            if (segmentFirstLogNumber > nextLogNumber) {
+                LOGGER.debug("Event log entries {} to {} were deleted, continuing with {}", nextLogNumber, segmentFirstLogNumber - 1, segmentFirstLogNumber);
+                nextLogNumber = segmentFirstLogNumber;
+            }
+            return true;
+
+        } catch (NoSuchFileException e) {
+            // Deleted by the retention in the meantime, the next read continues with the segments that are left
+            buffer = null;
+            return false;
+
+        } catch (IOException e) {
+            throw new FlowableException("Could not read event log segment " + segmentFile.getValue(), e);
+        }
+    }
+
+    /**
+     * The log number of the entry that the next {@link #read(int)} starts with.
+     */
+    public long getNextLogNumber() {
+        return nextLogNumber;
+    }
+
+}
@@ -27,6 +27,8 @@ import org.flowable.bpmn.model.StartEvent;
 import org.flowable.common.engine.api.constant.ReferenceTypes;
 import org.flowable.common.engine.api.lock.LockManager;
 import org.flowable.common.engine.api.scope.ScopeTypes;
+import org.flowable.common.engine.impl.cfg.TransactionPropagation;
+import org.flowable.common.engine.impl.interceptor.CommandConfig;
 import org.flowable.engine.ProcessEngineConfiguration;
 import org.flowable.engine.RuntimeService;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
@@ -82,7 +84,16 @@ public class BpmnEventRegistryEventConsumer extends BaseEventRegistryEventConsum
         for (EventSubscription eventSubscription : eventSubscriptions) {
             EventConsumerInfo eventConsumerInfo = new EventConsumerInfo(eventSubscription.getId(), eventSubscription.getExecutionId(),
                     eventSubscription.getProcessDefinitionId(), ScopeTypes.BPMN);
-            handleEventSubscription(runtimeService, eventSubscription, eventInstance, correlationKeys, eventConsumerInfo);
+            if (isInboundEventBatchActive() && isUniqueStartEventSubscription(eventSubscription)) {
+                // The unique instance check needs to see the instances started for the previous events of the batch,
+                // hence the check and the start happen in their own transaction, like they do for events received one by one
+                commandExecutor.execute(new CommandConfig(false, TransactionPropagation.REQUIRES_NEW), commandContext -> {
+                    handleEventSubscription(runtimeService, eventSubscription, eventInstance, correlationKeys, eventConsumerInfo);
+                    return null;
+                });
+            } else {
+                handleEventSubscription(runtimeService, eventSubscription, eventInstance, correlationKeys, eventConsumerInfo);
+            }
             eventRegistryProcessingInfo.addEventConsumerInfo(eventConsumerInfo);
         }
 
@@ -199,6 +210,12 @@ public class BpmnEventRegistryEventConsumer extends BaseEventRegistryEventConsum
 
     }
 
+    protected boolean isUniqueStartEventSubscription(EventSubscription eventSubscription) {
+        return eventSubscription.getExecutionId() == null && eventSubscription.getProcessDefinitionId() != null
+                && eventSubscription.getProcessInstanceId() == null
+                && Objects.equals(getStartCorrelationConfiguration(eventSubscription), BpmnXMLConstants.START_EVENT_CORRELATION_STORE_AS_UNIQUE_REFERENCE_ID);
+    }
+
     protected long countProcessInstances(RuntimeService runtimeService, EventInstance eventInstance,
             CorrelationKey correlationKey, ProcessDefinition processDefinition) {
 
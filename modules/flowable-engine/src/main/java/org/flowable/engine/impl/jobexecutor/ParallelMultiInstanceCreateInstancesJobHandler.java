@@ -0,0 +1,55 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.jobexecutor;
+
+import org.flowable.bpmn.model.Activity;
+import org.flowable.bpmn.model.FlowElement;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.bpmn.behavior.ParallelMultiInstanceBehavior;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.job.service.JobHandler;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.variable.api.delegate.VariableScope;
+
+/**
+ * Creates the next instances of a parallel multi instance activity that creates its instances in chunks.
+ * The job belongs to the multi instance root execution and its configuration is the loop counter of the first instance to create.
+ *
+ * @see org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl#setParallelMultiInstanceCreationChunkSize(int)
+ */
+public class ParallelMultiInstanceCreateInstancesJobHandler implements JobHandler {
+
+    public static final String TYPE = "parallel-multi-instance-create";
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public void execute(JobEntity job, String configuration, VariableScope variableScope, CommandContext commandContext) {
+        ExecutionEntity multiInstanceRootExecution = CommandContextUtil.getExecutionEntityManager(commandContext).findById(job.getExecutionId());
+
+        // The multi instance can already be completed, in which case there is nothing left to create
+        if (multiInstanceRootExecution != null && multiInstanceRootExecution.isMultiInstanceRoot()) {
+            FlowElement currentFlowElement = multiInstanceRootExecution.getCurrentFlowElement();
+            if (currentFlowElement instanceof Activity) {
+                Object behavior = ((Activity) currentFlowElement).getBehavior();
+                if (behavior instanceof ParallelMultiInstanceBehavior) {
+                    ((ParallelMultiInstanceBehavior) behavior).createNextInstances(multiInstanceRootExecution, Integer.parseInt(configuration));
+                }
+            }
+        }
+    }
+}
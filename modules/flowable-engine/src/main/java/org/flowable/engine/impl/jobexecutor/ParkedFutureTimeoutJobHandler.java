@@ -0,0 +1,90 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.jobexecutor;
+
+import org.flowable.bpmn.model.FlowNode;
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.delegate.BpmnError;
+import org.flowable.engine.impl.bpmn.helper.ErrorPropagation;
+import org.flowable.engine.impl.delegate.ActivityBehavior;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.util.ParkedFutureUtil;
+import org.flowable.job.service.JobHandler;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.variable.api.delegate.VariableScope;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Handles an execution that is parked while waiting for the future of a {@link org.flowable.engine.delegate.FutureJavaDelegate},
+ * either because the future did not complete in time or because its result could not be delivered (the configuration is then the failure message).
+ * <p>
+ * A BPMN error with the {@link #TIMEOUT_ERROR_CODE} or {@link #FAILURE_ERROR_CODE} error code is thrown in the activity first,
+ * so that an error boundary event or error event sub process can continue the process instance.
+ * When no error event catches it, the activity is executed again while the job has retries left (the timeout job of the new attempt gets one retry less).
+ * The last attempt fails the job, which means that it ends up as a dead letter job.
+ *
+ * @see org.flowable.engine.impl.util.ParkedFutureUtil
+ */
+public class ParkedFutureTimeoutJobHandler implements JobHandler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ParkedFutureTimeoutJobHandler.class);
+
+    public static final String TYPE = "parked-future-timeout";
+
+    public static final String TIMEOUT_ERROR_CODE = "parkedFutureTimeout";
+    public static final String FAILURE_ERROR_CODE = "parkedFutureFailure";
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public void execute(JobEntity job, String configuration, VariableScope variableScope, CommandContext commandContext) {
+        String errorCode;
+        String message;
+        if (configuration == null) {
+            errorCode = TIMEOUT_ERROR_CODE;
+            message = "Future of parked execution " + job.getExecutionId() + " in activity " + job.getElementId() + " did not complete within the timeout";
+        } else {
+            errorCode = FAILURE_ERROR_CODE;
+            message = "Result of the future of parked execution " + job.getExecutionId() + " in activity " + job.getElementId()
+                    + " could not be delivered: " + configuration;
+        }
+
+        ExecutionEntity execution = (ExecutionEntity) variableScope;
+        try {
+            ErrorPropagation.propagateError(new BpmnError(errorCode, message), execution);
+            return;
+
+        } catch (BpmnError e) {
+            if (!errorCode.equals(e.getErrorCode())) {
+                throw e;
+            }
+            // No error event catches the error
+        }
+
+        if (job.getRetries() > 1 && execution.getCurrentFlowElement() instanceof FlowNode) {
+            LOGGER.debug("{}, executing the activity again", message);
+            ActivityBehavior activityBehavior = (ActivityBehavior) ((FlowNode) execution.getCurrentFlowElement()).getBehavior();
+            execution.setTransientVariableLocal(ParkedFutureUtil.TIMEOUT_JOB_RETRIES_VARIABLE, job.getRetries() - 1);
+            activityBehavior.execute(execution);
+            execution.removeTransientVariableLocal(ParkedFutureUtil.TIMEOUT_JOB_RETRIES_VARIABLE);
+
+        } else {
+            throw new FlowableException(message);
+        }
+    }
+}
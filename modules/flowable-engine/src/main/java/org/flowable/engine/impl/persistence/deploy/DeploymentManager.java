@@ -15,6 +15,12 @@ package org.flowable.engine.impl.persistence.deploy;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.flowable.bpmn.model.BpmnModel;
 import org.flowable.common.engine.api.FlowableException;
@@ -24,6 +30,8 @@ import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
 import org.flowable.common.engine.api.delegate.event.FlowableEventDispatcher;
 import org.flowable.common.engine.impl.EngineDeployer;
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
+import org.flowable.common.engine.impl.persistence.deploy.LatestDefinitionIndex;
+import org.flowable.engine.ProcessEngineConfiguration;
 import org.flowable.engine.app.AppModel;
 import org.flowable.engine.delegate.event.impl.FlowableEventBuilder;
 import org.flowable.engine.impl.ProcessDefinitionQueryImpl;
@@ -32,9 +40,12 @@ import org.flowable.engine.impl.persistence.entity.DeploymentEntity;
 import org.flowable.engine.impl.persistence.entity.DeploymentEntityManager;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntity;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntityManager;
+import org.flowable.engine.impl.persistence.entity.ResourceEntity;
 import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.engine.impl.util.Flowable5Util;
 import org.flowable.engine.repository.ProcessDefinition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * @author Tom Baeyens
@@ -43,12 +54,23 @@ import org.flowable.engine.repository.ProcessDefinition;
  */
 public class DeploymentManager {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(DeploymentManager.class);
+
+    public static final String LATEST_DEFINITION_REVISION_PROPERTY = "cfg.definition-revision.bpmn";
+
     protected DeploymentCache<ProcessDefinitionCacheEntry> processDefinitionCache;
     protected DeploymentCache<ProcessDefinitionInfoCacheObject> processDefinitionInfoCache;
     protected DeploymentCache<Object> appResourceCache;
     protected DeploymentCache<Object> knowledgeBaseCache; // Needs to be object to avoid an import to Drools in this core class
+    protected LatestDefinitionIndex latestProcessDefinitionIndex;
     protected List<EngineDeployer> deployers;
 
+    /**
+     * The process definitions that are being resolved, so that concurrent cache misses for the same process definition only parse it once.
+     */
+    protected final ConcurrentMap<String, ProcessDefinitionResolution> processDefinitionResolutions = new ConcurrentHashMap<>();
+    protected long processDefinitionResolutionWaitTime = 10000L;
+
     protected ProcessEngineConfigurationImpl processEngineConfiguration;
     protected ProcessDefinitionEntityManager processDefinitionEntityManager;
     protected DeploymentEntityManager deploymentEntityManager;
@@ -61,6 +83,10 @@ public class DeploymentManager {
         for (EngineDeployer deployer : deployers) {
             deployer.deploy(deployment, deploymentSettings);
         }
+
+        if (deployment.isNew()) {
+            latestProcessDefinitionsChanged();
+        }
     }
 
     public ProcessDefinition findDeployedProcessDefinitionById(String processDefinitionId) {
@@ -83,24 +109,62 @@ public class DeploymentManager {
     }
 
     public ProcessDefinition findDeployedLatestProcessDefinitionByKey(String processDefinitionKey) {
-        ProcessDefinition processDefinition = processDefinitionEntityManager.findLatestProcessDefinitionByKey(processDefinitionKey);
+        ProcessDefinition processDefinition = resolveLatestProcessDefinition(processDefinitionKey, null);
 
         if (processDefinition == null) {
             throw new FlowableObjectNotFoundException("no processes deployed with key '" + processDefinitionKey + "'", ProcessDefinition.class);
         }
-        processDefinition = resolveProcessDefinition(processDefinition).getProcessDefinition();
         return processDefinition;
     }
 
     public ProcessDefinition findDeployedLatestProcessDefinitionByKeyAndTenantId(String processDefinitionKey, String tenantId) {
-        ProcessDefinition processDefinition = processDefinitionEntityManager.findLatestProcessDefinitionByKeyAndTenantId(processDefinitionKey, tenantId);
+        ProcessDefinition processDefinition = resolveLatestProcessDefinition(processDefinitionKey, tenantId);
         if (processDefinition == null) {
             throw new FlowableObjectNotFoundException("no processes deployed with key '" + processDefinitionKey + "' for tenant identifier '" + tenantId + "'", ProcessDefinition.class);
         }
-        processDefinition = resolveProcessDefinition(processDefinition).getProcessDefinition();
         return processDefinition;
     }
 
+    /**
+     * Returns the latest deployed version of the process definition with the given key, or null when there is no such process definition.
+     * The id of the latest version is taken from the {@link LatestDefinitionIndex} when it is enabled, which avoids querying the process definition table.
+     *
+     * @param tenantId the tenant of the process definition, null or empty for process definitions without a tenant
+     */
+    public ProcessDefinition resolveLatestProcessDefinition(String processDefinitionKey, String tenantId) {
+        String definitionTenantId = tenantId == null || ProcessEngineConfiguration.NO_TENANT_ID.equals(tenantId) ? null : tenantId;
+
+        if (latestProcessDefinitionIndex == null) {
+            ProcessDefinition processDefinition = findLatestProcessDefinitionInDatabase(processDefinitionKey, definitionTenantId);
+            return processDefinition != null ? resolveProcessDefinition(processDefinition).getProcessDefinition() : null;
+        }
+
+        String processDefinitionId = latestProcessDefinitionIndex.getLatestDefinitionId(CommandContextUtil.getCommandContext(),
+                processDefinitionKey, definitionTenantId, () -> {
+                    ProcessDefinition processDefinition = findLatestProcessDefinitionInDatabase(processDefinitionKey, definitionTenantId);
+                    return processDefinition != null ? processDefinition.getId() : null;
+                });
+        return processDefinitionId != null ? findDeployedProcessDefinitionById(processDefinitionId) : null;
+    }
+
+    protected ProcessDefinition findLatestProcessDefinitionInDatabase(String processDefinitionKey, String tenantId) {
+        if (tenantId == null) {
+            return processDefinitionEntityManager.findLatestProcessDefinitionByKey(processDefinitionKey);
+        } else {
+            return processDefinitionEntityManager.findLatestProcessDefinitionByKeyAndTenantId(processDefinitionKey, tenantId);
+        }
+    }
+
+    /**
+     * Invalidates the latest process definition index on all nodes, once the current transaction is committed.
+     * Needs to be called by every operation that changes which process definition is the latest version for a key and tenant.
+     */
+    public void latestProcessDefinitionsChanged() {
+        if (latestProcessDefinitionIndex != null) {
+            latestProcessDefinitionIndex.definitionsChanged(CommandContextUtil.getCommandContext());
+        }
+    }
+
     public ProcessDefinition findDeployedProcessDefinitionByKeyAndVersionAndTenantId(String processDefinitionKey, Integer processDefinitionVersion, String tenantId) {
         ProcessDefinition processDefinition = (ProcessDefinitionEntity) processDefinitionEntityManager
                 .findProcessDefinitionByKeyAndVersionAndTenantId(processDefinitionKey, processDefinitionVersion, tenantId);
@@ -113,10 +177,12 @@ public class DeploymentManager {
 
     /**
      * Resolving the process definition will fetch the BPMN 2.0, parse it and store the {@link BpmnModel} in memory.
+     * <p>
+     * On a cache miss only the resource that contains the process definition is parsed, instead of all resources of its deployment.
+     * Concurrent cache misses for the same process definition are resolved once, the other threads wait for that resolution.
      */
     public ProcessDefinitionCacheEntry resolveProcessDefinition(ProcessDefinition processDefinition) {
         String processDefinitionId = processDefinition.getId();
-        String deploymentId = processDefinition.getDeploymentId();
 
         ProcessDefinitionCacheEntry cachedProcessDefinition = processDefinitionCache.get(processDefinitionId);
 
@@ -125,18 +191,92 @@ public class DeploymentManager {
                 return Flowable5Util.getFlowable5CompatibilityHandler().resolveProcessDefinition(processDefinition);
             }
 
-            DeploymentEntity deployment = deploymentEntityManager.findById(deploymentId);
-            deployment.setNew(false);
-            deploy(deployment, null);
-            cachedProcessDefinition = deployment.getProcessDefinitionCacheEntry(processDefinitionId);
+            ProcessDefinitionResolution resolution = new ProcessDefinitionResolution();
+            ProcessDefinitionResolution inFlightResolution = processDefinitionResolutions.putIfAbsent(processDefinitionId, resolution);
+            if (inFlightResolution != null && inFlightResolution.thread != Thread.currentThread()) {
+                cachedProcessDefinition = waitForResolution(processDefinitionId, inFlightResolution);
+                if (cachedProcessDefinition == null) {
+                    cachedProcessDefinition = deployProcessDefinitionResource(processDefinition);
+                }
+
+            } else if (inFlightResolution != null) {
+                // Resolving the process definition requires the process definition itself, e.g. through a parse handler
+                cachedProcessDefinition = deployProcessDefinitionResource(processDefinition);
+
+            } else {
+                try {
+                    cachedProcessDefinition = deployProcessDefinitionResource(processDefinition);
+                    resolution.result.complete(cachedProcessDefinition);
+
+                } catch (RuntimeException e) {
+                    resolution.result.completeExceptionally(e);
+                    throw e;
 
-            if (cachedProcessDefinition == null) {
-                throw new FlowableException("deployment '" + deploymentId + "' didn't put process definition '" + processDefinitionId + "' in the cache");
+                } finally {
+                    processDefinitionResolutions.remove(processDefinitionId, resolution);
+                }
             }
         }
         return cachedProcessDefinition;
     }
 
+    /**
+     * Waits for the resolution of another thread, returns null when that resolution failed or didn't finish in time.
+     * The wait is bounded, as the other thread could be waiting for a database lock held by the transaction of the current thread.
+     */
+    protected ProcessDefinitionCacheEntry waitForResolution(String processDefinitionId, ProcessDefinitionResolution resolution) {
+        try {
+            return resolution.result.get(processDefinitionResolutionWaitTime, TimeUnit.MILLISECONDS);
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FlowableException("Interrupted while waiting for the resolution of process definition '" + processDefinitionId + "'", e);
+
+        } catch (ExecutionException | TimeoutException e) {
+            LOGGER.debug("Concurrent resolution of process definition {} did not succeed, resolving it again", processDefinitionId, e);
+            return null;
+        }
+    }
+
+    protected ProcessDefinitionCacheEntry deployProcessDefinitionResource(ProcessDefinition processDefinition) {
+        String processDefinitionId = processDefinition.getId();
+        String deploymentId = processDefinition.getDeploymentId();
+
+        DeploymentEntity deployment = deploymentEntityManager.findById(deploymentId);
+        ResourceEntity resource = processDefinition.getResourceName() != null
+                ? processEngineConfiguration.getResourceEntityManager().findResourceByDeploymentIdAndResourceName(deploymentId, processDefinition.getResourceName())
+                : null;
+
+        if (resource != null) {
+            // A detached copy is deployed, as the deployment entity could be cached in the current session with its other resources
+            deployment = createResourceDeployment(deployment, resource);
+        }
+        deployment.setNew(false);
+        deploy(deployment, null);
+        ProcessDefinitionCacheEntry cachedProcessDefinition = deployment.getProcessDefinitionCacheEntry(processDefinitionId);
+
+        if (cachedProcessDefinition == null) {
+            throw new FlowableException("deployment '" + deploymentId + "' didn't put process definition '" + processDefinitionId + "' in the cache");
+        }
+        return cachedProcessDefinition;
+    }
+
+    protected DeploymentEntity createResourceDeployment(DeploymentEntity deployment, ResourceEntity resource) {
+        DeploymentEntity resourceDeployment = deploymentEntityManager.create();
+        resourceDeployment.setId(deployment.getId());
+        resourceDeployment.setName(deployment.getName());
+        resourceDeployment.setCategory(deployment.getCategory());
+        resourceDeployment.setKey(deployment.getKey());
+        resourceDeployment.setTenantId(deployment.getTenantId());
+        resourceDeployment.setDeploymentTime(deployment.getDeploymentTime());
+        resourceDeployment.setEngineVersion(deployment.getEngineVersion());
+        resourceDeployment.setDerivedFrom(deployment.getDerivedFrom());
+        resourceDeployment.setDerivedFromRoot(deployment.getDerivedFromRoot());
+        resourceDeployment.setParentDeploymentId(deployment.getParentDeploymentId());
+        resourceDeployment.addResource(resource);
+        return resourceDeployment;
+    }
+
     public Object getAppResourceObject(String deploymentId) {
         Object appResourceObject = appResourceCache.get(deploymentId);
 
@@ -205,6 +345,7 @@ public class DeploymentManager {
 
         // Delete data
         deploymentEntityManager.deleteDeployment(deploymentId, cascade);
+        latestProcessDefinitionsChanged();
 
         // Since we use a delete by query, delete-events are not automatically dispatched
         if (eventDispatcher != null && eventDispatcher.isEnabled()) {
@@ -264,6 +405,22 @@ public class DeploymentManager {
         this.appResourceCache = appResourceCache;
     }
 
+    public LatestDefinitionIndex getLatestProcessDefinitionIndex() {
+        return latestProcessDefinitionIndex;
+    }
+
+    public void setLatestProcessDefinitionIndex(LatestDefinitionIndex latestProcessDefinitionIndex) {
+        this.latestProcessDefinitionIndex = latestProcessDefinitionIndex;
+    }
+
+    public long getProcessDefinitionResolutionWaitTime() {
+        return processDefinitionResolutionWaitTime;
+    }
+
+    public void setProcessDefinitionResolutionWaitTime(long processDefinitionResolutionWaitTime) {
+        this.processDefinitionResolutionWaitTime = processDefinitionResolutionWaitTime;
+    }
+
     public ProcessEngineConfigurationImpl getProcessEngineConfiguration() {
         return processEngineConfiguration;
     }
@@ -288,4 +445,10 @@ public class DeploymentManager {
         this.deploymentEntityManager = deploymentEntityManager;
     }
 
+    protected static class ProcessDefinitionResolution {
+
+        protected final Thread thread = Thread.currentThread();
+        protected final CompletableFuture<ProcessDefinitionCacheEntry> result = new CompletableFuture<>();
+    }
+
 }
@@ -16,6 +16,7 @@ import java.io.Serializable;
 
 import org.flowable.bpmn.model.BpmnModel;
 import org.flowable.bpmn.model.Process;
+import org.flowable.engine.impl.util.ProcessReachabilityIndex;
 import org.flowable.engine.repository.ProcessDefinition;
 
 /**
@@ -28,11 +29,13 @@ public class ProcessDefinitionCacheEntry implements Serializable {
     protected ProcessDefinition processDefinition;
     protected BpmnModel bpmnModel;
     protected Process process;
+    protected ProcessReachabilityIndex reachabilityIndex;
 
     public ProcessDefinitionCacheEntry(ProcessDefinition processDefinition, BpmnModel bpmnModel, Process process) {
         this.processDefinition = processDefinition;
         this.bpmnModel = bpmnModel;
         this.process = process;
+        this.reachabilityIndex = ProcessReachabilityIndex.forInclusiveGateways(process);
     }
 
     public ProcessDefinition getProcessDefinition() {
@@ -57,6 +60,18 @@ public class ProcessDefinitionCacheEntry implements Serializable {
 
     public void setProcess(Process process) {
         this.process = process;
+        this.reachabilityIndex = ProcessReachabilityIndex.forInclusiveGateways(process);
+    }
+
+    /**
+     * @return the reachability index of the inclusive gateways of the process, or null when the process has no inclusive gateways
+     */
+    public ProcessReachabilityIndex getReachabilityIndex() {
+        return reachabilityIndex;
+    }
+
+    public void setReachabilityIndex(ProcessReachabilityIndex reachabilityIndex) {
+        this.reachabilityIndex = reachabilityIndex;
     }
 
 }
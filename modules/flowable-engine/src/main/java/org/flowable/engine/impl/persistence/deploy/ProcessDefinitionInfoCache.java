@@ -12,18 +12,27 @@
  */
 package org.flowable.engine.impl.persistence.deploy;
 
+import java.time.Duration;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
 
 import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.cfg.TransactionPropagation;
+import org.flowable.common.engine.impl.cfg.TransactionState;
 import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandConfig;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
+import org.flowable.common.engine.impl.persistence.entity.PropertyEntity;
+import org.flowable.common.engine.impl.persistence.entity.PropertyEntityManager;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionInfoEntity;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionInfoEntityManager;
 import org.flowable.engine.impl.util.CommandContextUtil;
@@ -35,6 +44,11 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 
 /**
  * Default cache: keep everything in memory, unless a limit is set.
+ * <p>
+ * By default the info is queried on every access, to pick up changes made by other nodes.
+ * When a change check interval is set, a cached info node is trusted as long as the info change stamp,
+ * a property that gets a new random value in every transaction that saves process definition info, doesn't move.
+ * The stamp is read at most once per interval, and a save on this node invalidates the cache as soon as it is committed.
  * 
  * @author Tijs Rademakers
  */
@@ -42,9 +56,18 @@ public class ProcessDefinitionInfoCache implements DeploymentCache<ProcessDefini
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ProcessDefinitionInfoCache.class);
 
+    public static final String CHANGE_STAMP_PROPERTY = "cfg.definition-info-revision.bpmn";
+
+    protected static final String NO_CHANGE_STAMP = "";
+    protected static final String CHANGED_ATTRIBUTE = ProcessDefinitionInfoCache.class.getName() + ".changed";
+
     protected Map<String, ProcessDefinitionInfoCacheObject> cache;
     protected CommandExecutor commandExecutor;
 
+    protected Duration changeCheckInterval;
+    protected volatile String changeStamp;
+    protected volatile long nextChangeCheckTime;
+
     /** Cache with no limit */
     public ProcessDefinitionInfoCache(CommandExecutor commandExecutor) {
         this.commandExecutor = commandExecutor;
@@ -73,6 +96,18 @@ public class ProcessDefinitionInfoCache implements DeploymentCache<ProcessDefini
         });
     }
 
+    public Duration getChangeCheckInterval() {
+        return changeCheckInterval;
+    }
+
+    /**
+     * Trusts the cached info until the info change stamp moves, and reads that stamp at most once per interval.
+     * A {@code null} interval queries the info on every access.
+     */
+    public void setChangeCheckInterval(Duration changeCheckInterval) {
+        this.changeCheckInterval = changeCheckInterval;
+    }
+
     @Override
     public ProcessDefinitionInfoCacheObject get(final String processDefinitionId) {
         ProcessDefinitionInfoCacheObject infoCacheObject = null;
@@ -123,14 +158,104 @@ public class ProcessDefinitionInfoCache implements DeploymentCache<ProcessDefini
         return cache.size();
     }
 
+    /**
+     * Marks the process definition info as changed by the current transaction. The change stamp is moved,
+     * so that all nodes reload their cached info, and the cache of this node is invalidated once the transaction is committed.
+     * Until then, the cache is bypassed within the current transaction.
+     */
+    public void processDefinitionInfoChanged(CommandContext commandContext) {
+        if (changeCheckInterval == null || commandContext.getAttribute(CHANGED_ATTRIBUTE) != null) {
+            return;
+        }
+        commandContext.addAttribute(CHANGED_ATTRIBUTE, Boolean.TRUE);
+
+        String newChangeStamp = UUID.randomUUID().toString();
+        PropertyEntityManager propertyEntityManager = CommandContextUtil.getProcessEngineConfiguration(commandContext).getPropertyEntityManager();
+        if (propertyEntityManager.directUpdatePropertyValue(CHANGE_STAMP_PROPERTY, newChangeStamp) == 0) {
+            createChangeStampProperty();
+            if (propertyEntityManager.directUpdatePropertyValue(CHANGE_STAMP_PROPERTY, newChangeStamp) == 0) {
+                throw new FlowableException("Could not update the process definition info change stamp property " + CHANGE_STAMP_PROPERTY);
+            }
+        }
+
+        Context.getTransactionContext().addTransactionListener(TransactionState.COMMITTED, committedCommandContext -> nextChangeCheckTime = 0L);
+    }
+
+    protected void createChangeStampProperty() {
+        // The property is created in a separate transaction, as a concurrent insert on another node fails the inserting transaction
+        try {
+            commandExecutor.execute(new CommandConfig(false, TransactionPropagation.REQUIRES_NEW), commandContext -> {
+                PropertyEntityManager propertyEntityManager = CommandContextUtil.getProcessEngineConfiguration(commandContext).getPropertyEntityManager();
+                if (propertyEntityManager.findById(CHANGE_STAMP_PROPERTY) == null) {
+                    PropertyEntity property = propertyEntityManager.create();
+                    property.setName(CHANGE_STAMP_PROPERTY);
+                    property.setValue(NO_CHANGE_STAMP);
+                    propertyEntityManager.insert(property);
+                }
+                return null;
+            });
+
+        } catch (RuntimeException e) {
+            LOGGER.debug("Could not create property {}, it was probably created concurrently", CHANGE_STAMP_PROPERTY, e);
+        }
+    }
+
     protected ProcessDefinitionInfoCacheObject retrieveProcessDefinitionInfoCacheObject(String processDefinitionId, CommandContext commandContext) {
+        if (changeCheckInterval == null) {
+            return refreshProcessDefinitionInfoCacheObject(processDefinitionId, cache.get(processDefinitionId), commandContext);
+        }
+
+        if (commandContext.getAttribute(CHANGED_ATTRIBUTE) != null) {
+            // The changes of this transaction are not visible to other transactions yet, so the cached object is not touched
+            return refreshProcessDefinitionInfoCacheObject(processDefinitionId, copyProcessDefinitionInfoCacheObject(cache.get(processDefinitionId)), commandContext);
+        }
+
+        String currentChangeStamp = getChangeStamp(commandContext);
+        ProcessDefinitionInfoCacheObject cachedObject = cache.get(processDefinitionId);
+        if (cachedObject != null && currentChangeStamp.equals(cachedObject.getChangeStamp())) {
+            return cachedObject;
+        }
+
+        // The stamp is read before the info, so info loaded while a change is being committed is reloaded once the stamp moves
+        ProcessDefinitionInfoCacheObject cacheObject = refreshProcessDefinitionInfoCacheObject(processDefinitionId,
+                copyProcessDefinitionInfoCacheObject(cachedObject), commandContext);
+        cacheObject.setChangeStamp(currentChangeStamp);
+        cache.put(processDefinitionId, cacheObject);
+        return cacheObject;
+    }
+
+    protected String getChangeStamp(CommandContext commandContext) {
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        long now = processEngineConfiguration.getClock().getCurrentTime().getTime();
+        String currentChangeStamp = changeStamp;
+        if (currentChangeStamp == null || now >= nextChangeCheckTime) {
+            PropertyEntityManager propertyEntityManager = processEngineConfiguration.getPropertyEntityManager();
+            currentChangeStamp = Objects.toString(propertyEntityManager.findPropertyValue(CHANGE_STAMP_PROPERTY), NO_CHANGE_STAMP);
+            changeStamp = currentChangeStamp;
+            nextChangeCheckTime = now + changeCheckInterval.toMillis();
+        }
+        return currentChangeStamp;
+    }
+
+    protected ProcessDefinitionInfoCacheObject copyProcessDefinitionInfoCacheObject(ProcessDefinitionInfoCacheObject cachedObject) {
+        if (cachedObject == null) {
+            return null;
+        }
+
+        ProcessDefinitionInfoCacheObject cacheObject = new ProcessDefinitionInfoCacheObject();
+        cacheObject.setId(cachedObject.getId());
+        cacheObject.setRevision(cachedObject.getRevision());
+        cacheObject.setInfoNode(cachedObject.getInfoNode());
+        return cacheObject;
+    }
+
+    protected ProcessDefinitionInfoCacheObject refreshProcessDefinitionInfoCacheObject(String processDefinitionId, ProcessDefinitionInfoCacheObject cacheObject,
+            CommandContext commandContext) {
+
         ProcessDefinitionInfoEntityManager infoEntityManager = CommandContextUtil.getProcessDefinitionInfoEntityManager(commandContext);
         ObjectMapper objectMapper = CommandContextUtil.getProcessEngineConfiguration(commandContext).getObjectMapper();
 
-        ProcessDefinitionInfoCacheObject cacheObject = null;
-        if (cache.containsKey(processDefinitionId)) {
-            cacheObject = cache.get(processDefinitionId);
-        } else {
+        if (cacheObject == null) {
             cacheObject = new ProcessDefinitionInfoCacheObject();
             cacheObject.setRevision(0);
             cacheObject.setInfoNode(objectMapper.createObjectNode());
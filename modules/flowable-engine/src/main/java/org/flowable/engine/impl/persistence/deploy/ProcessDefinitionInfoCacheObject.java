@@ -26,6 +26,7 @@ public class ProcessDefinitionInfoCacheObject implements Serializable {
     protected String id;
     protected int revision;
     protected ObjectNode infoNode;
+    protected String changeStamp;
 
     public String getId() {
         return id;
@@ -50,4 +51,12 @@ public class ProcessDefinitionInfoCacheObject implements Serializable {
     public void setInfoNode(ObjectNode infoNode) {
         this.infoNode = infoNode;
     }
+
+    public String getChangeStamp() {
+        return changeStamp;
+    }
+
+    public void setChangeStamp(String changeStamp) {
+        this.changeStamp = changeStamp;
+    }
 }
\ No newline at end of file
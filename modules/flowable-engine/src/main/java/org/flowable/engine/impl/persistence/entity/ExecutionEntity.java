@@ -147,6 +147,14 @@ public interface ExecutionEntity extends DelegateExecution, Execution, ProcessIn
     void setReferenceType(String referenceType);
 
     void setPropagatedStageInstanceId(String propagatedStageInstanceId);
+
+    /**
+     * @return the number of executions that arrived at the parallel gateway joins of this scope execution, by gateway id,
+     *         in the format used by {@link org.flowable.engine.impl.bpmn.behavior.ParallelGatewayActivityBehavior}
+     */
+    String getJoinCounts();
+
+    void setJoinCounts(String joinCounts);
     
     Object setVariableLocal(String variableName, Object value, ExecutionEntity sourceExecution, boolean fetchAllVariables);
 
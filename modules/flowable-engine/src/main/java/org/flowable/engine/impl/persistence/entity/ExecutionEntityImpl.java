@@ -245,6 +245,11 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
      */
     protected String propagatedStageInstanceId;
 
+    /**
+     * The number of executions that arrived at the parallel gateway joins of this scope execution, when counting the arrivals is enabled.
+     */
+    protected String joinCounts;
+
     public ExecutionEntityImpl() {
 
     }
@@ -305,6 +310,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
         persistentState.put("referenceId", referenceId);
         persistentState.put("referenceType", referenceType);
         persistentState.put("propagatedStageInstanceId", propagatedStageInstanceId);
+        persistentState.put("joinCounts", joinCounts);
         return persistentState;
     }
 
@@ -1468,6 +1474,16 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
         return propagatedStageInstanceId;
     }
 
+    @Override
+    public String getJoinCounts() {
+        return joinCounts;
+    }
+
+    @Override
+    public void setJoinCounts(String joinCounts) {
+        this.joinCounts = joinCounts;
+    }
+
     protected String getRelatedActivityInstanceId(ExecutionEntity sourceExecution) {
         String activityInstanceId = null;
         if (CommandContextUtil.getHistoryManager().isHistoryLevelAtLeast(HistoryLevel.FULL)) {
@@ -0,0 +1,185 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.runtime;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.stream.Stream;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.engine.impl.RuntimeServiceImpl;
+import org.flowable.engine.runtime.ProcessInstanceBulkStartBuilder;
+import org.flowable.engine.runtime.ProcessInstanceBulkStartResult;
+
+public class ProcessInstanceBulkStartBuilderImpl implements ProcessInstanceBulkStartBuilder {
+
+    public static final int DEFAULT_BATCH_SIZE = 100;
+
+    protected RuntimeServiceImpl runtimeService;
+
+    protected String processDefinitionId;
+    protected String processDefinitionKey;
+    protected String tenantId;
+    protected boolean fallbackToDefaultTenant;
+    protected int batchSize = DEFAULT_BATCH_SIZE;
+
+    // The streams are only consumed on start, a stream over the added process instances binds to the list when it is traversed
+    protected final List<Stream<BulkStartItem>> itemStreams = new ArrayList<>();
+    protected List<BulkStartItem> addedItems;
+
+    public ProcessInstanceBulkStartBuilderImpl(RuntimeServiceImpl runtimeService) {
+        this.runtimeService = runtimeService;
+    }
+
+    @Override
+    public ProcessInstanceBulkStartBuilder processDefinitionId(String processDefinitionId) {
+        this.processDefinitionId = processDefinitionId;
+        return this;
+    }
+
+    @Override
+    public ProcessInstanceBulkStartBuilder processDefinitionKey(String processDefinitionKey) {
+        this.processDefinitionKey = processDefinitionKey;
+        return this;
+    }
+
+    @Override
+    public ProcessInstanceBulkStartBuilder tenantId(String tenantId) {
+        this.tenantId = tenantId;
+        return this;
+    }
+
+    @Override
+    public ProcessInstanceBulkStartBuilder fallbackToDefaultTenant() {
+        this.fallbackToDefaultTenant = true;
+        return this;
+    }
+
+    @Override
+    public ProcessInstanceBulkStartBuilder batchSize(int batchSize) {
+        if (batchSize <= 0) {
+            throw new FlowableIllegalArgumentException("The batch size must be greater than 0");
+        }
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    @Override
+    public ProcessInstanceBulkStartBuilder addProcessInstance(String businessKey, Map<String, Object> variables) {
+        if (addedItems == null) {
+            addedItems = new ArrayList<>();
+            itemStreams.add(addedItems.stream());
+        }
+        addedItems.add(new BulkStartItem(businessKey, variables));
+        return this;
+    }
+
+    @Override
+    public ProcessInstanceBulkStartBuilder businessKeys(Stream<String> businessKeys) {
+        addedItems = null;
+        itemStreams.add(businessKeys.map(businessKey -> new BulkStartItem(businessKey, null)));
+        return this;
+    }
+
+    @Override
+    public ProcessInstanceBulkStartBuilder variables(Stream<Map<String, Object>> variables) {
+        addedItems = null;
+        itemStreams.add(variables.map(processVariables -> new BulkStartItem(null, processVariables)));
+        return this;
+    }
+
+    @Override
+    public ProcessInstanceBulkStartResult start() {
+        if (processDefinitionId == null && processDefinitionKey == null) {
+            throw new FlowableIllegalArgumentException("No processDefinitionId nor processDefinitionKey provided");
+        }
+        return runtimeService.startProcessInstances(this);
+    }
+
+    public String getProcessDefinitionId() {
+        return processDefinitionId;
+    }
+
+    public String getProcessDefinitionKey() {
+        return processDefinitionKey;
+    }
+
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    public boolean isFallbackToDefaultTenant() {
+        return fallbackToDefaultTenant;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Returns the process instances to start, numbered in the order in which they were added.
+     */
+    public Iterator<BulkStartItem> getItems() {
+        Iterator<Stream<BulkStartItem>> streamIterator = itemStreams.iterator();
+        return new Iterator<>() {
+
+            protected Iterator<BulkStartItem> current;
+            protected int index;
+
+            @Override
+            public boolean hasNext() {
+                while ((current == null || !current.hasNext()) && streamIterator.hasNext()) {
+                    current = streamIterator.next().iterator();
+                }
+                return current != null && current.hasNext();
+            }
+
+            @Override
+            public BulkStartItem next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                BulkStartItem item = current.next();
+                item.index = index++;
+                return item;
+            }
+        };
+    }
+
+    public static class BulkStartItem {
+
+        protected int index;
+        protected String businessKey;
+        protected Map<String, Object> variables;
+
+        public BulkStartItem(String businessKey, Map<String, Object> variables) {
+            this.businessKey = businessKey;
+            this.variables = variables;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public String getBusinessKey() {
+            return businessKey;
+        }
+
+        public Map<String, Object> getVariables() {
+            return variables;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.runtime;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.flowable.engine.impl.runtime.ProcessInstanceBulkStartBuilderImpl.BulkStartItem;
+import org.flowable.engine.runtime.ProcessInstanceBulkStartResult;
+
+public class ProcessInstanceBulkStartResultImpl implements ProcessInstanceBulkStartResult {
+
+    protected final List<String> processInstanceIds = new ArrayList<>();
+    protected final List<Failure> failures = new ArrayList<>();
+    protected RuntimeException abortException;
+
+    public void addProcessInstanceIds(List<String> processInstanceIds) {
+        this.processInstanceIds.addAll(processInstanceIds);
+    }
+
+    public void addFailure(BulkStartItem item, RuntimeException exception) {
+        failures.add(new FailureImpl(item.getIndex(), item.getBusinessKey(), exception));
+    }
+
+    /**
+     * The exception that prevents all the remaining process instances from being started, e.g. because the process definition was deleted.
+     */
+    public RuntimeException getAbortException() {
+        return abortException;
+    }
+
+    public void setAbortException(RuntimeException abortException) {
+        this.abortException = abortException;
+    }
+
+    @Override
+    public List<String> getProcessInstanceIds() {
+        return processInstanceIds;
+    }
+
+    @Override
+    public List<Failure> getFailures() {
+        return failures;
+    }
+
+    public static class FailureImpl implements Failure {
+
+        protected final int index;
+        protected final String businessKey;
+        protected final RuntimeException exception;
+
+        public FailureImpl(int index, String businessKey, RuntimeException exception) {
+            this.index = index;
+            this.businessKey = businessKey;
+            this.exception = exception;
+        }
+
+        @Override
+        public int getIndex() {
+            return index;
+        }
+
+        @Override
+        public String getBusinessKey() {
+            return businessKey;
+        }
+
+        @Override
+        public RuntimeException getException() {
+            return exception;
+        }
+    }
+}
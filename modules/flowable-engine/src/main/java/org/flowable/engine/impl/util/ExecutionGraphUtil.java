@@ -39,6 +39,12 @@ public class ExecutionGraphUtil {
      */
     public static boolean isReachable(String processDefinitionId, String sourceElementId, String targetElementId) {
 
+        // The reachability of the inclusive gateways is computed once for the process definition
+        ProcessReachabilityIndex reachabilityIndex = ProcessDefinitionUtil.getProcessReachabilityIndex(processDefinitionId);
+        if (reachabilityIndex != null && reachabilityIndex.isIndexed(sourceElementId, targetElementId)) {
+            return reachabilityIndex.isReachable(sourceElementId, targetElementId);
+        }
+
         // Fetch source and target elements
         Process process = ProcessDefinitionUtil.getProcess(processDefinitionId);
 
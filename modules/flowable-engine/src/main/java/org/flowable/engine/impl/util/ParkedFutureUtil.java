@@ -0,0 +1,163 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.util;
+
+import java.util.Date;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.FlowableOptimisticLockingException;
+import org.flowable.common.engine.impl.cfg.TransactionState;
+import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.interceptor.CommandConfig;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.engine.delegate.DelegateExecution;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cmd.CompleteParkedFutureCmd;
+import org.flowable.engine.impl.cmd.FailParkedFutureCmd;
+import org.flowable.engine.impl.jobexecutor.ParkedFutureTimeoutJobHandler;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.job.api.Job;
+import org.flowable.job.service.TimerJobService;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Parks an execution that waits for the future of a {@link org.flowable.engine.delegate.FutureJavaDelegate}.
+ * <p>
+ * Instead of waiting for the future in the open transaction, the execution stays in its activity and the transaction is committed.
+ * A timeout timer job is created for the execution. When the future completes, its result is delivered in a new transaction:
+ * the timeout job is deleted and the complete action of the behavior is invoked with the execution. The result is only kept in memory,
+ * so when it is lost (e.g. because the engine is stopped) the timeout job handles the execution, see {@link ParkedFutureTimeoutJobHandler}.
+ *
+ * @see ProcessEngineConfigurationImpl#setParkFutureJavaDelegates(boolean)
+ */
+public class ParkedFutureUtil {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ParkedFutureUtil.class);
+
+    protected static final int MAX_COMPLETE_ATTEMPTS = 3;
+
+    /**
+     * Transient variable with the retries of the timeout job, set when the activity is executed again after a timeout or failure.
+     */
+    public static final String TIMEOUT_JOB_RETRIES_VARIABLE = "_parkedFutureTimeoutJobRetries";
+
+    /**
+     * Parks the execution until the future completes.
+     *
+     * @param completeActionFactory creates the action that delivers the result of the future to the execution, which is fetched again in the transaction
+     *         that delivers the result.
+     */
+    public static void parkExecution(ExecutionEntity execution, CompletableFuture<Object> future,
+            Function<DelegateExecution, BiConsumer<Object, Throwable>> completeActionFactory) {
+
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration();
+        Date duedate = new Date(processEngineConfiguration.getClock().getCurrentTime().getTime() + processEngineConfiguration.getParkedFutureTimeout().toMillis());
+        Object retries = execution.getTransientVariableLocal(TIMEOUT_JOB_RETRIES_VARIABLE);
+        TimerJobEntity timeoutJob = createTimeoutJob(execution, duedate, null,
+                retries instanceof Integer ? (Integer) retries : processEngineConfiguration.getAsyncExecutorNumberOfRetries(), processEngineConfiguration);
+        String timeoutJobId = timeoutJob.getId();
+        String executionId = execution.getId();
+
+        Context.getTransactionContext().addTransactionListener(TransactionState.COMMITTED, commandContext -> future.whenComplete((value, throwable) -> {
+            processEngineConfiguration.getAsyncTaskInvoker().submit(() -> {
+                completeParkedFuture(timeoutJobId, executionId, value, unwrap(throwable), completeActionFactory, processEngineConfiguration);
+                return null;
+            });
+        }));
+    }
+
+    /**
+     * Creates the timeout job of a parked execution.
+     *
+     * @param failureMessage the reason why the result of the future could not be delivered, or null when the job is created for the timeout
+     * @param retries the number of times the activity is executed again when the job fails it, including the last attempt that fails the job
+     */
+    public static TimerJobEntity createTimeoutJob(ExecutionEntity execution, Date duedate, String failureMessage, int retries,
+            ProcessEngineConfigurationImpl processEngineConfiguration) {
+
+        TimerJobService timerJobService = processEngineConfiguration.getJobServiceConfiguration().getTimerJobService();
+        TimerJobEntity timer = timerJobService.createTimerJob();
+        timer.setJobType(Job.JOB_TYPE_TIMER);
+        timer.setRevision(1);
+        timer.setJobHandlerType(ParkedFutureTimeoutJobHandler.TYPE);
+        timer.setJobHandlerConfiguration(failureMessage);
+        timer.setExclusive(true);
+        timer.setRetries(retries);
+        timer.setDuedate(duedate);
+        timer.setExecutionId(execution.getId());
+        timer.setProcessInstanceId(execution.getProcessInstanceId());
+        timer.setProcessDefinitionId(execution.getProcessDefinitionId());
+        timer.setElementId(execution.getCurrentActivityId());
+        if (execution.getCurrentFlowElement() != null) {
+            timer.setElementName(execution.getCurrentFlowElement().getName());
+        }
+        timer.setTenantId(execution.getTenantId());
+
+        timerJobService.scheduleTimerJob(timer);
+        return timer;
+    }
+
+    protected static void completeParkedFuture(String timeoutJobId, String executionId, Object value, Throwable throwable,
+            Function<DelegateExecution, BiConsumer<Object, Throwable>> completeActionFactory, ProcessEngineConfigurationImpl processEngineConfiguration) {
+
+        CommandExecutor commandExecutor = processEngineConfiguration.getCommandExecutor();
+        CommandConfig commandConfig = commandExecutor.getDefaultConfig().transactionRequiresNew();
+        CompleteParkedFutureCmd completeCmd = new CompleteParkedFutureCmd(timeoutJobId, executionId, value, throwable, completeActionFactory);
+        for (int attempt = 1; attempt <= MAX_COMPLETE_ATTEMPTS; attempt++) {
+            try {
+                commandExecutor.execute(commandConfig, completeCmd);
+                return;
+
+            } catch (FlowableOptimisticLockingException e) {
+                if (attempt == MAX_COMPLETE_ATTEMPTS) {
+                    failParkedFuture(timeoutJobId, executionId, e, commandExecutor, commandConfig);
+                } else {
+                    LOGGER.debug("Optimistic locking exception while completing parked future of execution {}, retrying", executionId, e);
+                }
+
+            } catch (RuntimeException e) {
+                failParkedFuture(timeoutJobId, executionId, e, commandExecutor, commandConfig);
+                return;
+            }
+        }
+    }
+
+    protected static void failParkedFuture(String timeoutJobId, String executionId, RuntimeException exception,
+            CommandExecutor commandExecutor, CommandConfig commandConfig) {
+
+        LOGGER.warn("Could not complete parked future of execution {}, the timeout job {} handles the execution", executionId, timeoutJobId, exception);
+        try {
+            commandExecutor.execute(commandConfig, new FailParkedFutureCmd(timeoutJobId, exception.getMessage()));
+        } catch (RuntimeException e) {
+            LOGGER.error("Could not move the timeout job {} of the parked future of execution {}, the job handles the execution when it times out",
+                    timeoutJobId, executionId, e);
+        }
+    }
+
+    protected static Throwable unwrap(Throwable throwable) {
+        if (throwable instanceof CompletionException && throwable.getCause() != null) {
+            return throwable.getCause();
+        } else if (throwable instanceof CancellationException) {
+            return new FlowableException("Future was canceled", throwable);
+        }
+        return throwable;
+    }
+
+}
@@ -94,6 +94,19 @@ public class ProcessDefinitionUtil {
         }
     }
 
+    /**
+     * @return the reachability index of the inclusive gateways of the process definition, or null when there is none
+     */
+    public static ProcessReachabilityIndex getProcessReachabilityIndex(String processDefinitionId) {
+        if (Context.getCommandContext() == null || CommandContextUtil.getProcessEngineConfiguration() == null) {
+            return null;
+        }
+
+        DeploymentManager deploymentManager = CommandContextUtil.getProcessEngineConfiguration().getDeploymentManager();
+        ProcessDefinition processDefinitionEntity = deploymentManager.findDeployedProcessDefinitionById(processDefinitionId);
+        return deploymentManager.resolveProcessDefinition(processDefinitionEntity).getReachabilityIndex();
+    }
+
     public static BpmnModel getBpmnModel(String processDefinitionId) {
         if (CommandContextUtil.getProcessEngineConfiguration() == null) {
             return Flowable5Util.getFlowable5CompatibilityHandler().getProcessDefinitionBpmnModel(processDefinitionId);
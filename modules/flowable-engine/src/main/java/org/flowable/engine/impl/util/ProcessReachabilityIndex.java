@@ -0,0 +1,181 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.util;
+
+import java.io.Serializable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.bpmn.model.FlowElement;
+import org.flowable.bpmn.model.FlowElementsContainer;
+import org.flowable.bpmn.model.FlowNode;
+import org.flowable.bpmn.model.InclusiveGateway;
+import org.flowable.bpmn.model.Process;
+import org.flowable.bpmn.model.SequenceFlow;
+import org.flowable.bpmn.model.StartEvent;
+import org.flowable.bpmn.model.SubProcess;
+
+/**
+ * Answers whether an element of a process can reach one of the inclusive gateways of the process by following sequence flow,
+ * without walking the process model for every question.
+ * <p>
+ * The answers are the same as the ones of {@link ExecutionGraphUtil#isReachable(Process, FlowNode, FlowNode, java.util.Set)}:
+ * a flow node without outgoing sequence flow continues with the outgoing sequence flow of its parent subprocess,
+ * and the start events of event subprocesses reach nothing. The index is created once for a process definition and
+ * holds, for every inclusive gateway, the set of flow nodes that can reach it.
+ */
+public class ProcessReachabilityIndex implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /** The index of the node from which the search of an element starts */
+    protected final Map<String, Integer> sourceNodeIndexes = new HashMap<>();
+
+    /** The nodes that can reach the target, by target element id */
+    protected final Map<String, BitSet> reachingNodesByTarget = new HashMap<>();
+
+    /**
+     * @return the index for the inclusive gateways of the process, or null when the process has no inclusive gateways
+     */
+    public static ProcessReachabilityIndex forInclusiveGateways(Process process) {
+        if (process == null) {
+            return null;
+        }
+
+        List<InclusiveGateway> inclusiveGateways = process.findFlowElementsOfType(InclusiveGateway.class, true);
+        if (inclusiveGateways.isEmpty()) {
+            return null;
+        }
+
+        List<String> targetElementIds = new ArrayList<>(inclusiveGateways.size());
+        for (InclusiveGateway inclusiveGateway : inclusiveGateways) {
+            targetElementIds.add(inclusiveGateway.getId());
+        }
+        return new ProcessReachabilityIndex(process, targetElementIds);
+    }
+
+    public ProcessReachabilityIndex(Process process, List<String> targetElementIds) {
+        // Every flow node is a node of the graph. A subprocess that is left after one of its child nodes without outgoing sequence flow
+        // is an additional node, since the search continues with its outgoing sequence flow and does not leave its parent subprocess.
+        List<FlowNode> flowNodes = process.findFlowElementsOfType(FlowNode.class, true);
+        Map<String, Integer> flowNodeIndexes = new HashMap<>();
+        for (FlowNode flowNode : flowNodes) {
+            flowNodeIndexes.put(flowNode.getId(), flowNodeIndexes.size());
+        }
+
+        List<FlowNode> matchingNodes = new ArrayList<>(flowNodes.size());
+        List<List<Integer>> predecessors = new ArrayList<>(flowNodes.size());
+        Map<String, Integer> leftSubProcessIndexes = new HashMap<>();
+        for (FlowNode flowNode : flowNodes) {
+            matchingNodes.add(null);
+            predecessors.add(new ArrayList<>());
+        }
+
+        for (FlowNode flowNode : flowNodes) {
+            int index = flowNodeIndexes.get(flowNode.getId());
+            if (flowNode instanceof StartEvent && ExecutionGraphUtil.isInEventSubprocess(flowNode)) {
+                continue;
+            }
+
+            if (flowNode.getOutgoingFlows().isEmpty()) {
+                FlowElementsContainer parentElement = process.findParent(flowNode);
+                if (parentElement instanceof SubProcess) {
+                    SubProcess subProcess = (SubProcess) parentElement;
+                    Integer leftSubProcessIndex = leftSubProcessIndexes.get(subProcess.getId());
+                    if (leftSubProcessIndex == null) {
+                        leftSubProcessIndex = matchingNodes.size();
+                        leftSubProcessIndexes.put(subProcess.getId(), leftSubProcessIndex);
+                        matchingNodes.add(subProcess);
+                        predecessors.add(new ArrayList<>());
+                        addOutgoingFlows(process, subProcess, leftSubProcessIndex, flowNodeIndexes, predecessors);
+                    }
+                    predecessors.get(leftSubProcessIndex).add(index);
+                }
+
+            } else {
+                matchingNodes.set(index, flowNode);
+                addOutgoingFlows(process, flowNode, index, flowNodeIndexes, predecessors);
+            }
+        }
+
+        for (FlowNode flowNode : flowNodes) {
+            sourceNodeIndexes.put(flowNode.getId(), flowNodeIndexes.get(flowNode.getId()));
+        }
+        for (SequenceFlow sequenceFlow : process.findFlowElementsOfType(SequenceFlow.class, true)) {
+            Integer targetIndex = flowNodeIndexes.get(sequenceFlow.getTargetRef());
+            if (targetIndex != null) {
+                sourceNodeIndexes.put(sequenceFlow.getId(), targetIndex);
+            }
+        }
+
+        for (String targetElementId : targetElementIds) {
+            if (flowNodeIndexes.containsKey(targetElementId)) {
+                reachingNodesByTarget.put(targetElementId, findReachingNodes(targetElementId, matchingNodes, predecessors));
+            }
+        }
+    }
+
+    protected void addOutgoingFlows(Process process, FlowNode flowNode, int index, Map<String, Integer> flowNodeIndexes,
+            List<List<Integer>> predecessors) {
+
+        for (SequenceFlow sequenceFlow : flowNode.getOutgoingFlows()) {
+            FlowElement targetFlowElement = process.getFlowElement(sequenceFlow.getTargetRef(), true);
+            if (targetFlowElement instanceof FlowNode) {
+                predecessors.get(flowNodeIndexes.get(targetFlowElement.getId())).add(index);
+            }
+        }
+    }
+
+    protected BitSet findReachingNodes(String targetElementId, List<FlowNode> matchingNodes, List<List<Integer>> predecessors) {
+        BitSet reachingNodes = new BitSet(matchingNodes.size());
+        Deque<Integer> nodesToVisit = new ArrayDeque<>();
+        for (int i = 0; i < matchingNodes.size(); i++) {
+            FlowNode matchingNode = matchingNodes.get(i);
+            if (matchingNode != null && targetElementId.equals(matchingNode.getId())) {
+                reachingNodes.set(i);
+                nodesToVisit.push(i);
+            }
+        }
+
+        while (!nodesToVisit.isEmpty()) {
+            for (int predecessor : predecessors.get(nodesToVisit.pop())) {
+                if (!reachingNodes.get(predecessor)) {
+                    reachingNodes.set(predecessor);
+                    nodesToVisit.push(predecessor);
+                }
+            }
+        }
+        return reachingNodes;
+    }
+
+    /**
+     * @return whether the index can answer if the source element can reach the target element
+     */
+    public boolean isIndexed(String sourceElementId, String targetElementId) {
+        return sourceNodeIndexes.containsKey(sourceElementId) && reachingNodesByTarget.containsKey(targetElementId);
+    }
+
+    /**
+     * Verifies if the element with the given source identifier can reach the element with the target identifier through following sequence flow.
+     * Can only be used when {@link #isIndexed(String, String)} is true for the elements.
+     */
+    public boolean isReachable(String sourceElementId, String targetElementId) {
+        return reachingNodesByTarget.get(targetElementId).get(sourceNodeIndexes.get(sourceElementId));
+    }
+
+}
@@ -30,6 +30,7 @@ public class ParallelMultiInstanceLoopVariableType implements VariableType {
 
     public static final String TYPE_NAME = "bpmnParallelMultiInstanceCompleted";
     protected static final String NUMBER_OF_INSTANCES = "nrOfInstances";
+    protected static final String NUMBER_OF_PENDING_INSTANCES = "nrOfPendingInstances";
 
     protected final ProcessEngineConfigurationImpl processEngineConfiguration;
 
@@ -92,7 +93,10 @@ public class ParallelMultiInstanceLoopVariableType implements VariableType {
         if (ParallelMultiInstanceLoopVariable.COMPLETED_INSTANCES.equals(type)) {
             Object nrOfInstancesValue = multiInstanceRootExecution.getVariable(NUMBER_OF_INSTANCES);
             int nrOfInstances = (Integer) (nrOfInstancesValue != null ? nrOfInstancesValue : 0);
-            return nrOfInstances - nrOfActiveInstances;
+            // Instances that are not created yet are not completed either
+            Object nrOfPendingInstancesValue = multiInstanceRootExecution.getVariableLocal(NUMBER_OF_PENDING_INSTANCES);
+            int nrOfPendingInstances = (Integer) (nrOfPendingInstancesValue != null ? nrOfPendingInstancesValue : 0);
+            return nrOfInstances - nrOfActiveInstances - nrOfPendingInstances;
         } else if (ParallelMultiInstanceLoopVariable.ACTIVE_INSTANCES.equals(type)) {
             return nrOfActiveInstances;
         } else {
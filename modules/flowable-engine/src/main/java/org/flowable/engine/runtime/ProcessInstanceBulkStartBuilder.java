@@ -0,0 +1,74 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.runtime;
+
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Helper for starting a large number of process instances of the same process definition.
+ * <p>
+ * An instance can be obtained through {@link org.flowable.engine.RuntimeService#createProcessInstanceBulkStartBuilder()}.
+ * <p>
+ * The process definition is resolved once, and the process instances are started in batches, every batch in its own transaction.
+ * A process instance that can't be started is reported in the {@link ProcessInstanceBulkStartResult} and doesn't abort the other starts.
+ * As every batch is committed separately, the bulk start should not be called from within a running transaction.
+ */
+public interface ProcessInstanceBulkStartBuilder {
+
+    /**
+     * Set the id of the process definition.
+     */
+    ProcessInstanceBulkStartBuilder processDefinitionId(String processDefinitionId);
+
+    /**
+     * Set the key of the process definition, the latest version of the process definition with the given key is used.
+     */
+    ProcessInstanceBulkStartBuilder processDefinitionKey(String processDefinitionKey);
+
+    /**
+     * Set the tenant id of the process definition, used together with the process definition key.
+     */
+    ProcessInstanceBulkStartBuilder tenantId(String tenantId);
+
+    /**
+     * Use the process definition of the default tenant when there is no process definition with the key in the given tenant.
+     */
+    ProcessInstanceBulkStartBuilder fallbackToDefaultTenant();
+
+    /**
+     * Set the number of process instances that are started in one transaction. The default is 100.
+     */
+    ProcessInstanceBulkStartBuilder batchSize(int batchSize);
+
+    /**
+     * Adds a process instance with the given business key and variables, both can be {@code null}.
+     */
+    ProcessInstanceBulkStartBuilder addProcessInstance(String businessKey, Map<String, Object> variables);
+
+    /**
+     * Adds a process instance for every business key of the stream. The stream is consumed when the process instances are started.
+     */
+    ProcessInstanceBulkStartBuilder businessKeys(Stream<String> businessKeys);
+
+    /**
+     * Adds a process instance for every variable map of the stream. The stream is consumed when the process instances are started.
+     */
+    ProcessInstanceBulkStartBuilder variables(Stream<Map<String, Object>> variables);
+
+    /**
+     * Starts the process instances, in the order in which they were added.
+     */
+    ProcessInstanceBulkStartResult start();
+
+}
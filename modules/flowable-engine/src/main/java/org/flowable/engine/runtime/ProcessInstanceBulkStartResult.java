@@ -0,0 +1,46 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.runtime;
+
+import java.util.List;
+
+/**
+ * The outcome of a {@link ProcessInstanceBulkStartBuilder#start()}.
+ */
+public interface ProcessInstanceBulkStartResult {
+
+    /**
+     * The ids of the started process instances, in the order in which the process instances were added.
+     */
+    List<String> getProcessInstanceIds();
+
+    /**
+     * The process instances that could not be started.
+     */
+    List<Failure> getFailures();
+
+    interface Failure {
+
+        /**
+         * The position of the process instance in the bulk start, starting at 0.
+         */
+        int getIndex();
+
+        String getBusinessKey();
+
+        /**
+         * The exception that prevented the process instance from being started.
+         */
+        RuntimeException getException();
+    }
+}
@@ -69,6 +69,7 @@ CREATE TABLE ACT_RU_EXECUTION (
     REFERENCE_TYPE_ varchar(255),
     PROPAGATED_STAGE_INST_ID_ varchar(255),
     BUSINESS_STATUS_ varchar(255),
+    JOIN_COUNTS_ varchar(2000),
     primary key (ID_)
 );
 
@@ -348,9 +349,15 @@ alter table ACT_PROCDEF_INFO
     unique (PROC_DEF_ID_);
 
 insert into ACT_GE_PROPERTY
-values ('schema.version', '7.1.0.2', 1);
+values ('schema.version', '7.1.0.3', 1);
 
 insert into ACT_GE_PROPERTY
-values ('schema.history', 'create(7.1.0.2)', 1);
+values ('cfg.definition-revision.bpmn', '', 1);
+
+insert into ACT_GE_PROPERTY
+values ('cfg.definition-info-revision.bpmn', '', 1);
+
+insert into ACT_GE_PROPERTY
+values ('schema.history', 'create(7.1.0.3)', 1);
 
 --force-commit
\ No newline at end of file
@@ -0,0 +1 @@
+alter table ACT_RU_EXECUTION add column JOIN_COUNTS_ varchar(2000);
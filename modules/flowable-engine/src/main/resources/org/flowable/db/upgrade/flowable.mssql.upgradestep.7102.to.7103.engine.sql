@@ -0,0 +1 @@
+alter table ACT_RU_EXECUTION add JOIN_COUNTS_ nvarchar(2000);
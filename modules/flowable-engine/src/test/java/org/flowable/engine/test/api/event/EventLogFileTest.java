@@ -0,0 +1,218 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.FlowableOptimisticLockingException;
+import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
+import org.flowable.common.engine.impl.util.CollectionUtil;
+import org.flowable.engine.event.EventLogEntry;
+import org.flowable.engine.impl.cmd.SetProcessInstanceNameCmd;
+import org.flowable.engine.impl.event.logger.file.EventLogFile;
+import org.flowable.engine.impl.event.logger.file.EventLogFileLoader;
+import org.flowable.engine.impl.event.logger.file.EventLogFileLogger;
+import org.flowable.engine.impl.event.logger.file.EventLogFileReader;
+import org.flowable.engine.impl.persistence.entity.EventLogEntryEntityImpl;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class EventLogFileTest extends PluggableFlowableTestCase {
+
+    @TempDir
+    protected Path directory;
+
+    protected EventLogFile eventLogFile;
+    protected EventLogFileLogger eventLogFileLogger;
+
+    @BeforeEach
+    protected void setUp() {
+        eventLogFile = new EventLogFile(directory, 64 * 1024);
+        eventLogFileLogger = new EventLogFileLogger(processEngineConfiguration.getClock(), processEngineConfiguration.getObjectMapper(), eventLogFile);
+        runtimeService.addEventListener(eventLogFileLogger);
+    }
+
+    @AfterEach
+    protected void tearDown() {
+        runtimeService.removeEventListener(eventLogFileLogger);
+        eventLogFile.close();
+
+        for (EventLogEntry eventLogEntry : managementService.getEventLogEntries(null, null)) {
+            managementService.deleteEventLogEntry(eventLogEntry.getLogNumber());
+        }
+    }
+
+    @Test
+    @Deployment(resources = { "org/flowable/engine/test/api/event/DatabaseEventLoggerProcess.bpmn20.xml" })
+    public void testEventsAreAppendedToFileAndLoaded() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("DatabaseEventLoggerProcess",
+                CollectionUtil.singletonMap("testVar", "helloWorld"));
+
+        // Nothing is inserted in the database by the transaction itself
+        assertThat(managementService.getEventLogEntries(null, null)).isEmpty();
+
+        List<EventLogEntry> entries = eventLogFile.createReader(1).read(1000);
+        assertThat(entries).isNotEmpty();
+        assertThat(entries)
+                .extracting(EventLogEntry::getType)
+                .contains(FlowableEngineEventType.VARIABLE_CREATED.name(), FlowableEngineEventType.TASK_CREATED.name());
+        assertThat(entries)
+                .filteredOn(entry -> entry.getProcessInstanceId() != null)
+                .extracting(EventLogEntry::getProcessInstanceId)
+                .containsOnly(processInstance.getId());
+        for (int i = 0; i < entries.size(); i++) {
+            assertThat(entries.get(i).getLogNumber()).isEqualTo(i + 1);
+        }
+
+        EventLogFileLoader loader = new EventLogFileLoader(eventLogFile, processEngineConfiguration.getCommandExecutor());
+        loader.setBatchSize(4);
+        assertThat(loader.loadAvailableEntries()).isEqualTo(entries.size());
+        assertThat(loader.loadAvailableEntries()).isZero();
+
+        List<EventLogEntry> databaseEntries = managementService.getEventLogEntries(null, null);
+        assertThat(databaseEntries)
+                .extracting(EventLogEntry::getType)
+                .containsExactlyElementsOf(entries.stream().map(EventLogEntry::getType).toList());
+
+        // A new loader continues from the checkpoint
+        assertThat(new EventLogFileLoader(eventLogFile, processEngineConfiguration.getCommandExecutor()).loadAvailableEntries()).isZero();
+    }
+
+    @Test
+    @Deployment(resources = { "org/flowable/engine/test/api/event/DatabaseEventLoggerProcess.bpmn20.xml" })
+    public void testRolledBackTransactionIsNotAppended() {
+        assertThatThrownBy(() -> managementService.executeCommand(commandContext -> {
+            runtimeService.startProcessInstanceByKey("DatabaseEventLoggerProcess", CollectionUtil.singletonMap("testVar", "helloWorld"));
+            throw new FlowableException("rollback");
+        })).hasMessage("rollback");
+
+        assertThat(eventLogFile.getLastAppendedLogNumber()).isZero();
+        assertThat(eventLogFile.createReader(1).read(1000)).isEmpty();
+    }
+
+    @Test
+    @Deployment(resources = { "org/flowable/engine/test/api/event/DatabaseEventLoggerProcess.bpmn20.xml" })
+    public void testTransactionRolledBackAfterEntriesAreGeneratedIsNotAppended() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("DatabaseEventLoggerProcess",
+                CollectionUtil.singletonMap("testVar", "helloWorld"));
+        long lastLogNumber = eventLogFile.getLastAppendedLogNumber();
+        assertThat(lastLogNumber).isPositive();
+
+        // The entries are generated when the command context is closing, and the flush after that fails
+        // because the process instance was updated by another transaction in the meantime
+        assertThatThrownBy(() -> managementService.executeCommand(commandContext -> {
+            ExecutionEntity execution = CommandContextUtil.getExecutionEntityManager(commandContext).findById(processInstance.getId());
+            processEngineConfiguration.getCommandExecutor().execute(processEngineConfiguration.getDefaultCommandConfig().transactionRequiresNew(),
+                    new SetProcessInstanceNameCmd(processInstance.getId(), "concurrent name"));
+            execution.setName("stale name");
+            runtimeService.setVariable(processInstance.getId(), "testVar", "rolled back");
+            return null;
+        })).isInstanceOf(FlowableOptimisticLockingException.class);
+
+        assertThat(eventLogFile.createReader(lastLogNumber + 1).read(1000))
+                .extracting(EventLogEntry::getType)
+                .doesNotContain(FlowableEngineEventType.VARIABLE_UPDATED.name());
+        assertThat(runtimeService.getVariable(processInstance.getId(), "testVar")).isEqualTo("helloWorld");
+        assertThat(eventLogFileLogger.getFailedEntryCount()).isZero();
+    }
+
+    @Test
+    @Deployment(resources = { "org/flowable/engine/test/api/event/DatabaseEventLoggerProcess.bpmn20.xml" })
+    public void testFailedAppendIsCounted() {
+        eventLogFile.close();
+
+        // The transaction is committed, but its entries can't be appended anymore
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("DatabaseEventLoggerProcess",
+                CollectionUtil.singletonMap("testVar", "helloWorld"));
+        assertThat(runtimeService.createProcessInstanceQuery().processInstanceId(processInstance.getId()).count()).isEqualTo(1);
+        assertThat(eventLogFileLogger.getFailedEntryCount()).isPositive();
+
+        long failedEntryCount = eventLogFileLogger.getFailedEntryCount();
+        runtimeService.setVariable(processInstance.getId(), "testVar", "changed");
+        assertThat(eventLogFileLogger.getFailedEntryCount()).isGreaterThan(failedEntryCount);
+    }
+
+    @Test
+    public void testTailSegmentsAndReopen() {
+        EventLogFileReader reader = eventLogFile.createReader(1);
+        assertThat(reader.read(10)).isEmpty();
+
+        // Each entry is about 2KB, so the entries are spread over multiple 64KB segments
+        for (int i = 0; i < 100; i++) {
+            eventLogFile.append(Collections.singletonList(createEntry("type-" + i)));
+        }
+        assertThat(eventLogFile.getSegmentFiles()).hasSizeGreaterThan(2);
+
+        List<EventLogEntry> entries = new ArrayList<>(reader.read(60));
+        assertThat(entries).hasSize(60);
+        entries.addAll(reader.read(1000));
+        List<String> expectedTypes = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            expectedTypes.add("type-" + i);
+        }
+        assertThat(entries).extracting(EventLogEntry::getType).containsExactlyElementsOf(expectedTypes);
+        assertThat(entries.get(99).getData()).hasSize(2000);
+
+        eventLogFile.append(Collections.singletonList(createEntry("type-100")));
+        assertThat(reader.read(1000)).extracting(EventLogEntry::getType).containsExactly("type-100");
+
+        // Reopening continues with the next log number
+        eventLogFile.close();
+        eventLogFile = new EventLogFile(directory, 64 * 1024);
+        assertThat(eventLogFile.getLastAppendedLogNumber()).isEqualTo(101);
+        assertThat(eventLogFile.append(Collections.singletonList(createEntry("type-101")))).isEqualTo(102);
+        assertThat(eventLogFile.createReader(100).read(1000)).extracting(EventLogEntry::getType).containsExactly("type-99", "type-100", "type-101");
+    }
+
+    @Test
+    public void testRetention() {
+        eventLogFile.setMaxSegments(2);
+        for (int i = 0; i < 100; i++) {
+            eventLogFile.append(Collections.singletonList(createEntry("type-" + i)));
+        }
+        assertThat(eventLogFile.getSegmentFiles()).hasSize(2);
+
+        // A reader of deleted entries continues with the oldest entry that is left
+        List<EventLogEntry> entries = eventLogFile.createReader(1).read(1000);
+        assertThat(entries.get(0).getLogNumber()).isGreaterThan(1);
+        assertThat(entries.get(entries.size() - 1).getLogNumber()).isEqualTo(100);
+
+        eventLogFile.deleteSegmentsBefore(101);
+        assertThat(eventLogFile.getSegmentFiles()).hasSize(1);
+    }
+
+    protected EventLogEntryEntityImpl createEntry(String type) {
+        EventLogEntryEntityImpl entry = new EventLogEntryEntityImpl();
+        entry.setType(type);
+        entry.setProcessInstanceId("processInstanceId");
+        entry.setTimeStamp(new Date());
+        entry.setData("x".repeat(2000).getBytes(StandardCharsets.UTF_8));
+        return entry;
+    }
+}
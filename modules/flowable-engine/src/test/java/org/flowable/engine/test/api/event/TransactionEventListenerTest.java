@@ -19,16 +19,26 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
+import org.flowable.common.engine.api.delegate.event.AbstractFlowableEventListener;
 import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
+import org.flowable.common.engine.api.delegate.event.FlowableEntityEvent;
 import org.flowable.common.engine.api.delegate.event.FlowableEvent;
 import org.flowable.common.engine.api.delegate.event.FlowableEventListener;
 import org.flowable.common.engine.impl.cfg.TransactionState;
+import org.flowable.common.engine.impl.event.AsyncEventListenerExecutor;
+import org.flowable.common.engine.impl.event.FlowableEventDispatcherImpl;
+import org.flowable.common.engine.impl.event.FlowableEventSupport;
 import org.flowable.common.engine.impl.util.CollectionUtil;
 import org.flowable.engine.delegate.DelegateExecution;
 import org.flowable.engine.delegate.JavaDelegate;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.engine.test.Deployment;
+import org.flowable.task.api.Task;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -154,6 +164,58 @@ public class TransactionEventListenerTest extends PluggableFlowableTestCase {
         assertThat(TestTransactionEventListener.eventsReceived.size()).isPositive();
     }
 
+    @Test
+    public void testAsyncEventListenerReadsEntitySnapshot() throws Exception {
+        processEngineConfiguration.getEventDispatcher().removeEventListener(onCommitListener);
+
+        FlowableEventSupport eventSupport = ((FlowableEventDispatcherImpl) processEngineConfiguration.getEventDispatcher()).getEventSupport();
+        AsyncEventListenerExecutor asyncEventListenerExecutor = new AsyncEventListenerExecutor();
+        asyncEventListenerExecutor.start();
+        eventSupport.setAsyncEventListenerExecutor(asyncEventListenerExecutor);
+
+        CountDownLatch latch = new CountDownLatch(1);
+        List<String> taskValues = new CopyOnWriteArrayList<>();
+        AbstractFlowableEventListener asyncListener = new AbstractFlowableEventListener() {
+
+            @Override
+            public void onEvent(FlowableEvent event) {
+                // Runs on a thread of the executor, without a command context
+                Task task = (Task) ((FlowableEntityEvent) event).getEntity();
+                taskValues.add(task.getId());
+                taskValues.add(task.getName());
+                taskValues.add(task.getTaskDefinitionKey());
+                taskValues.add(task.getProcessInstanceId());
+                latch.countDown();
+            }
+
+            @Override
+            public boolean isFailOnException() {
+                return false;
+            }
+        };
+        asyncListener.setAsync(true);
+        processEngineConfiguration.getEventDispatcher().addEventListener(asyncListener, FlowableEngineEventType.TASK_CREATED);
+
+        try {
+            deployOneTaskTestProcess();
+            ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+            Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+
+            // The listener gets the state at commit time, not the state after this change
+            task.setName("Changed name");
+            taskService.saveTask(task);
+
+            assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+            assertThat(taskValues).containsExactly(task.getId(), "The Task", "theTask", processInstance.getId());
+            assertThat(asyncEventListenerExecutor.getFailedEventCount()).isZero();
+
+        } finally {
+            processEngineConfiguration.getEventDispatcher().removeEventListener(asyncListener);
+            eventSupport.setAsyncEventListenerExecutor(null);
+            asyncEventListenerExecutor.shutdown();
+        }
+    }
+
     public static class TestTransactionEventListener implements FlowableEventListener {
 
         protected String onTransaction;
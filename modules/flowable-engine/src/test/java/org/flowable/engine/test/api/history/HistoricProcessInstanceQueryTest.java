@@ -13,14 +13,20 @@
 package org.flowable.engine.test.api.history;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.tuple;
 
+import java.util.ArrayList;
+import java.util.Date;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.impl.history.HistoryLevel;
 import org.flowable.engine.history.HistoricProcessInstance;
+import org.flowable.engine.history.HistoricProcessInstanceQuery;
 import org.flowable.engine.impl.test.HistoryTestHelper;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
 import org.flowable.engine.runtime.ActivityInstance;
@@ -557,4 +563,49 @@ public class HistoricProcessInstanceQueryTest extends PluggableFlowableTestCase
                 );
     }
 
+    @Test
+    public void testKeysetPagination() {
+        deployOneTaskTestProcess();
+        Date now = new Date();
+        try {
+            for (int i = 0; i < 7; i++) {
+                // Several instances share the same start time, so the id has to break the ties
+                processEngineConfiguration.getClock().setCurrentTime(new Date(now.getTime() + (i / 3) * 1000L));
+                runtimeService.startProcessInstanceByKey("oneTaskProcess");
+            }
+        } finally {
+            processEngineConfiguration.getClock().reset();
+        }
+
+        if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+            List<String> expectedIds = historyService.createHistoricProcessInstanceQuery()
+                    .orderByProcessInstanceStartTime().desc()
+                    .orderByProcessInstanceId().desc()
+                    .list().stream().map(HistoricProcessInstance::getId).collect(Collectors.toList());
+
+            HistoricProcessInstanceQuery query = historyService.createHistoricProcessInstanceQuery().orderByProcessInstanceStartTime().desc();
+            List<String> pagedIds = new ArrayList<>();
+            List<HistoricProcessInstance> page = query.listAfter(null, 3);
+            while (!page.isEmpty()) {
+                assertThat(page).hasSizeLessThanOrEqualTo(3);
+                page.forEach(historicProcessInstance -> pagedIds.add(historicProcessInstance.getId()));
+                page = query.listAfter(query.createCursor(page.get(page.size() - 1)), 3);
+            }
+            assertThat(pagedIds).containsExactlyElementsOf(expectedIds);
+
+            // The paging does not change the count
+            assertThat(query.count()).isEqualTo(7);
+
+            // A cursor only fits the order it was created for
+            HistoricProcessInstance first = query.listAfter(null, 1).get(0);
+            String cursor = query.createCursor(first);
+            assertThatThrownBy(() -> historyService.createHistoricProcessInstanceQuery().orderByProcessInstanceStartTime().asc().listAfter(cursor, 3))
+                    .isInstanceOf(FlowableIllegalArgumentException.class);
+
+            // Nullable columns have no defined position for keyset pagination
+            assertThatThrownBy(() -> historyService.createHistoricProcessInstanceQuery().orderByProcessInstanceEndTime().asc().listAfter(null, 3))
+                    .isInstanceOf(FlowableIllegalArgumentException.class);
+        }
+    }
+
 }
@@ -0,0 +1,126 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.FlowableObjectNotFoundException;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.runtime.ProcessInstanceBulkStartResult;
+import org.flowable.engine.test.Deployment;
+import org.junit.jupiter.api.Test;
+
+public class ProcessInstanceBulkStartTest extends PluggableFlowableTestCase {
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testStartInBatches() {
+        ProcessInstanceBulkStartResult result = runtimeService.createProcessInstanceBulkStartBuilder()
+                .processDefinitionKey("oneTaskProcess")
+                .batchSize(10)
+                .addProcessInstance("first", Collections.singletonMap("position", 0))
+                .businessKeys(IntStream.range(1, 21).mapToObj(i -> "key" + i))
+                .variables(Stream.of(Collections.singletonMap("position", 21), Collections.singletonMap("position", 22)))
+                .addProcessInstance("last", null)
+                .start();
+
+        assertThat(result.getFailures()).isEmpty();
+        assertThat(result.getProcessInstanceIds()).hasSize(24).doesNotHaveDuplicates();
+        assertThat(taskService.createTaskQuery().count()).isEqualTo(24);
+
+        List<String> processInstanceIds = result.getProcessInstanceIds();
+        assertThat(runtimeService.getVariable(processInstanceIds.get(0), "position")).isEqualTo(0);
+        assertThat(runtimeService.createProcessInstanceQuery().processInstanceId(processInstanceIds.get(0)).singleResult().getBusinessKey()).isEqualTo("first");
+        assertThat(runtimeService.createProcessInstanceQuery().processInstanceId(processInstanceIds.get(5)).singleResult().getBusinessKey()).isEqualTo("key5");
+        assertThat(runtimeService.getVariable(processInstanceIds.get(22), "position")).isEqualTo(22);
+        assertThat(runtimeService.createProcessInstanceQuery().processInstanceId(processInstanceIds.get(23)).singleResult().getBusinessKey()).isEqualTo("last");
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/runtime/ProcessInstanceBulkStartTest.amountProcess.bpmn20.xml")
+    public void testFailedStartsDoNotAbortTheBatch() {
+        List<Map<String, Object>> variables = IntStream.range(0, 12)
+                .mapToObj(i -> i % 5 == 2 ? Collections.<String, Object>emptyMap() : Collections.<String, Object>singletonMap("amount", i * 20))
+                .collect(Collectors.toList());
+
+        ProcessInstanceBulkStartResult result = runtimeService.createProcessInstanceBulkStartBuilder()
+                .processDefinitionKey("amountProcess")
+                .batchSize(5)
+                .variables(variables.stream())
+                .start();
+
+        assertThat(result.getFailures())
+                .extracting(ProcessInstanceBulkStartResult.Failure::getIndex)
+                .containsExactly(2, 7);
+        assertThat(result.getFailures())
+                .extracting(ProcessInstanceBulkStartResult.Failure::getException)
+                .allSatisfy(exception -> assertThat(exception).isInstanceOf(FlowableException.class));
+
+        assertThat(result.getProcessInstanceIds()).hasSize(10);
+        assertThat(runtimeService.createProcessInstanceQuery().processDefinitionKey("amountProcess").count()).isEqualTo(10);
+        assertThat(taskService.createTaskQuery().taskDefinitionKey("approveTask").count()).isEqualTo(5);
+        assertThat(taskService.createTaskQuery().taskDefinitionKey("reviewTask").count()).isEqualTo(5);
+
+        ProcessInstance lastProcessInstance = runtimeService.createProcessInstanceQuery().processInstanceId(result.getProcessInstanceIds().get(9)).singleResult();
+        assertThat(runtimeService.getVariable(lastProcessInstance.getId(), "amount")).isEqualTo(220);
+    }
+
+    @Test
+    public void testProcessDefinitionRemovedAfterCommittedBatch() {
+        String deploymentId = repositoryService.createDeployment()
+                .addClasspathResource("org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+                .deploy()
+                .getId();
+
+        ProcessInstanceBulkStartResult result = runtimeService.createProcessInstanceBulkStartBuilder()
+                .processDefinitionKey("oneTaskProcess")
+                .batchSize(5)
+                .businessKeys(IntStream.range(0, 12).mapToObj(i -> {
+                    if (i == 5) {
+                        // The first batch is committed before the items of the second batch are read
+                        repositoryService.deleteDeployment(deploymentId, true);
+                    }
+                    return "key" + i;
+                }))
+                .start();
+
+        // The ids of the committed batch are not lost, the items that could not be started are reported as failures
+        assertThat(result.getProcessInstanceIds()).hasSize(5);
+        assertThat(result.getFailures())
+                .extracting(ProcessInstanceBulkStartResult.Failure::getIndex)
+                .containsExactly(5, 6, 7, 8, 9, 10, 11);
+        assertThat(result.getFailures())
+                .extracting(ProcessInstanceBulkStartResult.Failure::getException)
+                .allSatisfy(exception -> assertThat(exception).isInstanceOf(FlowableObjectNotFoundException.class));
+    }
+
+    @Test
+    public void testUnknownProcessDefinition() {
+        assertThatThrownBy(() -> runtimeService.createProcessInstanceBulkStartBuilder()
+                .processDefinitionKey("unknown")
+                .businessKeys(Stream.of("a", "b"))
+                .start())
+                .isInstanceOf(FlowableObjectNotFoundException.class);
+    }
+
+}
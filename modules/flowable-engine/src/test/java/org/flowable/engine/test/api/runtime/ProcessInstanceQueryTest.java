@@ -2579,4 +2579,31 @@ public class ProcessInstanceQueryTest extends PluggableFlowableTestCase {
                 validationProcessInstance.getId()
         );
     }
+
+    @Test
+    public void testKeysetPagination() {
+        // Several instances share the same process definition, so the id has to break the ties
+        List<String> expectedIds = runtimeService.createProcessInstanceQuery()
+                .orderByProcessDefinitionId().desc()
+                .orderByProcessInstanceId().desc()
+                .list().stream().map(ProcessInstance::getId).collect(Collectors.toList());
+        assertThat(expectedIds).hasSize(PROCESS_DEPLOY_COUNT);
+
+        ProcessInstanceQuery query = runtimeService.createProcessInstanceQuery().orderByProcessDefinitionId().desc();
+        List<String> pagedIds = new ArrayList<>();
+        List<ProcessInstance> page = query.listAfter(null, 2);
+        while (!page.isEmpty()) {
+            assertThat(page).hasSizeLessThanOrEqualTo(2);
+            page.forEach(processInstance -> pagedIds.add(processInstance.getId()));
+            page = query.listAfter(query.createCursor(page.get(page.size() - 1)), 2);
+        }
+        assertThat(pagedIds).containsExactlyElementsOf(expectedIds);
+
+        // The paging does not change the count
+        assertThat(query.count()).isEqualTo(PROCESS_DEPLOY_COUNT);
+
+        // Columns of the process definition are not supported for keyset pagination
+        assertThatThrownBy(() -> runtimeService.createProcessInstanceQuery().orderByProcessDefinitionKey().asc().listAfter(null, 2))
+                .isInstanceOf(FlowableIllegalArgumentException.class);
+    }
 }
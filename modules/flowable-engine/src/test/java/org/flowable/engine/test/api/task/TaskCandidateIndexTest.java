@@ -0,0 +1,170 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.task;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.test.impl.CustomConfigurationFlowableTestCase;
+import org.flowable.task.api.Task;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TaskCandidateIndexTest extends CustomConfigurationFlowableTestCase {
+
+    protected List<String> taskIds = new ArrayList<>();
+
+    public TaskCandidateIndexTest() {
+        super(TaskCandidateIndexTest.class.getName());
+    }
+
+    @Override
+    protected void configureConfiguration(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        processEngineConfiguration.setEnableTaskCandidateIndex(true);
+    }
+
+    @BeforeEach
+    public void setUp() {
+        identityService.saveUser(identityService.newUser("kermit"));
+        identityService.saveUser(identityService.newUser("fozzie"));
+        identityService.saveGroup(identityService.newGroup("management"));
+        identityService.saveGroup(identityService.newGroup("accountancy"));
+        identityService.createMembership("kermit", "management");
+        identityService.createMembership("fozzie", "accountancy");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        for (String taskId : taskIds) {
+            taskService.deleteTask(taskId, true);
+        }
+        identityService.deleteGroup("accountancy");
+        identityService.deleteGroup("management");
+        identityService.deleteUser("fozzie");
+        identityService.deleteUser("kermit");
+
+        assertThat(getTaskCandidateIndexCount()).isZero();
+    }
+
+    @Test
+    public void testQueryByCandidates() {
+        String userTaskId = createTask("userTask");
+        taskService.addCandidateUser(userTaskId, "kermit");
+        String managementTaskId = createTask("managementTask");
+        taskService.addCandidateGroup(managementTaskId, "management");
+        String accountancyTaskId = createTask("accountancyTask");
+        taskService.addCandidateGroup(accountancyTaskId, "accountancy");
+        // Other identity links are not part of the index
+        taskService.addUserIdentityLink(accountancyTaskId, "kermit", "participant");
+
+        assertThat(getTaskCandidateIndexCount()).isEqualTo(3);
+
+        assertThat(taskService.createTaskQuery().taskCandidateUser("kermit").list())
+                .extracting(Task::getId)
+                .containsExactlyInAnyOrder(userTaskId, managementTaskId);
+        assertThat(taskService.createTaskQuery().taskCandidateUser("fozzie").list())
+                .extracting(Task::getId)
+                .containsExactly(accountancyTaskId);
+        assertThat(taskService.createTaskQuery().taskCandidateGroup("management").count()).isEqualTo(1);
+        assertThat(taskService.createTaskQuery().taskCandidateGroupIn(Arrays.asList("management", "accountancy")).count()).isEqualTo(2);
+        assertThat(taskService.createTaskQuery().taskCandidateGroup("unknown").count()).isZero();
+        assertThat(taskService.createTaskQuery().taskCandidateOrAssigned("kermit").list())
+                .extracting(Task::getId)
+                .containsExactlyInAnyOrder(userTaskId, managementTaskId);
+        assertThat(taskService.createTaskQuery().or().taskCandidateUser("fozzie").taskName("userTask").endOr().list())
+                .extracting(Task::getId)
+                .containsExactlyInAnyOrder(userTaskId, accountancyTaskId);
+
+        // A claimed task is no longer a candidate task, but it is still assigned
+        taskService.claim(managementTaskId, "fozzie");
+        assertThat(taskService.createTaskQuery().taskCandidateUser("kermit").list())
+                .extracting(Task::getId)
+                .containsExactly(userTaskId);
+        assertThat(taskService.createTaskQuery().taskCandidateOrAssigned("fozzie").list())
+                .extracting(Task::getId)
+                .containsExactlyInAnyOrder(managementTaskId, accountancyTaskId);
+    }
+
+    @Test
+    public void testIndexFollowsIdentityLinks() {
+        String taskId = createTask("task");
+        taskService.addCandidateUser(taskId, "kermit");
+        taskService.addCandidateGroup(taskId, "accountancy");
+        assertThat(getTaskCandidateIndexCount()).isEqualTo(2);
+
+        taskService.deleteCandidateUser(taskId, "kermit");
+        assertThat(getTaskCandidateIndexCount()).isEqualTo(1);
+        assertThat(taskService.createTaskQuery().taskCandidateUser("kermit").count()).isZero();
+        assertThat(taskService.createTaskQuery().taskCandidateUser("fozzie").count()).isEqualTo(1);
+
+        taskService.deleteCandidateGroup(taskId, "accountancy");
+        assertThat(getTaskCandidateIndexCount()).isZero();
+        assertThat(taskService.createTaskQuery().taskCandidateUser("fozzie").count()).isZero();
+
+        taskService.addCandidateUser(taskId, "kermit");
+        taskService.addCandidateGroup(taskId, "management");
+        assertThat(getTaskCandidateIndexCount()).isEqualTo(2);
+
+        taskService.complete(taskId);
+        taskIds.remove(taskId);
+        assertThat(getTaskCandidateIndexCount()).isZero();
+        historyService.deleteHistoricTaskInstance(taskId);
+    }
+
+    @Test
+    public void testRebuildIndex() {
+        String taskId = createTask("task");
+        taskService.addCandidateUser(taskId, "kermit");
+        taskService.addCandidateGroup(taskId, "accountancy");
+        String otherTaskId = createTask("otherTask");
+        taskService.addCandidateGroup(otherTaskId, "management");
+        taskService.addUserIdentityLink(otherTaskId, "fozzie", "participant");
+
+        managementService.executeCommand(commandContext -> {
+            processEngineConfiguration.getIdentityLinkServiceConfiguration().getIdentityLinkDataManager().deleteAllTaskCandidateIndexEntries();
+            return null;
+        });
+        assertThat(getTaskCandidateIndexCount()).isZero();
+        assertThat(taskService.createTaskQuery().taskCandidateUser("kermit").count()).isZero();
+
+        assertThat(managementService.rebuildTaskCandidateIndex()).isEqualTo(3);
+        assertThat(getTaskCandidateIndexCount()).isEqualTo(3);
+        assertThat(taskService.createTaskQuery().taskCandidateUser("kermit").list())
+                .extracting(Task::getId)
+                .containsExactlyInAnyOrder(taskId, otherTaskId);
+        assertThat(taskService.createTaskQuery().taskCandidateUser("fozzie").list())
+                .extracting(Task::getId)
+                .containsExactly(taskId);
+
+        // Rebuilding an up to date index does not change it
+        assertThat(managementService.rebuildTaskCandidateIndex()).isEqualTo(3);
+        assertThat(getTaskCandidateIndexCount()).isEqualTo(3);
+    }
+
+    protected String createTask(String name) {
+        Task task = taskService.newTask();
+        task.setName(name);
+        taskService.saveTask(task);
+        taskIds.add(task.getId());
+        return task.getId();
+    }
+
+    protected long getTaskCandidateIndexCount() {
+        return managementService.getTableCount().get(processEngineConfiguration.getDatabaseTablePrefix() + "ACT_RU_TASK_CANDIDATE");
+    }
+}
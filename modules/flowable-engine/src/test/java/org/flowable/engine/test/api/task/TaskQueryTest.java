@@ -19,6 +19,7 @@ import static org.assertj.core.api.Assertions.entry;
 import static org.assertj.core.api.Assertions.tuple;
 
 import java.text.SimpleDateFormat;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
@@ -27,6 +28,7 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
@@ -4893,6 +4895,64 @@ public class TaskQueryTest extends PluggableFlowableTestCase {
      * Generates some test tasks. - 6 tasks where kermit is a candidate - 1 tasks where gonzo is assignee - 2 tasks assigned to management group - 2 tasks assigned to accountancy group - 1 task
      * assigned to both the management and accountancy group
      */
+    @Test
+    public void testKeysetPagination() {
+        List<String> expectedIds = taskService.createTaskQuery().orderByTaskCreateTime().asc().orderByTaskId().asc().list()
+                .stream().map(Task::getId).collect(Collectors.toList());
+
+        TaskQuery query = taskService.createTaskQuery().orderByTaskCreateTime().asc();
+        List<String> pagedIds = new ArrayList<>();
+        List<Task> page = query.listAfter(null, 5);
+        while (!page.isEmpty()) {
+            page.forEach(task -> pagedIds.add(task.getId()));
+            page = query.listAfter(query.createCursor(page.get(page.size() - 1)), 5);
+        }
+        assertThat(pagedIds).containsExactlyElementsOf(expectedIds);
+
+        if (isHistoryLevelAtLeast(HistoryLevel.AUDIT)) {
+            HistoricTaskInstanceQuery historicQuery = historyService.createHistoricTaskInstanceQuery().orderByHistoricTaskInstanceStartTime().desc();
+            List<HistoricTaskInstance> historicPage = historicQuery.listAfter(null, 4);
+            assertThat(historicQuery.listAfter(historicQuery.createCursor(historicPage.get(3)), 100))
+                    .extracting(HistoricTaskInstance::getId)
+                    .containsExactlyElementsOf(historyService.createHistoricTaskInstanceQuery().orderByHistoricTaskInstanceStartTime().desc()
+                            .orderByTaskId().desc().listPage(4, 100).stream().map(HistoricTaskInstance::getId).collect(Collectors.toList()));
+        }
+
+        assertThatThrownBy(() -> taskService.createTaskQuery().orderByTaskName().asc().listAfter(null, 5))
+                .isInstanceOf(FlowableIllegalArgumentException.class);
+    }
+
+    @Test
+    public void testCountWithMaxAge() {
+        processEngineConfiguration.getQueryCountCache().clear();
+        Date now = new Date();
+        processEngineConfiguration.getClock().setCurrentTime(now);
+
+        long kermitCount = taskService.createTaskQuery().taskCandidateUser("kermit").count();
+        TaskQuery variableQuery = taskService.createTaskQuery().taskVariableValueEquals("testVar", "someVariable");
+        assertThat(taskService.createTaskQuery().taskCandidateUser("kermit").count(Duration.ofSeconds(10))).isEqualTo(kermitCount);
+        assertThat(variableQuery.count(Duration.ofSeconds(10))).isEqualTo(1);
+
+        Task task = taskService.newTask();
+        taskService.saveTask(task);
+        taskIds.add(task.getId());
+        taskService.addCandidateUser(task.getId(), "kermit");
+        taskService.setVariable(task.getId(), "testVar", "someVariable");
+
+        // The counts of identical queries are reused until they are older than the requested age
+        processEngineConfiguration.getClock().setCurrentTime(new Date(now.getTime() + 5000));
+        assertThat(taskService.createTaskQuery().taskCandidateUser("kermit").count(Duration.ofSeconds(10))).isEqualTo(kermitCount);
+        assertThat(variableQuery.count(Duration.ofSeconds(10))).isEqualTo(1);
+        assertThat(taskService.createTaskQuery().taskVariableValueEquals("testVar", "someVariable").count(Duration.ofSeconds(10))).isEqualTo(1);
+        assertThat(taskService.createTaskQuery().taskCandidateUser("kermit").count(Duration.ofSeconds(1))).isEqualTo(kermitCount + 1);
+        assertThat(taskService.createTaskQuery().taskCandidateUser("kermit").count()).isEqualTo(kermitCount + 1);
+        assertThat(taskService.createTaskQuery().taskVariableValueEquals("testVar", "otherVariable").count(Duration.ofSeconds(10))).isZero();
+
+        processEngineConfiguration.getClock().setCurrentTime(new Date(now.getTime() + 11000));
+        assertThat(variableQuery.count(Duration.ofSeconds(10))).isEqualTo(2);
+        assertThat(taskService.createTaskQuery().taskCandidateUser("kermit").count(Duration.ofSeconds(10))).isEqualTo(kermitCount + 1);
+    }
+
     private List<String> generateTestTasks() throws Exception {
         List<String> ids = new ArrayList<>();
 
@@ -0,0 +1,95 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.variables;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.flowable.engine.test.api.variables.SerializableVariableCodecTest.TestAddress;
+import org.flowable.engine.test.api.variables.SerializableVariableCodecTest.TestCustomer;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntityImpl;
+import org.flowable.variable.service.impl.types.SerializableType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compares the read and write throughput of Java serialization and the compact bean codec for 'serializable' variables.
+ * Run with -Dflowable.benchmark=true.
+ */
+@EnabledIfSystemProperty(named = "flowable.benchmark", matches = "true")
+public class SerializableVariableCodecBenchmarkTest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SerializableVariableCodecBenchmarkTest.class);
+
+    protected static final int WARMUP_ITERATIONS = 20_000;
+    protected static final int ITERATIONS = 200_000;
+
+    @Test
+    public void benchmarkReadAndWrite() {
+        VariableInstanceEntity valueFields = new VariableInstanceEntityImpl();
+        valueFields.setName("customer");
+        TestCustomer customer = createCustomer();
+
+        SerializableType javaSerializationType = new SerializableType();
+        SerializableType codecType = new SerializableType();
+        codecType.setCodecs(Collections.singletonList(SerializableVariableCodecTest.createCodec()));
+
+        benchmark("java serialization", javaSerializationType, customer, valueFields);
+        benchmark("compact bean codec", codecType, customer, valueFields);
+    }
+
+    protected void benchmark(String name, SerializableType serializableType, TestCustomer customer, VariableInstanceEntity valueFields) {
+        byte[] bytes = null;
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            bytes = serializableType.serialize(customer, valueFields);
+            serializableType.deserialize(bytes, valueFields);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            bytes = serializableType.serialize(customer, valueFields);
+        }
+        long writeNanos = System.nanoTime() - start;
+
+        Object value = null;
+        start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            value = serializableType.deserialize(bytes, valueFields);
+        }
+        long readNanos = System.nanoTime() - start;
+
+        assertThat(((TestCustomer) value).getName()).isEqualTo(customer.getName());
+        LOGGER.info("{}: {} bytes, {} writes/s, {} reads/s", name, bytes.length,
+                ITERATIONS * 1_000_000_000L / writeNanos, ITERATIONS * 1_000_000_000L / readNanos);
+    }
+
+    protected TestCustomer createCustomer() {
+        TestCustomer customer = new TestCustomer();
+        customer.setName("Kermit");
+        customer.setAge(42);
+        customer.setVip(true);
+        customer.setAddress(new TestAddress("Sesame Street", 123));
+        List<String> tags = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            tags.add("tag-" + i);
+        }
+        customer.setTags(tags);
+        return customer;
+    }
+}
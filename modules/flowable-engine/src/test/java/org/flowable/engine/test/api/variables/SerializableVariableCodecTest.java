@@ -0,0 +1,302 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.variables;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.engine.test.api.variables.SerializableVariableTest.TestSerializableVariable;
+import org.flowable.engine.test.impl.CustomConfigurationFlowableTestCase;
+import org.flowable.variable.api.persistence.entity.VariableInstance;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntityImpl;
+import org.flowable.variable.service.impl.types.CompactBeanSerializableVariableCodec;
+import org.flowable.variable.service.impl.types.SerializableType;
+import org.junit.jupiter.api.Test;
+
+public class SerializableVariableCodecTest extends CustomConfigurationFlowableTestCase {
+
+    protected static boolean testInitializedClassInitialized;
+
+    public SerializableVariableCodecTest() {
+        super(SerializableVariableCodecTest.class.getName());
+    }
+
+    @Override
+    protected void configureConfiguration(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        processEngineConfiguration.setSerializableVariableTypeCodecs(Collections.singletonList(createCodec()));
+    }
+
+    protected static CompactBeanSerializableVariableCodec createCodec() {
+        return new CompactBeanSerializableVariableCodec()
+                .addClass(TestCustomer.class)
+                .addClass(TestAddress.class)
+                .addClass(TestOrder.class);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testBeanIsWrittenWithCodec() {
+        TestCustomer customer = new TestCustomer();
+        customer.setName("Kermit");
+        customer.setAge(42);
+        customer.setVip(true);
+        customer.setAddress(new TestAddress("Sesame Street", 123));
+        customer.setTags(new ArrayList<>(List.of("frog", "green")));
+
+        ProcessInstance processInstance = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("oneTaskProcess")
+                .variable("customer", customer)
+                .start();
+
+        byte[] bytes = getVariableBytes(processInstance.getId(), "customer");
+        assertThat(bytes[0] & 0xFF).isEqualTo(0xF1);
+
+        TestCustomer storedCustomer = (TestCustomer) runtimeService.getVariable(processInstance.getId(), "customer");
+        assertThat(storedCustomer).isNotSameAs(customer);
+        assertThat(storedCustomer.getName()).isEqualTo("Kermit");
+        assertThat(storedCustomer.getAge()).isEqualTo(42);
+        assertThat(storedCustomer.isVip()).isTrue();
+        assertThat(storedCustomer.getAddress()).isEqualTo(new TestAddress("Sesame Street", 123));
+        assertThat(storedCustomer.getTags()).containsExactly("frog", "green");
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testRecordIsWrittenWithCodec() {
+        Map<String, Object> lines = new LinkedHashMap<>();
+        lines.put("apples", 3);
+        lines.put("pears", new BigDecimal("1.50"));
+        TestOrder order = new TestOrder("order-1", TestOrderState.SHIPPED, LocalDate.of(2020, 2, 29), lines, new TestSerializableVariable(7));
+
+        ProcessInstance processInstance = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("oneTaskProcess")
+                .variable("order", order)
+                .start();
+
+        assertThat(getVariableBytes(processInstance.getId(), "order")[0] & 0xFF).isEqualTo(0xF1);
+
+        TestOrder storedOrder = (TestOrder) runtimeService.getVariable(processInstance.getId(), "order");
+        assertThat(storedOrder.id()).isEqualTo("order-1");
+        assertThat(storedOrder.state()).isEqualTo(TestOrderState.SHIPPED);
+        assertThat(storedOrder.date()).isEqualTo(LocalDate.of(2020, 2, 29));
+        assertThat(storedOrder.lines()).isInstanceOf(LinkedHashMap.class).containsExactlyEntriesOf(lines);
+        assertThat(storedOrder.other().getNumber()).isEqualTo(7);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testChangeToTrackedBeanIsStored() {
+        TestCustomer customer = new TestCustomer();
+        customer.setName("Kermit");
+
+        ProcessInstance processInstance = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("oneTaskProcess")
+                .variable("customer", customer)
+                .start();
+
+        managementService.executeCommand(commandContext -> {
+            TestCustomer customerVar = (TestCustomer) getVariableInstance(processInstance.getId(), "customer").getValue();
+            customerVar.setName("Gonzo");
+            return null;
+        });
+
+        TestCustomer storedCustomer = (TestCustomer) runtimeService.getVariable(processInstance.getId(), "customer");
+        assertThat(storedCustomer.getName()).isEqualTo("Gonzo");
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testOtherClassesAreWrittenWithJavaSerialization() {
+        ProcessInstance processInstance = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("oneTaskProcess")
+                .variable("var", new TestSerializableVariable(1))
+                .start();
+
+        byte[] bytes = getVariableBytes(processInstance.getId(), "var");
+        assertThat(bytes[0] & 0xFF).isEqualTo(0xAC);
+        assertThat(((TestSerializableVariable) runtimeService.getVariable(processInstance.getId(), "var")).getNumber()).isEqualTo(1);
+    }
+
+    @Test
+    public void testJavaSerializedValueOfCodecClassCanBeRead() {
+        VariableInstanceEntity valueFields = new VariableInstanceEntityImpl();
+        valueFields.setName("customer");
+
+        TestCustomer customer = new TestCustomer();
+        customer.setName("Kermit");
+        byte[] javaSerializedBytes = new SerializableType().serialize(customer, valueFields);
+
+        SerializableType serializableType = new SerializableType();
+        serializableType.setCodecs(Collections.singletonList(createCodec()));
+        TestCustomer readCustomer = (TestCustomer) serializableType.deserialize(javaSerializedBytes, valueFields);
+        assertThat(readCustomer.getName()).isEqualTo("Kermit");
+
+        byte[] codecBytes = serializableType.serialize(readCustomer, valueFields);
+        assertThat(codecBytes.length).isLessThan(javaSerializedBytes.length);
+        assertThat(((TestCustomer) serializableType.deserialize(codecBytes, valueFields)).getName()).isEqualTo("Kermit");
+    }
+
+    @Test
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public void testCollectionContainingItselfIsRejected() {
+        VariableInstanceEntity valueFields = new VariableInstanceEntityImpl();
+        valueFields.setName("customer");
+
+        List tags = new ArrayList<>();
+        tags.add(tags);
+        TestCustomer customer = new TestCustomer();
+        customer.setTags(tags);
+
+        SerializableType serializableType = new SerializableType();
+        serializableType.setCodecs(Collections.singletonList(createCodec()));
+        assertThatThrownBy(() -> serializableType.serialize(customer, valueFields))
+                .isInstanceOf(FlowableException.class)
+                .hasRootCauseMessage("Value of java.util.ArrayList is nested deeper than 64 levels, it might contain a cycle");
+    }
+
+    @Test
+    public void testStoredClassNamesAreNotInitialized() throws IOException {
+        VariableInstanceEntity valueFields = new VariableInstanceEntityImpl();
+        valueFields.setName("customer");
+        SerializableType serializableType = new SerializableType();
+        serializableType.setCodecs(Collections.singletonList(createCodec()));
+
+        // An enum value of a class that is no enum
+        ByteArrayOutputStream enumBytes = new ByteArrayOutputStream();
+        DataOutputStream enumOutput = createCodecOutput(enumBytes);
+        enumOutput.writeUTF(TestCustomer.class.getName());
+        enumOutput.writeShort(1);
+        enumOutput.writeUTF("name");
+        enumOutput.writeByte(18);
+        enumOutput.writeUTF(TestInitializedClass.class.getName());
+        enumOutput.writeUTF("VALUE");
+        assertThatThrownBy(() -> serializableType.deserialize(enumBytes.toByteArray(), valueFields))
+                .isInstanceOf(FlowableException.class)
+                .hasRootCauseMessage("Class " + TestInitializedClass.class.getName() + " is not an enum");
+
+        // An object of a class that is not handled by the codec
+        ByteArrayOutputStream objectBytes = new ByteArrayOutputStream();
+        DataOutputStream objectOutput = createCodecOutput(objectBytes);
+        objectOutput.writeUTF(TestInitializedClass.class.getName());
+        objectOutput.writeShort(0);
+        assertThatThrownBy(() -> serializableType.deserialize(objectBytes.toByteArray(), valueFields))
+                .isInstanceOf(FlowableException.class)
+                .hasRootCauseMessage("Class " + TestInitializedClass.class.getName() + " is not handled by the compact-bean codec");
+
+        // Reading a static field of the class would initialize it
+        assertThat(testInitializedClassInitialized).isFalse();
+    }
+
+    protected DataOutputStream createCodecOutput(ByteArrayOutputStream bytes) throws IOException {
+        DataOutputStream output = new DataOutputStream(bytes);
+        output.writeByte(0xF1);
+        output.writeUTF(CompactBeanSerializableVariableCodec.TYPE_MARKER);
+        return output;
+    }
+
+    protected byte[] getVariableBytes(String processInstanceId, String name) {
+        return managementService.executeCommand(commandContext -> ((VariableInstanceEntity) getVariableInstance(processInstanceId, name)).getBytes());
+    }
+
+    protected VariableInstance getVariableInstance(String processInstanceId, String name) {
+        return CommandContextUtil.getExecutionEntityManager().findById(processInstanceId).getVariableInstance(name);
+    }
+
+    public static class TestInitializedClass {
+
+        static {
+            testInitializedClassInitialized = true;
+        }
+    }
+
+    public static class TestCustomer implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        protected String name;
+        protected int age;
+        protected boolean vip;
+        protected TestAddress address;
+        protected List<String> tags;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public int getAge() {
+            return age;
+        }
+
+        public void setAge(int age) {
+            this.age = age;
+        }
+
+        public boolean isVip() {
+            return vip;
+        }
+
+        public void setVip(boolean vip) {
+            this.vip = vip;
+        }
+
+        public TestAddress getAddress() {
+            return address;
+        }
+
+        public void setAddress(TestAddress address) {
+            this.address = address;
+        }
+
+        public List<String> getTags() {
+            return tags;
+        }
+
+        public void setTags(List<String> tags) {
+            this.tags = tags;
+        }
+    }
+
+    public record TestAddress(String street, int number) implements Serializable {
+
+    }
+
+    public enum TestOrderState {
+        OPEN, SHIPPED
+    }
+
+    public record TestOrder(String id, TestOrderState state, LocalDate date, Map<String, Object> lines, TestSerializableVariable other) implements Serializable {
+
+    }
+}
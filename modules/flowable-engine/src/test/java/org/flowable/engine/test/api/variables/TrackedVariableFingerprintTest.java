@@ -0,0 +1,131 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.variables;
+
+import static net.javacrumbs.jsonunit.assertj.JsonAssertions.assertThatJson;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.engine.test.api.variables.SerializableVariableTest.TestSerializableVariable;
+import org.flowable.engine.test.impl.CustomConfigurationFlowableTestCase;
+import org.flowable.variable.api.persistence.entity.VariableInstance;
+import org.flowable.variable.service.VariableServiceConfiguration;
+import org.flowable.variable.service.impl.DefaultVariableInstanceValueModifier;
+import org.flowable.variable.service.impl.VariableInstanceValueModifier;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+public class TrackedVariableFingerprintTest extends CustomConfigurationFlowableTestCase {
+
+    protected ObjectMapper objectMapper = new ObjectMapper();
+
+    public TrackedVariableFingerprintTest() {
+        super(TrackedVariableFingerprintTest.class.getName());
+    }
+
+    @Override
+    protected void configureConfiguration(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        processEngineConfiguration.setTrackedVariableFingerprints(true);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testJsonChangeIsStored() {
+        ObjectNode customer = objectMapper.createObjectNode();
+        customer.put("name", "Kermit");
+        customer.putObject("address").put("street", "Sesame Street");
+        ProcessInstance processInstance = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("oneTaskProcess")
+                .variable("customer", customer)
+                .start();
+
+        // Reading without changing does not update the variable
+        int revision = getVariableRevision(processInstance.getId(), "customer");
+        managementService.executeCommand(commandContext -> getVariable(processInstance.getId(), "customer"));
+        assertThat(getVariableRevision(processInstance.getId(), "customer")).isEqualTo(revision);
+
+        managementService.executeCommand(commandContext -> {
+            ObjectNode customerVar = (ObjectNode) getVariable(processInstance.getId(), "customer");
+            ((ObjectNode) customerVar.get("address")).put("street", "Elm Street");
+            return null;
+        });
+
+        assertThat(getVariableRevision(processInstance.getId(), "customer")).isGreaterThan(revision);
+        assertThatJson(runtimeService.getVariable(processInstance.getId(), "customer"))
+                .isEqualTo("{ name: 'Kermit', address: { street: 'Elm Street' } }");
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testSerializableChangeIsStored() {
+        ProcessInstance processInstance = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("oneTaskProcess")
+                .variable("var", new TestSerializableVariable(1))
+                .start();
+
+        managementService.executeCommand(commandContext -> {
+            ((TestSerializableVariable) getVariable(processInstance.getId(), "var")).setNumber(2);
+            return null;
+        });
+
+        assertThat(runtimeService.getVariable(processInstance.getId(), "var", TestSerializableVariable.class).getNumber()).isEqualTo(2);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testValueModifierOptOut() {
+        VariableServiceConfiguration variableServiceConfiguration = processEngineConfiguration.getVariableServiceConfiguration();
+        VariableInstanceValueModifier originalModifier = variableServiceConfiguration.getVariableInstanceValueModifier();
+        variableServiceConfiguration.setVariableInstanceValueModifier(new DefaultVariableInstanceValueModifier(variableServiceConfiguration) {
+
+            @Override
+            public boolean isValueTracked(VariableInstance variableInstance) {
+                return !"untracked".equals(variableInstance.getName());
+            }
+        });
+
+        try {
+            ProcessInstance processInstance = runtimeService.createProcessInstanceBuilder()
+                    .processDefinitionKey("oneTaskProcess")
+                    .variable("tracked", new TestSerializableVariable(1))
+                    .variable("untracked", new TestSerializableVariable(1))
+                    .start();
+
+            managementService.executeCommand(commandContext -> {
+                ((TestSerializableVariable) getVariable(processInstance.getId(), "tracked")).setNumber(2);
+                ((TestSerializableVariable) getVariable(processInstance.getId(), "untracked")).setNumber(2);
+                return null;
+            });
+
+            assertThat(runtimeService.getVariable(processInstance.getId(), "tracked", TestSerializableVariable.class).getNumber()).isEqualTo(2);
+            assertThat(runtimeService.getVariable(processInstance.getId(), "untracked", TestSerializableVariable.class).getNumber()).isEqualTo(1);
+
+        } finally {
+            variableServiceConfiguration.setVariableInstanceValueModifier(originalModifier);
+        }
+    }
+
+    protected Object getVariable(String executionId, String variableName) {
+        return CommandContextUtil.getExecutionEntityManager().findById(executionId).getVariable(variableName);
+    }
+
+    protected int getVariableRevision(String executionId, String variableName) {
+        return ((VariableInstanceEntity) runtimeService.getVariableInstance(executionId, variableName)).getRevision();
+    }
+}
@@ -0,0 +1,175 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.bpmn.deployment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.common.engine.impl.context.Context;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.repository.Deployment;
+import org.flowable.engine.repository.DeploymentBuilder;
+import org.flowable.engine.repository.ProcessDefinition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.flowable.validation.ProcessValidator;
+import org.flowable.validation.ValidationError;
+import org.flowable.validation.validator.ValidatorSet;
+import org.junit.jupiter.api.Test;
+
+public class ParallelDeploymentParsingTest extends PluggableFlowableTestCase {
+
+    protected ExecutorService deploymentParsingExecutor;
+
+    @BeforeEach
+    public void enableParallelDeploymentParsing() {
+        // The engine only creates the executor when parallel parsing is enabled at startup
+        deploymentParsingExecutor = Executors.newFixedThreadPool(4, new BasicThreadFactory.Builder()
+                .namingPattern("flowable-deployment-parsing-%d")
+                .build());
+        processEngineConfiguration.setDeploymentParsingExecutor(deploymentParsingExecutor);
+        processEngineConfiguration.setEnableParallelDeploymentParsing(true);
+    }
+
+    @AfterEach
+    public void disableParallelDeploymentParsing() {
+        processEngineConfiguration.setEnableParallelDeploymentParsing(false);
+        processEngineConfiguration.setDeploymentParsingExecutor(null);
+        deploymentParsingExecutor.shutdown();
+    }
+
+    @Test
+    public void testDeployMultipleResources() {
+        DeploymentBuilder deploymentBuilder = repositoryService.createDeployment();
+        for (int i = 0; i < 10; i++) {
+            deploymentBuilder.addString("process" + i + ".bpmn20.xml", createProcessXml("process" + i));
+        }
+        Deployment deployment = deploymentBuilder.deploy();
+        deploymentIdsForAutoCleanup.add(deployment.getId());
+
+        assertThat(repositoryService.createProcessDefinitionQuery().deploymentId(deployment.getId()).list())
+                .extracting(ProcessDefinition::getKey, ProcessDefinition::getResourceName)
+                .hasSize(10)
+                .contains(
+                        tuple("process0", "process0.bpmn20.xml"),
+                        tuple("process9", "process9.bpmn20.xml"));
+
+        runtimeService.startProcessInstanceByKey("process5");
+        assertThat(taskService.createTaskQuery().taskDefinitionKey("theTask").count()).isEqualTo(1);
+    }
+
+    @Test
+    public void testErrorsAreReportedLikeSequentialParsing() {
+        Throwable parallelException = catchThrowable(() -> createInvalidDeployment().deploy());
+
+        processEngineConfiguration.setEnableParallelDeploymentParsing(false);
+        Throwable sequentialException = catchThrowable(() -> createInvalidDeployment().deploy());
+
+        assertThat(parallelException).isNotNull();
+        assertThat(parallelException.getClass()).isEqualTo(sequentialException.getClass());
+        assertThat(parallelException.getMessage()).isEqualTo(sequentialException.getMessage());
+        assertThat(repositoryService.createDeploymentQuery().count()).isZero();
+    }
+
+    @Test
+    public void testValidatorsRunOnDeploymentParsingExecutorWithoutCommandContext() {
+        ProcessValidator originalProcessValidator = processEngineConfiguration.getProcessValidator();
+        RecordingProcessValidator recordingProcessValidator = new RecordingProcessValidator(originalProcessValidator);
+        ClassLoader originalClassLoader = Thread.currentThread().getContextClassLoader();
+        ClassLoader deploymentClassLoader = new URLClassLoader(new URL[0], originalClassLoader);
+        try {
+            processEngineConfiguration.setProcessValidator(recordingProcessValidator);
+            Thread.currentThread().setContextClassLoader(deploymentClassLoader);
+
+            DeploymentBuilder deploymentBuilder = repositoryService.createDeployment();
+            for (int i = 0; i < 8; i++) {
+                deploymentBuilder.addString("process" + i + ".bpmn20.xml", createProcessXml("process" + i));
+            }
+            Deployment deployment = deploymentBuilder.deploy();
+            deploymentIdsForAutoCleanup.add(deployment.getId());
+
+        } finally {
+            Thread.currentThread().setContextClassLoader(originalClassLoader);
+            processEngineConfiguration.setProcessValidator(originalProcessValidator);
+        }
+
+        assertThat(recordingProcessValidator.threadNames).hasSize(8);
+        assertThat(recordingProcessValidator.threadNames.values())
+                .allSatisfy(threadName -> assertThat(threadName).startsWith("flowable-deployment-parsing-"));
+        assertThat(recordingProcessValidator.contextClassLoaders.values())
+                .allSatisfy(classLoader -> assertThat(classLoader).isSameAs(deploymentClassLoader));
+        assertThat(recordingProcessValidator.withCommandContext.values()).containsOnly(false);
+    }
+
+    protected DeploymentBuilder createInvalidDeployment() {
+        DeploymentBuilder deploymentBuilder = repositoryService.createDeployment();
+        for (int i = 0; i < 5; i++) {
+            deploymentBuilder.addString("process" + i + ".bpmn20.xml", createProcessXml("process" + i));
+        }
+        // Both resources are invalid, but only one of them can be reported
+        deploymentBuilder.addString("invalidXml.bpmn20.xml", "<definitions");
+        deploymentBuilder.addString("invalidProcess.bpmn20.xml", createProcessXml("invalidProcess").replace("targetRef=\"theEnd\"", "targetRef=\"unknown\""));
+        return deploymentBuilder;
+    }
+
+    protected String createProcessXml(String processKey) {
+        return "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+                + "<definitions xmlns=\"http://www.omg.org/spec/BPMN/20100524/MODEL\" targetNamespace=\"Examples\">"
+                + "  <process id=\"" + processKey + "\">"
+                + "    <startEvent id=\"theStart\" />"
+                + "    <sequenceFlow id=\"flow1\" sourceRef=\"theStart\" targetRef=\"theTask\" />"
+                + "    <userTask id=\"theTask\" />"
+                + "    <sequenceFlow id=\"flow2\" sourceRef=\"theTask\" targetRef=\"theEnd\" />"
+                + "    <endEvent id=\"theEnd\" />"
+                + "  </process>"
+                + "</definitions>";
+    }
+
+    protected static class RecordingProcessValidator implements ProcessValidator {
+
+        protected final ProcessValidator processValidator;
+        protected final Map<String, String> threadNames = new ConcurrentHashMap<>();
+        protected final Map<String, ClassLoader> contextClassLoaders = new ConcurrentHashMap<>();
+        protected final Map<String, Boolean> withCommandContext = new ConcurrentHashMap<>();
+
+        public RecordingProcessValidator(ProcessValidator processValidator) {
+            this.processValidator = processValidator;
+        }
+
+        @Override
+        public List<ValidationError> validate(BpmnModel bpmnModel) {
+            String processKey = bpmnModel.getMainProcess().getId();
+            threadNames.put(processKey, Thread.currentThread().getName());
+            contextClassLoaders.put(processKey, Thread.currentThread().getContextClassLoader());
+            withCommandContext.put(processKey, Context.getCommandContext() != null);
+            return processValidator.validate(bpmnModel);
+        }
+
+        @Override
+        public List<ValidatorSet> getValidatorSets() {
+            return processValidator.getValidatorSets();
+        }
+    }
+
+}
@@ -20,6 +20,7 @@ import static org.assertj.core.api.Assertions.fail;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -30,6 +31,9 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.flowable.bpmn.model.FlowNode;
+import org.flowable.bpmn.model.InclusiveGateway;
+import org.flowable.bpmn.model.Process;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.impl.history.HistoryLevel;
 import org.flowable.common.engine.impl.interceptor.Command;
@@ -45,6 +49,9 @@ import org.flowable.engine.impl.test.AbstractFlowableTestCase;
 import org.flowable.engine.impl.test.HistoryTestHelper;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
 import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.impl.util.ExecutionGraphUtil;
+import org.flowable.engine.impl.util.ProcessDefinitionUtil;
+import org.flowable.engine.impl.util.ProcessReachabilityIndex;
 import org.flowable.engine.repository.ProcessDefinition;
 import org.flowable.engine.runtime.Execution;
 import org.flowable.engine.runtime.ProcessInstance;
@@ -431,6 +438,39 @@ public class InclusiveGatewayTest extends PluggableFlowableTestCase {
         assertThat(runtimeService.createProcessInstanceQuery().processInstanceId(pi.getId()).count()).isZero();
     }
 
+    @Test
+    @Deployment(resources = {
+            "org/flowable/engine/test/bpmn/gateway/InclusiveGatewayTest.testLoop.bpmn20.xml",
+            "org/flowable/engine/test/bpmn/gateway/InclusiveGatewayTest.testJoinAfterSubprocesses.bpmn20.xml",
+            "org/flowable/engine/test/bpmn/gateway/InclusiveGatewayTest.testInclusiveGatewayInEventSubProcess.bpmn20.xml",
+            "org/flowable/engine/test/bpmn/gateway/InclusiveGatewayTest.inSubProcessNestedInMultiInstanceParallelSubProcess.bpmn20.xml",
+            "org/flowable/engine/test/bpmn/gateway/InclusiveGatewayTest.insideMultiInstanceParallelSubProcess.bpmn20.xml",
+            "org/flowable/engine/test/bpmn/gateway/InclusiveGatewayTest.testWithSignalBoundaryEvent.bpmn20.xml"
+    })
+    public void testReachabilityIndexMatchesModelTraversal() {
+        List<ProcessDefinition> processDefinitions = repositoryService.createProcessDefinitionQuery().list();
+        assertThat(processDefinitions).hasSize(6);
+
+        for (ProcessDefinition processDefinition : processDefinitions) {
+            managementService.executeCommand(commandContext -> {
+                Process process = ProcessDefinitionUtil.getProcess(processDefinition.getId());
+                ProcessReachabilityIndex reachabilityIndex = ProcessDefinitionUtil.getProcessReachabilityIndex(processDefinition.getId());
+                assertThat(reachabilityIndex).isNotNull();
+
+                List<FlowNode> flowNodes = process.findFlowElementsOfType(FlowNode.class, true);
+                for (InclusiveGateway inclusiveGateway : process.findFlowElementsOfType(InclusiveGateway.class, true)) {
+                    for (FlowNode flowNode : flowNodes) {
+                        assertThat(reachabilityIndex.isIndexed(flowNode.getId(), inclusiveGateway.getId())).isTrue();
+                        assertThat(reachabilityIndex.isReachable(flowNode.getId(), inclusiveGateway.getId()))
+                                .as("%s reaches %s in %s", flowNode.getId(), inclusiveGateway.getId(), processDefinition.getKey())
+                                .isEqualTo(ExecutionGraphUtil.isReachable(process, flowNode, inclusiveGateway, new HashSet<>()));
+                    }
+                }
+                return null;
+            });
+        }
+    }
+
     @Test
     @Deployment
     public void testJoinAfterSubprocesses() {
@@ -0,0 +1,264 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.bpmn.gateway;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.runtime.Execution;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.engine.test.impl.CustomConfigurationFlowableTestCase;
+import org.flowable.task.api.Task;
+import org.junit.jupiter.api.Test;
+
+public class ParallelGatewayJoinCountsTest extends CustomConfigurationFlowableTestCase {
+
+    public ParallelGatewayJoinCountsTest() {
+        super(ParallelGatewayJoinCountsTest.class.getName());
+    }
+
+    @Override
+    protected void configureConfiguration(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        processEngineConfiguration.setEnableParallelGatewayJoinCounts(true);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/bpmn/gateway/ParallelGatewayJoinCountsTest.forkJoin.bpmn20.xml")
+    public void testJoinCounts() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("forkJoin");
+        assertThat(getJoinCounts(processInstance)).isNull();
+
+        completeTask(processInstance, "task1");
+        assertThat(getJoinCounts(processInstance)).isEqualTo("join=1;");
+
+        completeTask(processInstance, "task2");
+        assertThat(getJoinCounts(processInstance)).isEqualTo("join=2;");
+        assertThat(getTaskDefinitionKeys(processInstance)).containsExactly("task3");
+
+        completeTask(processInstance, "task3");
+        assertThat(getJoinCounts(processInstance)).isNull();
+        assertThat(getTaskDefinitionKeys(processInstance)).containsExactly("afterJoin");
+
+        completeTask(processInstance, "afterJoin");
+        assertProcessEnded(processInstance.getId());
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/bpmn/gateway/ParallelGatewayJoinCountsTest.forkJoin.bpmn20.xml")
+    public void testJoinCountIsCalibrated() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("forkJoin");
+        completeTask(processInstance, "task1");
+
+        // A count that is too high is corrected by the query of the joined executions
+        setJoinCounts(processInstance, "join=2;");
+        completeTask(processInstance, "task2");
+        assertThat(getJoinCounts(processInstance)).isEqualTo("join=2;");
+        assertThat(getTaskDefinitionKeys(processInstance)).containsExactly("task3");
+
+        completeTask(processInstance, "task3");
+        assertThat(getJoinCounts(processInstance)).isNull();
+        assertThat(getTaskDefinitionKeys(processInstance)).containsExactly("afterJoin");
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/bpmn/gateway/ParallelGatewayJoinCountsTest.forkJoin.bpmn20.xml")
+    public void testJoinCountsAfterChangeState() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("forkJoin");
+        completeTask(processInstance, "task1");
+        assertThat(getJoinCounts(processInstance)).isEqualTo("join=1;");
+
+        runtimeService.createChangeActivityStateBuilder()
+                .processInstanceId(processInstance.getId())
+                .moveActivityIdTo("task2", "join")
+                .changeState();
+        assertThat(getJoinCounts(processInstance)).isEqualTo("join=2;");
+        assertThat(getTaskDefinitionKeys(processInstance)).containsExactly("task3");
+
+        completeTask(processInstance, "task3");
+        assertThat(getJoinCounts(processInstance)).isNull();
+        assertThat(getTaskDefinitionKeys(processInstance)).containsExactly("afterJoin");
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/bpmn/gateway/ParallelGatewayJoinCountsTest.forkJoin.bpmn20.xml")
+    public void testMalformedJoinCountsAreIgnored() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("forkJoin");
+
+        // A value that was cut off by the database
+        setJoinCounts(processInstance, "other=1,join=1");
+        completeTask(processInstance, "task1");
+        assertThat(getJoinCounts(processInstance)).isEqualTo("join=1;");
+
+        setJoinCounts(processInstance, "join=one;");
+        completeTask(processInstance, "task2");
+        assertThat(getJoinCounts(processInstance)).isEqualTo("join=2;");
+
+        setJoinCounts(processInstance, "join;");
+        completeTask(processInstance, "task3");
+        assertThat(getJoinCounts(processInstance)).isNull();
+        assertThat(getTaskDefinitionKeys(processInstance)).containsExactly("afterJoin");
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/bpmn/gateway/ParallelGatewayJoinCountsTest.forkJoin.bpmn20.xml")
+    public void testJoinCountsThatDoNotFit() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("forkJoin");
+
+        // The count of another gateway already takes up almost the whole column
+        String joinCounts = "x".repeat(1994) + "=1;";
+        setJoinCounts(processInstance, joinCounts);
+
+        // The count of the gateway is not stored when it does not fit
+        completeTask(processInstance, "task1");
+        assertThat(getJoinCounts(processInstance)).isEqualTo(joinCounts);
+
+        completeTask(processInstance, "task2");
+        completeTask(processInstance, "task3");
+        assertThat(getTaskDefinitionKeys(processInstance)).containsExactly("afterJoin");
+    }
+
+    @Test
+    @Deployment
+    public void testLoopBackIntoJoin() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("loopBackIntoJoin");
+        completeTask(processInstance, "task1");
+        assertThat(getJoinCounts(processInstance)).isEqualTo("join=1;");
+
+        // The second branch loops before it arrives at the join
+        taskService.complete(getTask(processInstance, "task2").getId(), Collections.singletonMap("loop", true));
+        assertThat(getTaskDefinitionKeys(processInstance)).containsExactly("task2");
+        assertThat(getJoinCounts(processInstance)).isEqualTo("join=1;");
+
+        taskService.complete(getTask(processInstance, "task2").getId(), Collections.singletonMap("loop", false));
+        assertThat(getJoinCounts(processInstance)).isNull();
+        assertThat(getTaskDefinitionKeys(processInstance)).containsExactly("afterJoin");
+
+        // The join loops back to the fork, and is joined again
+        taskService.complete(getTask(processInstance, "afterJoin").getId(), Collections.singletonMap("again", true));
+        assertThat(getTaskDefinitionKeys(processInstance)).containsExactlyInAnyOrder("task1", "task2");
+
+        taskService.complete(getTask(processInstance, "task2").getId(), Collections.singletonMap("loop", false));
+        assertThat(getJoinCounts(processInstance)).isEqualTo("join=1;");
+        assertThat(getTaskDefinitionKeys(processInstance)).containsExactly("task1");
+
+        completeTask(processInstance, "task1");
+        assertThat(getJoinCounts(processInstance)).isNull();
+        assertThat(getTaskDefinitionKeys(processInstance)).containsExactly("afterJoin");
+
+        taskService.complete(getTask(processInstance, "afterJoin").getId(), Collections.singletonMap("again", false));
+        assertProcessEnded(processInstance.getId());
+    }
+
+    @Test
+    @Deployment
+    public void testBoundaryEventCancelsBranches() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("boundaryEventCancelsBranches");
+        completeTask(processInstance, "task1");
+        assertThat(getJoinCounts(processInstance)).isEqualTo("join=1;");
+
+        // The waiting execution is removed by the boundary event, but the count stays
+        Execution messageExecution = runtimeService.createExecutionQuery().processInstanceId(processInstance.getId())
+                .messageEventSubscriptionName("cancel").singleResult();
+        runtimeService.messageEventReceived("cancel", messageExecution.getId());
+        assertThat(getTaskDefinitionKeys(processInstance)).containsExactly("cancelled");
+        assertThat(getJoinCounts(processInstance)).isEqualTo("join=1;");
+
+        // The sub process is started again, and its join only activates when all its branches arrived
+        completeTask(processInstance, "cancelled");
+        completeTask(processInstance, "task1");
+        completeTask(processInstance, "task2");
+        assertThat(getTaskDefinitionKeys(processInstance)).containsExactly("task3");
+        assertThat(getJoinCounts(processInstance)).isEqualTo("join=2;");
+
+        completeTask(processInstance, "task3");
+        assertThat(getJoinCounts(processInstance)).isNull();
+        assertThat(getTaskDefinitionKeys(processInstance)).containsExactly("afterJoin");
+
+        completeTask(processInstance, "afterJoin");
+        assertProcessEnded(processInstance.getId());
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/bpmn/gateway/ParallelGatewayTest.testNestedForkJoin.bpmn20.xml")
+    public void testNestedForkJoin() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("nestedForkJoin");
+        completeTask(processInstance, "Task_0");
+        completeTask(processInstance, "Task_A");
+        assertThat(getJoinCounts(processInstance)).isEqualTo("Join_AB=1;");
+
+        completeTask(processInstance, "Task_B");
+        completeTask(processInstance, "Task_B1");
+        assertThat(getJoinCounts(processInstance)).isEqualTo("Join_AB=1,Join_B=1;");
+
+        completeTask(processInstance, "Task_B2");
+        assertThat(getJoinCounts(processInstance)).isNull();
+        assertThat(getTaskDefinitionKeys(processInstance)).containsExactly("Task_C");
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/parallelGatewayInsideMultiInstanceSubProcess.bpmn20.xml")
+    public void testJoinInsideMultiInstanceSubProcess() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("parallelGatewayInsideMultiInstanceSubProcess");
+        for (Task task : taskService.createTaskQuery().processInstanceId(processInstance.getId()).taskDefinitionKey("preForkTask").list()) {
+            taskService.complete(task.getId());
+        }
+        for (Task task : taskService.createTaskQuery().processInstanceId(processInstance.getId()).taskDefinitionKey("forkTask1").list()) {
+            taskService.complete(task.getId());
+        }
+        for (Task task : taskService.createTaskQuery().processInstanceId(processInstance.getId()).taskDefinitionKey("forkTask2").list()) {
+            taskService.complete(task.getId());
+        }
+        for (Task task : taskService.createTaskQuery().processInstanceId(processInstance.getId()).taskDefinitionKey("postForkTask").list()) {
+            taskService.complete(task.getId());
+        }
+
+        assertThat(getTaskDefinitionKeys(processInstance)).containsExactly("lastTask");
+        assertThat(getJoinCounts(processInstance)).isNull();
+
+        completeTask(processInstance, "lastTask");
+        assertProcessEnded(processInstance.getId());
+    }
+
+    protected void completeTask(ProcessInstance processInstance, String taskDefinitionKey) {
+        taskService.complete(getTask(processInstance, taskDefinitionKey).getId());
+    }
+
+    protected Task getTask(ProcessInstance processInstance, String taskDefinitionKey) {
+        return taskService.createTaskQuery().processInstanceId(processInstance.getId()).taskDefinitionKey(taskDefinitionKey).singleResult();
+    }
+
+    protected List<String> getTaskDefinitionKeys(ProcessInstance processInstance) {
+        return taskService.createTaskQuery().processInstanceId(processInstance.getId()).list().stream()
+                .map(Task::getTaskDefinitionKey)
+                .toList();
+    }
+
+    protected String getJoinCounts(ProcessInstance processInstance) {
+        return managementService.executeCommand(commandContext -> CommandContextUtil.getExecutionEntityManager(commandContext)
+                .findById(processInstance.getId()).getJoinCounts());
+    }
+
+    protected void setJoinCounts(ProcessInstance processInstance, String joinCounts) {
+        managementService.executeCommand(commandContext -> {
+            ExecutionEntity processInstanceExecution = CommandContextUtil.getExecutionEntityManager(commandContext).findById(processInstance.getId());
+            processInstanceExecution.setJoinCounts(joinCounts);
+            return null;
+        });
+    }
+}
@@ -0,0 +1,154 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.bpmn.multiinstance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.jobexecutor.ParallelMultiInstanceCreateInstancesJobHandler;
+import org.flowable.engine.test.Deployment;
+import org.flowable.engine.test.impl.CustomConfigurationFlowableTestCase;
+import org.flowable.job.api.Job;
+import org.flowable.task.api.Task;
+import org.junit.jupiter.api.Test;
+
+public class ParallelMultiInstanceCreationChunkTest extends CustomConfigurationFlowableTestCase {
+
+    public ParallelMultiInstanceCreationChunkTest() {
+        super(ParallelMultiInstanceCreationChunkTest.class.getName());
+    }
+
+    @Override
+    protected void configureConfiguration(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        processEngineConfiguration.setParallelMultiInstanceCreationChunkSize(2);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/bpmn/multiinstance/MultiInstanceTest.testParallelUserTasks.bpmn20.xml")
+    public void testInstancesCreatedInChunks() {
+        String procId = runtimeService.startProcessInstanceByKey("miParallelUserTasks").getId();
+        assertThat(getTaskNames()).containsExactly("My Task 0", "My Task 1");
+
+        Task task = taskService.createTaskQuery().taskName("My Task 0").singleResult();
+        assertThat(runtimeService.getVariable(task.getExecutionId(), "nrOfInstances")).isEqualTo(3);
+        assertThat(runtimeService.getVariable(task.getExecutionId(), "nrOfActiveInstances")).isEqualTo(2);
+        assertThat(runtimeService.getVariable(task.getExecutionId(), "nrOfCompletedInstances")).isEqualTo(0);
+
+        // Instances that are not created yet do not count as completed
+        taskService.complete(task.getId());
+        task = taskService.createTaskQuery().taskName("My Task 1").singleResult();
+        assertThat(runtimeService.getVariable(task.getExecutionId(), "nrOfCompletedInstances")).isEqualTo(1);
+
+        executeCreateInstancesJob();
+        assertThat(getTaskNames()).containsExactly("My Task 1", "My Task 2");
+        assertThat(runtimeService.getVariable(task.getExecutionId(), "nrOfActiveInstances")).isEqualTo(2);
+        assertThat(runtimeService.getVariable(task.getExecutionId(), "nrOfCompletedInstances")).isEqualTo(1);
+        assertThat(getCreateInstancesJobs()).isEmpty();
+
+        for (Task remainingTask : taskService.createTaskQuery().processInstanceId(procId).list()) {
+            taskService.complete(remainingTask.getId());
+        }
+        assertProcessEnded(procId);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/bpmn/multiinstance/MultiInstanceTest.testParallelUserTasksBasedOnCollection.bpmn20.xml")
+    public void testCollectionElementsOfChunks() {
+        List<String> assigneeList = Arrays.asList("kermit", "gonzo", "mispiggy", "fozzie", "bubba");
+        String procId = runtimeService.startProcessInstanceByKey("miParallelUserTasksBasedOnCollection",
+                Collections.singletonMap("assigneeList", assigneeList)).getId();
+        assertThat(getTaskAssignees()).containsExactly("gonzo", "kermit");
+
+        executeCreateInstancesJob();
+        assertThat(getTaskAssignees()).containsExactly("fozzie", "gonzo", "kermit", "mispiggy");
+
+        executeCreateInstancesJob();
+        assertThat(getTaskAssignees()).containsExactly("bubba", "fozzie", "gonzo", "kermit", "mispiggy");
+        assertThat(getCreateInstancesJobs()).isEmpty();
+
+        // Completing 3 of the 5 tasks satisfies the completion condition
+        List<Task> tasks = taskService.createTaskQuery().processInstanceId(procId).list();
+        for (int i = 0; i < 3; i++) {
+            taskService.complete(tasks.get(i).getId());
+        }
+        assertProcessEnded(procId);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/bpmn/multiinstance/MultiInstanceTest.testParallelUserTasksBasedOnCollection.bpmn20.xml")
+    public void testCollectionChangedBeforeAllInstancesAreCreated() {
+        List<String> assigneeList = Arrays.asList("kermit", "gonzo", "mispiggy", "fozzie", "bubba");
+        String procId = runtimeService.startProcessInstanceByKey("miParallelUserTasksBasedOnCollection",
+                Collections.singletonMap("assigneeList", assigneeList)).getId();
+        assertThat(getTaskAssignees()).containsExactly("gonzo", "kermit");
+
+        // The later chunks use the elements of the collection when the multi instance was started
+        runtimeService.setVariable(procId, "assigneeList", Arrays.asList("animal"));
+        executeCreateInstancesJob();
+        assertThat(getTaskAssignees()).containsExactly("fozzie", "gonzo", "kermit", "mispiggy");
+
+        runtimeService.setVariable(procId, "assigneeList", Arrays.asList("rowlf", "scooter", "beaker", "swedishChef", "statler", "waldorf"));
+        executeCreateInstancesJob();
+        assertThat(getTaskAssignees()).containsExactly("bubba", "fozzie", "gonzo", "kermit", "mispiggy");
+        assertThat(getCreateInstancesJobs()).isEmpty();
+
+        Task task = taskService.createTaskQuery().taskAssignee("bubba").singleResult();
+        assertThat(runtimeService.getVariable(task.getExecutionId(), "loopCounter")).isEqualTo(4);
+        assertThat(runtimeService.createVariableInstanceQuery().processInstanceId(procId).variableName("multiInstanceCollectionSnapshot").count())
+                .isZero();
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/bpmn/multiinstance/MultiInstanceTest.testParallelUserTasksCompletionCondition.bpmn20.xml")
+    public void testCompletionConditionBeforeAllInstancesAreCreated() {
+        String procId = runtimeService.startProcessInstanceByKey("miParallelUserTasksCompletionCondition").getId();
+        assertThat(getTaskNames()).containsExactly("My Task 0", "My Task 1");
+
+        // 2 of 5 completed does not satisfy the completion condition
+        for (Task task : taskService.createTaskQuery().processInstanceId(procId).list()) {
+            taskService.complete(task.getId());
+        }
+        assertThat(runtimeService.createProcessInstanceQuery().processInstanceId(procId).count()).isEqualTo(1);
+        assertThat(taskService.createTaskQuery().processInstanceId(procId).count()).isZero();
+
+        executeCreateInstancesJob();
+        assertThat(getTaskNames()).containsExactly("My Task 2", "My Task 3");
+
+        // 3 of 5 completed satisfies the completion condition, and the instance that was not created yet is not created anymore
+        taskService.complete(taskService.createTaskQuery().taskName("My Task 2").singleResult().getId());
+        assertThat(getCreateInstancesJobs()).isEmpty();
+        assertProcessEnded(procId);
+    }
+
+    protected void executeCreateInstancesJob() {
+        List<Job> jobs = getCreateInstancesJobs();
+        assertThat(jobs).hasSize(1);
+        managementService.executeJob(jobs.get(0).getId());
+    }
+
+    protected List<Job> getCreateInstancesJobs() {
+        return managementService.createJobQuery().handlerType(ParallelMultiInstanceCreateInstancesJobHandler.TYPE).list();
+    }
+
+    protected List<String> getTaskNames() {
+        return taskService.createTaskQuery().orderByTaskName().asc().list().stream().map(Task::getName).toList();
+    }
+
+    protected List<String> getTaskAssignees() {
+        return taskService.createTaskQuery().orderByTaskAssignee().asc().list().stream().map(Task::getAssignee).toList();
+    }
+}
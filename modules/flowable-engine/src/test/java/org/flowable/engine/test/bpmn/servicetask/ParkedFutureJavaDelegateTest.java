@@ -0,0 +1,248 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.bpmn.servicetask;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.async.AsyncTaskInvoker;
+import org.flowable.engine.delegate.DelegateExecution;
+import org.flowable.engine.delegate.FutureJavaDelegate;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.jobexecutor.ParkedFutureTimeoutJobHandler;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.engine.test.impl.CustomConfigurationFlowableTestCase;
+import org.flowable.job.api.Job;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class ParkedFutureJavaDelegateTest extends CustomConfigurationFlowableTestCase {
+
+    protected Map<Object, Object> originalBeans;
+
+    public ParkedFutureJavaDelegateTest() {
+        super(ParkedFutureJavaDelegateTest.class.getName());
+    }
+
+    @Override
+    protected void configureConfiguration(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        processEngineConfiguration.setParkFutureJavaDelegates(true);
+        processEngineConfiguration.setParkedFutureTimeout(Duration.ofMinutes(10));
+        // Deliver the result of a future on the thread that completes it, so that the tests do not need to wait for it
+        processEngineConfiguration.setAsyncTaskInvoker(new AsyncTaskInvoker() {
+
+            @Override
+            public <T> CompletableFuture<T> submit(Callable<T> task) {
+                try {
+                    return CompletableFuture.completedFuture(task.call());
+                } catch (Exception e) {
+                    return CompletableFuture.failedFuture(e);
+                }
+            }
+        });
+    }
+
+    @AfterEach
+    void resetBeans() {
+        if (originalBeans != null) {
+            processEngineConfiguration.getExpressionManager().setBeans(originalBeans);
+            originalBeans = null;
+        }
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/bpmn/servicetask/ParkedFutureJavaDelegateTest.testParkedServiceTask.bpmn20.xml")
+    public void testResultIsDeliveredInNewTransaction() {
+        ManualFutureJavaDelegate bean = new ManualFutureJavaDelegate();
+        ProcessInstance processInstance = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("parkedProcess")
+                .transientVariable("bean", bean)
+                .start();
+
+        // The process instance is committed while it waits for the future
+        assertThat(runtimeService.createExecutionQuery().processInstanceId(processInstance.getId()).activityId("serviceTask").count()).isEqualTo(1);
+        assertThat(taskService.createTaskQuery().processInstanceId(processInstance.getId()).count()).isZero();
+        Job timeoutJob = managementService.createTimerJobQuery().processInstanceId(processInstance.getId()).singleResult();
+        assertThat(timeoutJob).isNotNull();
+        assertThat(timeoutJob.getJobHandlerType()).isEqualTo(ParkedFutureTimeoutJobHandler.TYPE);
+        assertThat(timeoutJob.getElementId()).isEqualTo("serviceTask");
+
+        bean.future.complete("remote result");
+
+        assertThat(taskService.createTaskQuery().processInstanceId(processInstance.getId()).count()).isEqualTo(1);
+        assertThat(managementService.createTimerJobQuery().processInstanceId(processInstance.getId()).count()).isZero();
+        assertThat(runtimeService.getVariable(processInstance.getId(), "result")).isEqualTo("remote result");
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/bpmn/servicetask/ParkedFutureJavaDelegateTest.testParkedServiceTask.bpmn20.xml")
+    public void testTimeoutExecutesActivityAgain() {
+        // The bean is needed in the transaction in which the activity is executed again
+        ManualFutureJavaDelegate bean = registerBean(new ManualFutureJavaDelegate());
+        ProcessInstance processInstance = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("parkedProcess")
+                .start();
+        CompletableFuture<String> firstFuture = bean.future;
+
+        Job timeoutJob = managementService.createTimerJobQuery().processInstanceId(processInstance.getId()).singleResult();
+        assertThat(timeoutJob.getRetries()).isEqualTo(3);
+        managementService.executeJob(managementService.moveTimerToExecutableJob(timeoutJob.getId()).getId());
+
+        // The activity is executed again, with a new timeout job that has one retry less
+        assertThat(bean.executeCount).isEqualTo(2);
+        Job retryTimeoutJob = managementService.createTimerJobQuery().processInstanceId(processInstance.getId()).singleResult();
+        assertThat(retryTimeoutJob.getId()).isNotEqualTo(timeoutJob.getId());
+        assertThat(retryTimeoutJob.getRetries()).isEqualTo(2);
+
+        // A result that arrives after the timeout is ignored
+        firstFuture.complete("late result");
+        assertThat(bean.afterExecutionCount).isZero();
+        assertThat(taskService.createTaskQuery().processInstanceId(processInstance.getId()).count()).isZero();
+
+        bean.future.complete("remote result");
+        assertThat(bean.afterExecutionCount).isEqualTo(1);
+        assertThat(taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult().getTaskDefinitionKey()).isEqualTo("userTask");
+        assertThat(runtimeService.getVariable(processInstance.getId(), "result")).isEqualTo("remote result");
+        assertThat(managementService.createTimerJobQuery().processInstanceId(processInstance.getId()).count()).isZero();
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/bpmn/servicetask/ParkedFutureJavaDelegateTest.testParkedServiceTask.bpmn20.xml")
+    public void testTimeoutWithoutRetriesLeft() {
+        // The bean is needed in the transaction in which the activity is executed again
+        ManualFutureJavaDelegate bean = registerBean(new ManualFutureJavaDelegate());
+        ProcessInstance processInstance = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("parkedProcess")
+                .start();
+
+        for (int i = 0; i < 2; i++) {
+            Job timeoutJob = managementService.createTimerJobQuery().processInstanceId(processInstance.getId()).singleResult();
+            managementService.executeJob(managementService.moveTimerToExecutableJob(timeoutJob.getId()).getId());
+        }
+        assertThat(bean.executeCount).isEqualTo(3);
+
+        Job timeoutJob = managementService.createTimerJobQuery().processInstanceId(processInstance.getId()).singleResult();
+        assertThat(timeoutJob.getRetries()).isEqualTo(1);
+        Job executableJob = managementService.moveTimerToExecutableJob(timeoutJob.getId());
+        assertThatThrownBy(() -> managementService.executeJob(executableJob.getId()))
+                .isInstanceOf(FlowableException.class)
+                .hasMessageContaining("did not complete within the timeout");
+
+        assertThat(bean.executeCount).isEqualTo(3);
+        assertThat(managementService.createDeadLetterJobQuery().processInstanceId(processInstance.getId()).count()).isEqualTo(1);
+        assertThat(runtimeService.createExecutionQuery().processInstanceId(processInstance.getId()).onlyChildExecutions().singleResult().getActivityId())
+                .isEqualTo("serviceTask");
+    }
+
+    @Test
+    @Deployment
+    public void testTimeoutCaughtByBoundaryEvent() {
+        ManualFutureJavaDelegate bean = new ManualFutureJavaDelegate();
+        ProcessInstance processInstance = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("parkedProcess")
+                .transientVariable("bean", bean)
+                .start();
+
+        Job timeoutJob = managementService.createTimerJobQuery().processInstanceId(processInstance.getId()).singleResult();
+        managementService.executeJob(managementService.moveTimerToExecutableJob(timeoutJob.getId()).getId());
+
+        assertThat(bean.executeCount).isEqualTo(1);
+        assertThat(taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult().getTaskDefinitionKey()).isEqualTo("timedOutTask");
+        assertThat(managementService.createTimerJobQuery().processInstanceId(processInstance.getId()).count()).isZero();
+
+        // A result that arrives after the timeout is ignored
+        bean.future.complete("late result");
+        assertThat(bean.afterExecutionCount).isZero();
+        assertThat(taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult().getTaskDefinitionKey()).isEqualTo("timedOutTask");
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/bpmn/servicetask/ParkedFutureJavaDelegateTest.testParkedServiceTask.bpmn20.xml")
+    public void testFailureWhileDeliveringResult() {
+        // The bean is needed in the transaction in which the activity is executed again
+        ManualFutureJavaDelegate bean = registerBean(new ManualFutureJavaDelegate());
+        ProcessInstance processInstance = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("parkedProcess")
+                .start();
+        String timeoutJobId = managementService.createTimerJobQuery().processInstanceId(processInstance.getId()).singleResult().getId();
+
+        bean.future.completeExceptionally(new IllegalStateException("remote service unavailable"));
+
+        // The timeout job is replaced by a job that is due right away
+        assertThat(managementService.createTimerJobQuery().processInstanceId(processInstance.getId()).executable().count()).isEqualTo(1);
+        Job failureJob = managementService.createTimerJobQuery().processInstanceId(processInstance.getId()).singleResult();
+        assertThat(failureJob.getId()).isNotEqualTo(timeoutJobId);
+        assertThat(failureJob.getRetries()).isEqualTo(3);
+        assertThat(taskService.createTaskQuery().processInstanceId(processInstance.getId()).count()).isZero();
+
+        // The failure job executes the activity again
+        managementService.executeJob(managementService.moveTimerToExecutableJob(failureJob.getId()).getId());
+        assertThat(bean.executeCount).isEqualTo(2);
+
+        bean.future.complete("remote result");
+        assertThat(taskService.createTaskQuery().processInstanceId(processInstance.getId()).count()).isEqualTo(1);
+        assertThat(runtimeService.getVariable(processInstance.getId(), "result")).isEqualTo("remote result");
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/bpmn/servicetask/ParkedFutureJavaDelegateTest.testParkedServiceTask.bpmn20.xml")
+    public void testDeletedProcessInstanceIgnoresResult() {
+        ManualFutureJavaDelegate bean = new ManualFutureJavaDelegate();
+        ProcessInstance processInstance = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("parkedProcess")
+                .transientVariable("bean", bean)
+                .start();
+
+        runtimeService.deleteProcessInstance(processInstance.getId(), "test");
+        assertThat(managementService.createTimerJobQuery().processInstanceId(processInstance.getId()).count()).isZero();
+
+        bean.future.complete("result");
+        assertThat(bean.afterExecutionCount).isZero();
+    }
+
+    protected ManualFutureJavaDelegate registerBean(ManualFutureJavaDelegate bean) {
+        originalBeans = processEngineConfiguration.getExpressionManager().getBeans();
+        Map<Object, Object> beans = originalBeans != null ? new HashMap<>(originalBeans) : new HashMap<>();
+        beans.put("bean", bean);
+        processEngineConfiguration.getExpressionManager().setBeans(beans);
+        return bean;
+    }
+
+    public static class ManualFutureJavaDelegate implements FutureJavaDelegate<String> {
+
+        protected CompletableFuture<String> future;
+        protected int executeCount;
+        protected int afterExecutionCount;
+
+        @Override
+        public CompletableFuture<String> execute(DelegateExecution execution, AsyncTaskInvoker taskInvoker) {
+            executeCount++;
+            future = new CompletableFuture<>();
+            return future;
+        }
+
+        @Override
+        public void afterExecution(DelegateExecution execution, String executionData) {
+            afterExecutionCount++;
+            execution.setVariable("result", executionData);
+        }
+    }
+}
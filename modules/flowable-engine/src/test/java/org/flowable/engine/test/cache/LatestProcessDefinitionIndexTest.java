@@ -0,0 +1,160 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.flowable.common.engine.api.FlowableObjectNotFoundException;
+import org.flowable.common.engine.impl.persistence.deploy.LatestDefinitionIndex;
+import org.flowable.engine.impl.persistence.deploy.DeploymentManager;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.repository.Deployment;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class LatestProcessDefinitionIndexTest extends PluggableFlowableTestCase {
+
+    @BeforeEach
+    protected void enableLatestProcessDefinitionIndex() {
+        processEngineConfiguration.getDeploymentManager()
+                .setLatestProcessDefinitionIndex(new LatestDefinitionIndex(processEngineConfiguration, DeploymentManager.LATEST_DEFINITION_REVISION_PROPERTY));
+    }
+
+    @AfterEach
+    protected void disableLatestProcessDefinitionIndex() {
+        processEngineConfiguration.getDeploymentManager().setLatestProcessDefinitionIndex(null);
+    }
+
+    @Test
+    public void testLatestProcessDefinitionAfterDeployAndUndeploy() {
+        String firstProcessDefinitionId = deployOneTaskTestProcess();
+        assertThat(runtimeService.startProcessInstanceByKey("oneTaskProcess").getProcessDefinitionId()).isEqualTo(firstProcessDefinitionId);
+        assertThat(runtimeService.startProcessInstanceByKey("oneTaskProcess").getProcessDefinitionId()).isEqualTo(firstProcessDefinitionId);
+
+        String secondProcessDefinitionId = deployOneTaskTestProcess();
+        assertThat(runtimeService.startProcessInstanceByKey("oneTaskProcess").getProcessDefinitionId()).isEqualTo(secondProcessDefinitionId);
+
+        String secondDeploymentId = repositoryService.getProcessDefinition(secondProcessDefinitionId).getDeploymentId();
+        deleteDeployment(secondDeploymentId);
+        deploymentIdsForAutoCleanup.remove(secondDeploymentId);
+        assertThat(runtimeService.startProcessInstanceByKey("oneTaskProcess").getProcessDefinitionId()).isEqualTo(firstProcessDefinitionId);
+
+        String firstDeploymentId = repositoryService.getProcessDefinition(firstProcessDefinitionId).getDeploymentId();
+        deleteDeployment(firstDeploymentId);
+        deploymentIdsForAutoCleanup.remove(firstDeploymentId);
+        assertThatThrownBy(() -> runtimeService.startProcessInstanceByKey("oneTaskProcess"))
+                .isInstanceOf(FlowableObjectNotFoundException.class);
+    }
+
+    @Test
+    public void testLatestProcessDefinitionDeployedByOtherNode() {
+        DeploymentManager deploymentManager = processEngineConfiguration.getDeploymentManager();
+        LatestDefinitionIndex latestProcessDefinitionIndex = deploymentManager.getLatestProcessDefinitionIndex();
+        assertThat(latestProcessDefinitionIndex).isNotNull();
+
+        String firstProcessDefinitionId = deployOneTaskTestProcess();
+        assertThat(runtimeService.startProcessInstanceByKey("oneTaskProcess").getProcessDefinitionId()).isEqualTo(firstProcessDefinitionId);
+
+        // Another node deploys with its own index, this index only sees the changed definition revision
+        String secondProcessDefinitionId;
+        deploymentManager.setLatestProcessDefinitionIndex(new LatestDefinitionIndex(processEngineConfiguration, DeploymentManager.LATEST_DEFINITION_REVISION_PROPERTY));
+        try {
+            secondProcessDefinitionId = deployOneTaskTestProcess();
+        } finally {
+            deploymentManager.setLatestProcessDefinitionIndex(latestProcessDefinitionIndex);
+        }
+
+        assertThat(runtimeService.startProcessInstanceByKey("oneTaskProcess").getProcessDefinitionId()).isEqualTo(secondProcessDefinitionId);
+    }
+
+    @Test
+    public void testLatestProcessDefinitionWithFallbackToDefaultTenant() {
+        String defaultTenantProcessDefinitionId = deployOneTaskTestProcess();
+
+        ProcessInstance processInstance = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("oneTaskProcess")
+                .tenantId("acme")
+                .fallbackToDefaultTenant()
+                .start();
+        assertThat(processInstance.getProcessDefinitionId()).isEqualTo(defaultTenantProcessDefinitionId);
+
+        Deployment tenantDeployment = repositoryService.createDeployment()
+                .addBpmnModel("oneTasktest.bpmn20.xml", createOneTaskTestProcess())
+                .tenantId("acme")
+                .deploy();
+        deploymentIdsForAutoCleanup.add(tenantDeployment.getId());
+        String tenantProcessDefinitionId = repositoryService.createProcessDefinitionQuery().deploymentId(tenantDeployment.getId()).singleResult().getId();
+
+        processInstance = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("oneTaskProcess")
+                .tenantId("acme")
+                .fallbackToDefaultTenant()
+                .start();
+        assertThat(processInstance.getProcessDefinitionId()).isEqualTo(tenantProcessDefinitionId);
+    }
+
+    @Test
+    public void testDefinitionRevisionChangesOnDeploy() {
+        deployOneTaskTestProcess();
+        String revision = managementService.getProperties().get(DeploymentManager.LATEST_DEFINITION_REVISION_PROPERTY);
+        assertThat(revision).isNotEmpty();
+
+        deployOneTaskTestProcess();
+        assertThat(managementService.getProperties().get(DeploymentManager.LATEST_DEFINITION_REVISION_PROPERTY))
+                .isNotEmpty()
+                .isNotEqualTo(revision);
+    }
+
+    @Test
+    public void testMissingDefinitionIsNotIndexed() {
+        LatestDefinitionIndex latestDefinitionIndex = new LatestDefinitionIndex(processEngineConfiguration, DeploymentManager.LATEST_DEFINITION_REVISION_PROPERTY);
+        AtomicInteger loads = new AtomicInteger();
+        managementService.executeCommand(commandContext -> {
+            for (int i = 0; i < 2; i++) {
+                assertThat(latestDefinitionIndex.getLatestDefinitionId(commandContext, "missing", null, () -> {
+                    loads.incrementAndGet();
+                    return null;
+                })).isNull();
+            }
+            return null;
+        });
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEntryIsEvictedWhenLimitIsReached() {
+        LatestDefinitionIndex latestDefinitionIndex = new LatestDefinitionIndex(processEngineConfiguration, DeploymentManager.LATEST_DEFINITION_REVISION_PROPERTY, 1);
+        List<String> loadedKeys = new ArrayList<>();
+        managementService.executeCommand(commandContext -> {
+            for (String definitionKey : Arrays.asList("first", "second", "second", "first")) {
+                latestDefinitionIndex.getLatestDefinitionId(commandContext, definitionKey, null, () -> {
+                    loadedKeys.add(definitionKey);
+                    return definitionKey + "Id";
+                });
+            }
+            return null;
+        });
+
+        assertThat(loadedKeys).containsExactly("first", "second", "first");
+    }
+
+}
@@ -0,0 +1,95 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Date;
+
+import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
+import org.flowable.engine.impl.persistence.deploy.DeploymentManager;
+import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionInfoCache;
+import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionInfoCacheObject;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.task.api.Task;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+public class ProcessDefinitionInfoCacheChangeStampTest extends PluggableFlowableTestCase {
+
+    protected ProcessDefinitionInfoCache processDefinitionInfoCache;
+
+    @BeforeEach
+    public void enableChangeCheckInterval() {
+        processDefinitionInfoCache = (ProcessDefinitionInfoCache) processEngineConfiguration.getProcessDefinitionInfoCache();
+        processDefinitionInfoCache.setChangeCheckInterval(Duration.ofHours(1));
+    }
+
+    @AfterEach
+    public void disableChangeCheckInterval() {
+        processDefinitionInfoCache.setChangeCheckInterval(null);
+        processEngineConfiguration.getClock().reset();
+    }
+
+    @Test
+    public void testSaveOnThisNodeIsVisibleImmediately() {
+        String processDefinitionId = deployOneTaskTestProcess();
+        assertThat(startProcessAndGetTaskAssignee()).isEqualTo("kermit");
+
+        ObjectNode infoNode = dynamicBpmnService.changeUserTaskAssignee("theTask", "fozzie");
+        dynamicBpmnService.saveProcessDefinitionInfo(processDefinitionId, infoNode);
+        assertThat(startProcessAndGetTaskAssignee()).isEqualTo("fozzie");
+
+        infoNode = dynamicBpmnService.changeUserTaskAssignee("theTask", "gonzo");
+        dynamicBpmnService.saveProcessDefinitionInfo(processDefinitionId, infoNode);
+        assertThat(startProcessAndGetTaskAssignee()).isEqualTo("gonzo");
+        assertThat(processDefinitionInfoCache.get(processDefinitionId).getChangeStamp())
+                .isEqualTo(managementService.getProperties().get(ProcessDefinitionInfoCache.CHANGE_STAMP_PROPERTY));
+    }
+
+    @Test
+    public void testSaveOnOtherNodeIsVisibleAfterCheckInterval() {
+        String processDefinitionId = deployOneTaskTestProcess();
+        processEngineConfiguration.getClock().setCurrentTime(new Date());
+        assertThat(startProcessAndGetTaskAssignee()).isEqualTo("kermit");
+
+        // Another node saves through its own cache, this cache only sees the moved change stamp once the interval has passed
+        DeploymentManager deploymentManager = processEngineConfiguration.getDeploymentManager();
+        DeploymentCache<ProcessDefinitionInfoCacheObject> localCache = deploymentManager.getProcessDefinitionInfoCache();
+        ProcessDefinitionInfoCache otherNodeCache = new ProcessDefinitionInfoCache(processEngineConfiguration.getCommandExecutor());
+        otherNodeCache.setChangeCheckInterval(Duration.ofHours(1));
+        deploymentManager.setProcessDefinitionInfoCache(otherNodeCache);
+        try {
+            ObjectNode infoNode = dynamicBpmnService.changeUserTaskAssignee("theTask", "fozzie");
+            dynamicBpmnService.saveProcessDefinitionInfo(processDefinitionId, infoNode);
+        } finally {
+            deploymentManager.setProcessDefinitionInfoCache(localCache);
+        }
+
+        assertThat(startProcessAndGetTaskAssignee()).isEqualTo("kermit");
+
+        processEngineConfiguration.getClock().setCurrentTime(new Date(processEngineConfiguration.getClock().getCurrentTime().getTime() + Duration.ofHours(2).toMillis()));
+        assertThat(startProcessAndGetTaskAssignee()).isEqualTo("fozzie");
+    }
+
+    protected String startProcessAndGetTaskAssignee() {
+        String processInstanceId = runtimeService.startProcessInstanceByKey("oneTaskProcess").getId();
+        Task task = taskService.createTaskQuery().processInstanceId(processInstanceId).singleResult();
+        return task.getAssignee();
+    }
+
+}
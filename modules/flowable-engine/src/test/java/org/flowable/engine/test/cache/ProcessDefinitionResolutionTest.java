@@ -0,0 +1,56 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
+import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionCacheEntry;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.repository.Deployment;
+import org.flowable.engine.repository.ProcessDefinition;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.junit.jupiter.api.Test;
+
+public class ProcessDefinitionResolutionTest extends PluggableFlowableTestCase {
+
+    @Test
+    public void testOnlyResourceOfMissedProcessDefinitionIsResolved() {
+        Deployment deployment = repositoryService.createDeployment()
+                .addClasspathResource("org/flowable/engine/test/cache/originalProcess.bpmn20.xml")
+                .addClasspathResource("org/flowable/engine/test/bpmn/deployment/BpmnDeploymentTest.testProcessDiagramResource.bpmn20.xml")
+                .addClasspathResource("org/flowable/engine/test/bpmn/deployment/BpmnDeploymentTest.testProcessDiagramResource.jpg")
+                .deploy();
+        deploymentIdsForAutoCleanup.add(deployment.getId());
+
+        String oneTaskProcessDefinitionId = repositoryService.createProcessDefinitionQuery()
+                .deploymentId(deployment.getId()).processDefinitionKey("oneTaskProcess").singleResult().getId();
+        String diagramProcessDefinitionId = repositoryService.createProcessDefinitionQuery()
+                .deploymentId(deployment.getId()).processDefinitionKey("processDiagramProcess").singleResult().getId();
+
+        DeploymentCache<ProcessDefinitionCacheEntry> processDefinitionCache = processEngineConfiguration.getProcessDefinitionCache();
+        processDefinitionCache.clear();
+
+        ProcessDefinition processDefinition = repositoryService.getProcessDefinition(diagramProcessDefinitionId);
+        assertThat(processDefinition.getDiagramResourceName())
+                .isEqualTo("org/flowable/engine/test/bpmn/deployment/BpmnDeploymentTest.testProcessDiagramResource.jpg");
+        assertThat(processDefinitionCache.contains(diagramProcessDefinitionId)).isTrue();
+        assertThat(processDefinitionCache.contains(oneTaskProcessDefinitionId)).isFalse();
+
+        ProcessInstance processInstance = runtimeService.startProcessInstanceById(oneTaskProcessDefinitionId);
+        assertThat(processInstance.getProcessDefinitionId()).isEqualTo(oneTaskProcessDefinitionId);
+        assertThat(processDefinitionCache.contains(oneTaskProcessDefinitionId)).isTrue();
+        assertThat(taskService.createTaskQuery().processInstanceId(processInstance.getId()).count()).isEqualTo(1);
+    }
+
+}
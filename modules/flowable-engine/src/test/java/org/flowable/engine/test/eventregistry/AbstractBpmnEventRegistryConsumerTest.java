@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.test.eventregistry;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
@@ -19,8 +20,10 @@ import java.util.Random;
 import org.flowable.eventregistry.api.EventDeployment;
 import org.flowable.eventregistry.api.EventRegistry;
 import org.flowable.eventregistry.api.EventRepositoryService;
+import org.flowable.eventregistry.api.InboundEvent;
 import org.flowable.eventregistry.api.InboundEventChannelAdapter;
 import org.flowable.eventregistry.api.model.EventPayloadTypes;
+import org.flowable.eventregistry.impl.DefaultInboundEvent;
 import org.flowable.eventregistry.model.InboundChannelModel;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -119,6 +122,18 @@ public abstract class AbstractBpmnEventRegistryConsumerTest extends FlowableEven
             }
         }
         
+        public void triggerTestEvents(String... customerIds) {
+            try {
+                List<InboundEvent> inboundEvents = new ArrayList<>(customerIds.length);
+                for (String customerId : customerIds) {
+                    inboundEvents.add(new DefaultInboundEvent(objectMapper.writeValueAsString(createTestEventNode(customerId, null))));
+                }
+                eventRegistry.eventsReceived(inboundChannelModel, inboundEvents);
+            } catch (JsonProcessingException e) {
+                throw new RuntimeException(e);
+            }
+        }
+
         protected ObjectNode createTestEventNode(String customerId, String orderId) {
             ObjectNode json = objectMapper.createObjectNode();
             json.put("type", "myEvent");
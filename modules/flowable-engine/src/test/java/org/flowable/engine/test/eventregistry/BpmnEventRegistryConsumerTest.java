@@ -13,21 +13,35 @@
 package org.flowable.engine.test.eventregistry;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.entry;
 import static org.assertj.core.api.Assertions.tuple;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.constant.ReferenceTypes;
 import org.flowable.common.engine.api.scope.ScopeTypes;
 import org.flowable.common.engine.impl.history.HistoryLevel;
+import org.flowable.engine.delegate.DelegateExecution;
+import org.flowable.engine.delegate.JavaDelegate;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.eventregistry.BpmnEventRegistryEventConsumer;
 import org.flowable.engine.impl.test.HistoryTestHelper;
 import org.flowable.engine.repository.ProcessDefinition;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.engine.test.Deployment;
+import org.flowable.eventregistry.api.EventRegistryProcessingInfo;
 import org.flowable.eventregistry.api.model.EventPayloadTypes;
+import org.flowable.eventregistry.api.runtime.EventInstance;
+import org.flowable.eventregistry.api.runtime.EventPayloadInstance;
+import org.flowable.eventregistry.impl.runtime.EventInstanceImpl;
+import org.flowable.eventregistry.impl.runtime.EventPayloadInstanceImpl;
+import org.flowable.eventregistry.model.EventPayload;
 import org.flowable.eventsubscription.api.EventSubscription;
 import org.flowable.task.api.Task;
 import org.junit.jupiter.api.Test;
@@ -423,6 +437,104 @@ public class BpmnEventRegistryConsumerTest extends AbstractBpmnEventRegistryCons
     }
 
 
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/eventregistry/BpmnEventRegistryConsumerTest.testIntermediateCatchEventWithCorrelationAndPayload.bpmn20.xml")
+    public void testIntermediateCatchEventWithCorrelationEventBatch() {
+        ProcessInstance kermitProcessInstance = runtimeService.startProcessInstanceByKey("process", Map.of("customerIdVar", "kermit"));
+        ProcessInstance gonzoProcessInstance = runtimeService.startProcessInstanceByKey("process", Map.of("customerIdVar", "gonzo"));
+        ProcessInstance fozzieProcessInstance = runtimeService.startProcessInstanceByKey("process", Map.of("customerIdVar", "fozzie"));
+
+        // The second kermit event finds the subscription already consumed by the first one in the same batch
+        inboundEventChannelAdapter.triggerTestEvents("kermit", "gonzo", "kermit", "piggy");
+
+        assertThat(taskService.createTaskQuery().processInstanceId(kermitProcessInstance.getId()).count()).isEqualTo(1);
+        assertThat(taskService.createTaskQuery().processInstanceId(gonzoProcessInstance.getId()).count()).isEqualTo(1);
+        assertThat(taskService.createTaskQuery().processInstanceId(fozzieProcessInstance.getId()).count()).isZero();
+
+        getEventRegistryEngineConfiguration().setInboundEventBatchTransactionSize(1);
+        try {
+            inboundEventChannelAdapter.triggerTestEvents("fozzie", "kermit");
+
+        } finally {
+            getEventRegistryEngineConfiguration().setInboundEventBatchTransactionSize(100);
+        }
+
+        assertThat(taskService.createTaskQuery().processInstanceId(fozzieProcessInstance.getId()).count()).isEqualTo(1);
+        assertThat(taskService.createTaskQuery().processInstanceId(kermitProcessInstance.getId()).singleResult().getTaskDefinitionKey())
+            .isEqualTo("taskAfterTask");
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/eventregistry/BpmnEventRegistryConsumerTest.testStartOnlyOneInstance.bpmn20.xml")
+    public void testStartOnlyOneInstanceEventBatch() {
+        inboundEventChannelAdapter.triggerTestEvents("testCustomer", "testCustomer", "anotherTestCustomer", "testCustomer", "anotherTestCustomer");
+
+        assertThat(runtimeService.createProcessInstanceQuery().list()).hasSize(2);
+    }
+
+    @Test
+    @Deployment
+    public void testSubscriptionCreatedInEventBatch() {
+        // The catch event subscription of the instance started by the first event is found by the second event of the same batch,
+        // as it would be when the events are handled one by one
+        inboundEventChannelAdapter.triggerTestEvents("kermit", "kermit");
+
+        assertThat(runtimeService.createProcessInstanceQuery().count()).isEqualTo(2);
+        assertThat(taskService.createTaskQuery().taskDefinitionKey("taskAfterCatch").count()).isEqualTo(1);
+
+        getEventRegistryEngineConfiguration().setInboundEventBatchTransactionSize(1);
+        try {
+            inboundEventChannelAdapter.triggerTestEvents("gonzo", "gonzo");
+
+        } finally {
+            getEventRegistryEngineConfiguration().setInboundEventBatchTransactionSize(100);
+        }
+
+        assertThat(runtimeService.createProcessInstanceQuery().count()).isEqualTo(4);
+        assertThat(taskService.createTaskQuery().taskDefinitionKey("taskAfterCatch").count()).isEqualTo(2);
+    }
+
+    @Test
+    @Deployment
+    public void testFailingEventInEventBatch() {
+        List<EventRegistryProcessingInfo> failedProcessingInfos = new ArrayList<>();
+        getEventRegistryEngineConfiguration().setNonMatchingEventConsumer((event, processingInfo) -> failedProcessingInfos.add(processingInfo));
+        try {
+            inboundEventChannelAdapter.triggerTestEvents("kermit", "failing", "gonzo");
+
+        } finally {
+            getEventRegistryEngineConfiguration().setNonMatchingEventConsumer(null);
+        }
+
+        // The batch is rolled back and the events are handled one by one, the failing event doesn't prevent the next events from being handled
+        assertThat(runtimeService.createProcessInstanceQuery().list())
+            .extracting(processInstance -> runtimeService.getVariable(processInstance.getId(), "customerIdVar"))
+            .containsExactlyInAnyOrder("kermit", "gonzo");
+        assertThat(taskService.createTaskQuery().count()).isEqualTo(2);
+
+        assertThat(failedProcessingInfos)
+            .singleElement()
+            .satisfies(processingInfo -> {
+                assertThat(processingInfo.eventFailed()).isTrue();
+                assertThat(processingInfo.getException()).hasMessage("Failing customer");
+            });
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/eventregistry/BpmnEventRegistryConsumerTest.testFailingEventInEventBatch.bpmn20.xml")
+    public void testFailingEventInEventBatchWithoutNonMatchingEventConsumer() {
+        // Without a non matching event consumer the failure is thrown, so that the adapter doesn't acknowledge the events and they are not lost
+        assertThatThrownBy(() -> inboundEventChannelAdapter.triggerTestEvents("kermit", "failing", "gonzo"))
+            .isInstanceOf(FlowableException.class)
+            .cause()
+            .hasMessage("Failing customer");
+
+        // The other events of the batch were still handled
+        assertThat(runtimeService.createProcessInstanceQuery().list())
+            .extracting(processInstance -> runtimeService.getVariable(processInstance.getId(), "customerIdVar"))
+            .containsExactlyInAnyOrder("kermit", "gonzo");
+    }
+
     @Test
     @Deployment
     public void testProcessStartNoCorrelationParameter() {
@@ -866,4 +978,61 @@ public class BpmnEventRegistryConsumerTest extends AbstractBpmnEventRegistryCons
                 );
     }
 
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/eventregistry/BpmnEventRegistryConsumerTest.testBoundaryEventListenerWithCorrelation.bpmn20.xml")
+    public void testCorrelatedAndUncorrelatedEventSubscriptionLookup() {
+        String correlatedProcessDefinitionId = repositoryService.createProcessDefinitionQuery().processDefinitionKey("process").singleResult().getId();
+        String uncorrelatedDeploymentId = repositoryService.createDeployment()
+            .addClasspathResource("org/flowable/engine/test/eventregistry/BpmnEventRegistryConsumerTest.testBoundaryEventListenerNoCorrelation.bpmn20.xml")
+            .deploy()
+            .getId();
+        deploymentIdsForAutoCleanup.add(uncorrelatedDeploymentId);
+        String uncorrelatedProcessDefinitionId = repositoryService.createProcessDefinitionQuery().deploymentId(uncorrelatedDeploymentId).singleResult().getId();
+
+        String kermitProcessInstanceId = runtimeService.startProcessInstanceById(correlatedProcessDefinitionId,
+            Collections.singletonMap("customerIdVar", "kermit")).getId();
+        runtimeService.startProcessInstanceById(correlatedProcessDefinitionId, Collections.singletonMap("customerIdVar", "gonzo"));
+        String uncorrelatedProcessInstanceId = runtimeService.startProcessInstanceById(uncorrelatedProcessDefinitionId).getId();
+
+        TestBpmnEventRegistryEventConsumer eventConsumer = new TestBpmnEventRegistryEventConsumer(processEngineConfiguration);
+
+        assertThat(eventConsumer.findEventSubscriptions(createCustomerEvent("kermit")))
+            .extracting(EventSubscription::getProcessInstanceId)
+            .containsExactlyInAnyOrder(kermitProcessInstanceId, uncorrelatedProcessInstanceId);
+        assertThat(eventConsumer.findEventSubscriptions(createCustomerEvent("fozzie")))
+            .extracting(EventSubscription::getProcessInstanceId)
+            .containsExactly(uncorrelatedProcessInstanceId);
+        assertThat(eventConsumer.findEventSubscriptions(createCustomerEvent(null)))
+            .extracting(EventSubscription::getProcessInstanceId)
+            .containsExactly(uncorrelatedProcessInstanceId);
+    }
+
+    protected EventInstance createCustomerEvent(String customerId) {
+        List<EventPayloadInstance> payloadInstances = customerId != null
+            ? Collections.singletonList(new EventPayloadInstanceImpl(EventPayload.correlation("customerId", EventPayloadTypes.STRING), customerId))
+            : Collections.emptyList();
+        return new EventInstanceImpl("myEvent", payloadInstances);
+    }
+
+    protected static class TestBpmnEventRegistryEventConsumer extends BpmnEventRegistryEventConsumer {
+
+        public TestBpmnEventRegistryEventConsumer(ProcessEngineConfigurationImpl processEngineConfiguration) {
+            super(processEngineConfiguration);
+        }
+
+        public List<EventSubscription> findEventSubscriptions(EventInstance eventInstance) {
+            return findEventSubscriptions(ScopeTypes.BPMN, eventInstance, generateCorrelationKeys(eventInstance.getCorrelationParameterInstances()));
+        }
+    }
+
+    public static class FailingCustomerDelegate implements JavaDelegate {
+
+        @Override
+        public void execute(DelegateExecution execution) {
+            if ("failing".equals(execution.getVariable("customerIdVar"))) {
+                throw new FlowableException("Failing customer");
+            }
+        }
+    }
+
 }
@@ -354,6 +354,29 @@ public class HistoricActivityInstanceTest extends PluggableFlowableTestCase {
         assertThat(historyService.createHistoricActivityInstanceQuery().orderByProcessInstanceId().desc().count()).isEqualTo(expectedActivityInstances);
     }
 
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/history/HistoricActivityInstanceTest.testSorting.bpmn20.xml")
+    public void testKeysetPagination() {
+        runtimeService.startProcessInstanceByKey("process");
+        runtimeService.startProcessInstanceByKey("process");
+
+        if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration, 20000)) {
+            List<String> expectedIds = new ArrayList<>();
+            historyService.createHistoricActivityInstanceQuery().orderByProcessInstanceId().asc().orderByHistoricActivityInstanceStartTime().asc()
+                    .orderByHistoricActivityInstanceId().asc().list().forEach(activityInstance -> expectedIds.add(activityInstance.getId()));
+
+            HistoricActivityInstanceQuery query = historyService.createHistoricActivityInstanceQuery()
+                    .orderByProcessInstanceId().asc().orderByHistoricActivityInstanceStartTime().asc();
+            List<String> pagedIds = new ArrayList<>();
+            List<HistoricActivityInstance> page = query.listAfter(null, 2);
+            while (!page.isEmpty()) {
+                page.forEach(activityInstance -> pagedIds.add(activityInstance.getId()));
+                page = query.listAfter(query.createCursor(page.get(page.size() - 1)), 2);
+            }
+            assertThat(pagedIds).hasSize(6).containsExactlyElementsOf(expectedIds);
+        }
+    }
+
     @Test
     public void testInvalidSorting() {
         assertThatThrownBy(() -> historyService.createHistoricActivityInstanceQuery().asc().list())
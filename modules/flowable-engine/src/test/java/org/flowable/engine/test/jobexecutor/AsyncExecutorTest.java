@@ -15,11 +15,17 @@ package org.flowable.engine.test.jobexecutor;
 import static java.time.temporal.ChronoUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.awaitility.Awaitility.await;
 
 import java.time.Duration;
+import java.util.Collections;
 import java.util.Date;
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -27,17 +33,24 @@ import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
 import org.flowable.common.engine.api.delegate.event.FlowableEvent;
 import org.flowable.common.engine.api.delegate.event.FlowableEventListener;
+import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.ManagementService;
 import org.flowable.engine.ProcessEngine;
 import org.flowable.engine.delegate.DelegateExecution;
 import org.flowable.engine.delegate.JavaDelegate;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 import org.flowable.engine.impl.test.JobTestHelper;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.job.api.Job;
 import org.flowable.job.api.JobInfo;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.asyncexecutor.AdaptiveAcquisitionController;
 import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
 import org.flowable.job.service.impl.asyncexecutor.DefaultAsyncJobExecutor;
+import org.flowable.job.service.impl.asyncexecutor.ExecuteAsyncRunnable;
 import org.junit.Assert;
 import org.junit.jupiter.api.Test;
 import org.slf4j.Logger;
@@ -345,8 +358,193 @@ public class AsyncExecutorTest {
         }
     }
 
+    @Test
+    public void testTimerJobWheel() {
+        ProcessEngineConfigurationImpl processEngineConfiguration = new StandaloneInMemProcessEngineConfiguration();
+        processEngineConfiguration.setJdbcUrl("jdbc:h2:mem:flowable-AsyncExecutorTest;DB_CLOSE_DELAY=1000");
+        processEngineConfiguration.setDatabaseSchemaUpdate("true");
+        processEngineConfiguration.setAsyncExecutorActivate(true);
+
+        DefaultAsyncJobExecutor asyncExecutor = new DefaultAsyncJobExecutor();
+        // The timer job acquisition should not pick up the timer during the test
+        asyncExecutor.setDefaultTimerJobAcquireWaitTimeInMillis(60 * 60 * 1000);
+        asyncExecutor.setTimerJobWheelEnabled(true);
+        processEngineConfiguration.setAsyncExecutor(asyncExecutor);
+
+        ProcessEngine processEngine = processEngineConfiguration.buildProcessEngine();
+        processEngine.getProcessEngineConfiguration().getClock().reset();
+
+        try {
+            deploy(processEngine, "AsyncExecutorTest.testTimerJobWheel.bpmn20.xml");
+
+            ProcessInstance processInstance = processEngine.getRuntimeService().startProcessInstanceByKey("timerJobWheel");
+            assertThat(processEngine.getManagementService().createTimerJobQuery().processInstanceId(processInstance.getId()).count()).isEqualTo(1);
+
+            await().atMost(Duration.of(10, SECONDS))
+                    .until(() -> processEngine.getTaskService().createTaskQuery().processInstanceId(processInstance.getId()).count() == 1);
+
+            assertThat(processEngine.getManagementService().createTimerJobQuery().count()).isZero();
+            assertThat(asyncExecutor.getTimerJobWheel().size()).isZero();
+
+        } finally {
+            cleanup(processEngine);
+        }
+    }
+
+    @Test
+    public void testExclusiveJobBatch() {
+        ProcessEngine processEngine = createProcessEngine(false);
+        DefaultAsyncJobExecutor asyncExecutor = (DefaultAsyncJobExecutor) processEngine.getProcessEngineConfiguration().getAsyncExecutor();
+        asyncExecutor.setExclusiveJobBatchSize(10);
+        TestBatchRecordingJavaDelegate.reset();
+
+        try {
+            deploy(processEngine, "AsyncExecutorTest.testExclusiveJobBatch.bpmn20.xml");
+            ProcessInstance processInstance = processEngine.getRuntimeService().startProcessInstanceByKey("exclusiveJobBatch");
+            List<Job> jobs = processEngine.getManagementService().createJobQuery().processInstanceId(processInstance.getId()).list();
+            assertThat(jobs).hasSize(5);
+
+            // Executing one job executes all due exclusive jobs of the process instance in the same transaction
+            createExecuteAsyncRunnable(processEngine, jobs.get(0)).run();
+
+            assertThat(TestBatchRecordingJavaDelegate.EXECUTED_ACTIVITIES).containsExactlyInAnyOrder("task1", "task2", "task3", "task4", "task5");
+            assertThat(TestBatchRecordingJavaDelegate.COMMAND_CONTEXTS).hasSize(1);
+            assertThat(processEngine.getManagementService().createJobQuery().count()).isZero();
+            assertThat(processEngine.getTaskService().createTaskQuery().taskName("Task after join").count()).isEqualTo(1);
+            assertThat(((ExecutionEntity) processEngine.getRuntimeService().createProcessInstanceQuery().processInstanceId(processInstance.getId())
+                    .singleResult()).getLockTime()).isNull();
+
+        } finally {
+            asyncExecutor.setExclusiveJobBatchSize(1);
+            cleanup(processEngine);
+        }
+    }
+
+    @Test
+    public void testExclusiveJobBatchWithFailingJob() {
+        ProcessEngine processEngine = createProcessEngine(false);
+        DefaultAsyncJobExecutor asyncExecutor = (DefaultAsyncJobExecutor) processEngine.getProcessEngineConfiguration().getAsyncExecutor();
+        asyncExecutor.setExclusiveJobBatchSize(10);
+        TestBatchRecordingJavaDelegate.reset();
+
+        try {
+            deploy(processEngine, "AsyncExecutorTest.testExclusiveJobBatch.bpmn20.xml");
+            ProcessInstance processInstance = processEngine.getRuntimeService().startProcessInstanceByKey("exclusiveJobBatch",
+                    Collections.singletonMap("failingActivity", "task3"));
+            ManagementService managementService = processEngine.getManagementService();
+
+            // The batch fails because of task3, only the job that was picked up is executed on its own afterwards
+            createExecuteAsyncRunnable(processEngine, managementService.createJobQuery().elementId("task1").singleResult()).run();
+
+            assertThat(managementService.createJobQuery().processInstanceId(processInstance.getId()).list())
+                    .extracting(Job::getElementId, Job::getRetries)
+                    .containsExactlyInAnyOrder(tuple("task2", 3), tuple("task3", 3), tuple("task4", 3), tuple("task5", 3));
+            assertThat(managementService.createTimerJobQuery().count()).isZero();
+
+            // Only the failing job loses a retry
+            createExecuteAsyncRunnable(processEngine, managementService.createJobQuery().elementId("task3").singleResult()).run();
+
+            assertThat(managementService.createJobQuery().processInstanceId(processInstance.getId()).list())
+                    .extracting(Job::getElementId, Job::getRetries)
+                    .containsExactlyInAnyOrder(tuple("task2", 3), tuple("task4", 3), tuple("task5", 3));
+            assertThat(managementService.createTimerJobQuery().list())
+                    .extracting(Job::getElementId, Job::getRetries)
+                    .containsExactly(tuple("task3", 2));
+            assertThat(((ExecutionEntity) processEngine.getRuntimeService().createProcessInstanceQuery().processInstanceId(processInstance.getId())
+                    .singleResult()).getLockTime()).isNull();
+
+        } finally {
+            asyncExecutor.setExclusiveJobBatchSize(1);
+            cleanup(processEngine);
+        }
+    }
+
+    @Test
+    public void testExclusiveJobBatchWithRunningAsyncExecutor() {
+        ProcessEngine processEngine = createProcessEngine(true);
+        DefaultAsyncJobExecutor asyncExecutor = (DefaultAsyncJobExecutor) processEngine.getProcessEngineConfiguration().getAsyncExecutor();
+        asyncExecutor.setExclusiveJobBatchSize(10);
+        asyncExecutor.setMaxAsyncJobsDuePerAcquisition(1); // Leaves jobs of the process instance unlocked for the batch
+        TestBatchRecordingJavaDelegate.reset();
+
+        try {
+            deploy(processEngine, "AsyncExecutorTest.testExclusiveJobBatch.bpmn20.xml");
+            ProcessInstance processInstance = processEngine.getRuntimeService().startProcessInstanceByKey("exclusiveJobBatch");
+
+            await().atMost(Duration.of(10, SECONDS))
+                    .until(() -> processEngine.getTaskService().createTaskQuery().taskName("Task after join").count() == 1);
+
+            // Batches that are rolled back because a job was acquired concurrently are executed again, none of the jobs fails
+            ManagementService managementService = processEngine.getManagementService();
+            assertThat(TestBatchRecordingJavaDelegate.EXECUTED_ACTIVITIES).containsOnly("task1", "task2", "task3", "task4", "task5");
+            assertThat(managementService.createJobQuery().count()).isZero();
+            assertThat(managementService.createTimerJobQuery().count()).isZero();
+            assertThat(managementService.createDeadLetterJobQuery().count()).isZero();
+            assertThat(((ExecutionEntity) processEngine.getRuntimeService().createProcessInstanceQuery().processInstanceId(processInstance.getId())
+                    .singleResult()).getLockTime()).isNull();
+
+        } finally {
+            asyncExecutor.setExclusiveJobBatchSize(1);
+            cleanup(processEngine);
+        }
+    }
+
+    @Test
+    public void testAdaptiveAcquisition() {
+        ProcessEngineConfigurationImpl processEngineConfiguration = new StandaloneInMemProcessEngineConfiguration();
+        processEngineConfiguration.setJdbcUrl("jdbc:h2:mem:flowable-AsyncExecutorTest;DB_CLOSE_DELAY=1000");
+        processEngineConfiguration.setDatabaseSchemaUpdate("true");
+        processEngineConfiguration.setAsyncExecutorActivate(true);
+
+        DefaultAsyncJobExecutor asyncExecutor = new DefaultAsyncJobExecutor();
+        asyncExecutor.setAdaptiveAcquisitionEnabled(true);
+        asyncExecutor.getConfiguration().setAdaptiveAcquisitionMinPageSize(2);
+        asyncExecutor.getConfiguration().setAdaptiveAcquisitionMaxPageSize(4);
+        asyncExecutor.getConfiguration().setAdaptiveAcquisitionMinWaitTime(Duration.ofMillis(10));
+        asyncExecutor.getConfiguration().setAdaptiveAcquisitionMaxWaitTime(Duration.ofMillis(200));
+        asyncExecutor.setDefaultTimerJobAcquireWaitTimeInMillis(100);
+        asyncExecutor.setDefaultAsyncJobAcquireWaitTimeInMillis(150);
+        List<String> decisions = new CopyOnWriteArrayList<>();
+        asyncExecutor.getConfiguration().setAdaptiveAcquisitionListener(
+                (controller, reason, previousPageSize, previousWaitTimeInMillis) -> decisions.add(controller.getName()));
+        processEngineConfiguration.setAsyncExecutor(asyncExecutor);
+
+        ProcessEngine processEngine = processEngineConfiguration.buildProcessEngine();
+        TestBatchRecordingJavaDelegate.reset();
+
+        try {
+            deploy(processEngine, "AsyncExecutorTest.testExclusiveJobBatch.bpmn20.xml");
+            ProcessInstance processInstance = processEngine.getRuntimeService().startProcessInstanceByKey("exclusiveJobBatch");
+
+            await().atMost(Duration.of(10, SECONDS))
+                    .until(() -> processEngine.getTaskService().createTaskQuery().processInstanceId(processInstance.getId()).count() == 1);
+
+            AdaptiveAcquisitionController controller = asyncExecutor.getAsyncJobsDueAcquisitionController();
+            assertThat(controller).isNotNull();
+            assertThat(asyncExecutor.getAsyncJobsDueRunnable().getAdaptiveAcquisitionController()).isSameAs(controller);
+            assertThat(controller.getAcquisitionCycles()).isPositive();
+            assertThat(controller.getPageSize()).isBetween(2, 4);
+            assertThat(controller.getWaitTimeInMillis()).isBetween(0L, 150L);
+            // New jobs are not acquired later than with the configured async job acquire wait time
+            assertThat(controller.getMaxWaitTimeInMillis()).isEqualTo(150L);
+            assertThat(decisions).contains(controller.getName());
+            // Timers are not acquired later than with the configured timer job acquire wait time
+            assertThat(asyncExecutor.getTimerJobsAcquisitionController()).isNotNull();
+            assertThat(asyncExecutor.getTimerJobsAcquisitionController().getMaxWaitTimeInMillis()).isEqualTo(100L);
+            assertThat(TestBatchRecordingJavaDelegate.EXECUTED_ACTIVITIES).containsExactlyInAnyOrder("task1", "task2", "task3", "task4", "task5");
+
+        } finally {
+            cleanup(processEngine);
+        }
+    }
+
     // Helpers ////////////////////////////////////////////////////////
 
+    private ExecuteAsyncRunnable createExecuteAsyncRunnable(ProcessEngine processEngine, Job job) {
+        JobServiceConfiguration jobServiceConfiguration = processEngine.getProcessEngineConfiguration().getJobServiceConfiguration();
+        return new ExecuteAsyncRunnable(job, jobServiceConfiguration, jobServiceConfiguration.getJobEntityManager(), null);
+    }
+
     private ProcessEngine createProcessEngine(boolean enableAsyncExecutor) {
         return createProcessEngine(enableAsyncExecutor, null, null);
     }
@@ -455,6 +653,26 @@ public class AsyncExecutorTest {
         }
     }
 
+    public static final class TestBatchRecordingJavaDelegate implements JavaDelegate {
+
+        public static List<String> EXECUTED_ACTIVITIES = new CopyOnWriteArrayList<>();
+        public static Set<CommandContext> COMMAND_CONTEXTS = ConcurrentHashMap.newKeySet();
+
+        public static void reset() {
+            EXECUTED_ACTIVITIES.clear();
+            COMMAND_CONTEXTS.clear();
+        }
+
+        @Override
+        public void execute(DelegateExecution execution) {
+            if (execution.getCurrentActivityId().equals(execution.getVariable("failingActivity"))) {
+                throw new FlowableException("Failing " + execution.getCurrentActivityId());
+            }
+            EXECUTED_ACTIVITIES.add(execution.getCurrentActivityId());
+            COMMAND_CONTEXTS.add(Context.getCommandContext());
+        }
+    }
+
     public static final class TestRejectionEventListener implements FlowableEventListener {
 
         public static AtomicInteger COUNTER = new AtomicInteger(0);
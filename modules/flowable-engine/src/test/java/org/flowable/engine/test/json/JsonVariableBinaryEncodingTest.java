@@ -0,0 +1,111 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.json;
+
+import static net.javacrumbs.jsonunit.assertj.JsonAssertions.assertThatJson;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+
+import org.apache.commons.lang3.StringUtils;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.engine.test.impl.CustomConfigurationFlowableTestCase;
+import org.flowable.variable.api.persistence.entity.VariableInstance;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+public class JsonVariableBinaryEncodingTest extends CustomConfigurationFlowableTestCase {
+
+    protected ObjectMapper objectMapper = new ObjectMapper();
+    protected ObjectMapper smileObjectMapper = new ObjectMapper(new SmileFactory());
+
+    public JsonVariableBinaryEncodingTest() {
+        super(JsonVariableBinaryEncodingTest.class.getName());
+    }
+
+    @Override
+    protected void configureConfiguration(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        processEngineConfiguration.setJsonVariableTypeBinaryObjectMapper(smileObjectMapper);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testLongValueIsStoredInBinaryFormat() throws Exception {
+        ObjectNode customer = createCustomer(StringUtils.repeat("Sesame Street ", 1000));
+        ProcessInstance processInstance = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("oneTaskProcess")
+                .variable("customer", customer)
+                .start();
+
+        // Marker, binary flag and the Smile encoded value
+        byte[] bytes = getVariableBytes(processInstance.getId(), "customer");
+        assertThat(bytes[0]).isZero();
+        assertThat(bytes[1]).isEqualTo((byte) 1);
+        assertThatJson(smileObjectMapper.readTree(Arrays.copyOfRange(bytes, 2, bytes.length))).isEqualTo(customer);
+        assertThatJson(runtimeService.getVariable(processInstance.getId(), "customer")).isEqualTo(customer);
+
+        // Changes to a tracked value are stored with the same encoding
+        managementService.executeCommand(commandContext -> {
+            ObjectNode customerVar = (ObjectNode) CommandContextUtil.getExecutionEntityManager(commandContext).findById(processInstance.getId())
+                    .getVariable("customer");
+            customerVar.put("name", "Gonzo");
+            return null;
+        });
+
+        customer.put("name", "Gonzo");
+        bytes = getVariableBytes(processInstance.getId(), "customer");
+        assertThat(bytes[1]).isEqualTo((byte) 1);
+        assertThatJson(smileObjectMapper.readTree(Arrays.copyOfRange(bytes, 2, bytes.length))).isEqualTo(customer);
+        assertThatJson(runtimeService.getVariable(processInstance.getId(), "customer")).isEqualTo(customer);
+
+        // A value that became short enough is stored as text again
+        ObjectNode shortCustomer = createCustomer("Sesame Street");
+        runtimeService.setVariable(processInstance.getId(), "customer", shortCustomer);
+        VariableInstance variableInstance = runtimeService.getVariableInstance(processInstance.getId(), "customer");
+        assertThat(variableInstance.getTextValue()).isEqualTo(shortCustomer.toString());
+        assertThatJson(variableInstance.getValue()).isEqualTo(shortCustomer);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testShortValueIsStoredAsText() {
+        ObjectNode customer = createCustomer("Sesame Street");
+        customer.putArray("nicknames").add("Kermie").add("Frog \"The Frog\"");
+        ProcessInstance processInstance = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("oneTaskProcess")
+                .variable("customer", customer)
+                .start();
+
+        assertThat(runtimeService.getVariableInstance(processInstance.getId(), "customer").getTextValue()).isEqualTo(customer.toString());
+        assertThatJson(runtimeService.getVariable(processInstance.getId(), "customer")).isEqualTo(customer);
+    }
+
+    protected ObjectNode createCustomer(String street) {
+        ObjectNode customer = objectMapper.createObjectNode();
+        customer.put("name", "Kermit");
+        customer.putObject("address").put("street", street);
+        return customer;
+    }
+
+    protected byte[] getVariableBytes(String executionId, String variableName) {
+        return managementService.executeCommand(commandContext -> ((VariableInstanceEntity) CommandContextUtil.getExecutionEntityManager(commandContext)
+                .findById(executionId).getVariableInstance(variableName)).getBytes());
+    }
+}
@@ -0,0 +1,121 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.json;
+
+import static net.javacrumbs.jsonunit.assertj.JsonAssertions.assertThatJson;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+
+import org.apache.commons.lang3.StringUtils;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.engine.test.impl.CustomConfigurationFlowableTestCase;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
+import org.flowable.variable.service.impl.types.JsonType;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+public class JsonVariableEncodingTest extends CustomConfigurationFlowableTestCase {
+
+    protected ObjectMapper objectMapper = new ObjectMapper();
+
+    public JsonVariableEncodingTest() {
+        super(JsonVariableEncodingTest.class.getName());
+    }
+
+    @Override
+    protected void configureConfiguration(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        processEngineConfiguration.setJsonVariableTypeCompressionThreshold(1024);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testLongValueIsCompressed() {
+        ObjectNode customer = createCustomer(StringUtils.repeat("Sesame Street ", 1000));
+        ProcessInstance processInstance = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("oneTaskProcess")
+                .variable("customer", customer)
+                .start();
+
+        byte[] bytes = getVariableBytes(processInstance.getId(), "customer");
+        assertThat(bytes[0]).isZero();
+        assertThat(bytes.length).isLessThan(customer.toString().length() / 10);
+        assertThatJson(runtimeService.getVariable(processInstance.getId(), "customer")).isEqualTo(customer);
+
+        // Changes to a tracked value are stored with the same encoding
+        managementService.executeCommand(commandContext -> {
+            ObjectNode customerVar = (ObjectNode) CommandContextUtil.getExecutionEntityManager(commandContext).findById(processInstance.getId())
+                    .getVariable("customer");
+            customerVar.put("name", "Gonzo");
+            return null;
+        });
+
+        customer.put("name", "Gonzo");
+        assertThat(getVariableBytes(processInstance.getId(), "customer")[0]).isZero();
+        assertThatJson(runtimeService.getVariable(processInstance.getId(), "customer")).isEqualTo(customer);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testShortValueIsStoredAsText() {
+        ObjectNode customer = createCustomer("Sesame Street");
+        ProcessInstance processInstance = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("oneTaskProcess")
+                .variable("customer", customer)
+                .start();
+
+        assertThat(runtimeService.getVariableInstance(processInstance.getId(), "customer").getTextValue()).isEqualTo(customer.toString());
+        assertThatJson(runtimeService.getVariable(processInstance.getId(), "customer")).isEqualTo(customer);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testReadExistingTextBytes() {
+        ObjectNode customer = createCustomer(StringUtils.repeat("Sesame Street ", 1000));
+        ProcessInstance processInstance = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("oneTaskProcess")
+                .variable("customer", customer)
+                .start();
+
+        // Values stored before the encoding was configured contain the json text
+        managementService.executeCommand(commandContext -> {
+            VariableInstanceEntity variableInstance = (VariableInstanceEntity) CommandContextUtil.getExecutionEntityManager(commandContext)
+                    .findById(processInstance.getId()).getVariableInstance("customer");
+            variableInstance.setBytes(customer.toString().getBytes(StandardCharsets.UTF_8));
+            return null;
+        });
+
+        assertThat(new String(getVariableBytes(processInstance.getId(), "customer"), StandardCharsets.UTF_8)).isEqualTo(customer.toString());
+        JsonNode customerVar = (JsonNode) runtimeService.getVariable(processInstance.getId(), "customer");
+        assertThatJson(customerVar).isEqualTo(customer);
+        assertThat(runtimeService.getVariableInstance(processInstance.getId(), "customer").getTypeName()).isEqualTo(JsonType.TYPE_NAME);
+    }
+
+    protected ObjectNode createCustomer(String street) {
+        ObjectNode customer = objectMapper.createObjectNode();
+        customer.put("name", "Kermit");
+        customer.putObject("address").put("street", street);
+        return customer;
+    }
+
+    protected byte[] getVariableBytes(String executionId, String variableName) {
+        return managementService.executeCommand(commandContext -> ((VariableInstanceEntity) CommandContextUtil.getExecutionEntityManager(commandContext)
+                .findById(executionId).getVariableInstance(variableName)).getBytes());
+    }
+}
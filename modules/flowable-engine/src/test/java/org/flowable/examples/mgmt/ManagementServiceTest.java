@@ -67,7 +67,7 @@ public class ManagementServiceTest extends PluggableFlowableTestCase {
             
         });
 
-        assertThat(tableCount).containsEntry(tablePrefix + "ACT_GE_PROPERTY", 7L);
+        assertThat(tableCount).containsEntry(tablePrefix + "ACT_GE_PROPERTY", 9L);
         assertThat(tableCount.get(tablePrefix + "ACT_GE_BYTEARRAY")).isZero();
         assertThat(tableCount.get(tablePrefix + "ACT_RE_DEPLOYMENT")).isZero();
         assertThat(tableCount.get(tablePrefix + "ACT_RU_EXECUTION")).isZero();
@@ -73,11 +73,30 @@ public interface EventRegistry {
      */
     void eventReceived(InboundChannelModel channelModel, InboundEvent event);
 
+    /**
+     * Adapters receiving events in batches should call this method to process them together.
+     * This allows the event consumers to handle the events of the batch with fewer queries and transactions.
+     */
+    default void eventsReceived(InboundChannelModel channelModel, Collection<InboundEvent> events) {
+        for (InboundEvent event : events) {
+            eventReceived(channelModel, event);
+        }
+    }
+
     /**
      * Send an event to all the registered event consumers.
      */
     void sendEventToConsumers(EventRegistryEvent eventRegistryEvent);
 
+    /**
+     * Send a batch of events to all the registered event consumers.
+     */
+    default void sendEventsToConsumers(Collection<EventRegistryEvent> eventRegistryEvents) {
+        for (EventRegistryEvent eventRegistryEvent : eventRegistryEvents) {
+            sendEventToConsumers(eventRegistryEvent);
+        }
+    }
+
     /**
      * Send out the {@code eventInstance} via the given system {@link OutboundEventProcessor}.
      */
@@ -12,12 +12,27 @@
  */
 package org.flowable.eventregistry.api;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * @author Joram Barrez
  */
 public interface EventRegistryEventConsumer {
 
     EventRegistryProcessingInfo eventReceived(EventRegistryEvent event);
+
+    /**
+     * Handles a batch of events. The returned list contains the processing info for each event, at the same position as the event.
+     * Implementations can use this to share queries and transactions between the events of the batch.
+     */
+    default List<EventRegistryProcessingInfo> eventsReceived(List<EventRegistryEvent> events) {
+        List<EventRegistryProcessingInfo> processingInfos = new ArrayList<>(events.size());
+        for (EventRegistryEvent event : events) {
+            processingInfos.add(eventReceived(event));
+        }
+        return processingInfos;
+    }
     
     String getConsumerKey();
 }
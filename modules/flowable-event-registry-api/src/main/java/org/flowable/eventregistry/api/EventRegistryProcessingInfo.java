@@ -19,10 +19,19 @@ import java.util.StringJoiner;
 public class EventRegistryProcessingInfo {
 
     protected List<EventConsumerInfo> eventConsumerInfos;
+    protected Throwable exception;
     
     public boolean eventHandled() {
         return eventConsumerInfos != null && !eventConsumerInfos.isEmpty();
     }
+
+    /**
+     * @return whether an event consumer failed to handle the event. The failure did not fail the handling of the other events
+     *         that were received together with this event.
+     */
+    public boolean eventFailed() {
+        return exception != null;
+    }
     
     public void addEventConsumerInfo(EventConsumerInfo eventInfo) {
         if (eventConsumerInfos == null) {
@@ -40,10 +49,19 @@ public class EventRegistryProcessingInfo {
         this.eventConsumerInfos = eventConsumerInfos;
     }
 
+    public Throwable getException() {
+        return exception;
+    }
+
+    public void setException(Throwable exception) {
+        this.exception = exception;
+    }
+
     @Override
     public String toString() {
         return new StringJoiner(", ", getClass().getSimpleName() + "[", "]")
                 .add("eventConsumerInfos=" + eventConsumerInfos)
+                .add("exception=" + exception)
                 .toString();
     }
 }
@@ -12,6 +12,7 @@
  */
 package org.flowable.eventregistry.api;
 
+import java.util.ArrayList;
 import java.util.Collection;
 
 import org.flowable.eventregistry.model.InboundChannelModel;
@@ -23,5 +24,17 @@ import org.flowable.eventregistry.model.InboundChannelModel;
 public interface InboundEventProcessingPipeline {
 
     Collection<EventRegistryEvent> run(InboundChannelModel inboundChannel, InboundEvent inboundEvent);
+
+    /**
+     * Runs the pipeline for a batch of inbound events received together on the given channel.
+     * The returned events are in the order of the inbound events they were created from.
+     */
+    default Collection<EventRegistryEvent> run(InboundChannelModel inboundChannel, Collection<InboundEvent> inboundEvents) {
+        Collection<EventRegistryEvent> eventRegistryEvents = new ArrayList<>(inboundEvents.size());
+        for (InboundEvent inboundEvent : inboundEvents) {
+            eventRegistryEvents.addAll(run(inboundChannel, inboundEvent));
+        }
+        return eventRegistryEvents;
+    }
     
 }
@@ -12,6 +12,8 @@
  */
 package org.flowable.eventregistry.api;
 
+import java.util.Collection;
+
 import org.flowable.eventregistry.model.InboundChannelModel;
 
 /**
@@ -21,4 +23,13 @@ public interface InboundEventProcessor {
 
     void eventReceived(InboundChannelModel channelModel, InboundEvent event);
 
+    /**
+     * Handles a batch of events received together on the given channel.
+     */
+    default void eventsReceived(InboundChannelModel channelModel, Collection<InboundEvent> events) {
+        for (InboundEvent event : events) {
+            eventReceived(channelModel, event);
+        }
+    }
+
 }
@@ -188,6 +188,12 @@ public interface InboundChannelModelBuilder {
          */
         InboundKafkaChannelBuilder concurrency(String concurrency);
 
+        /**
+         * Sets whether the records polled by this Kafka adapter should be passed to the event registry in batches (e.g. "true").
+         * The events of a batch are handled with fewer queries and transactions. See the Spring Kafka docs for more information.
+         */
+        InboundKafkaChannelBuilder batchListener(String batchListener);
+
         /**
          * Sets custom properties for this Kafka adapter. See the Spring Kafka docs for more information.
          */
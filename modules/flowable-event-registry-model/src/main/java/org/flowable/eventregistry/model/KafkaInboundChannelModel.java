@@ -31,7 +31,9 @@ public class KafkaInboundChannelModel extends InboundChannelModel {
     protected Collection<TopicPartition> topicPartitions;
     protected String clientIdPrefix;
     protected String concurrency;
+    protected String batchListener;
     protected RetryConfiguration retry;
+    protected KeyOrderedConsumption keyOrderedConsumption;
     protected List<CustomProperty> customProperties;
 
     protected String partitionOutputName;
@@ -91,6 +93,14 @@ public class KafkaInboundChannelModel extends InboundChannelModel {
         this.concurrency = concurrency;
     }
 
+    public String getBatchListener() {
+        return batchListener;
+    }
+
+    public void setBatchListener(String batchListener) {
+        this.batchListener = batchListener;
+    }
+
     public RetryConfiguration getRetry() {
         return retry;
     }
@@ -99,6 +109,14 @@ public class KafkaInboundChannelModel extends InboundChannelModel {
         this.retry = retry;
     }
 
+    public KeyOrderedConsumption getKeyOrderedConsumption() {
+        return keyOrderedConsumption;
+    }
+
+    public void setKeyOrderedConsumption(KeyOrderedConsumption keyOrderedConsumption) {
+        this.keyOrderedConsumption = keyOrderedConsumption;
+    }
+
     public List<CustomProperty> getCustomProperties() {
         return customProperties;
     }
@@ -292,6 +310,43 @@ public class KafkaInboundChannelModel extends InboundChannelModel {
         }
     }
 
+    /**
+     * Configuration for handing the records of the channel to a pool of workers.
+     * Records with the same ordering key are always handled by the same worker, in the order in which they were received.
+     * The retry configuration of the channel is applied on the worker: the attempts are blocking retries
+     * and records that could not be handled are published to the dead letter topic. Retry topics are not supported.
+     */
+    public static class KeyOrderedConsumption {
+
+        protected String workers;
+        protected String maxInFlightRecords;
+        protected String orderingKeyHeader;
+
+        public String getWorkers() {
+            return workers;
+        }
+
+        public void setWorkers(String workers) {
+            this.workers = workers;
+        }
+
+        public String getMaxInFlightRecords() {
+            return maxInFlightRecords;
+        }
+
+        public void setMaxInFlightRecords(String maxInFlightRecords) {
+            this.maxInFlightRecords = maxInFlightRecords;
+        }
+
+        public String getOrderingKeyHeader() {
+            return orderingKeyHeader;
+        }
+
+        public void setOrderingKeyHeader(String orderingKeyHeader) {
+            this.orderingKeyHeader = orderingKeyHeader;
+        }
+    }
+
     public static class TopicPartition {
 
         protected String topic;
@@ -0,0 +1,72 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.spring.kafka;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.flowable.eventregistry.api.EventRegistry;
+import org.flowable.eventregistry.api.InboundEvent;
+import org.flowable.eventregistry.model.InboundChannelModel;
+import org.springframework.kafka.listener.BatchAcknowledgingConsumerAwareMessageListener;
+import org.springframework.kafka.support.Acknowledgment;
+
+/**
+ * Passes all the records of a poll to the event registry at once, so that they can be handled as a batch.
+ * <p>
+ * The records are only acknowledged when all the events were handled. When an event fails and no non matching event consumer
+ * took it over, the event registry throws and the whole poll is delivered again, including the events that were already handled.
+ * Configure a non matching event consumer (e.g. one sending to a dead letter topic) to avoid these redeliveries.
+ */
+public class KafkaChannelBatchMessageListenerAdapter implements BatchAcknowledgingConsumerAwareMessageListener<Object, Object> {
+
+    protected EventRegistry eventRegistry;
+    protected InboundChannelModel inboundChannelModel;
+
+    public KafkaChannelBatchMessageListenerAdapter(EventRegistry eventRegistry, InboundChannelModel inboundChannelModel) {
+        this.eventRegistry = eventRegistry;
+        this.inboundChannelModel = inboundChannelModel;
+    }
+
+    @Override
+    public void onMessage(List<ConsumerRecord<Object, Object>> data, Acknowledgment acknowledgment, Consumer<?, ?> consumer) {
+        List<InboundEvent> inboundEvents = new ArrayList<>(data.size());
+        for (ConsumerRecord<Object, Object> consumerRecord : data) {
+            inboundEvents.add(new KafkaConsumerRecordInboundEvent(consumerRecord));
+        }
+
+        eventRegistry.eventsReceived(inboundChannelModel, inboundEvents);
+        if (acknowledgment != null) {
+            acknowledgment.acknowledge();
+        }
+    }
+
+    public EventRegistry getEventRegistry() {
+        return eventRegistry;
+    }
+
+    public void setEventRegistry(EventRegistry eventRegistry) {
+        this.eventRegistry = eventRegistry;
+    }
+
+    public InboundChannelModel getInboundChannelModel() {
+        return inboundChannelModel;
+    }
+
+    public void setInboundChannelModel(InboundChannelModel inboundChannelModel) {
+        this.inboundChannelModel = inboundChannelModel;
+    }
+
+}
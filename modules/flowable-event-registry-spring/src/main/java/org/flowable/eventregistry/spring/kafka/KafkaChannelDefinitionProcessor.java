@@ -31,6 +31,7 @@ import java.util.stream.Stream;
 
 import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.eventregistry.api.ChannelModelProcessor;
@@ -71,7 +72,10 @@ import org.springframework.kafka.listener.AbstractMessageListenerContainer;
 import org.springframework.kafka.listener.CommonErrorHandler;
 import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
 import org.springframework.kafka.listener.ContainerPartitionPausingBackOffManagerFactory;
+import org.springframework.kafka.listener.ConsumerRecordRecoverer;
+import org.springframework.kafka.listener.ContainerProperties;
 import org.springframework.kafka.listener.ContainerPausingBackOffHandler;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
 import org.springframework.kafka.listener.DefaultErrorHandler;
 import org.springframework.kafka.listener.ExceptionClassifier;
 import org.springframework.kafka.listener.FailedRecordProcessor;
@@ -123,6 +127,8 @@ public class KafkaChannelDefinitionProcessor implements BeanFactoryAware, Applic
     public static final String CHANNEL_ID_PREFIX = "org.flowable.eventregistry.kafka.ChannelKafkaListenerEndpointContainer#";
 
     protected static final int DEFAULT_PARTITION_FOR_MANUAL_ASSIGNMENT = 0;
+    protected static final int DEFAULT_KEY_ORDERED_WORKERS = 8;
+    protected static final int DEFAULT_KEY_ORDERED_MAX_IN_FLIGHT_RECORDS = 1000;
 
     protected final Logger logger = LoggerFactory.getLogger(getClass());
 
@@ -148,6 +154,12 @@ public class KafkaChannelDefinitionProcessor implements BeanFactoryAware, Applic
 
     protected Map<String, Collection<String>> retryEndpointsByMainEndpointId = new HashMap<>();
 
+    /**
+     * The recoverer for the records of channels with key ordered consumption that could not be handled,
+     * used when the channel has no dead letter topic. Without a recoverer, the partition of such a record is stopped.
+     */
+    protected ConsumerRecordRecoverer keyOrderedRecordRecoverer;
+
     public KafkaChannelDefinitionProcessor(ObjectMapper objectMapper) {
         this.objectMapper = objectMapper;
     }
@@ -197,7 +209,20 @@ public class KafkaChannelDefinitionProcessor implements BeanFactoryAware, Applic
         endpoint.setConcurrency(resolveExpressionAsInteger(channelModel.getConcurrency(), "concurrency"));
         endpoint.setConsumerProperties(resolveProperties(channelModel.getCustomProperties()));
 
-        endpoint.setMessageListener(createMessageListener(eventRegistry, channelModel));
+        boolean batchListener = isBatchListener(channelModel);
+        if (batchListener && channelModel.getKeyOrderedConsumption() != null) {
+            throw new FlowableException("Channel " + channelModel.getKey() + " cannot use key ordered consumption together with a batch listener");
+        }
+
+        if (batchListener) {
+            endpoint.setBatchListener(true);
+            endpoint.setMessageListener(createBatchMessageListener(eventRegistry, channelModel));
+        } else if (channelModel.getKeyOrderedConsumption() != null) {
+            endpoint.setAsyncAcks(true);
+            endpoint.setMessageListener(createKeyOrderedMessageListener(eventRegistry, channelModel));
+        } else {
+            endpoint.setMessageListener(createMessageListener(eventRegistry, channelModel));
+        }
 
         return endpoint;
     }
@@ -205,15 +230,28 @@ public class KafkaChannelDefinitionProcessor implements BeanFactoryAware, Applic
     protected void processAndRegisterEndpoints(KafkaInboundChannelModel channelModel, String tenantId, EventRegistry eventRegistry) {
 
         KafkaListenerEndpoint mainEndpoint = createKafkaListenerEndpoint(channelModel, tenantId, eventRegistry);
-        KafkaListenerContainerFactory<?> containerFactory = resolveContainerFactory(mainEndpoint, null);
-        Collection<KafkaChannelDefinitionProcessor.Configuration> configurations = createEndpointConfigurations(channelModel, tenantId, eventRegistry,
-                mainEndpoint, containerFactory);
+        try {
+            KafkaListenerContainerFactory<?> containerFactory = resolveContainerFactory(mainEndpoint, null);
+            Collection<KafkaChannelDefinitionProcessor.Configuration> configurations;
+            if (channelModel.getKeyOrderedConsumption() != null) {
+                // Records are handled on the workers, so retries and recovery are done by the workers and not by the error handler of the container
+                configurations = Collections.singleton(new Configuration(mainEndpoint, containerFactory));
+            } else {
+                configurations = createEndpointConfigurations(channelModel, tenantId, eventRegistry, mainEndpoint, containerFactory);
+            }
+
+            // Register all the configurations that belong to the main endpoint in order to be able to unregister them later
+            retryEndpointsByMainEndpointId.put(mainEndpoint.getId(),
+                    configurations.stream().map(Configuration::getEndpoint).map(KafkaListenerEndpoint::getId).collect(Collectors.toList()));
+            for (Configuration configuration : configurations) {
+                registerEndpoint(configuration.getEndpoint(), configuration.getFactory());
+            }
 
-        // Register all the configurations that belong to the main endpoint in order to be able to unregister them later
-        retryEndpointsByMainEndpointId.put(mainEndpoint.getId(),
-                configurations.stream().map(Configuration::getEndpoint).map(KafkaListenerEndpoint::getId).collect(Collectors.toList()));
-        for (Configuration configuration : configurations) {
-            registerEndpoint(configuration.getEndpoint(), configuration.getFactory());
+        } catch (RuntimeException e) {
+            if (mainEndpoint instanceof SimpleKafkaListenerEndpoint) {
+                shutdownKeyOrderedWorkers(((SimpleKafkaListenerEndpoint<?, ?>) mainEndpoint).getMessageListener(), channelModel, tenantId);
+            }
+            throw e;
         }
 
     }
@@ -235,6 +273,11 @@ public class KafkaChannelDefinitionProcessor implements BeanFactoryAware, Applic
 
         if (retryTopicConfiguration != null) {
 
+            if (isBatchListener(channelModel)) {
+                throw new FlowableException("Channel model " + channelModel.getKey() + " in tenant " + tenantId
+                        + " is a batch listener, but retry topics are not supported for batch listeners");
+            }
+
             Collection<String> topics;
             if (mainEndpoint.getTopics().isEmpty()) {
                 TopicPartitionOffset[] topicPartitionsToAssign = mainEndpoint.getTopicPartitionsToAssign();
@@ -754,6 +797,58 @@ public class KafkaChannelDefinitionProcessor implements BeanFactoryAware, Applic
         return kafkaChannelMessageListenerAdapter;
     }
 
+    protected GenericMessageListener<List<ConsumerRecord<Object, Object>>> createBatchMessageListener(EventRegistry eventRegistry,
+            InboundChannelModel inboundChannelModel) {
+        return new KafkaChannelBatchMessageListenerAdapter(eventRegistry, inboundChannelModel);
+    }
+
+    protected GenericMessageListener<ConsumerRecord<Object, Object>> createKeyOrderedMessageListener(EventRegistry eventRegistry,
+            KafkaInboundChannelModel channelModel) {
+        KafkaInboundChannelModel.KeyOrderedConsumption keyOrderedConsumption = channelModel.getKeyOrderedConsumption();
+        int workers = resolveExpressionAsInteger(keyOrderedConsumption.getWorkers(), "workers", DEFAULT_KEY_ORDERED_WORKERS);
+        int maxInFlightRecords = resolveExpressionAsInteger(keyOrderedConsumption.getMaxInFlightRecords(), "maxInFlightRecords",
+                DEFAULT_KEY_ORDERED_MAX_IN_FLIGHT_RECORDS);
+        String orderingKeyHeader = resolveExpressionAsString(keyOrderedConsumption.getOrderingKeyHeader(), "orderingKeyHeader");
+
+        ResolvedRetryConfiguration retryConfiguration = resolveRetryConfiguration(channelModel);
+        if (retryConfiguration != null && retryConfiguration.hasRetryTopic()) {
+            // A retry topic would handle the retried record after the next records with the same ordering key
+            throw new FlowableException("Channel model " + channelModel.getKey()
+                    + " uses key ordered consumption, but retry topics are not supported for key ordered consumption");
+        }
+
+        ConsumerRecordRecoverer recoverer = keyOrderedRecordRecoverer;
+        if (retryConfiguration != null && retryConfiguration.dltTopicSuffix != null) {
+            recoverer = createKeyOrderedDeadLetterRecoverer(channelModel, retryConfiguration.dltTopicSuffix);
+        }
+
+        KafkaChannelKeyOrderedMessageListenerAdapter listenerAdapter = new KafkaChannelKeyOrderedMessageListenerAdapter(eventRegistry, channelModel,
+                workers, maxInFlightRecords, orderingKeyHeader);
+        listenerAdapter.setRecoverer(recoverer);
+        if (retryConfiguration != null && retryConfiguration.attempts != null && retryConfiguration.attempts > 1) {
+            // The retries are blocking the worker, in order to keep the records with the same ordering key in order
+            long delay = retryConfiguration.nonBlockingBackOff instanceof FixedBackOffPolicy
+                    ? ((FixedBackOffPolicy) retryConfiguration.nonBlockingBackOff).getBackOffPeriod() : 0;
+            listenerAdapter.setRetryBackOff(new FixedBackOff(delay, retryConfiguration.attempts - 1));
+        }
+
+        return listenerAdapter;
+    }
+
+    protected ConsumerRecordRecoverer createKeyOrderedDeadLetterRecoverer(KafkaInboundChannelModel channelModel, String dltTopicSuffix) {
+        if (kafkaOperations == null) {
+            throw new FlowableException("Channel model " + channelModel.getKey()
+                    + " has a dead letter topic suffix, but no kafka operations have been configured to publish to it");
+        }
+
+        // The partition is chosen by the producer, as the dead letter topic can have less partitions than the original topic
+        return new DeadLetterPublishingRecoverer(kafkaOperations, (consumerRecord, exception) -> new TopicPartition(consumerRecord.topic() + dltTopicSuffix, -1));
+    }
+
+    protected boolean isBatchListener(KafkaInboundChannelModel channelModel) {
+        return Boolean.TRUE.equals(resolveExpressionAsBoolean(channelModel.getBatchListener(), "batchListener"));
+    }
+
     @Override
     public void unregisterChannelModel(ChannelModel channelModel, String tenantId, EventRepositoryService eventRepositoryService) {
         logger.info("Starting to unregister channel {} in tenant {}", channelModel.getKey(), tenantId);
@@ -774,6 +869,11 @@ public class KafkaChannelDefinitionProcessor implements BeanFactoryAware, Applic
         if (listenerContainer != null) {
             logger.debug("Stopping message listener {} for channel {} in tenant {}", listenerContainer, channelModel.getKey(), tenantId);
             listenerContainer.stop();
+
+            if (listenerContainer instanceof AbstractMessageListenerContainer) {
+                Object messageListener = ((AbstractMessageListenerContainer<?, ?>) listenerContainer).getContainerProperties().getMessageListener();
+                shutdownKeyOrderedWorkers(messageListener, channelModel, tenantId);
+            }
         }
 
         if (listenerContainer instanceof DisposableBean) {
@@ -817,10 +917,55 @@ public class KafkaChannelDefinitionProcessor implements BeanFactoryAware, Applic
         // This also makes sure that we are not going to start our listener earlier than the KafkaListenerEndpointRegistry
         boolean startImmediately = contextRefreshed || endpointRegistry.isRunning();
         logger.info("Registering endpoint {}", endpoint);
-        endpointRegistry.registerListenerContainer(endpoint, resolveContainerFactory(endpoint, factory), startImmediately);
+        if (endpoint instanceof SimpleKafkaListenerEndpoint && ((SimpleKafkaListenerEndpoint<?, ?>) endpoint).isAsyncAcks()) {
+            // The container properties of the factory are applied when the container is created,
+            // so the acknowledgment settings can only be changed on the created container, before it is started
+            endpointRegistry.registerListenerContainer(endpoint, resolveContainerFactory(endpoint, factory), false);
+            MessageListenerContainer listenerContainer = endpointRegistry.getListenerContainer(endpoint.getId());
+            configureAsyncAcks(listenerContainer);
+            GenericMessageListener<?> messageListener = ((SimpleKafkaListenerEndpoint<?, ?>) endpoint).getMessageListener();
+            if (messageListener instanceof KafkaChannelKeyOrderedMessageListenerAdapter) {
+                // Used to pause the partition of a record that could not be handled, and to resume it when it is revoked
+                KafkaChannelKeyOrderedMessageListenerAdapter listenerAdapter = (KafkaChannelKeyOrderedMessageListenerAdapter) messageListener;
+                listenerAdapter.setListenerContainer(listenerContainer);
+                configureKeyOrderedRebalanceListener(listenerContainer, listenerAdapter);
+            }
+            if (startImmediately && listenerContainer.isAutoStartup()) {
+                listenerContainer.start();
+            }
+        } else {
+            endpointRegistry.registerListenerContainer(endpoint, resolveContainerFactory(endpoint, factory), startImmediately);
+        }
         logger.info("Finished registering endpoint {}", endpoint);
     }
 
+    protected void configureAsyncAcks(MessageListenerContainer listenerContainer) {
+        if (listenerContainer instanceof AbstractMessageListenerContainer) {
+            // Records are acknowledged once they have been handled, possibly out of order.
+            // The container only commits an offset once all earlier records of the partition have been acknowledged.
+            ContainerProperties containerProperties = ((AbstractMessageListenerContainer<?, ?>) listenerContainer).getContainerProperties();
+            containerProperties.setAckMode(ContainerProperties.AckMode.MANUAL);
+            containerProperties.setAsyncAcks(true);
+        } else {
+            throw new FlowableException("Listener container " + listenerContainer + " does not support out of order acknowledgments");
+        }
+    }
+
+    protected void configureKeyOrderedRebalanceListener(MessageListenerContainer listenerContainer,
+            KafkaChannelKeyOrderedMessageListenerAdapter listenerAdapter) {
+        // configureAsyncAcks already made sure that this is an AbstractMessageListenerContainer
+        ContainerProperties containerProperties = ((AbstractMessageListenerContainer<?, ?>) listenerContainer).getContainerProperties();
+        containerProperties.setConsumerRebalanceListener(
+                new KafkaChannelKeyOrderedRebalanceListener(listenerAdapter, containerProperties.getConsumerRebalanceListener()));
+    }
+
+    protected void shutdownKeyOrderedWorkers(Object messageListener, ChannelModel channelModel, String tenantId) {
+        if (messageListener instanceof KafkaChannelKeyOrderedMessageListenerAdapter) {
+            logger.debug("Shutting down key ordered workers for channel {} in tenant {}", channelModel.getKey(), tenantId);
+            ((KafkaChannelKeyOrderedMessageListenerAdapter) messageListener).shutdown();
+        }
+    }
+
     protected KafkaListenerContainerFactory<?> resolveContainerFactory(KafkaListenerEndpoint endpoint, KafkaListenerContainerFactory<?> containerFactory) {
         if (containerFactory != null) {
             return containerFactory;
@@ -900,6 +1045,14 @@ public class KafkaChannelDefinitionProcessor implements BeanFactoryAware, Applic
         }
     }
 
+    public ConsumerRecordRecoverer getKeyOrderedRecordRecoverer() {
+        return keyOrderedRecordRecoverer;
+    }
+
+    public void setKeyOrderedRecordRecoverer(ConsumerRecordRecoverer keyOrderedRecordRecoverer) {
+        this.keyOrderedRecordRecoverer = keyOrderedRecordRecoverer;
+    }
+
     public KafkaOperations<Object, Object> getKafkaOperations() {
         return kafkaOperations;
     }
@@ -0,0 +1,326 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.spring.kafka;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.eventregistry.api.EventRegistry;
+import org.flowable.eventregistry.model.InboundChannelModel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.listener.AcknowledgingConsumerAwareMessageListener;
+import org.springframework.kafka.listener.ConsumerRecordRecoverer;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.util.backoff.BackOff;
+import org.springframework.util.backoff.BackOffExecution;
+
+/**
+ * Hands the records of a Kafka channel to a pool of workers, instead of handling them on the consumer thread.
+ * <p>
+ * Every worker handles its records one after the other. Records with the same ordering key always go to the same worker,
+ * which keeps them in the order in which they were received. The ordering key is the value of the configured header,
+ * the record key or, for records without a key, the topic partition.
+ * <p>
+ * Records are acknowledged once they have been handled. The listener container needs to use manual acknowledgments with
+ * out of order commits (async acks), so that an offset is only committed once all earlier records of the partition have been handled.
+ * The number of records that are handed to the workers, but not yet handled, is limited by {@code maxInFlightRecords}.
+ * The consumer thread waits when that limit is reached.
+ * <p>
+ * The error handling of the listener container only applies to the consumer thread, so failures are handled on the worker.
+ * A record that fails is retried on the worker according to the {@code retryBackOff}, which keeps the records with the same ordering key in order.
+ * When the retries are exhausted, the record is handed to the {@code recoverer} (e.g. one publishing it to a dead letter topic)
+ * and acknowledged once it has been recovered. When there is no recoverer or the recoverer fails, the record is not acknowledged
+ * and its partition is stopped: the partition is paused and the records of the partition that are still received are not handled (nor acknowledged).
+ * As the offset of the partition is not committed past the failed record, the record is received again when the partition is assigned anew.
+ * When a stopped partition is revoked (see {@link KafkaChannelKeyOrderedRebalanceListener}), it is resumed and the records of the partition
+ * that were handed to the workers before the revocation are skipped, so that the records received after a new assignment,
+ * starting with the failed record, are handled in order.
+ */
+public class KafkaChannelKeyOrderedMessageListenerAdapter implements AcknowledgingConsumerAwareMessageListener<Object, Object> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(KafkaChannelKeyOrderedMessageListenerAdapter.class);
+
+    protected EventRegistry eventRegistry;
+    protected InboundChannelModel inboundChannelModel;
+    protected String orderingKeyHeader;
+    protected BackOff retryBackOff;
+    protected ConsumerRecordRecoverer recoverer;
+    protected MessageListenerContainer listenerContainer;
+
+    protected final ExecutorService[] workers;
+    protected final Semaphore inFlightRecords;
+    // The generation of a partition is increased when it is revoked while stopped,
+    // the records that were handed over in an earlier generation of the partition are skipped
+    protected final Map<TopicPartition, Integer> partitionGenerations = new ConcurrentHashMap<>();
+    protected final Map<TopicPartition, Integer> stoppedPartitions = new ConcurrentHashMap<>();
+
+    public KafkaChannelKeyOrderedMessageListenerAdapter(EventRegistry eventRegistry, InboundChannelModel inboundChannelModel,
+            int numberOfWorkers, int maxInFlightRecords, String orderingKeyHeader) {
+        this.eventRegistry = eventRegistry;
+        this.inboundChannelModel = inboundChannelModel;
+        this.orderingKeyHeader = orderingKeyHeader;
+        this.inFlightRecords = new Semaphore(maxInFlightRecords);
+
+        this.workers = new ExecutorService[numberOfWorkers];
+        for (int i = 0; i < numberOfWorkers; i++) {
+            workers[i] = Executors.newSingleThreadExecutor(new BasicThreadFactory.Builder()
+                    .namingPattern("flowable-kafka-" + inboundChannelModel.getKey() + "-" + i + "-%d")
+                    .build());
+        }
+    }
+
+    @Override
+    public void onMessage(ConsumerRecord<Object, Object> data, Acknowledgment acknowledgment, Consumer<?, ?> consumer) {
+        try {
+            inFlightRecords.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FlowableException("Interrupted while waiting to hand over record " + data.topic() + "-" + data.partition() + "@" + data.offset(), e);
+        }
+
+        TopicPartition topicPartition = new TopicPartition(data.topic(), data.partition());
+        int generation = partitionGenerations.getOrDefault(topicPartition, 0);
+        ExecutorService worker = workers[Math.floorMod(getOrderingKeyHash(data), workers.length)];
+        try {
+            worker.execute(() -> handleRecord(data, acknowledgment, topicPartition, generation));
+        } catch (RejectedExecutionException e) {
+            inFlightRecords.release();
+            throw e;
+        }
+    }
+
+    protected void handleRecord(ConsumerRecord<Object, Object> data, Acknowledgment acknowledgment, TopicPartition topicPartition, int generation) {
+        try {
+            if (generation != partitionGenerations.getOrDefault(topicPartition, 0)) {
+                LOGGER.debug("Skipping record {}-{}@{} for channel {}, as its stopped partition has been revoked", data.topic(), data.partition(),
+                        data.offset(), inboundChannelModel.getKey());
+                return;
+            }
+
+            Integer stoppedGeneration = stoppedPartitions.get(topicPartition);
+            if (stoppedGeneration != null && stoppedGeneration == generation) {
+                LOGGER.debug("Skipping record {}-{}@{} for channel {}, as its partition is stopped", data.topic(), data.partition(), data.offset(),
+                        inboundChannelModel.getKey());
+                return;
+            }
+
+            try {
+                handleRecordWithRetries(data);
+
+            } catch (RuntimeException e) {
+                if (!recover(data, e)) {
+                    stopPartition(topicPartition, generation, data, e);
+                    return;
+                }
+            }
+
+            if (acknowledgment != null) {
+                acknowledgment.acknowledge();
+            }
+
+        } finally {
+            inFlightRecords.release();
+        }
+    }
+
+    protected void handleRecordWithRetries(ConsumerRecord<Object, Object> data) {
+        BackOffExecution backOffExecution = retryBackOff != null ? retryBackOff.start() : null;
+        while (true) {
+            try {
+                eventRegistry.eventReceived(inboundChannelModel, new KafkaConsumerRecordInboundEvent(data));
+                return;
+
+            } catch (RuntimeException e) {
+                long backOff = backOffExecution != null ? backOffExecution.nextBackOff() : BackOffExecution.STOP;
+                if (backOff == BackOffExecution.STOP) {
+                    throw e;
+                }
+
+                LOGGER.debug("Failed to handle record {}-{}@{} for channel {}, retrying in {}ms", data.topic(), data.partition(), data.offset(),
+                        inboundChannelModel.getKey(), backOff, e);
+                sleep(backOff, e);
+            }
+        }
+    }
+
+    protected void sleep(long backOff, RuntimeException failure) {
+        if (backOff > 0) {
+            try {
+                Thread.sleep(backOff);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw failure;
+            }
+        }
+    }
+
+    protected boolean recover(ConsumerRecord<Object, Object> data, RuntimeException failure) {
+        if (recoverer == null) {
+            return false;
+        }
+
+        try {
+            recoverer.accept(data, failure);
+            LOGGER.warn("Failed to handle record {}-{}@{} for channel {}, the record has been recovered", data.topic(), data.partition(), data.offset(),
+                    inboundChannelModel.getKey(), failure);
+            return true;
+
+        } catch (RuntimeException e) {
+            LOGGER.error("Failed to recover record {}-{}@{} for channel {}", data.topic(), data.partition(), data.offset(), inboundChannelModel.getKey(), e);
+            return false;
+        }
+    }
+
+    protected void stopPartition(TopicPartition topicPartition, int generation, ConsumerRecord<Object, Object> data, RuntimeException failure) {
+        if (generation != partitionGenerations.getOrDefault(topicPartition, 0)) {
+            LOGGER.warn("Failed to handle record {}-{}@{} for channel {}, the partition has been revoked in the meantime", data.topic(), data.partition(),
+                    data.offset(), inboundChannelModel.getKey(), failure);
+            return;
+        }
+
+        stoppedPartitions.put(topicPartition, generation);
+        LOGGER.error("Failed to handle record {}-{}@{} for channel {}, the partition is stopped", data.topic(), data.partition(), data.offset(),
+                inboundChannelModel.getKey(), failure);
+
+        if (listenerContainer != null) {
+            listenerContainer.pausePartition(topicPartition);
+        }
+    }
+
+    /**
+     * Resumes the stopped partitions among the revoked partitions. Called on the consumer thread, when the partitions are revoked or lost.
+     * The records of these partitions that were handed over before are not handled anymore, they are received again when the partition is assigned anew.
+     */
+    public void partitionsRevoked(Collection<TopicPartition> partitions) {
+        for (TopicPartition topicPartition : partitions) {
+            if (stoppedPartitions.containsKey(topicPartition)) {
+                partitionGenerations.merge(topicPartition, 1, Integer::sum);
+                stoppedPartitions.remove(topicPartition);
+                LOGGER.info("Stopped partition {} for channel {} has been revoked, the partition is resumed", topicPartition, inboundChannelModel.getKey());
+
+                if (listenerContainer != null) {
+                    listenerContainer.resumePartition(topicPartition);
+                }
+            }
+        }
+    }
+
+    public boolean isPartitionStopped(TopicPartition topicPartition) {
+        return stoppedPartitions.containsKey(topicPartition);
+    }
+
+    protected int getOrderingKeyHash(ConsumerRecord<Object, Object> data) {
+        if (orderingKeyHeader != null) {
+            Header header = data.headers().lastHeader(orderingKeyHeader);
+            if (header != null && header.value() != null) {
+                return Arrays.hashCode(header.value());
+            }
+        }
+
+        Object key = data.key();
+        if (key instanceof byte[]) {
+            return Arrays.hashCode((byte[]) key);
+        } else if (key != null) {
+            return key.hashCode();
+        }
+
+        // Records without a key keep the ordering of their partition
+        return 31 * data.topic().hashCode() + data.partition();
+    }
+
+    /**
+     * Stops the workers, after they have handled the records that were already handed to them.
+     */
+    public void shutdown() {
+        for (ExecutorService worker : workers) {
+            worker.shutdown();
+        }
+
+        try {
+            for (ExecutorService worker : workers) {
+                if (!worker.awaitTermination(30, TimeUnit.SECONDS)) {
+                    LOGGER.warn("Workers for channel {} did not terminate within 30 seconds", inboundChannelModel.getKey());
+                    worker.shutdownNow();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            for (ExecutorService worker : workers) {
+                worker.shutdownNow();
+            }
+        }
+    }
+
+    public EventRegistry getEventRegistry() {
+        return eventRegistry;
+    }
+
+    public void setEventRegistry(EventRegistry eventRegistry) {
+        this.eventRegistry = eventRegistry;
+    }
+
+    public InboundChannelModel getInboundChannelModel() {
+        return inboundChannelModel;
+    }
+
+    public void setInboundChannelModel(InboundChannelModel inboundChannelModel) {
+        this.inboundChannelModel = inboundChannelModel;
+    }
+
+    public String getOrderingKeyHeader() {
+        return orderingKeyHeader;
+    }
+
+    public void setOrderingKeyHeader(String orderingKeyHeader) {
+        this.orderingKeyHeader = orderingKeyHeader;
+    }
+
+    public BackOff getRetryBackOff() {
+        return retryBackOff;
+    }
+
+    public void setRetryBackOff(BackOff retryBackOff) {
+        this.retryBackOff = retryBackOff;
+    }
+
+    public ConsumerRecordRecoverer getRecoverer() {
+        return recoverer;
+    }
+
+    public void setRecoverer(ConsumerRecordRecoverer recoverer) {
+        this.recoverer = recoverer;
+    }
+
+    public MessageListenerContainer getListenerContainer() {
+        return listenerContainer;
+    }
+
+    public void setListenerContainer(MessageListenerContainer listenerContainer) {
+        this.listenerContainer = listenerContainer;
+    }
+}
@@ -0,0 +1,79 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.spring.kafka;
+
+import java.util.Collection;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRebalanceListener;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.listener.ConsumerAwareRebalanceListener;
+
+/**
+ * Lets the {@link KafkaChannelKeyOrderedMessageListenerAdapter} resume its stopped partitions when they are revoked,
+ * before delegating to the rebalance listener that was configured on the listener container (if any).
+ */
+public class KafkaChannelKeyOrderedRebalanceListener implements ConsumerAwareRebalanceListener {
+
+    protected KafkaChannelKeyOrderedMessageListenerAdapter listenerAdapter;
+    protected ConsumerRebalanceListener delegate;
+
+    public KafkaChannelKeyOrderedRebalanceListener(KafkaChannelKeyOrderedMessageListenerAdapter listenerAdapter, ConsumerRebalanceListener delegate) {
+        this.listenerAdapter = listenerAdapter;
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void onPartitionsRevokedBeforeCommit(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+        listenerAdapter.partitionsRevoked(partitions);
+        if (delegate instanceof ConsumerAwareRebalanceListener) {
+            ((ConsumerAwareRebalanceListener) delegate).onPartitionsRevokedBeforeCommit(consumer, partitions);
+        } else if (delegate != null) {
+            delegate.onPartitionsRevoked(partitions);
+        }
+    }
+
+    @Override
+    public void onPartitionsRevokedAfterCommit(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+        if (delegate instanceof ConsumerAwareRebalanceListener) {
+            ((ConsumerAwareRebalanceListener) delegate).onPartitionsRevokedAfterCommit(consumer, partitions);
+        }
+    }
+
+    @Override
+    public void onPartitionsLost(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+        listenerAdapter.partitionsRevoked(partitions);
+        if (delegate instanceof ConsumerAwareRebalanceListener) {
+            ((ConsumerAwareRebalanceListener) delegate).onPartitionsLost(consumer, partitions);
+        } else if (delegate != null) {
+            delegate.onPartitionsLost(partitions);
+        }
+    }
+
+    @Override
+    public void onPartitionsAssigned(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+        if (delegate instanceof ConsumerAwareRebalanceListener) {
+            ((ConsumerAwareRebalanceListener) delegate).onPartitionsAssigned(consumer, partitions);
+        } else if (delegate != null) {
+            delegate.onPartitionsAssigned(partitions);
+        }
+    }
+
+    public KafkaChannelKeyOrderedMessageListenerAdapter getListenerAdapter() {
+        return listenerAdapter;
+    }
+
+    public ConsumerRebalanceListener getDelegate() {
+        return delegate;
+    }
+}
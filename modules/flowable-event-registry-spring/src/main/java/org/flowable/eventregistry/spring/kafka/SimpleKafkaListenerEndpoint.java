@@ -17,7 +17,6 @@ import java.util.Collections;
 import java.util.Properties;
 import java.util.regex.Pattern;
 
-import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.kafka.config.KafkaListenerEndpoint;
 import org.springframework.kafka.listener.GenericMessageListener;
@@ -42,14 +41,16 @@ public class SimpleKafkaListenerEndpoint<K, V> implements KafkaListenerEndpoint,
     protected Properties consumerProperties;
     protected boolean splitIterables = true;
     protected String mainListenerId;
+    protected Boolean batchListener;
+    protected boolean asyncAcks;
 
-    protected GenericMessageListener<ConsumerRecord<K, V>> messageListener;
+    protected GenericMessageListener<?> messageListener;
 
-    public void setMessageListener(GenericMessageListener<ConsumerRecord<K, V>> messageListener) {
+    public void setMessageListener(GenericMessageListener<?> messageListener) {
         this.messageListener = messageListener;
     }
 
-    public GenericMessageListener<ConsumerRecord<K, V>> getMessageListener() {
+    public GenericMessageListener<?> getMessageListener() {
         return messageListener;
     }
 
@@ -137,7 +138,7 @@ public class SimpleKafkaListenerEndpoint<K, V> implements KafkaListenerEndpoint,
 
     @Override
     public void setupListenerContainer(MessageListenerContainer listenerContainer, MessageConverter messageConverter) {
-        GenericMessageListener<ConsumerRecord<K, V>> messageListener = getMessageListener();
+        GenericMessageListener<?> messageListener = getMessageListener();
         Assert.state(messageListener != null, () -> "Endpoint [" + this + "] must provide a non null message listener");
         listenerContainer.setupMessageListener(messageListener);
     }
@@ -151,6 +152,23 @@ public class SimpleKafkaListenerEndpoint<K, V> implements KafkaListenerEndpoint,
         this.splitIterables = splitIterables;
     }
 
+    @Override
+    public Boolean getBatchListener() {
+        return batchListener;
+    }
+
+    public void setBatchListener(Boolean batchListener) {
+        this.batchListener = batchListener;
+    }
+
+    public boolean isAsyncAcks() {
+        return asyncAcks;
+    }
+
+    public void setAsyncAcks(boolean asyncAcks) {
+        this.asyncAcks = asyncAcks;
+    }
+
     @Override
     public String getMainListenerId() {
         return mainListenerId;
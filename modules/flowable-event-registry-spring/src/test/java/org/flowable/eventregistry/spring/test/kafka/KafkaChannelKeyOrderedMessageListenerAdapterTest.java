@@ -0,0 +1,267 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.spring.test.kafka;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.eventregistry.api.EventRegistry;
+import org.flowable.eventregistry.api.InboundEvent;
+import org.flowable.eventregistry.model.InboundChannelModel;
+import org.flowable.eventregistry.model.KafkaInboundChannelModel;
+import org.flowable.eventregistry.spring.kafka.KafkaChannelKeyOrderedMessageListenerAdapter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.util.backoff.FixedBackOff;
+
+class KafkaChannelKeyOrderedMessageListenerAdapterTest {
+
+    protected EventRegistry eventRegistry;
+    protected InboundChannelModel channelModel;
+    protected KafkaChannelKeyOrderedMessageListenerAdapter listenerAdapter;
+
+    @BeforeEach
+    void setUp() {
+        eventRegistry = mock(EventRegistry.class);
+        channelModel = new KafkaInboundChannelModel();
+        channelModel.setKey("testChannel");
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (listenerAdapter != null) {
+            listenerAdapter.shutdown();
+        }
+    }
+
+    @Test
+    void recordsWithTheSameKeyAreHandledInOrder() {
+        Map<Object, List<Long>> handledOffsetsByKey = new ConcurrentHashMap<>();
+        doAnswer(invocation -> {
+            ConsumerRecord<?, ?> record = getConsumerRecord(invocation.getArgument(1));
+            handledOffsetsByKey.computeIfAbsent(record.key(), key -> Collections.synchronizedList(new ArrayList<>())).add(record.offset());
+            return null;
+        }).when(eventRegistry).eventReceived(any(InboundChannelModel.class), any(InboundEvent.class));
+
+        listenerAdapter = new KafkaChannelKeyOrderedMessageListenerAdapter(eventRegistry, channelModel, 4, 10, null);
+        Acknowledgment acknowledgment = mock(Acknowledgment.class);
+        for (int offset = 0; offset < 300; offset++) {
+            listenerAdapter.onMessage(new ConsumerRecord<>("test", 0, offset, "key" + (offset % 3), "event"), acknowledgment, null);
+        }
+
+        await("all records handled")
+                .atMost(Duration.ofSeconds(10))
+                .untilAsserted(() -> verify(acknowledgment, times(300)).acknowledge());
+
+        assertThat(handledOffsetsByKey).containsOnlyKeys("key0", "key1", "key2");
+        assertThat(handledOffsetsByKey.values())
+                .allSatisfy(offsets -> assertThat(offsets).hasSize(100).isSorted());
+    }
+
+    @Test
+    void consumerWaitsWhenMaxInFlightRecordsIsReached() throws Exception {
+        CountDownLatch handleLatch = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            handleLatch.await(10, TimeUnit.SECONDS);
+            return null;
+        }).when(eventRegistry).eventReceived(any(InboundChannelModel.class), any(InboundEvent.class));
+
+        listenerAdapter = new KafkaChannelKeyOrderedMessageListenerAdapter(eventRegistry, channelModel, 2, 2, null);
+        Acknowledgment acknowledgment = mock(Acknowledgment.class);
+        listenerAdapter.onMessage(new ConsumerRecord<>("test", 0, 0, "key1", "event"), acknowledgment, null);
+        listenerAdapter.onMessage(new ConsumerRecord<>("test", 0, 1, "key2", "event"), acknowledgment, null);
+
+        CompletableFuture<Void> thirdRecord = CompletableFuture.runAsync(
+                () -> listenerAdapter.onMessage(new ConsumerRecord<>("test", 0, 2, "key3", "event"), acknowledgment, null));
+
+        Thread.sleep(200);
+        assertThat(thirdRecord).isNotDone();
+
+        handleLatch.countDown();
+        thirdRecord.get(10, TimeUnit.SECONDS);
+
+        await("all records handled")
+                .atMost(Duration.ofSeconds(10))
+                .untilAsserted(() -> verify(acknowledgment, times(3)).acknowledge());
+    }
+
+    @Test
+    void failedRecordIsNotAcknowledgedAndStopsItsPartition() {
+        doAnswer(invocation -> {
+            ConsumerRecord<?, ?> record = getConsumerRecord(invocation.getArgument(1));
+            if ("failing".equals(record.value())) {
+                throw new FlowableException("Failing record");
+            }
+            return null;
+        }).when(eventRegistry).eventReceived(any(InboundChannelModel.class), any(InboundEvent.class));
+
+        MessageListenerContainer listenerContainer = mock(MessageListenerContainer.class);
+        listenerAdapter = new KafkaChannelKeyOrderedMessageListenerAdapter(eventRegistry, channelModel, 1, 10, null);
+        listenerAdapter.setListenerContainer(listenerContainer);
+
+        Acknowledgment failingAcknowledgment = mock(Acknowledgment.class);
+        Acknowledgment samePartitionAcknowledgment = mock(Acknowledgment.class);
+        Acknowledgment otherPartitionAcknowledgment = mock(Acknowledgment.class);
+        listenerAdapter.onMessage(new ConsumerRecord<>("test", 0, 0, "key", "failing"), failingAcknowledgment, null);
+        listenerAdapter.onMessage(new ConsumerRecord<>("test", 0, 1, "key", "event"), samePartitionAcknowledgment, null);
+        listenerAdapter.onMessage(new ConsumerRecord<>("test", 1, 0, "key", "event"), otherPartitionAcknowledgment, null);
+
+        await("other partition handled")
+                .atMost(Duration.ofSeconds(10))
+                .untilAsserted(() -> verify(otherPartitionAcknowledgment).acknowledge());
+
+        verify(failingAcknowledgment, never()).acknowledge();
+        verify(samePartitionAcknowledgment, never()).acknowledge();
+        verify(eventRegistry, times(2)).eventReceived(any(InboundChannelModel.class), any(InboundEvent.class));
+        verify(listenerContainer).pausePartition(new TopicPartition("test", 0));
+        assertThat(listenerAdapter.isPartitionStopped(new TopicPartition("test", 0))).isTrue();
+        assertThat(listenerAdapter.isPartitionStopped(new TopicPartition("test", 1))).isFalse();
+    }
+
+    @Test
+    void stoppedPartitionIsResumedWhenRevoked() {
+        AtomicInteger attempts = new AtomicInteger();
+        doAnswer(invocation -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new FlowableException("Failing record");
+            }
+            return null;
+        }).when(eventRegistry).eventReceived(any(InboundChannelModel.class), any(InboundEvent.class));
+
+        MessageListenerContainer listenerContainer = mock(MessageListenerContainer.class);
+        listenerAdapter = new KafkaChannelKeyOrderedMessageListenerAdapter(eventRegistry, channelModel, 1, 10, null);
+        listenerAdapter.setListenerContainer(listenerContainer);
+
+        TopicPartition topicPartition = new TopicPartition("test", 0);
+        Acknowledgment failingAcknowledgment = mock(Acknowledgment.class);
+        listenerAdapter.onMessage(new ConsumerRecord<>("test", 0, 0, "key", "event"), failingAcknowledgment, null);
+
+        await("partition stopped")
+                .atMost(Duration.ofSeconds(10))
+                .untilAsserted(() -> assertThat(listenerAdapter.isPartitionStopped(topicPartition)).isTrue());
+
+        listenerAdapter.partitionsRevoked(Collections.singletonList(topicPartition));
+
+        verify(listenerContainer).resumePartition(topicPartition);
+        assertThat(listenerAdapter.isPartitionStopped(topicPartition)).isFalse();
+
+        // The failed record is received again once the partition is assigned anew
+        Acknowledgment redeliveredAcknowledgment = mock(Acknowledgment.class);
+        listenerAdapter.onMessage(new ConsumerRecord<>("test", 0, 0, "key", "event"), redeliveredAcknowledgment, null);
+
+        await("redelivered record handled")
+                .atMost(Duration.ofSeconds(10))
+                .untilAsserted(() -> verify(redeliveredAcknowledgment).acknowledge());
+        verify(failingAcknowledgment, never()).acknowledge();
+    }
+
+    @Test
+    void failedRecordIsRetried() {
+        AtomicInteger attempts = new AtomicInteger();
+        doAnswer(invocation -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new FlowableException("Failing record");
+            }
+            return null;
+        }).when(eventRegistry).eventReceived(any(InboundChannelModel.class), any(InboundEvent.class));
+
+        listenerAdapter = new KafkaChannelKeyOrderedMessageListenerAdapter(eventRegistry, channelModel, 1, 10, null);
+        listenerAdapter.setRetryBackOff(new FixedBackOff(10, 2));
+
+        Acknowledgment acknowledgment = mock(Acknowledgment.class);
+        listenerAdapter.onMessage(new ConsumerRecord<>("test", 0, 0, "key", "event"), acknowledgment, null);
+
+        await("record handled")
+                .atMost(Duration.ofSeconds(10))
+                .untilAsserted(() -> verify(acknowledgment).acknowledge());
+        assertThat(attempts).hasValue(3);
+        assertThat(listenerAdapter.isPartitionStopped(new TopicPartition("test", 0))).isFalse();
+    }
+
+    @Test
+    void failedRecordIsHandedToRecoverer() {
+        doAnswer(invocation -> {
+            throw new FlowableException("Failing record");
+        }).when(eventRegistry).eventReceived(any(InboundChannelModel.class), any(InboundEvent.class));
+
+        List<ConsumerRecord<?, ?>> recoveredRecords = Collections.synchronizedList(new ArrayList<>());
+        listenerAdapter = new KafkaChannelKeyOrderedMessageListenerAdapter(eventRegistry, channelModel, 1, 10, null);
+        listenerAdapter.setRetryBackOff(new FixedBackOff(0, 1));
+        listenerAdapter.setRecoverer((record, exception) -> recoveredRecords.add(record));
+
+        Acknowledgment acknowledgment = mock(Acknowledgment.class);
+        listenerAdapter.onMessage(new ConsumerRecord<>("test", 0, 5, "key", "event"), acknowledgment, null);
+
+        await("record recovered")
+                .atMost(Duration.ofSeconds(10))
+                .untilAsserted(() -> verify(acknowledgment).acknowledge());
+        verify(eventRegistry, times(2)).eventReceived(any(InboundChannelModel.class), any(InboundEvent.class));
+        assertThat(recoveredRecords)
+                .extracting(ConsumerRecord::offset)
+                .containsExactly(5L);
+        assertThat(listenerAdapter.isPartitionStopped(new TopicPartition("test", 0))).isFalse();
+    }
+
+    @Test
+    void shutdownHandlesRecordsThatWereHandedOver() {
+        AtomicInteger handledRecords = new AtomicInteger();
+        doAnswer(invocation -> {
+            Thread.sleep(20);
+            handledRecords.incrementAndGet();
+            return null;
+        }).when(eventRegistry).eventReceived(any(InboundChannelModel.class), any(InboundEvent.class));
+
+        listenerAdapter = new KafkaChannelKeyOrderedMessageListenerAdapter(eventRegistry, channelModel, 2, 10, null);
+        Acknowledgment acknowledgment = mock(Acknowledgment.class);
+        for (int offset = 0; offset < 10; offset++) {
+            listenerAdapter.onMessage(new ConsumerRecord<>("test", 0, offset, "key" + offset, "event"), acknowledgment, null);
+        }
+
+        listenerAdapter.shutdown();
+
+        assertThat(handledRecords).hasValue(10);
+        verify(acknowledgment, times(10)).acknowledge();
+
+        assertThatThrownBy(() -> listenerAdapter.onMessage(new ConsumerRecord<>("test", 0, 10, "key", "event"), acknowledgment, null))
+                .isInstanceOf(RejectedExecutionException.class);
+    }
+
+    protected ConsumerRecord<?, ?> getConsumerRecord(InboundEvent inboundEvent) {
+        return (ConsumerRecord<?, ?>) inboundEvent.getRawEvent();
+    }
+}
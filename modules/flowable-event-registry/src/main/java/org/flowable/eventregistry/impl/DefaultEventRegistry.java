@@ -12,10 +12,13 @@
  */
 package org.flowable.eventregistry.impl;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
+import org.flowable.common.engine.api.FlowableException;
 import org.flowable.eventregistry.api.CorrelationKeyGenerator;
 import org.flowable.eventregistry.api.EventRegistry;
 import org.flowable.eventregistry.api.EventRegistryEvent;
@@ -81,6 +84,11 @@ public class DefaultEventRegistry implements EventRegistry {
         inboundEventProcessor.eventReceived(channelModel, event);
     }
 
+    @Override
+    public void eventsReceived(InboundChannelModel channelModel, Collection<InboundEvent> events) {
+        inboundEventProcessor.eventsReceived(channelModel, events);
+    }
+
     @Override
     public void sendEventToConsumers(EventRegistryEvent eventRegistryEvent) {
         Collection<EventRegistryEventConsumer> engineEventRegistryEventConsumers = engineConfiguration.getEventRegistryEventConsumers().values();
@@ -94,16 +102,85 @@ public class DefaultEventRegistry implements EventRegistry {
             if (debugLoggingEnabled) {
                 logger.debug("Event consumer {} processed event {} with result {}", eventConsumer, eventRegistryEvent, processingInfo);
             }
-            if (processingInfo != null && processingInfo.getEventConsumerInfos() != null && !processingInfo.getEventConsumerInfos().isEmpty()) {
-                if (eventRegistryProcessingInfo == null) {
-                    eventRegistryProcessingInfo = new EventRegistryProcessingInfo();
+            eventRegistryProcessingInfo = mergeProcessingInfo(eventRegistryProcessingInfo, processingInfo);
+        }
+
+        handleProcessingResult(eventRegistryEvent, eventRegistryProcessingInfo);
+    }
+
+    @Override
+    public void sendEventsToConsumers(Collection<EventRegistryEvent> eventRegistryEvents) {
+        List<EventRegistryEvent> events = new ArrayList<>(eventRegistryEvents);
+        EventRegistryProcessingInfo[] eventRegistryProcessingInfos = new EventRegistryProcessingInfo[events.size()];
+
+        Collection<EventRegistryEventConsumer> engineEventRegistryEventConsumers = engineConfiguration.getEventRegistryEventConsumers().values();
+        boolean debugLoggingEnabled = logger.isDebugEnabled();
+        for (EventRegistryEventConsumer eventConsumer : engineEventRegistryEventConsumers) {
+            if (debugLoggingEnabled) {
+                logger.debug("Sending batch of {} events to event consumer {}", events.size(), eventConsumer);
+            }
+            List<EventRegistryProcessingInfo> processingInfos = eventConsumer.eventsReceived(events);
+            for (int i = 0; i < eventRegistryProcessingInfos.length; i++) {
+                eventRegistryProcessingInfos[i] = mergeProcessingInfo(eventRegistryProcessingInfos[i], processingInfos.get(i));
+            }
+        }
+
+        FlowableException unhandledFailure = null;
+        for (int i = 0; i < eventRegistryProcessingInfos.length; i++) {
+            EventRegistryProcessingInfo eventRegistryProcessingInfo = eventRegistryProcessingInfos[i];
+            handleProcessingResult(events.get(i), eventRegistryProcessingInfo);
+
+            // A failed event is only kept when the non matching event consumer got it, otherwise the failure is thrown
+            // once all events have been handled, so that the events are not acknowledged and get delivered again
+            if (isUnhandledFailure(eventRegistryProcessingInfo)) {
+                if (unhandledFailure == null) {
+                    unhandledFailure = new FlowableException("Event " + events.get(i) + " of a batch of " + events.size() + " events could not be handled",
+                            eventRegistryProcessingInfo.getException());
+                } else {
+                    unhandledFailure.addSuppressed(eventRegistryProcessingInfo.getException());
                 }
-                eventRegistryProcessingInfo.setEventConsumerInfos(processingInfo.getEventConsumerInfos());
             }
         }
-        
+
+        if (unhandledFailure != null) {
+            throw unhandledFailure;
+        }
+    }
+
+    protected boolean isUnhandledFailure(EventRegistryProcessingInfo eventRegistryProcessingInfo) {
+        if (eventRegistryProcessingInfo == null || !eventRegistryProcessingInfo.eventFailed()) {
+            return false;
+        }
+
+        return eventRegistryProcessingInfo.eventHandled() || engineConfiguration.getNonMatchingEventConsumer() == null;
+    }
+
+    protected EventRegistryProcessingInfo mergeProcessingInfo(EventRegistryProcessingInfo eventRegistryProcessingInfo, EventRegistryProcessingInfo processingInfo) {
+        if (processingInfo != null && processingInfo.getEventConsumerInfos() != null && !processingInfo.getEventConsumerInfos().isEmpty()) {
+            if (eventRegistryProcessingInfo == null) {
+                eventRegistryProcessingInfo = new EventRegistryProcessingInfo();
+            }
+            eventRegistryProcessingInfo.setEventConsumerInfos(processingInfo.getEventConsumerInfos());
+        }
+        if (processingInfo != null && processingInfo.eventFailed()) {
+            if (eventRegistryProcessingInfo == null) {
+                eventRegistryProcessingInfo = new EventRegistryProcessingInfo();
+            }
+            eventRegistryProcessingInfo.setException(processingInfo.getException());
+        }
+        return eventRegistryProcessingInfo;
+    }
+
+    protected void handleProcessingResult(EventRegistryEvent eventRegistryEvent, EventRegistryProcessingInfo eventRegistryProcessingInfo) {
+        boolean debugLoggingEnabled = logger.isDebugEnabled();
+        if (eventRegistryProcessingInfo != null && eventRegistryProcessingInfo.eventFailed()) {
+            logger.warn("Event {} could not be handled by all event consumers", eventRegistryEvent, eventRegistryProcessingInfo.getException());
+        }
+
         if (eventRegistryProcessingInfo == null || !eventRegistryProcessingInfo.eventHandled()) {
 
+            // An event that failed is handed to the non matching event consumer as well, with the exception in the processing info,
+            // so that it can be kept (e.g. sent to a dead letter channel) instead of being lost
             EventRegistryNonMatchingEventConsumer nonMatchingEventConsumer = engineConfiguration.getNonMatchingEventConsumer();
             if (nonMatchingEventConsumer != null) {
                 if (debugLoggingEnabled) {
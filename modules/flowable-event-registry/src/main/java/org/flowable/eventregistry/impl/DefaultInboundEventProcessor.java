@@ -44,4 +44,14 @@ public class DefaultInboundEventProcessor implements InboundEventProcessor {
 
     }
 
+    @Override
+    public void eventsReceived(InboundChannelModel channelModel, Collection<InboundEvent> events) {
+        InboundEventProcessingPipeline inboundEventProcessingPipeline = (InboundEventProcessingPipeline) channelModel.getInboundEventProcessingPipeline();
+        Collection<EventRegistryEvent> eventRegistryEvents = inboundEventProcessingPipeline.run(channelModel, events);
+
+        if (!eventRegistryEvents.isEmpty()) {
+            eventRegistry.sendEventsToConsumers(eventRegistryEvents);
+        }
+    }
+
 }
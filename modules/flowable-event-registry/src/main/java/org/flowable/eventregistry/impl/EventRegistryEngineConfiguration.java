@@ -167,6 +167,12 @@ public class EventRegistryEngineConfiguration extends AbstractBuildableEngineCon
     
     protected EventRegistryNonMatchingEventConsumer nonMatchingEventConsumer;
 
+    /**
+     * The number of events of an inbound event batch that the event consumers handle in one transaction.
+     * A value of 1 handles every event of a batch in its own transactions, as for events received one by one.
+     */
+    protected int inboundEventBatchTransactionSize = 100;
+
     protected boolean enableEventRegistryChangeDetectionAfterEngineCreate = true;
 
     public static EventRegistryEngineConfiguration createEventRegistryEngineConfigurationFromResourceDefault() {
@@ -750,6 +756,15 @@ public class EventRegistryEngineConfiguration extends AbstractBuildableEngineCon
         return this;
     }
 
+    public int getInboundEventBatchTransactionSize() {
+        return inboundEventBatchTransactionSize;
+    }
+
+    public EventRegistryEngineConfiguration setInboundEventBatchTransactionSize(int inboundEventBatchTransactionSize) {
+        this.inboundEventBatchTransactionSize = inboundEventBatchTransactionSize;
+        return this;
+    }
+
     public int getEventDefinitionCacheLimit() {
         return eventDefinitionCacheLimit;
     }
@@ -16,18 +16,27 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.FlowableIllegalStateException;
 import org.flowable.common.engine.impl.AbstractEngineConfiguration;
+import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.db.AbstractDataManager;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
 import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
+import org.flowable.common.engine.impl.persistence.cache.CachedEntity;
+import org.flowable.common.engine.impl.persistence.cache.EntityCache;
+import org.flowable.common.engine.impl.persistence.entity.Entity;
+import org.flowable.common.engine.impl.util.CollectionUtil;
 import org.flowable.eventregistry.api.EventRegistry;
 import org.flowable.eventregistry.api.EventRegistryEvent;
 import org.flowable.eventregistry.api.EventRegistryEventConsumer;
@@ -38,6 +47,8 @@ import org.flowable.eventregistry.impl.EventRegistryEngineConfiguration;
 import org.flowable.eventregistry.impl.util.CommandContextUtil;
 import org.flowable.eventsubscription.api.EventSubscription;
 import org.flowable.eventsubscription.api.EventSubscriptionQuery;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * @author Joram Barrez
@@ -45,6 +56,10 @@ import org.flowable.eventsubscription.api.EventSubscriptionQuery;
  */
 public abstract class BaseEventRegistryEventConsumer implements EventRegistryEventConsumer {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(BaseEventRegistryEventConsumer.class);
+
+    protected static final String INBOUND_EVENT_BATCH_ATTRIBUTE = "eventRegistryInboundEventBatch";
+
     protected AbstractEngineConfiguration engingeConfiguration;
     protected CommandExecutor commandExecutor;
 
@@ -55,8 +70,84 @@ public abstract class BaseEventRegistryEventConsumer implements EventRegistryEve
 
     @Override
     public EventRegistryProcessingInfo eventReceived(EventRegistryEvent event) {
+        return eventReceived(getEventInstance(event));
+    }
+
+    @Override
+    public List<EventRegistryProcessingInfo> eventsReceived(List<EventRegistryEvent> events) {
+        List<EventInstance> eventInstances = new ArrayList<>(events.size());
+        for (EventRegistryEvent event : events) {
+            eventInstances.add(getEventInstance(event));
+        }
+
+        List<EventRegistryProcessingInfo> processingInfos = new ArrayList<>(eventInstances.size());
+        int batchTransactionSize = getEventRegistryEngineConfiguration().getInboundEventBatchTransactionSize();
+        if (batchTransactionSize <= 1 || eventInstances.size() <= 1) {
+            for (EventInstance eventInstance : eventInstances) {
+                processingInfos.add(eventReceived(eventInstance));
+            }
+
+        } else {
+            CollectionUtil.consumePartitions(eventInstances, batchTransactionSize, batch -> processingInfos.addAll(eventBatchReceived(batch)));
+
+        }
+
+        return processingInfos;
+    }
+
+    /**
+     * Handles the given events in one transaction. The event subscriptions for the events are fetched once for the whole batch.
+     * When handling the batch fails, the events are handled again one by one, in the same way as events received one by one,
+     * so that a single failing event does not prevent the handling of the other events of the batch.
+     */
+    protected List<EventRegistryProcessingInfo> eventBatchReceived(List<EventInstance> eventInstances) {
+        try {
+            return commandExecutor.execute(commandContext -> {
+                commandContext.addAttribute(INBOUND_EVENT_BATCH_ATTRIBUTE, new InboundEventBatch(eventInstances));
+                try {
+                    List<EventRegistryProcessingInfo> processingInfos = new ArrayList<>(eventInstances.size());
+                    for (EventInstance eventInstance : eventInstances) {
+                        processingInfos.add(eventReceived(eventInstance));
+                    }
+                    return processingInfos;
+
+                } finally {
+                    commandContext.removeAttribute(INBOUND_EVENT_BATCH_ATTRIBUTE);
+                }
+            });
+
+        } catch (RuntimeException e) {
+            LOGGER.warn("Handling a batch of {} events in one transaction failed. Handling the events one by one.", eventInstances.size(), e);
+
+            List<EventRegistryProcessingInfo> processingInfos = new ArrayList<>(eventInstances.size());
+            for (EventInstance eventInstance : eventInstances) {
+                processingInfos.add(eventReceivedAfterBatchFailure(eventInstance));
+            }
+            return processingInfos;
+        }
+    }
+
+    /**
+     * Handles an event of a failed batch in its own transaction. The events before it have already been committed,
+     * so a failure is recorded in the returned processing info instead of being thrown,
+     * which would prevent the handling of the next events. The event registry throws the recorded failures
+     * once all the events were handled, unless the non matching event consumer took them over.
+     */
+    protected EventRegistryProcessingInfo eventReceivedAfterBatchFailure(EventInstance eventInstance) {
+        try {
+            return eventReceived(eventInstance);
+
+        } catch (RuntimeException e) {
+            LOGGER.error("Handling event {} failed", eventInstance.getEventKey(), e);
+            EventRegistryProcessingInfo processingInfo = new EventRegistryProcessingInfo();
+            processingInfo.setException(e);
+            return processingInfo;
+        }
+    }
+
+    protected EventInstance getEventInstance(EventRegistryEvent event) {
         if (event.getEventObject() != null && event.getEventObject() instanceof EventInstance) {
-            return eventReceived((EventInstance) event.getEventObject());
+            return (EventInstance) event.getEventObject();
         } else {
             if (event.getEventObject() == null) {
                 throw new FlowableIllegalArgumentException("No event object was passed to the consumer");
@@ -66,6 +157,14 @@ public abstract class BaseEventRegistryEventConsumer implements EventRegistryEve
         }
     }
 
+    /**
+     * Returns whether the event currently being handled is part of a batch of events that is handled in one transaction.
+     */
+    protected boolean isInboundEventBatchActive() {
+        CommandContext commandContext = Context.getCommandContext();
+        return commandContext != null && commandContext.getAttribute(INBOUND_EVENT_BATCH_ATTRIBUTE) != null;
+    }
+
     protected abstract EventRegistryProcessingInfo eventReceived(EventInstance eventInstance);
 
     /**
@@ -139,9 +238,11 @@ public abstract class BaseEventRegistryEventConsumer implements EventRegistryEve
     }
 
     protected EventRegistry getEventRegistry() {
-        EventRegistryEngineConfiguration eventRegistryEngineConfiguration = (EventRegistryEngineConfiguration) 
-                        engingeConfiguration.getEngineConfigurations().get(EngineConfigurationConstants.KEY_EVENT_REGISTRY_CONFIG);
-        return eventRegistryEngineConfiguration.getEventRegistry();
+        return getEventRegistryEngineConfiguration().getEventRegistry();
+    }
+
+    protected EventRegistryEngineConfiguration getEventRegistryEngineConfiguration() {
+        return (EventRegistryEngineConfiguration) engingeConfiguration.getEngineConfigurations().get(EngineConfigurationConstants.KEY_EVENT_REGISTRY_CONFIG);
     }
 
     protected CorrelationKey getCorrelationKeyWithAllParameters(Collection<CorrelationKey> correlationKeys, EventInstance eventInstance) {
@@ -160,10 +261,12 @@ public abstract class BaseEventRegistryEventConsumer implements EventRegistryEve
     protected List<EventSubscription> findEventSubscriptions(String scopeType, EventInstance eventInstance,  Collection<CorrelationKey> correlationKeys) {
         return commandExecutor.execute(commandContext -> {
 
-            EventSubscriptionQuery eventSubscriptionQuery = createEventSubscriptionQuery()
-                .eventType(eventInstance.getEventKey())
-                .scopeType(scopeType);
+            InboundEventBatch inboundEventBatch = (InboundEventBatch) commandContext.getAttribute(INBOUND_EVENT_BATCH_ATTRIBUTE);
+            if (inboundEventBatch != null && inboundEventBatch.contains(eventInstance)) {
+                return findBatchEventSubscriptions(scopeType, eventInstance, correlationKeys, inboundEventBatch);
+            }
 
+            EventSubscriptionQuery eventSubscriptionQuery = createEventSubscriptionQuery(scopeType, eventInstance);
             if (!correlationKeys.isEmpty()) {
 
                 Set<String> allCorrelationKeyValues = correlationKeys.stream().map(CorrelationKey::getValue).collect(Collectors.toSet());
@@ -178,36 +281,168 @@ public abstract class BaseEventRegistryEventConsumer implements EventRegistryEve
 
             }
 
-            String eventInstanceTenantId = eventInstance.getTenantId();
-            if (eventInstanceTenantId != null && !AbstractEngineConfiguration.NO_TENANT_ID.equals(eventInstanceTenantId)) {
+            return eventSubscriptionQuery.list();
+
+        });
+    }
 
-                EventRegistryEngineConfiguration eventRegistryConfiguration = CommandContextUtil.getEventRegistryConfiguration();
+    protected List<EventSubscription> findBatchEventSubscriptions(String scopeType, EventInstance eventInstance,
+            Collection<CorrelationKey> correlationKeys, InboundEventBatch inboundEventBatch) {
 
-                if (eventRegistryConfiguration.isFallbackToDefaultTenant()) {
-                    String defaultTenant = eventRegistryConfiguration.getDefaultTenantProvider()
-                        .getDefaultTenant(eventInstance.getTenantId(), scopeType, eventInstance.getEventKey());
+        List<EventSubscription> batchEventSubscriptions = inboundEventBatch.getEventSubscriptions(eventInstance.getEventKey(), eventInstance.getTenantId());
+        if (batchEventSubscriptions == null) {
+            batchEventSubscriptions = fetchBatchEventSubscriptions(scopeType, eventInstance, inboundEventBatch);
+            inboundEventBatch.setEventSubscriptions(eventInstance.getEventKey(), eventInstance.getTenantId(), batchEventSubscriptions);
+        }
 
-                    if (AbstractEngineConfiguration.NO_TENANT_ID.equals(defaultTenant)) {
-                        eventSubscriptionQuery.or()
-                            .tenantId(eventInstance.getTenantId())
-                            .withoutTenantId()
-                        .endOr();
+        Set<String> correlationKeyValues = correlationKeys.stream().map(CorrelationKey::getValue).collect(Collectors.toSet());
+        List<EventSubscription> eventSubscriptions = new ArrayList<>();
+        Set<String> eventSubscriptionIds = new HashSet<>();
+        for (EventSubscription eventSubscription : batchEventSubscriptions) {
+            eventSubscriptionIds.add(eventSubscription.getId());
+            if (eventSubscription instanceof Entity && ((Entity) eventSubscription).isDeleted()) {
+                // Already consumed by a previous event of the batch
+                continue;
+            }
 
-                    } else {
-                        eventSubscriptionQuery.tenantIds(Arrays.asList(eventInstanceTenantId, defaultTenant));
+            if (isCorrelated(eventSubscription, correlationKeyValues)) {
+                eventSubscriptions.add(eventSubscription);
+            }
+        }
 
-                    }
+        // When the events are received one by one, the subscriptions created by the previous events are visible to the next ones.
+        // Those are not returned by the queries of the batch, as they are only inserted when the transaction is flushed.
+        boolean createdInBatch = false;
+        for (EventSubscription eventSubscription : findEventSubscriptionsCreatedInBatch(scopeType, eventInstance)) {
+            if (!eventSubscriptionIds.contains(eventSubscription.getId()) && isCorrelated(eventSubscription, correlationKeyValues)) {
+                eventSubscriptions.add(eventSubscription);
+                createdInBatch = true;
+            }
+        }
+
+        if (createdInBatch) {
+            eventSubscriptions.sort(Comparator.comparing(EventSubscription::getId));
+        }
+
+        return eventSubscriptions;
+    }
+
+    protected boolean isCorrelated(EventSubscription eventSubscription, Set<String> correlationKeyValues) {
+        String configuration = eventSubscription.getConfiguration();
+        return configuration == null || correlationKeyValues.contains(configuration);
+    }
+
+    /**
+     * Returns the event subscriptions for the event key, scope type and tenant of the given event instance
+     * that have been created by the previous events of the batch and that are not deleted.
+     */
+    protected List<EventSubscription> findEventSubscriptionsCreatedInBatch(String scopeType, EventInstance eventInstance) {
+        List<EventSubscription> eventSubscriptions = new ArrayList<>();
+        EntityCache entityCache = Context.getCommandContext().getSession(EntityCache.class);
+        for (Map.Entry<Class<?>, Map<String, CachedEntity>> cachedEntities : entityCache.getAllCachedEntities().entrySet()) {
+            if (!EventSubscription.class.isAssignableFrom(cachedEntities.getKey())) {
+                continue;
+            }
+
+            for (CachedEntity cachedEntity : cachedEntities.getValue().values()) {
+                Entity entity = cachedEntity.getEntity();
+                EventSubscription eventSubscription = (EventSubscription) entity;
+                if (entity.isInserted() && !entity.isDeleted()
+                        && Objects.equals(eventInstance.getEventKey(), eventSubscription.getEventType())
+                        && Objects.equals(scopeType, eventSubscription.getScopeType())
+                        && isVisibleForTenant(eventSubscription, scopeType, eventInstance)) {
+                    eventSubscriptions.add(eventSubscription);
+                }
+            }
+        }
+        return eventSubscriptions;
+    }
+
+    /**
+     * The in-memory equivalent of the tenant conditions of {@link #createEventSubscriptionQuery(String, EventInstance)}.
+     */
+    protected boolean isVisibleForTenant(EventSubscription eventSubscription, String scopeType, EventInstance eventInstance) {
+        String eventInstanceTenantId = eventInstance.getTenantId();
+        if (eventInstanceTenantId == null || AbstractEngineConfiguration.NO_TENANT_ID.equals(eventInstanceTenantId)) {
+            return true;
+        }
+
+        String eventSubscriptionTenantId = eventSubscription.getTenantId();
+        if (eventInstanceTenantId.equals(eventSubscriptionTenantId)) {
+            return true;
+        }
+
+        EventRegistryEngineConfiguration eventRegistryConfiguration = CommandContextUtil.getEventRegistryConfiguration();
+        if (!eventRegistryConfiguration.isFallbackToDefaultTenant()) {
+            return false;
+        }
+
+        String defaultTenant = eventRegistryConfiguration.getDefaultTenantProvider()
+            .getDefaultTenant(eventInstanceTenantId, scopeType, eventInstance.getEventKey());
+        if (AbstractEngineConfiguration.NO_TENANT_ID.equals(defaultTenant)) {
+            return eventSubscriptionTenantId == null || AbstractEngineConfiguration.NO_TENANT_ID.equals(eventSubscriptionTenantId);
+        }
+        return defaultTenant.equals(eventSubscriptionTenantId);
+    }
+
+    /**
+     * Fetches the event subscriptions for all events in the batch with the same event key and tenant as the given event instance.
+     * The event subscriptions that are created while handling the batch are added by {@link #findEventSubscriptionsCreatedInBatch(String, EventInstance)}.
+     */
+    protected List<EventSubscription> fetchBatchEventSubscriptions(String scopeType, EventInstance eventInstance, InboundEventBatch inboundEventBatch) {
+        Set<String> correlationKeyValues = new HashSet<>();
+        for (EventInstance batchEventInstance : inboundEventBatch.getEventInstances()) {
+            if (Objects.equals(eventInstance.getEventKey(), batchEventInstance.getEventKey())
+                    && Objects.equals(eventInstance.getTenantId(), batchEventInstance.getTenantId())) {
+                for (CorrelationKey correlationKey : generateCorrelationKeys(batchEventInstance.getCorrelationParameterInstances())) {
+                    correlationKeyValues.add(correlationKey.getValue());
+                }
+            }
+        }
+
+        List<EventSubscription> eventSubscriptions = new ArrayList<>();
+        CollectionUtil.consumePartitions(correlationKeyValues, AbstractDataManager.MAX_ENTRIES_IN_CLAUSE,
+                configurations -> eventSubscriptions.addAll(createEventSubscriptionQuery(scopeType, eventInstance).configurations(configurations).list()));
+
+        eventSubscriptions.addAll(createEventSubscriptionQuery(scopeType, eventInstance).withoutConfiguration().list());
+
+        eventSubscriptions.sort(Comparator.comparing(EventSubscription::getId));
+        return eventSubscriptions;
+    }
+
+    protected EventSubscriptionQuery createEventSubscriptionQuery(String scopeType, EventInstance eventInstance) {
+        EventSubscriptionQuery eventSubscriptionQuery = createEventSubscriptionQuery()
+            .eventType(eventInstance.getEventKey())
+            .scopeType(scopeType);
+
+        String eventInstanceTenantId = eventInstance.getTenantId();
+        if (eventInstanceTenantId != null && !AbstractEngineConfiguration.NO_TENANT_ID.equals(eventInstanceTenantId)) {
+
+            EventRegistryEngineConfiguration eventRegistryConfiguration = CommandContextUtil.getEventRegistryConfiguration();
+
+            if (eventRegistryConfiguration.isFallbackToDefaultTenant()) {
+                String defaultTenant = eventRegistryConfiguration.getDefaultTenantProvider()
+                    .getDefaultTenant(eventInstance.getTenantId(), scopeType, eventInstance.getEventKey());
+
+                if (AbstractEngineConfiguration.NO_TENANT_ID.equals(defaultTenant)) {
+                    eventSubscriptionQuery.or()
+                        .tenantId(eventInstance.getTenantId())
+                        .withoutTenantId()
+                    .endOr();
 
                 } else {
-                    eventSubscriptionQuery.tenantId(eventInstanceTenantId);
+                    eventSubscriptionQuery.tenantIds(Arrays.asList(eventInstanceTenantId, defaultTenant));
 
                 }
 
+            } else {
+                eventSubscriptionQuery.tenantId(eventInstanceTenantId);
+
             }
 
-            return eventSubscriptionQuery.list();
+        }
 
-        });
+        return eventSubscriptionQuery;
     }
 
     protected abstract EventSubscriptionQuery createEventSubscriptionQuery();
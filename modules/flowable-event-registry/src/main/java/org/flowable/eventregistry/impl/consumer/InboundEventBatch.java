@@ -0,0 +1,63 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.impl.consumer;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.flowable.eventregistry.api.runtime.EventInstance;
+import org.flowable.eventsubscription.api.EventSubscription;
+
+/**
+ * The event instances that an event consumer handles together in one transaction,
+ * together with the event subscriptions that have been fetched for them.
+ *
+ * The event subscriptions are fetched once per event definition key and tenant for all events of the batch,
+ * instead of once per event.
+ */
+public class InboundEventBatch {
+
+    protected final List<EventInstance> eventInstances;
+    protected final Set<EventInstance> eventInstanceSet;
+    protected final Map<String, List<EventSubscription>> eventSubscriptions = new HashMap<>();
+
+    public InboundEventBatch(List<EventInstance> eventInstances) {
+        this.eventInstances = eventInstances;
+        this.eventInstanceSet = Collections.newSetFromMap(new IdentityHashMap<>(eventInstances.size()));
+        this.eventInstanceSet.addAll(eventInstances);
+    }
+
+    public boolean contains(EventInstance eventInstance) {
+        return eventInstanceSet.contains(eventInstance);
+    }
+
+    public List<EventInstance> getEventInstances() {
+        return eventInstances;
+    }
+
+    public List<EventSubscription> getEventSubscriptions(String eventKey, String tenantId) {
+        return eventSubscriptions.get(createEventSubscriptionsKey(eventKey, tenantId));
+    }
+
+    public void setEventSubscriptions(String eventKey, String tenantId, List<EventSubscription> eventSubscriptions) {
+        this.eventSubscriptions.put(createEventSubscriptionsKey(eventKey, tenantId), eventSubscriptions);
+    }
+
+    protected String createEventSubscriptionsKey(String eventKey, String tenantId) {
+        return eventKey + '|' + tenantId;
+    }
+}
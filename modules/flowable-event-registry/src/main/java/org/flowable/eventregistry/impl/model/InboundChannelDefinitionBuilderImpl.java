@@ -292,6 +292,12 @@ public class InboundChannelDefinitionBuilderImpl implements InboundChannelModelB
             return this;
         }
 
+        @Override
+        public InboundKafkaChannelBuilder batchListener(String batchListener) {
+            kafkaChannel.setBatchListener(batchListener);
+            return this;
+        }
+
         @Override
         public InboundKafkaChannelBuilder property(String name, String value) {
             kafkaChannel.addCustomProperty(name, value);
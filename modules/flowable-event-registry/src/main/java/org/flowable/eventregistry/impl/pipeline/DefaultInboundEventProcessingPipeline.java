@@ -12,8 +12,11 @@
  */
 package org.flowable.eventregistry.impl.pipeline;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 
 import org.flowable.common.engine.impl.AbstractEngineConfiguration;
 import org.flowable.eventregistry.api.EventRegistryEvent;
@@ -71,6 +74,22 @@ public class DefaultInboundEventProcessingPipeline<T> implements InboundEventPro
 
     @Override
     public Collection<EventRegistryEvent> run(InboundChannelModel inboundChannel, InboundEvent inboundEvent) {
+        return run(inboundChannel, inboundEvent, null);
+    }
+
+    @Override
+    public Collection<EventRegistryEvent> run(InboundChannelModel inboundChannel, Collection<InboundEvent> inboundEvents) {
+        // The events of a batch usually share a small number of event definitions,
+        // so the event models are only looked up once for the whole batch
+        Map<String, EventModel> eventModels = new HashMap<>();
+        Collection<EventRegistryEvent> eventRegistryEvents = new ArrayList<>(inboundEvents.size());
+        for (InboundEvent inboundEvent : inboundEvents) {
+            eventRegistryEvents.addAll(run(inboundChannel, inboundEvent, eventModels));
+        }
+        return eventRegistryEvents;
+    }
+
+    protected Collection<EventRegistryEvent> run(InboundChannelModel inboundChannel, InboundEvent inboundEvent, Map<String, EventModel> eventModels) {
 
         boolean debugLoggingEnabled = logger.isDebugEnabled();
         if (debugLoggingEnabled) {
@@ -105,7 +124,17 @@ public class DefaultInboundEventProcessingPipeline<T> implements InboundEventPro
                     inboundChannel.getKey(), inboundEvent);
         }
 
-        EventModel eventModel = multiTenant ? eventRepositoryService.getEventModelByKey(eventKey, tenantId) : eventRepositoryService.getEventModelByKey(eventKey);
+        EventModel eventModel;
+        if (eventModels != null) {
+            String eventModelCacheKey = multiTenant ? eventKey + '|' + tenantId : eventKey;
+            eventModel = eventModels.get(eventModelCacheKey);
+            if (eventModel == null) {
+                eventModel = getEventModel(eventKey, tenantId, multiTenant);
+                eventModels.put(eventModelCacheKey, eventModel);
+            }
+        } else {
+            eventModel = getEventModel(eventKey, tenantId, multiTenant);
+        }
         
         EventInstanceImpl eventInstance = new EventInstanceImpl(
             eventModel.getKey(),
@@ -127,6 +156,10 @@ public class DefaultInboundEventProcessingPipeline<T> implements InboundEventPro
         return registryEvents;
     }
 
+    protected EventModel getEventModel(String eventKey, String tenantId, boolean multiTenant) {
+        return multiTenant ? eventRepositoryService.getEventModelByKey(eventKey, tenantId) : eventRepositoryService.getEventModelByKey(eventKey);
+    }
+
     public T deserialize(Object rawEvent) {
         return inboundEventDeserializer.deserialize(rawEvent);
     }
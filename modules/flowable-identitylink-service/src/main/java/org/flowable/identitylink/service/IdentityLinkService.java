@@ -88,5 +88,12 @@ public interface IdentityLinkService {
     void deleteIdentityLinksByProcessInstanceId(String processInstanceId);
     
     void bulkDeleteIdentityLinksForScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType);
+
+    /**
+     * Fills the task candidate index again from the current task candidate identity links.
+     *
+     * @return the number of entries in the index
+     */
+    long rebuildTaskCandidateIndex();
     
 }
@@ -51,6 +51,12 @@ public class IdentityLinkServiceConfiguration extends AbstractServiceConfigurati
     protected IdentityLinkEventHandler identityLinkEventHandler;
     
     protected ObjectMapper objectMapper;
+
+    /**
+     * Keeps the task candidate identity links in the task candidate index (the ACT_RU_TASK_CANDIDATE table) as well.
+     * When enabling this on a database with existing tasks, the index needs to be rebuilt once.
+     */
+    protected boolean enableTaskCandidateIndex;
     
     public IdentityLinkServiceConfiguration(String engineName) {
         super(engineName);
@@ -174,4 +180,13 @@ public class IdentityLinkServiceConfiguration extends AbstractServiceConfigurati
         this.identityLinkEventHandler = identityLinkEventHandler;
         return this;
     }
+
+    public boolean isEnableTaskCandidateIndex() {
+        return enableTaskCandidateIndex;
+    }
+
+    public IdentityLinkServiceConfiguration setEnableTaskCandidateIndex(boolean enableTaskCandidateIndex) {
+        this.enableTaskCandidateIndex = enableTaskCandidateIndex;
+        return this;
+    }
 }
@@ -193,6 +193,11 @@ public class IdentityLinkServiceImpl extends CommonServiceImpl<IdentityLinkServi
         getIdentityLinkEntityManager().bulkDeleteIdentityLinksForScopeIdsAndScopeType(scopeIds, scopeType);
     }
 
+    @Override
+    public long rebuildTaskCandidateIndex() {
+        return getIdentityLinkEntityManager().rebuildTaskCandidateIndex();
+    }
+
     public IdentityLinkEntityManager getIdentityLinkEntityManager() {
         return configuration.getIdentityLinkEntityManager();
     }
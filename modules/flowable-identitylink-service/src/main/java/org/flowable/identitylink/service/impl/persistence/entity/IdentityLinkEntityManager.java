@@ -90,4 +90,11 @@ public interface IdentityLinkEntityManager extends EntityManager<IdentityLinkEnt
     
     void bulkDeleteIdentityLinksForScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType);
 
+    /**
+     * Fills the task candidate index again from the current task candidate identity links.
+     *
+     * @return the number of entries in the index
+     */
+    long rebuildTaskCandidateIndex();
+
 }
\ No newline at end of file
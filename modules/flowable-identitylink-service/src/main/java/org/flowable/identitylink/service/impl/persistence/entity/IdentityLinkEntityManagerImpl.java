@@ -24,6 +24,7 @@ import org.flowable.identitylink.api.history.HistoricIdentityLink;
 import org.flowable.identitylink.service.IdentityLinkEventHandler;
 import org.flowable.identitylink.service.IdentityLinkServiceConfiguration;
 import org.flowable.identitylink.service.impl.persistence.entity.data.IdentityLinkDataManager;
+import org.flowable.identitylink.service.impl.util.TaskCandidateIndexUtil;
 
 /**
  * @author Tom Baeyens
@@ -43,10 +44,16 @@ public class IdentityLinkEntityManagerImpl
         return dataManager.createIdentityLinkFromHistoricIdentityLink(historicIdentityLink);
     }
 
+    protected static final int TASK_CANDIDATE_INDEX_REBUILD_BATCH_SIZE = 1000;
+
     @Override
     public void insert(IdentityLinkEntity entity, boolean fireCreateEvent) {
         super.insert(entity, fireCreateEvent);
 
+        if (serviceConfiguration.isEnableTaskCandidateIndex()) {
+            insertTaskCandidateIndexEntry(entity);
+        }
+
         IdentityLinkEventHandler identityLinkEventHandler = getIdentityLinkEventHandler();
         if (identityLinkEventHandler != null) {
             identityLinkEventHandler.handleIdentityLinkAddition(entity);
@@ -57,6 +64,10 @@ public class IdentityLinkEntityManagerImpl
     public void delete(IdentityLinkEntity entity, boolean fireDeleteEvent) {
         super.delete(entity, fireDeleteEvent);
 
+        if (serviceConfiguration.isEnableTaskCandidateIndex() && TaskCandidateIndexUtil.getKey(entity) != null) {
+            dataManager.deleteTaskCandidateIndexEntry(entity.getId());
+        }
+
         IdentityLinkEventHandler identityLinkEventHandler = getIdentityLinkEventHandler();
         if (identityLinkEventHandler != null) {
             getIdentityLinkEventHandler().handleIdentityLinkDeletion(entity);
@@ -303,6 +314,10 @@ public class IdentityLinkEntityManagerImpl
     @Override
     public void deleteIdentityLinksByTaskId(String taskId) {
         dataManager.deleteIdentityLinksByTaskId(taskId);
+
+        if (serviceConfiguration.isEnableTaskCandidateIndex()) {
+            dataManager.deleteTaskCandidateIndexEntriesByTaskId(taskId);
+        }
     }
 
     @Override
@@ -334,4 +349,29 @@ public class IdentityLinkEntityManagerImpl
         return serviceConfiguration.getIdentityLinkEventHandler();
     }
 
+
+    @Override
+    public long rebuildTaskCandidateIndex() {
+        dataManager.deleteAllTaskCandidateIndexEntries();
+
+        long count = 0;
+        List<IdentityLinkEntity> identityLinks;
+        do {
+            identityLinks = dataManager.findTaskCandidateIdentityLinks((int) count, TASK_CANDIDATE_INDEX_REBUILD_BATCH_SIZE);
+            for (IdentityLinkEntity identityLink : identityLinks) {
+                insertTaskCandidateIndexEntry(identityLink);
+            }
+            count += identityLinks.size();
+        } while (identityLinks.size() == TASK_CANDIDATE_INDEX_REBUILD_BATCH_SIZE);
+
+        return count;
+    }
+
+    protected void insertTaskCandidateIndexEntry(IdentityLinkEntity identityLink) {
+        String candidate = TaskCandidateIndexUtil.getKey(identityLink);
+        if (candidate != null) {
+            dataManager.insertTaskCandidateIndexEntry(identityLink, candidate);
+        }
+    }
+
 }
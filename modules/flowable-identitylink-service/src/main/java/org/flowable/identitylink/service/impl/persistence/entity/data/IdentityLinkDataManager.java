@@ -59,4 +59,14 @@ public interface IdentityLinkDataManager extends DataManager<IdentityLinkEntity>
     
     void bulkDeleteIdentityLinksForScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType);
 
+    List<IdentityLinkEntity> findTaskCandidateIdentityLinks(int firstResult, int maxResults);
+
+    void insertTaskCandidateIndexEntry(IdentityLinkEntity identityLink, String candidate);
+
+    void deleteTaskCandidateIndexEntry(String identityLinkId);
+
+    void deleteTaskCandidateIndexEntriesByTaskId(String taskId);
+
+    void deleteAllTaskCandidateIndexEntries();
+
 }
@@ -21,6 +21,7 @@ import org.flowable.common.engine.api.scope.ScopeTypes;
 import org.flowable.common.engine.impl.cfg.IdGenerator;
 import org.flowable.common.engine.impl.db.AbstractDataManager;
 import org.flowable.common.engine.impl.db.DbSqlSession;
+import org.flowable.common.engine.impl.db.ListQueryParameterObject;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcher;
 import org.flowable.identitylink.api.history.HistoricIdentityLink;
 import org.flowable.identitylink.service.IdentityLinkServiceConfiguration;
@@ -235,6 +236,37 @@ public class MybatisIdentityLinkDataManager extends AbstractDataManager<Identity
         getDbSqlSession().delete("bulkDeleteIdentityLinksForScopeIdsAndScopeType", parameters, IdentityLinkEntityImpl.class);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<IdentityLinkEntity> findTaskCandidateIdentityLinks(int firstResult, int maxResults) {
+        return getDbSqlSession().selectListNoCacheLoadAndStore("selectTaskCandidateIdentityLinks", new ListQueryParameterObject(null, firstResult, maxResults));
+    }
+
+    @Override
+    public void insertTaskCandidateIndexEntry(IdentityLinkEntity identityLink, String candidate) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("id", identityLink.getId());
+        parameters.put("taskId", identityLink.getTaskId());
+        parameters.put("candidate", candidate);
+        getDbSqlSession().directInsert("insertTaskCandidateIndexEntry", parameters);
+    }
+
+    @Override
+    public void deleteTaskCandidateIndexEntry(String identityLinkId) {
+        getDbSqlSession().delete("deleteTaskCandidateIndexEntry", identityLinkId, IdentityLinkEntityImpl.class);
+    }
+
+    @Override
+    public void deleteTaskCandidateIndexEntriesByTaskId(String taskId) {
+        getDbSqlSession().delete("deleteTaskCandidateIndexEntriesByTaskId", taskId, IdentityLinkEntityImpl.class);
+    }
+
+    @Override
+    public void deleteAllTaskCandidateIndexEntries() {
+        // Executed directly, as the index is filled again in the same transaction
+        getDbSqlSession().getSqlSession().delete("deleteAllTaskCandidateIndexEntries");
+    }
+
     @Override
     protected IdGenerator getIdGenerator() {
         return identityLinkServiceConfiguration.getIdGenerator();
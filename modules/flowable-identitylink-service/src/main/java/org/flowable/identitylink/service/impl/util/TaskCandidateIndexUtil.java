@@ -0,0 +1,52 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.identitylink.service.impl.util;
+
+import org.flowable.identitylink.api.IdentityLinkInfo;
+import org.flowable.identitylink.api.IdentityLinkType;
+
+/**
+ * Creates the keys of the task candidate index (the ACT_RU_TASK_CANDIDATE table).
+ * Users and groups are stored in the same indexed column, so that the candidate tasks of a user and all of its groups
+ * can be found with a single 'in' condition. The prefix keeps a user and a group with the same id apart.
+ */
+public class TaskCandidateIndexUtil {
+
+    public static final String USER_KEY_PREFIX = "U:";
+    public static final String GROUP_KEY_PREFIX = "G:";
+
+    public static String getUserKey(String userId) {
+        return USER_KEY_PREFIX + userId;
+    }
+
+    public static String getGroupKey(String groupId) {
+        return GROUP_KEY_PREFIX + groupId;
+    }
+
+    /**
+     * @return the key of the identity link in the task candidate index, or null when the identity link is not a task candidate link
+     */
+    public static String getKey(IdentityLinkInfo identityLink) {
+        if (identityLink.getTaskId() == null || !IdentityLinkType.CANDIDATE.equals(identityLink.getType())) {
+            return null;
+        }
+
+        if (identityLink.getUserId() != null) {
+            return getUserKey(identityLink.getUserId());
+        } else if (identityLink.getGroupId() != null) {
+            return getGroupKey(identityLink.getGroupId());
+        }
+        return null;
+    }
+
+}
@@ -15,8 +15,10 @@ package org.flowable.job.service.impl.asyncexecutor;
 import java.time.Duration;
 import java.util.LinkedList;
 
+import org.flowable.common.engine.api.FlowableOptimisticLockingException;
 import org.flowable.job.api.JobInfo;
 import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.cmd.MoveTimerJobToExecutableJobCmd;
 import org.flowable.job.service.impl.cmd.UnacquireOwnedJobsCmd;
 import org.flowable.job.service.impl.persistence.entity.JobInfoEntity;
 import org.flowable.job.service.impl.persistence.entity.JobInfoEntityManager;
@@ -40,6 +42,10 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
     protected AcquireAsyncJobsDueRunnable asyncJobsDueRunnable;
     protected AcquireAsyncJobsDueLifecycleListener asyncJobsDueLifecycleListener;
     protected ResetExpiredJobsRunnable resetExpiredJobsRunnable;
+    protected TimerJobWheel timerJobWheel;
+
+    protected AdaptiveAcquisitionController asyncJobsDueAcquisitionController;
+    protected AdaptiveAcquisitionController timerJobsAcquisitionController;
 
     protected ExecuteAsyncRunnableFactory executeAsyncRunnableFactory;
     
@@ -82,11 +88,18 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
     }
 
     protected Runnable createRunnableForJob(final JobInfo job) {
+        Runnable runnable;
         if (executeAsyncRunnableFactory == null) {
-            return new ExecuteAsyncRunnable(job, jobServiceConfiguration, jobEntityManager, asyncRunnableExecutionExceptionHandler);
+            runnable = new ExecuteAsyncRunnable(job, jobServiceConfiguration, jobEntityManager, asyncRunnableExecutionExceptionHandler);
         } else {
-            return executeAsyncRunnableFactory.createExecuteAsyncRunnable(job, jobServiceConfiguration);
+            runnable = executeAsyncRunnableFactory.createExecuteAsyncRunnable(job, jobServiceConfiguration);
+        }
+
+        if (asyncJobsDueAcquisitionController != null) {
+            // The execution time of the jobs is used to estimate how long it takes before the queue has capacity again
+            runnable = asyncJobsDueAcquisitionController.recordJobExecution(runnable);
         }
+        return runnable;
     }
 
     /** Starts the async executor */
@@ -102,7 +115,9 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
 
         initializeJobEntityManager();
         initializeRunnables();
+        initializeTimerJobWheel();
         startAdditionalComponents();
+        startTimerJobWheel();
         executeTemporaryJobs();
     }
     
@@ -136,6 +151,76 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
                 asyncJobsDueLifecycleListener, new AcquireAsyncJobsDueRunnableConfiguration());
 
         }
+
+        initializeAdaptiveAcquisition();
+    }
+
+    protected void initializeAdaptiveAcquisition() {
+        if (!configuration.isAdaptiveAcquisitionEnabled()) {
+            return;
+        }
+
+        if (asyncJobsDueAcquisitionController == null) {
+            // Waiting longer than the configured async job acquire wait time would delay new jobs
+            long asyncJobAcquireWaitTimeInMillis = configuration.getDefaultAsyncJobAcquireWaitTime().toMillis();
+            asyncJobsDueAcquisitionController = createAdaptiveAcquisitionController("flowable-" + getJobServiceConfiguration().getEngineName() + "-async-jobs",
+                    configuration.getMaxAsyncJobsDuePerAcquisition(), asyncJobAcquireWaitTimeInMillis,
+                    Math.min(configuration.getAdaptiveAcquisitionMaxWaitTime().toMillis(), asyncJobAcquireWaitTimeInMillis));
+        }
+        if (asyncJobsDueRunnable != null) {
+            asyncJobsDueRunnable.setAdaptiveAcquisitionController(asyncJobsDueAcquisitionController);
+        }
+
+        if (timerJobRunnable != null) {
+            if (timerJobsAcquisitionController == null) {
+                // Waiting longer than the configured timer job acquire wait time would delay due timers
+                long timerJobAcquireWaitTimeInMillis = configuration.getDefaultTimerJobAcquireWaitTime().toMillis();
+                timerJobsAcquisitionController = createAdaptiveAcquisitionController("flowable-" + getJobServiceConfiguration().getEngineName() + "-timer-jobs",
+                        configuration.getMaxTimerJobsPerAcquisition(), timerJobAcquireWaitTimeInMillis,
+                        Math.min(configuration.getAdaptiveAcquisitionMaxWaitTime().toMillis(), timerJobAcquireWaitTimeInMillis));
+            }
+            timerJobRunnable.setAdaptiveAcquisitionController(timerJobsAcquisitionController);
+        }
+    }
+
+    protected AdaptiveAcquisitionController createAdaptiveAcquisitionController(String name, int initialPageSize, long initialWaitTimeInMillis) {
+        return createAdaptiveAcquisitionController(name, initialPageSize, initialWaitTimeInMillis, configuration.getAdaptiveAcquisitionMaxWaitTime().toMillis());
+    }
+
+    protected AdaptiveAcquisitionController createAdaptiveAcquisitionController(String name, int initialPageSize, long initialWaitTimeInMillis,
+            long maxWaitTimeInMillis) {
+        AdaptiveAcquisitionController controller = new AdaptiveAcquisitionController(name, configuration.getAdaptiveAcquisitionMinPageSize(),
+                configuration.getAdaptiveAcquisitionMaxPageSize(), Math.min(configuration.getAdaptiveAcquisitionMinWaitTime().toMillis(), maxWaitTimeInMillis),
+                maxWaitTimeInMillis, initialPageSize, initialWaitTimeInMillis);
+        controller.setListener(configuration.getAdaptiveAcquisitionListener());
+        return controller;
+    }
+
+    protected void initializeTimerJobWheel() {
+        if (configuration.isTimerJobWheelEnabled() && configuration.isTimerRunnableNeeded() && timerJobWheel == null) {
+            timerJobWheel = new TimerJobWheel("flowable-" + getJobServiceConfiguration().getEngineName() + "-timer-job-wheel",
+                    configuration.getTimerJobWheelTickDuration().toMillis(), configuration.getTimerJobWheelSize(),
+                    configuration.getTimerJobWheelHorizon().toMillis(), configuration.getMoveTimerExecutorPoolSize(), this::moveDueTimerJobFromWheel);
+        }
+    }
+
+    protected void startTimerJobWheel() {
+        if (timerJobWheel != null && configuration.isTimerJobAcquisitionEnabled()) {
+            timerJobWheel.start();
+        }
+    }
+
+    protected void moveDueTimerJobFromWheel(String timerJobId) {
+        try {
+            jobServiceConfiguration.getCommandExecutor().execute(new MoveTimerJobToExecutableJobCmd(timerJobId, jobServiceConfiguration));
+
+        } catch (FlowableOptimisticLockingException e) {
+            LOGGER.debug("Timer job {} from the timer job wheel was concurrently moved or locked by another executor", timerJobId);
+
+        } catch (Throwable t) {
+            // The timer job is still in the database, so it will be picked up by the regular timer job acquisition
+            LOGGER.warn("Exception while moving timer job {} from the timer job wheel, leaving it to the timer job acquisition", timerJobId, t);
+        }
     }
 
     protected abstract ResetExpiredJobsRunnable createResetExpiredJobsRunnable(String resetRunnableName);
@@ -157,6 +242,9 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
         }
         LOGGER.info("Shutting down the async job executor [{}] for engine {}", getClass().getName(), getJobServiceConfiguration().getEngineName());
 
+        if (timerJobWheel != null) {
+            timerJobWheel.stop();
+        }
         stopRunnables();
         shutdownAdditionalComponents();
 
@@ -427,6 +515,64 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
         this.asyncRunnableExecutionExceptionHandler = asyncRunnableExecutionExceptionHandler;
     }
 
+    @Override
+    public TimerJobWheel getTimerJobWheel() {
+        return timerJobWheel;
+    }
+
+    public void setTimerJobWheel(TimerJobWheel timerJobWheel) {
+        this.timerJobWheel = timerJobWheel;
+    }
+
+    public boolean isTimerJobWheelEnabled() {
+        return configuration.isTimerJobWheelEnabled();
+    }
+
+    public void setTimerJobWheelEnabled(boolean timerJobWheelEnabled) {
+        configuration.setTimerJobWheelEnabled(timerJobWheelEnabled);
+    }
+
+    public Duration getTimerJobWheelHorizon() {
+        return configuration.getTimerJobWheelHorizon();
+    }
+
+    public void setTimerJobWheelHorizon(Duration timerJobWheelHorizon) {
+        configuration.setTimerJobWheelHorizon(timerJobWheelHorizon);
+    }
+
+    public AdaptiveAcquisitionController getAsyncJobsDueAcquisitionController() {
+        return asyncJobsDueAcquisitionController;
+    }
+
+    public void setAsyncJobsDueAcquisitionController(AdaptiveAcquisitionController asyncJobsDueAcquisitionController) {
+        this.asyncJobsDueAcquisitionController = asyncJobsDueAcquisitionController;
+    }
+
+    public AdaptiveAcquisitionController getTimerJobsAcquisitionController() {
+        return timerJobsAcquisitionController;
+    }
+
+    public void setTimerJobsAcquisitionController(AdaptiveAcquisitionController timerJobsAcquisitionController) {
+        this.timerJobsAcquisitionController = timerJobsAcquisitionController;
+    }
+
+    public boolean isAdaptiveAcquisitionEnabled() {
+        return configuration.isAdaptiveAcquisitionEnabled();
+    }
+
+    public void setAdaptiveAcquisitionEnabled(boolean adaptiveAcquisitionEnabled) {
+        configuration.setAdaptiveAcquisitionEnabled(adaptiveAcquisitionEnabled);
+    }
+
+    @Override
+    public int getExclusiveJobBatchSize() {
+        return configuration.getExclusiveJobBatchSize();
+    }
+
+    public void setExclusiveJobBatchSize(int exclusiveJobBatchSize) {
+        configuration.setExclusiveJobBatchSize(exclusiveJobBatchSize);
+    }
+
     public AcquireTimerJobsRunnable getTimerJobRunnable() {
         return timerJobRunnable;
     }
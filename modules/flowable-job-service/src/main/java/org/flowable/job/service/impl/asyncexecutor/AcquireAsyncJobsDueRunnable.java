@@ -83,6 +83,7 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
 
     protected AcquireJobsRunnableConfiguration configuration;
     protected LockManager lockManager;
+    protected AdaptiveAcquisitionController adaptiveAcquisitionController;
 
     protected volatile boolean isInterrupted;
     protected final Object MONITOR = new Object();
@@ -149,7 +150,7 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
 
     protected long executeAcquireCycle(CommandExecutor commandExecutor) {
         int remainingCapacity = asyncExecutor.getTaskExecutor().getRemainingCapacity();
-        lifecycleListener.startAcquiring(getEngineName(), remainingCapacity, asyncExecutor.getMaxAsyncJobsDuePerAcquisition());
+        lifecycleListener.startAcquiring(getEngineName(), remainingCapacity, getMaxAsyncJobsDuePerAcquisition());
 
         final long millisToWait;
         if (remainingCapacity > 0) {
@@ -159,7 +160,8 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
                 LOGGER.debug("acquired and queued new jobs for engine {}; sleeping for {} ms", getEngineName(), millisToWait);
             }
         } else {
-            millisToWait = asyncExecutor.getDefaultQueueSizeFullWaitTimeInMillis();
+            millisToWait = adaptiveAcquisitionController != null ? adaptiveAcquisitionController.queueFull(remainingCapacity)
+                    : asyncExecutor.getDefaultQueueSizeFullWaitTimeInMillis();
 
             if (LOGGER.isDebugEnabled()) {
                 LOGGER.debug("queue is full for engine {}; sleeping for {} ms", getEngineName(), millisToWait);
@@ -173,35 +175,43 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
 
     protected long acquireAndExecuteJobs(CommandExecutor commandExecutor, int remainingCapacity) {
         boolean globalAcquireLockEnabled = configuration.isGlobalAcquireLockEnabled();
+        int maxAsyncJobsDuePerAcquisition = getMaxAsyncJobsDuePerAcquisition();
         try {
             List<? extends JobInfoEntity> acquiredJobs;
             if (globalAcquireLockEnabled) {
-                acquiredJobs = commandExecutor.execute(new AcquireJobsWithGlobalAcquireLockCmd(asyncExecutor, remainingCapacity, jobEntityManager));
+                acquiredJobs = commandExecutor.execute(new AcquireJobsWithGlobalAcquireLockCmd(asyncExecutor, remainingCapacity,
+                        maxAsyncJobsDuePerAcquisition, jobEntityManager));
 
             } else {
-                acquiredJobs = commandExecutor.execute(new AcquireJobsCmd(asyncExecutor, remainingCapacity, jobEntityManager));
+                acquiredJobs = commandExecutor.execute(new AcquireJobsCmd(asyncExecutor, remainingCapacity, maxAsyncJobsDuePerAcquisition, jobEntityManager));
 
             }
 
-            lifecycleListener.acquiredJobs(getEngineName(), acquiredJobs.size(), asyncExecutor.getMaxAsyncJobsDuePerAcquisition());
+            lifecycleListener.acquiredJobs(getEngineName(), acquiredJobs.size(), maxAsyncJobsDuePerAcquisition);
 
             List<JobInfoEntity> rejectedJobs = offerJobs(acquiredJobs);
 
             LOGGER.debug("Jobs acquired: {}, rejected: {}, for engine {}", acquiredJobs.size(), rejectedJobs.size(), getEngineName());
             if (rejectedJobs.size() > 0) {
+                lifecycleListener.rejectedJobs(getEngineName(), rejectedJobs.size(), acquiredJobs.size(), maxAsyncJobsDuePerAcquisition);
+            }
 
-                lifecycleListener.rejectedJobs(getEngineName(), rejectedJobs.size(), acquiredJobs.size(), asyncExecutor.getMaxAsyncJobsDuePerAcquisition());
+            if (adaptiveAcquisitionController != null) {
+                return adaptiveAcquisitionController.acquired(Math.min(remainingCapacity, maxAsyncJobsDuePerAcquisition), acquiredJobs.size(),
+                        rejectedJobs.size(), remainingCapacity);
+            }
 
+            if (rejectedJobs.size() > 0) {
                 // some jobs were rejected, so the queue was full; wait until attempting to acquire more.
                 return asyncExecutor.getDefaultQueueSizeFullWaitTimeInMillis();
             }
-            if (acquiredJobs.size() >= asyncExecutor.getMaxAsyncJobsDuePerAcquisition()) {
+            if (acquiredJobs.size() >= maxAsyncJobsDuePerAcquisition) {
                 return 0L; // the maximum amount of jobs were acquired, so we can expect more.
             }
 
         } catch (FlowableOptimisticLockingException optimisticLockingException) {
 
-            lifecycleListener.optimistLockingException(getEngineName(), asyncExecutor.getMaxAsyncJobsDuePerAcquisition());
+            lifecycleListener.optimistLockingException(getEngineName(), maxAsyncJobsDuePerAcquisition);
 
             if (globalAcquireLockEnabled) {
                 LOGGER.warn("Optimistic locking exception (using global acquire lock) for engine {}", getEngineName(), optimisticLockingException);
@@ -216,6 +226,10 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
                         getEngineName(), optimisticLockingException.getMessage());
 
             }
+
+            if (adaptiveAcquisitionController != null) {
+                return adaptiveAcquisitionController.optimisticLockingException(remainingCapacity);
+            }
         } catch (Throwable e) {
             LOGGER.warn("exception for engine {} during async job acquisition: {}", getEngineName(), e.getMessage(), e);
         }
@@ -223,6 +237,10 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
         return asyncExecutor.getDefaultAsyncJobAcquireWaitTimeInMillis();
     }
 
+    protected int getMaxAsyncJobsDuePerAcquisition() {
+        return adaptiveAcquisitionController != null ? adaptiveAcquisitionController.getPageSize() : asyncExecutor.getMaxAsyncJobsDuePerAcquisition();
+    }
+
     protected List<JobInfoEntity> offerJobs(List<? extends JobInfoEntity> acquiredJobs) {
         List<JobInfoEntity> rejected = new ArrayList<>();
         for (JobInfoEntity job : acquiredJobs) {
@@ -287,4 +305,12 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
         this.configuration = configuration;
     }
 
+    public AdaptiveAcquisitionController getAdaptiveAcquisitionController() {
+        return adaptiveAcquisitionController;
+    }
+
+    public void setAdaptiveAcquisitionController(AdaptiveAcquisitionController adaptiveAcquisitionController) {
+        this.adaptiveAcquisitionController = adaptiveAcquisitionController;
+    }
+
 }
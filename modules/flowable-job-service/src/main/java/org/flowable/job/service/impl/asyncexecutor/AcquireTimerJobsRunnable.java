@@ -77,6 +77,7 @@ public class AcquireTimerJobsRunnable implements Runnable {
 
     protected AcquireJobsRunnableConfiguration configuration;
     protected LockManager lockManager;
+    protected AdaptiveAcquisitionController adaptiveAcquisitionController;
 
     protected volatile boolean isInterrupted;
     protected final Object MONITOR = new Object();
@@ -149,7 +150,8 @@ public class AcquireTimerJobsRunnable implements Runnable {
     }
 
     protected long executeAcquireAndMoveCycle() {
-        lifecycleListener.startAcquiring(getEngineName(), asyncExecutor.getMaxTimerJobsPerAcquisition());
+        int maxTimerJobsPerAcquisition = getMaxTimerJobsPerAcquisition();
+        lifecycleListener.startAcquiring(getEngineName(), maxTimerJobsPerAcquisition);
 
         List<TimerJobEntity> timerJobs = Collections.emptyList();
         long millisToWait = 0L;
@@ -163,7 +165,7 @@ public class AcquireTimerJobsRunnable implements Runnable {
                 // In the move phase, other nodes can already acquire timer jobs themselves (as the lock is free).
                 try {
                     timerJobs = lockManager.waitForLockRunAndRelease(configuration.getLockWaitTime(), () -> {
-                        return commandExecutor.execute(new AcquireTimerJobsWithGlobalAcquireLockCmd(asyncExecutor));
+                        return commandExecutor.execute(new AcquireTimerJobsWithGlobalAcquireLockCmd(asyncExecutor, maxTimerJobsPerAcquisition));
                     });
 
                 } catch (Exception e) {
@@ -175,7 +177,7 @@ public class AcquireTimerJobsRunnable implements Runnable {
                 }
 
             } else {
-                timerJobs = commandExecutor.execute(new AcquireTimerJobsCmd(asyncExecutor));
+                timerJobs = commandExecutor.execute(new AcquireTimerJobsCmd(asyncExecutor, maxTimerJobsPerAcquisition));
 
             }
 
@@ -189,9 +191,13 @@ public class AcquireTimerJobsRunnable implements Runnable {
             // if all jobs were executed
             millisToWait = asyncExecutor.getDefaultTimerJobAcquireWaitTimeInMillis();
             int nrOfJobsAcquired = timerJobs.size();
-            lifecycleListener.acquiredJobs(getEngineName(), nrOfJobsAcquired, asyncExecutor.getMaxTimerJobsPerAcquisition());
+            lifecycleListener.acquiredJobs(getEngineName(), nrOfJobsAcquired, maxTimerJobsPerAcquisition);
 
-            if (nrOfJobsAcquired >= asyncExecutor.getMaxTimerJobsPerAcquisition()) {
+            if (adaptiveAcquisitionController != null) {
+                millisToWait = adaptiveAcquisitionController.acquired(maxTimerJobsPerAcquisition, nrOfJobsAcquired, 0, getRemainingCapacity());
+            }
+
+            if (nrOfJobsAcquired >= maxTimerJobsPerAcquisition) {
 
                 if (globalAcquireLockEnabled) {
                     // Always wait when running with global acquire lock, to let other nodes have the ability to fill the queue
@@ -208,6 +214,9 @@ public class AcquireTimerJobsRunnable implements Runnable {
 
         } catch (FlowableOptimisticLockingException optimisticLockingException) {
             logOptimisticLockingException(optimisticLockingException);
+            if (adaptiveAcquisitionController != null) {
+                millisToWait = adaptiveAcquisitionController.optimisticLockingException(getRemainingCapacity());
+            }
 
         } catch (Throwable e) {
             LOGGER.warn("exception during timer job acquisition for engine {}. Exception message: {}", getEngineName(), e.getMessage(), e);
@@ -220,6 +229,15 @@ public class AcquireTimerJobsRunnable implements Runnable {
         return millisToWait;
     }
 
+    protected int getMaxTimerJobsPerAcquisition() {
+        return adaptiveAcquisitionController != null ? adaptiveAcquisitionController.getPageSize() : asyncExecutor.getMaxTimerJobsPerAcquisition();
+    }
+
+    protected int getRemainingCapacity() {
+        // The moved timer jobs are executed by the task executor of the async executor
+        return asyncExecutor.getTaskExecutor() != null ? asyncExecutor.getTaskExecutor().getRemainingCapacity() : -1;
+    }
+
     protected void executeMoveTimerJobsToExecutableJobs(List<TimerJobEntity> timerJobs) {
         try {
             if (configuration.isGlobalAcquireLockEnabled()) {
@@ -311,4 +329,12 @@ public class AcquireTimerJobsRunnable implements Runnable {
         this.configuration = configuration;
     }
 
+    public AdaptiveAcquisitionController getAdaptiveAcquisitionController() {
+        return adaptiveAcquisitionController;
+    }
+
+    public void setAdaptiveAcquisitionController(AdaptiveAcquisitionController adaptiveAcquisitionController) {
+        this.adaptiveAcquisitionController = adaptiveAcquisitionController;
+    }
+
 }
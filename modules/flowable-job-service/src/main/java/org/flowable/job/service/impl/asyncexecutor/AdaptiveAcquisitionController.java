@@ -0,0 +1,357 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Adjusts the page size of a job acquisition and the time to wait before the next acquisition, based on what was observed in the previous acquisitions.
+ * <p>
+ * The following is taken into account:
+ * <ul>
+ * <li>the yield of an acquisition: when a full page is acquired, there are more jobs and the page size is doubled,
+ * when the yield stays low the page size is reduced, and when nothing is acquired the wait time is doubled</li>
+ * <li>optimistic locking exceptions: other nodes acquire the same jobs, so the page size is halved and the wait time is doubled</li>
+ * <li>the occupancy of the queue of the task executor: the page size is not increased when the queue is filling up,
+ * and when it is full the wait time is the time needed to execute half of the queued jobs</li>
+ * <li>the execution time and throughput of the jobs, to estimate how long it takes to execute the queued jobs</li>
+ * </ul>
+ * The page size and wait time always stay within the configured bounds.
+ * <p>
+ * The decisions are logged on debug level and passed to the {@link AdaptiveAcquisitionListener}, if any, which can export them as metrics
+ * together with the observations that are available through the getters.
+ * The decision methods are called by the acquisition thread only, the job executions can be recorded by any thread.
+ */
+public class AdaptiveAcquisitionController {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AdaptiveAcquisitionController.class);
+
+    /**
+     * The weight of a new observation in the moving averages.
+     */
+    protected static final double SMOOTHING_FACTOR = 0.3;
+
+    /**
+     * Above this queue occupancy the page size is not increased anymore.
+     */
+    protected static final double HIGH_QUEUE_OCCUPANCY = 0.75;
+
+    /**
+     * Below this acquisition yield the page size is reduced.
+     */
+    protected static final double LOW_ACQUISITION_YIELD = 0.25;
+
+    protected final String name;
+    protected final int minPageSize;
+    protected final int maxPageSize;
+    protected final long minWaitTimeInMillis;
+    protected final long maxWaitTimeInMillis;
+
+    protected volatile int pageSize;
+    protected volatile long waitTimeInMillis;
+
+    protected volatile double acquisitionYield = 1.0;
+    protected volatile double conflictRate;
+    protected volatile double queueOccupancy;
+    protected volatile double jobExecutionTimeInMillis;
+    protected volatile double jobThroughputPerSecond;
+
+    protected volatile long acquisitionCycles;
+    protected volatile long optimisticLockingExceptions;
+
+    protected final LongAdder executedJobs = new LongAdder();
+    protected final LongAdder jobExecutionNanos = new LongAdder();
+    protected long lastObservationNanos = System.nanoTime();
+    protected int queueCapacity;
+
+    protected AdaptiveAcquisitionListener listener;
+
+    public AdaptiveAcquisitionController(String name, int minPageSize, int maxPageSize, long minWaitTimeInMillis, long maxWaitTimeInMillis,
+            int initialPageSize, long initialWaitTimeInMillis) {
+
+        if (minPageSize < 1 || maxPageSize < minPageSize) {
+            throw new IllegalArgumentException("Invalid page size bounds for " + name + ": " + minPageSize + " - " + maxPageSize);
+        }
+        if (minWaitTimeInMillis < 0 || maxWaitTimeInMillis < minWaitTimeInMillis) {
+            throw new IllegalArgumentException("Invalid wait time bounds for " + name + ": " + minWaitTimeInMillis + " - " + maxWaitTimeInMillis);
+        }
+
+        this.name = name;
+        this.minPageSize = minPageSize;
+        this.maxPageSize = maxPageSize;
+        this.minWaitTimeInMillis = minWaitTimeInMillis;
+        this.maxWaitTimeInMillis = maxWaitTimeInMillis;
+        this.pageSize = clampPageSize(initialPageSize);
+        this.waitTimeInMillis = clampWaitTime(initialWaitTimeInMillis);
+    }
+
+    /**
+     * Records the execution of a job that was acquired.
+     */
+    public void recordJobExecution(long executionTimeInNanos) {
+        executedJobs.increment();
+        jobExecutionNanos.add(executionTimeInNanos);
+    }
+
+    /**
+     * Wraps the runnable of a job, so that its execution is recorded.
+     */
+    public Runnable recordJobExecution(Runnable runnable) {
+        return () -> {
+            long start = System.nanoTime();
+            try {
+                runnable.run();
+            } finally {
+                recordJobExecution(System.nanoTime() - start);
+            }
+        };
+    }
+
+    /**
+     * Called after an acquisition.
+     *
+     * @param requestedJobs the number of jobs that were requested, the page size or less when the queue did not have enough capacity
+     * @param acquiredJobs the number of jobs that were acquired
+     * @param rejectedJobs the number of acquired jobs that were rejected by the task executor
+     * @param remainingCapacity the remaining capacity of the queue of the task executor before the acquisition, or a negative value when unknown
+     * @return the time to wait before the next acquisition
+     */
+    public long acquired(int requestedJobs, int acquiredJobs, int rejectedJobs, int remainingCapacity) {
+        observe(remainingCapacity);
+        acquisitionYield = average(acquisitionYield, requestedJobs > 0 ? Math.min(1.0, (double) acquiredJobs / requestedJobs) : 0.0);
+        conflictRate = average(conflictRate, 0.0);
+
+        if (rejectedJobs > 0) {
+            // The queue is full, only acquire what fits next time
+            return decide(acquiredJobs - rejectedJobs, estimateQueueDrainTime(remainingCapacity - acquiredJobs + rejectedJobs),
+                    "jobs were rejected");
+
+        } else if (acquiredJobs >= requestedJobs && requestedJobs < pageSize) {
+            // The queue had less capacity than the page size and is now full
+            return decide(pageSize, estimateQueueDrainTime(remainingCapacity - acquiredJobs), "queue is full");
+
+        } else if (acquiredJobs >= requestedJobs) {
+            // There are more jobs, acquire again without waiting
+            int newPageSize = getQueueOccupancyAfter(acquiredJobs, remainingCapacity) < HIGH_QUEUE_OCCUPANCY ? pageSize * 2 : pageSize;
+            return decide(newPageSize, 0L, "full page acquired");
+
+        }
+
+        int newPageSize = acquisitionYield < LOW_ACQUISITION_YIELD ? pageSize - pageSize / 4 : pageSize;
+        if (acquiredJobs == 0) {
+            // Nothing to do, back off
+            return decide(newPageSize, Math.max(waitTimeInMillis * 2, minWaitTimeInMillis), "no jobs acquired");
+
+        } else {
+            // Jobs are coming in, but fewer than the page size
+            return decide(newPageSize, minWaitTimeInMillis, "partial page acquired");
+        }
+    }
+
+    /**
+     * Called when an acquisition failed with an optimistic locking exception, i.e. another node acquired some of the same jobs.
+     *
+     * @param remainingCapacity the remaining capacity of the queue of the task executor, or a negative value when unknown
+     * @return the time to wait before the next acquisition
+     */
+    public long optimisticLockingException(int remainingCapacity) {
+        observe(remainingCapacity);
+        optimisticLockingExceptions++;
+        conflictRate = average(conflictRate, 1.0);
+
+        // Smaller pages have less overlap with the pages of other nodes
+        return decide(pageSize / 2, Math.max(waitTimeInMillis * 2, minWaitTimeInMillis), "optimistic locking exception");
+    }
+
+    /**
+     * Called when no acquisition was done because the queue of the task executor is full.
+     *
+     * @return the time to wait before the next acquisition
+     */
+    public long queueFull(int remainingCapacity) {
+        observe(remainingCapacity);
+        return decide(pageSize, estimateQueueDrainTime(remainingCapacity), "queue is full");
+    }
+
+    protected void observe(int remainingCapacity) {
+        acquisitionCycles++;
+
+        long now = System.nanoTime();
+        long elapsedNanos = Math.max(1L, now - lastObservationNanos);
+        lastObservationNanos = now;
+
+        long jobs = executedJobs.sumThenReset();
+        long nanos = jobExecutionNanos.sumThenReset();
+        if (jobs > 0) {
+            jobExecutionTimeInMillis = average(jobExecutionTimeInMillis, nanos / 1_000_000.0 / jobs);
+        }
+        jobThroughputPerSecond = average(jobThroughputPerSecond, jobs * 1_000_000_000.0 / elapsedNanos);
+
+        if (remainingCapacity >= 0) {
+            // The capacity of the queue is not exposed by the task executor, the remaining capacity of an empty queue is used instead
+            queueCapacity = Math.max(queueCapacity, remainingCapacity);
+            queueOccupancy = average(queueOccupancy, queueCapacity > 0 ? 1.0 - (double) remainingCapacity / queueCapacity : 0.0);
+        }
+    }
+
+    protected double getQueueOccupancyAfter(int acquiredJobs, int remainingCapacity) {
+        if (remainingCapacity < 0 || queueCapacity == 0) {
+            return queueOccupancy;
+        }
+        return 1.0 - (double) Math.max(0, remainingCapacity - acquiredJobs) / queueCapacity;
+    }
+
+    /**
+     * Estimates the time needed to execute half of the queued jobs, based on the observed throughput or execution time.
+     */
+    protected long estimateQueueDrainTime(int remainingCapacity) {
+        int queuedJobs = Math.max(1, queueCapacity - Math.max(0, remainingCapacity));
+        if (jobThroughputPerSecond > 0.0) {
+            return (long) (queuedJobs / 2.0 / jobThroughputPerSecond * 1000.0);
+        } else if (jobExecutionTimeInMillis > 0.0) {
+            return (long) (queuedJobs / 2.0 * jobExecutionTimeInMillis);
+        }
+        return maxWaitTimeInMillis;
+    }
+
+    protected long decide(int newPageSize, long newWaitTimeInMillis, String reason) {
+        int previousPageSize = pageSize;
+        long previousWaitTimeInMillis = waitTimeInMillis;
+
+        pageSize = clampPageSize(newPageSize);
+        // Waiting 0 means that the next acquisition is done immediately, which is not bound by the minimum wait time
+        waitTimeInMillis = newWaitTimeInMillis == 0L ? 0L : clampWaitTime(newWaitTimeInMillis);
+
+        if (LOGGER.isDebugEnabled() && (pageSize != previousPageSize || waitTimeInMillis != previousWaitTimeInMillis)) {
+            LOGGER.debug("{} acquisition: {}, page size {} -> {}, wait time {} -> {} ms (yield {}, conflict rate {}, queue occupancy {}, job execution time {} ms, "
+                            + "throughput {} jobs/s)", name, reason, previousPageSize, pageSize, previousWaitTimeInMillis, waitTimeInMillis,
+                    format(acquisitionYield), format(conflictRate), format(queueOccupancy), format(jobExecutionTimeInMillis), format(jobThroughputPerSecond));
+        }
+
+        if (listener != null) {
+            try {
+                listener.decided(this, reason, previousPageSize, previousWaitTimeInMillis);
+            } catch (RuntimeException e) {
+                // A failing listener should not stop the acquisition
+                LOGGER.warn("Exception in adaptive acquisition listener of {}", name, e);
+            }
+        }
+
+        return waitTimeInMillis;
+    }
+
+    protected int clampPageSize(int pageSize) {
+        return Math.max(minPageSize, Math.min(maxPageSize, pageSize));
+    }
+
+    protected long clampWaitTime(long waitTimeInMillis) {
+        return Math.max(minWaitTimeInMillis, Math.min(maxWaitTimeInMillis, waitTimeInMillis));
+    }
+
+    protected double average(double average, double observation) {
+        return average + SMOOTHING_FACTOR * (observation - average);
+    }
+
+    protected String format(double value) {
+        return String.format("%.2f", value);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * The maximum number of jobs to acquire in the next acquisition.
+     */
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    /**
+     * The time waited after the last acquisition.
+     */
+    public long getWaitTimeInMillis() {
+        return waitTimeInMillis;
+    }
+
+    /**
+     * The moving average of the ratio of acquired to requested jobs.
+     */
+    public double getAcquisitionYield() {
+        return acquisitionYield;
+    }
+
+    /**
+     * The moving average of the ratio of acquisitions that failed with an optimistic locking exception.
+     */
+    public double getConflictRate() {
+        return conflictRate;
+    }
+
+    /**
+     * The moving average of the occupancy of the queue of the task executor, between 0 and 1.
+     */
+    public double getQueueOccupancy() {
+        return queueOccupancy;
+    }
+
+    /**
+     * The moving average of the execution time of the acquired jobs.
+     */
+    public double getJobExecutionTimeInMillis() {
+        return jobExecutionTimeInMillis;
+    }
+
+    /**
+     * The moving average of the number of acquired jobs that are executed per second.
+     */
+    public double getJobThroughputPerSecond() {
+        return jobThroughputPerSecond;
+    }
+
+    public long getAcquisitionCycles() {
+        return acquisitionCycles;
+    }
+
+    public long getOptimisticLockingExceptions() {
+        return optimisticLockingExceptions;
+    }
+
+    public int getMinPageSize() {
+        return minPageSize;
+    }
+
+    public int getMaxPageSize() {
+        return maxPageSize;
+    }
+
+    public long getMinWaitTimeInMillis() {
+        return minWaitTimeInMillis;
+    }
+
+    public long getMaxWaitTimeInMillis() {
+        return maxWaitTimeInMillis;
+    }
+
+    public AdaptiveAcquisitionListener getListener() {
+        return listener;
+    }
+
+    public void setListener(AdaptiveAcquisitionListener listener) {
+        this.listener = listener;
+    }
+
+}
@@ -0,0 +1,34 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+/**
+ * Is notified of every decision of an {@link AdaptiveAcquisitionController}, e.g. to export the page size, the wait time
+ * and the observations of the controller as metrics.
+ * <p>
+ * It is called by the acquisition thread, so it should not block.
+ */
+public interface AdaptiveAcquisitionListener {
+
+    /**
+     * Called after the controller decided the page size and the wait time for the next acquisition.
+     * The new values and the observations they are based on are available through the getters of the controller.
+     *
+     * @param controller the controller that made the decision
+     * @param reason the reason of the decision, e.g. "full page acquired"
+     * @param previousPageSize the page size before the decision
+     * @param previousWaitTimeInMillis the wait time before the decision
+     */
+    void decided(AdaptiveAcquisitionController controller, String reason, int previousPageSize, long previousWaitTimeInMillis);
+
+}
@@ -101,4 +101,22 @@ public interface AsyncExecutor {
      */
     void setTaskExecutor(AsyncTaskExecutor taskExecutor);
 
+    /**
+     * The optional in-memory timing wheel used for firing timer jobs that are due shortly after their creation.
+     *
+     * @return the timer job wheel or {@code null} if it is not used by this async executor
+     */
+    default TimerJobWheel getTimerJobWheel() {
+        return null;
+    }
+
+    /**
+     * The maximum number of due exclusive jobs of one process instance that are executed in one transaction.
+     *
+     * @return the batch size, 1 when every job is executed in its own transaction
+     */
+    default int getExclusiveJobBatchSize() {
+        return 1;
+    }
+
 }
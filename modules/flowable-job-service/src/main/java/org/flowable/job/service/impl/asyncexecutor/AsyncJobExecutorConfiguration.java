@@ -155,6 +155,68 @@ public class AsyncJobExecutorConfiguration {
      */
     private int resetExpiredJobsPageSize = 3;
 
+    /**
+     * Whether timer jobs that are due within the {@link #timerJobWheelHorizon} and are created on this node
+     * should be registered in an in-memory timing wheel, which moves them to executable jobs as soon as they are due.
+     * The regular timer job acquisition remains the durable fallback (e.g. for timers created on other nodes or after a restart),
+     * so the {@link #defaultTimerJobAcquireWaitTime} can be increased when this is enabled.
+     */
+    private boolean timerJobWheelEnabled;
+    /**
+     * Only timer jobs that are due within this period from their creation are registered in the in-memory timing wheel.
+     */
+    private Duration timerJobWheelHorizon = Duration.ofMinutes(5);
+    /**
+     * The resolution of the in-memory timing wheel.
+     */
+    private Duration timerJobWheelTickDuration = Duration.ofMillis(100);
+    /**
+     * The number of slots of the in-memory timing wheel.
+     */
+    private int timerJobWheelSize = 512;
+
+    /**
+     * Whether the page size of the async and timer job acquisitions and the time to wait between acquisitions should be adjusted
+     * based on the yield of the acquisitions, optimistic locking exceptions, the occupancy of the queue and the execution time of the jobs.
+     * The {@link #maxAsyncJobsDuePerAcquisition}, {@link #maxTimerJobsPerAcquisition}, {@link #defaultAsyncJobAcquireWaitTime}
+     * and {@link #defaultTimerJobAcquireWaitTime} are then only used as initial values.
+     *
+     * @see AdaptiveAcquisitionController
+     */
+    private boolean adaptiveAcquisitionEnabled;
+    /**
+     * The minimum number of jobs acquired in one acquisition when adaptive acquisition is enabled.
+     */
+    private int adaptiveAcquisitionMinPageSize = 8;
+    /**
+     * The maximum number of jobs acquired in one acquisition when adaptive acquisition is enabled.
+     */
+    private int adaptiveAcquisitionMaxPageSize = 1024;
+    /**
+     * The minimum time to wait between acquisitions when adaptive acquisition is enabled.
+     * When a full page was acquired, the next acquisition is always done immediately.
+     */
+    private Duration adaptiveAcquisitionMinWaitTime = Duration.ofMillis(100);
+    /**
+     * The maximum time to wait between acquisitions when adaptive acquisition is enabled.
+     * The async job acquisition never waits longer than the {@link #defaultAsyncJobAcquireWaitTime} and the timer job acquisition
+     * never waits longer than the {@link #defaultTimerJobAcquireWaitTime}, so that new and due jobs are not delayed.
+     */
+    private Duration adaptiveAcquisitionMaxWaitTime = Duration.ofSeconds(30);
+    /**
+     * Is notified of the decisions of the adaptive acquisition, e.g. to export them as metrics.
+     */
+    private AdaptiveAcquisitionListener adaptiveAcquisitionListener;
+
+    /**
+     * The maximum number of due exclusive jobs of one process instance that are executed in one transaction.
+     * When this is larger than 1, the thread that has locked a process instance for an exclusive job
+     * also executes the other due exclusive jobs of that process instance, with one flush and one unlock.
+     * When one of the jobs fails, the jobs of the batch are executed again one by one, so only the failing job loses a retry.
+     * By default, every job is executed in its own transaction.
+     */
+    private int exclusiveJobBatchSize = 1;
+
     /**
      * The id of the tenant that the async executor should use when unlocking jobs.
      */
@@ -398,6 +460,94 @@ public class AsyncJobExecutorConfiguration {
         this.resetExpiredJobsPageSize = resetExpiredJobsPageSize;
     }
 
+    public boolean isTimerJobWheelEnabled() {
+        return timerJobWheelEnabled;
+    }
+
+    public void setTimerJobWheelEnabled(boolean timerJobWheelEnabled) {
+        this.timerJobWheelEnabled = timerJobWheelEnabled;
+    }
+
+    public Duration getTimerJobWheelHorizon() {
+        return timerJobWheelHorizon;
+    }
+
+    public void setTimerJobWheelHorizon(Duration timerJobWheelHorizon) {
+        this.timerJobWheelHorizon = timerJobWheelHorizon;
+    }
+
+    public Duration getTimerJobWheelTickDuration() {
+        return timerJobWheelTickDuration;
+    }
+
+    public void setTimerJobWheelTickDuration(Duration timerJobWheelTickDuration) {
+        this.timerJobWheelTickDuration = timerJobWheelTickDuration;
+    }
+
+    public int getTimerJobWheelSize() {
+        return timerJobWheelSize;
+    }
+
+    public void setTimerJobWheelSize(int timerJobWheelSize) {
+        this.timerJobWheelSize = timerJobWheelSize;
+    }
+
+    public boolean isAdaptiveAcquisitionEnabled() {
+        return adaptiveAcquisitionEnabled;
+    }
+
+    public void setAdaptiveAcquisitionEnabled(boolean adaptiveAcquisitionEnabled) {
+        this.adaptiveAcquisitionEnabled = adaptiveAcquisitionEnabled;
+    }
+
+    public int getAdaptiveAcquisitionMinPageSize() {
+        return adaptiveAcquisitionMinPageSize;
+    }
+
+    public void setAdaptiveAcquisitionMinPageSize(int adaptiveAcquisitionMinPageSize) {
+        this.adaptiveAcquisitionMinPageSize = adaptiveAcquisitionMinPageSize;
+    }
+
+    public int getAdaptiveAcquisitionMaxPageSize() {
+        return adaptiveAcquisitionMaxPageSize;
+    }
+
+    public void setAdaptiveAcquisitionMaxPageSize(int adaptiveAcquisitionMaxPageSize) {
+        this.adaptiveAcquisitionMaxPageSize = adaptiveAcquisitionMaxPageSize;
+    }
+
+    public Duration getAdaptiveAcquisitionMinWaitTime() {
+        return adaptiveAcquisitionMinWaitTime;
+    }
+
+    public void setAdaptiveAcquisitionMinWaitTime(Duration adaptiveAcquisitionMinWaitTime) {
+        this.adaptiveAcquisitionMinWaitTime = adaptiveAcquisitionMinWaitTime;
+    }
+
+    public Duration getAdaptiveAcquisitionMaxWaitTime() {
+        return adaptiveAcquisitionMaxWaitTime;
+    }
+
+    public void setAdaptiveAcquisitionMaxWaitTime(Duration adaptiveAcquisitionMaxWaitTime) {
+        this.adaptiveAcquisitionMaxWaitTime = adaptiveAcquisitionMaxWaitTime;
+    }
+
+    public AdaptiveAcquisitionListener getAdaptiveAcquisitionListener() {
+        return adaptiveAcquisitionListener;
+    }
+
+    public void setAdaptiveAcquisitionListener(AdaptiveAcquisitionListener adaptiveAcquisitionListener) {
+        this.adaptiveAcquisitionListener = adaptiveAcquisitionListener;
+    }
+
+    public int getExclusiveJobBatchSize() {
+        return exclusiveJobBatchSize;
+    }
+
+    public void setExclusiveJobBatchSize(int exclusiveJobBatchSize) {
+        this.exclusiveJobBatchSize = exclusiveJobBatchSize;
+    }
+
     public String getTenantId() {
         return tenantId;
     }
@@ -29,6 +29,7 @@ import org.flowable.job.api.Job;
 import org.flowable.job.api.JobInfo;
 import org.flowable.job.service.InternalJobCompatibilityManager;
 import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.cmd.ExecuteAsyncRunnableJobBatchCmd;
 import org.flowable.job.service.impl.cmd.ExecuteAsyncRunnableJobCmd;
 import org.flowable.job.service.impl.cmd.LockExclusiveJobCmd;
 import org.flowable.job.service.impl.cmd.UnlockExclusiveJobCmd;
@@ -104,7 +105,11 @@ public class ExecuteAsyncRunnable implements Runnable {
                 executeJob = lockJob();
             }
             if (executeJob) {
-                executeJob(lockingNeeded);
+                if (lockingNeeded && isExclusiveJobBatchingEnabled()) {
+                    executeJobBatch();
+                } else {
+                    executeJob(lockingNeeded);
+                }
             }
 
         } else { // history jobs
@@ -139,6 +144,34 @@ public class ExecuteAsyncRunnable implements Runnable {
         }
     }
 
+    protected boolean isExclusiveJobBatchingEnabled() {
+        Job job = (Job) this.job; // This method is only called for a regular Job
+        AsyncExecutor asyncExecutor = jobServiceConfiguration.getAsyncExecutor();
+        return asyncExecutor != null && asyncExecutor.getExclusiveJobBatchSize() > 1 && job.getProcessInstanceId() != null && job.getScopeType() == null;
+    }
+
+    protected void executeJobBatch() {
+        try {
+            List<String> executedJobIds = jobServiceConfiguration.getCommandExecutor().execute(
+                    new ExecuteAsyncRunnableJobBatchCmd((Job) job, jobServiceConfiguration.getAsyncExecutor().getExclusiveJobBatchSize(), jobServiceConfiguration));
+
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Executed {} exclusive jobs of process instance {} in one transaction", executedJobIds.size(), ((Job) job).getProcessInstanceId());
+            }
+
+        } catch (Throwable exception) {
+            // The transaction of the batch is rolled back, so none of the jobs lost a retry.
+            // This job is executed on its own, the other jobs of the batch are executed again when they are picked up.
+            // This way only the job that fails loses a retry.
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Exception while executing the exclusive jobs of process instance {} in one transaction, executing job {} on its own. Exception message: {}",
+                        ((Job) job).getProcessInstanceId(), job.getId(), exception.getMessage());
+            }
+
+            executeJob(true);
+        }
+    }
+
     protected void unlockJobIfNeeded() {
         if (this.job instanceof HistoryJob) {
             return;
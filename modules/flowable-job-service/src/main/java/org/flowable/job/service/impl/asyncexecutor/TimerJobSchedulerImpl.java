@@ -17,6 +17,9 @@ import static org.flowable.job.service.impl.util.JobProcessorUtil.callJobProcess
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
 import org.flowable.common.engine.api.delegate.event.FlowableEventDispatcher;
+import org.flowable.common.engine.impl.cfg.TransactionContext;
+import org.flowable.common.engine.impl.cfg.TransactionState;
+import org.flowable.common.engine.impl.context.Context;
 import org.flowable.job.service.JobProcessorContext;
 import org.flowable.job.service.JobServiceConfiguration;
 import org.flowable.job.service.event.impl.FlowableJobEventBuilder;
@@ -63,6 +66,21 @@ public class TimerJobSchedulerImpl implements TimerJobScheduler {
         }
         callJobProcessors(jobServiceConfiguration, JobProcessorContext.Phase.BEFORE_CREATE, timerJob);
         jobServiceConfiguration.getTimerJobEntityManager().insert(timerJob);
+        registerInTimerJobWheelIfNeeded(timerJob);
+    }
+
+    protected void registerInTimerJobWheelIfNeeded(TimerJobEntity timerJob) {
+        AsyncExecutor asyncExecutor = jobServiceConfiguration.getAsyncExecutor();
+        if (asyncExecutor == null || !asyncExecutor.isActive() || timerJob.getDuedate() == null) {
+            return;
+        }
+
+        TimerJobWheel timerJobWheel = asyncExecutor.getTimerJobWheel();
+        TransactionContext transactionContext = Context.getTransactionContext();
+        if (timerJobWheel != null && timerJobWheel.isActive() && transactionContext != null
+                && timerJob.getDuedate().getTime() - jobServiceConfiguration.getClock().getCurrentTime().getTime() <= timerJobWheel.getHorizonMillis()) {
+            transactionContext.addTransactionListener(TransactionState.COMMITTED, new TimerJobWheelTransactionListener(timerJob, timerJobWheel));
+        }
     }
 
     protected void sendTimerScheduledEvent(TimerJobEntity timerJob) {
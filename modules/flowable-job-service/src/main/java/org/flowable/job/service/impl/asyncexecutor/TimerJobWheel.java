@@ -0,0 +1,221 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A hashed timing wheel that keeps track of timer jobs that are due in the near future.
+ * <p>
+ * Timer jobs are registered (after the transaction that created them has been committed) with their due time.
+ * The wheel advances every tick and hands the ids of the timer jobs that became due to the due timer job handler,
+ * which is invoked on a separate thread pool so that slow database operations don't delay the ticking.
+ * Deadlines that are further away than one rotation of the wheel are kept in their slot with a number of remaining rounds.
+ * <p>
+ * The wheel is not durable: the regular timer job acquisition still picks up every timer job that was not fired in memory.
+ */
+public class TimerJobWheel {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TimerJobWheel.class);
+
+    protected final String name;
+    protected final long tickDurationMillis;
+    protected final long horizonMillis;
+    protected final int handlerPoolSize;
+    protected final Consumer<String> dueTimerJobHandler;
+
+    protected final List<List<TimerJobWheelEntry>> slots;
+    protected final Queue<TimerJobWheelEntry> pendingEntries = new ConcurrentLinkedQueue<>();
+    protected final AtomicInteger size = new AtomicInteger();
+
+    protected ScheduledExecutorService tickExecutorService;
+    protected ThreadPoolExecutor handlerExecutorService;
+    protected volatile long startTime;
+    protected long currentTick;
+
+    public TimerJobWheel(String name, long tickDurationMillis, int wheelSize, long horizonMillis, int handlerPoolSize, Consumer<String> dueTimerJobHandler) {
+        this.name = name;
+        this.tickDurationMillis = tickDurationMillis;
+        this.horizonMillis = horizonMillis;
+        this.handlerPoolSize = handlerPoolSize;
+        this.dueTimerJobHandler = dueTimerJobHandler;
+
+        this.slots = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            slots.add(new ArrayList<>());
+        }
+    }
+
+    public synchronized void start() {
+        if (tickExecutorService != null) {
+            return;
+        }
+
+        startTime = System.currentTimeMillis();
+        currentTick = 0;
+
+        tickExecutorService = Executors.newSingleThreadScheduledExecutor(new BasicThreadFactory.Builder()
+                .namingPattern(name + "-tick")
+                .daemon(true)
+                .build());
+
+        // The handler moves the timer jobs in the database, which means that the handler can be slow.
+        // When it can't keep up, the tick thread takes over (which slows down the wheel, but doesn't lose timers)
+        handlerExecutorService = new ThreadPoolExecutor(handlerPoolSize, handlerPoolSize, 5, TimeUnit.SECONDS, new ArrayBlockingQueue<>(1024),
+                new BasicThreadFactory.Builder().namingPattern(name + "-fire-%d").build(), new ThreadPoolExecutor.CallerRunsPolicy());
+        handlerExecutorService.allowCoreThreadTimeOut(true);
+
+        tickExecutorService.scheduleAtFixedRate(this::tick, tickDurationMillis, tickDurationMillis, TimeUnit.MILLISECONDS);
+        LOGGER.info("Started timer job wheel {} with tick duration {}ms, {} slots and horizon {}ms", name, tickDurationMillis, slots.size(), horizonMillis);
+    }
+
+    public synchronized void stop() {
+        if (tickExecutorService == null) {
+            return;
+        }
+
+        tickExecutorService.shutdownNow();
+        handlerExecutorService.shutdown();
+        try {
+            if (!handlerExecutorService.awaitTermination(10, TimeUnit.SECONDS)) {
+                LOGGER.warn("Timeout during shutdown of timer job wheel {}", name);
+            }
+        } catch (InterruptedException e) {
+            LOGGER.warn("Interrupted while shutting down the timer job wheel {}", name, e);
+            Thread.currentThread().interrupt();
+        }
+
+        tickExecutorService = null;
+        handlerExecutorService = null;
+
+        // The timer jobs that are still in the wheel will be picked up by the regular timer job acquisition
+        pendingEntries.clear();
+        for (List<TimerJobWheelEntry> slot : slots) {
+            slot.clear();
+        }
+        size.set(0);
+    }
+
+    /**
+     * Registers the timer job with the given id in the wheel.
+     *
+     * @return {@code true} if the timer job was registered, {@code false} if the wheel is not running or the due time is beyond the horizon
+     */
+    public boolean schedule(String timerJobId, long dueTimeMillis) {
+        if (!isActive() || dueTimeMillis - System.currentTimeMillis() > horizonMillis) {
+            return false;
+        }
+
+        pendingEntries.add(new TimerJobWheelEntry(timerJobId, dueTimeMillis));
+        size.incrementAndGet();
+        return true;
+    }
+
+    protected void tick() {
+        try {
+            long now = System.currentTimeMillis();
+            transferPendingEntries();
+
+            // Catch up with all the ticks that have elapsed (a tick can be delayed when the handler is saturated)
+            while (startTime + (currentTick + 1) * tickDurationMillis <= now) {
+                processSlot(slots.get((int) (currentTick % slots.size())));
+                currentTick++;
+            }
+
+        } catch (Throwable t) {
+            LOGGER.warn("Exception during tick of timer job wheel {}", name, t);
+        }
+    }
+
+    protected void transferPendingEntries() {
+        TimerJobWheelEntry entry;
+        while ((entry = pendingEntries.poll()) != null) {
+            long deadlineTick = Math.max((entry.dueTimeMillis - startTime + tickDurationMillis - 1) / tickDurationMillis, currentTick);
+            entry.remainingRounds = (deadlineTick - currentTick) / slots.size();
+            slots.get((int) (deadlineTick % slots.size())).add(entry);
+        }
+    }
+
+    protected void processSlot(List<TimerJobWheelEntry> slot) {
+        Iterator<TimerJobWheelEntry> iterator = slot.iterator();
+        while (iterator.hasNext()) {
+            TimerJobWheelEntry entry = iterator.next();
+            if (entry.remainingRounds <= 0) {
+                iterator.remove();
+                size.decrementAndGet();
+                fire(entry);
+            } else {
+                entry.remainingRounds--;
+            }
+        }
+    }
+
+    protected void fire(TimerJobWheelEntry entry) {
+        ThreadPoolExecutor executor = handlerExecutorService;
+        if (executor != null) {
+            executor.execute(() -> {
+                try {
+                    dueTimerJobHandler.accept(entry.timerJobId);
+                } catch (Throwable t) {
+                    LOGGER.warn("Exception while firing timer job {} from timer job wheel {}", entry.timerJobId, name, t);
+                }
+            });
+        }
+    }
+
+    public boolean isActive() {
+        return tickExecutorService != null;
+    }
+
+    /**
+     * @return the number of timer jobs that are currently waiting in the wheel
+     */
+    public int size() {
+        return size.get();
+    }
+
+    public long getHorizonMillis() {
+        return horizonMillis;
+    }
+
+    public long getTickDurationMillis() {
+        return tickDurationMillis;
+    }
+
+    protected static class TimerJobWheelEntry {
+
+        protected final String timerJobId;
+        protected final long dueTimeMillis;
+        protected long remainingRounds;
+
+        protected TimerJobWheelEntry(String timerJobId, long dueTimeMillis) {
+            this.timerJobId = timerJobId;
+            this.dueTimeMillis = dueTimeMillis;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import org.flowable.common.engine.impl.cfg.TransactionListener;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
+
+/**
+ * Registers a timer job in the {@link TimerJobWheel} once the transaction that created it has been committed.
+ */
+public class TimerJobWheelTransactionListener implements TransactionListener {
+
+    protected TimerJobEntity timerJob;
+    protected TimerJobWheel timerJobWheel;
+
+    public TimerJobWheelTransactionListener(TimerJobEntity timerJob, TimerJobWheel timerJobWheel) {
+        this.timerJob = timerJob;
+        this.timerJobWheel = timerJobWheel;
+    }
+
+    @Override
+    public void execute(CommandContext commandContext) {
+        if (timerJob.isDeleted() || timerJob.getDuedate() == null) {
+            // The timer was removed in the same transaction (e.g. a boundary timer on a task that completed immediately)
+            return;
+        }
+        timerJobWheel.schedule(timerJob.getId(), timerJob.getDuedate().getTime());
+    }
+}
@@ -33,6 +33,7 @@ public class AcquireJobsCmd implements Command<List<? extends JobInfoEntity>> {
 
     protected AsyncExecutor asyncExecutor;
     protected int remainingCapacity;
+    protected int maxAsyncJobsDuePerAcquisition;
     protected JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager;
 
     public AcquireJobsCmd(AsyncExecutor asyncExecutor) {
@@ -40,14 +41,20 @@ public class AcquireJobsCmd implements Command<List<? extends JobInfoEntity>> {
     }
 
     public AcquireJobsCmd(AsyncExecutor asyncExecutor, int remainingCapacity, JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager) {
+        this(asyncExecutor, remainingCapacity, asyncExecutor.getMaxAsyncJobsDuePerAcquisition(), jobEntityManager);
+    }
+
+    public AcquireJobsCmd(AsyncExecutor asyncExecutor, int remainingCapacity, int maxAsyncJobsDuePerAcquisition,
+            JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager) {
         this.asyncExecutor = asyncExecutor;
         this.remainingCapacity = remainingCapacity;
+        this.maxAsyncJobsDuePerAcquisition = maxAsyncJobsDuePerAcquisition;
         this.jobEntityManager = jobEntityManager;
     }
 
     @Override
     public List<? extends JobInfoEntity> execute(CommandContext commandContext) {
-        int maxResults = Math.min(remainingCapacity, asyncExecutor.getMaxAsyncJobsDuePerAcquisition());
+        int maxResults = Math.min(remainingCapacity, maxAsyncJobsDuePerAcquisition);
         List<String> enabledCategories = asyncExecutor.getJobServiceConfiguration().getEnabledJobCategories();
         List<? extends JobInfoEntity> jobs = jobEntityManager.findJobsToExecute(enabledCategories, new Page(0, maxResults));
 
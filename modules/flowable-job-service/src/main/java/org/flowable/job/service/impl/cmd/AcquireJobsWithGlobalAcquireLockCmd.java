@@ -33,17 +33,24 @@ public class AcquireJobsWithGlobalAcquireLockCmd implements Command<List<? exten
 
     protected AsyncExecutor asyncExecutor;
     protected int remainingCapacity;
+    protected int maxAsyncJobsDuePerAcquisition;
     protected JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager;
 
     public AcquireJobsWithGlobalAcquireLockCmd(AsyncExecutor asyncExecutor, int remainingCapacity, JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager) {
+        this(asyncExecutor, remainingCapacity, asyncExecutor.getMaxAsyncJobsDuePerAcquisition(), jobEntityManager);
+    }
+
+    public AcquireJobsWithGlobalAcquireLockCmd(AsyncExecutor asyncExecutor, int remainingCapacity, int maxAsyncJobsDuePerAcquisition,
+            JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager) {
         this.asyncExecutor = asyncExecutor;
         this.remainingCapacity = remainingCapacity;
+        this.maxAsyncJobsDuePerAcquisition = maxAsyncJobsDuePerAcquisition;
         this.jobEntityManager = jobEntityManager;
     }
 
     @Override
     public List<? extends JobInfoEntity> execute(CommandContext commandContext) {
-        int maxResults = Math.min(remainingCapacity, asyncExecutor.getMaxAsyncJobsDuePerAcquisition());
+        int maxResults = Math.min(remainingCapacity, maxAsyncJobsDuePerAcquisition);
         List<String> enabledCategories = asyncExecutor.getJobServiceConfiguration().getEnabledJobCategories();
 
         // When running with the global acquire lock, optimistic locking exceptions can't happen during acquire,
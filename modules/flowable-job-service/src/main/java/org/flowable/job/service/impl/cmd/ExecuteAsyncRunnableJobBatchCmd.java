@@ -0,0 +1,171 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.cmd;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.List;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
+import org.flowable.common.engine.api.delegate.event.FlowableEventDispatcher;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.job.api.Job;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.event.impl.FlowableJobEventBuilder;
+import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.job.service.impl.persistence.entity.JobEntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Executes an exclusive job for which the process instance lock is held, together with the other due exclusive jobs of the same process instance,
+ * in one transaction. The process instance is unlocked once, at the end of the same transaction.
+ * <p>
+ * Only jobs that are not locked are added to the batch. They are locked by the async executor of this engine in the transaction of the batch,
+ * so that the batch fails with an optimistic locking exception when another async executor acquires one of them concurrently.
+ * When one of the jobs fails, the transaction of the whole batch is rolled back and the caller is expected to execute the jobs one by one again.
+ * The command returns the ids of the executed jobs.
+ */
+public class ExecuteAsyncRunnableJobBatchCmd implements Command<List<String>>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ExecuteAsyncRunnableJobBatchCmd.class);
+
+    protected Job job;
+    protected int batchSize;
+    protected JobServiceConfiguration jobServiceConfiguration;
+
+    public ExecuteAsyncRunnableJobBatchCmd(Job job, int batchSize, JobServiceConfiguration jobServiceConfiguration) {
+        this.job = job;
+        this.batchSize = batchSize;
+        this.jobServiceConfiguration = jobServiceConfiguration;
+    }
+
+    @Override
+    public List<String> execute(CommandContext commandContext) {
+
+        if (job == null) {
+            throw new FlowableIllegalArgumentException("job is null");
+        }
+
+        if (job.getProcessInstanceId() == null) {
+            throw new FlowableIllegalArgumentException("job " + job.getId() + " is not part of a process instance");
+        }
+
+        JobEntityManager jobEntityManager = jobServiceConfiguration.getJobEntityManager();
+        List<JobEntity> jobs = new ArrayList<>(batchSize);
+
+        // The job needs to be refetched, as it could have been deleted by another concurrent job (see ExecuteAsyncRunnableJobCmd)
+        JobEntity lockedJob = jobEntityManager.findById(job.getId());
+        if (lockedJob != null) {
+            jobs.add(lockedJob);
+        }
+
+        AsyncExecutor asyncExecutor = jobServiceConfiguration.getAsyncExecutor();
+        if (asyncExecutor != null) {
+            Date now = jobServiceConfiguration.getClock().getCurrentTime();
+            for (JobEntity candidateJob : jobEntityManager.findJobsByProcessInstanceId(job.getProcessInstanceId())) {
+                if (jobs.size() >= batchSize) {
+                    break;
+                }
+
+                if (isBatchable(candidateJob, now)) {
+                    lockJob(candidateJob, asyncExecutor);
+                    jobs.add(candidateJob);
+                }
+            }
+        }
+
+        List<String> executedJobIds = new ArrayList<>(jobs.size());
+        FlowableEventDispatcher eventDispatcher = jobServiceConfiguration.getEventDispatcher();
+        for (JobEntity jobToExecute : jobs) {
+
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Executing async job {} in batch of process instance {}", jobToExecute.getId(), job.getProcessInstanceId());
+            }
+
+            jobServiceConfiguration.getJobManager().execute(jobToExecute);
+            executedJobIds.add(jobToExecute.getId());
+
+            if (eventDispatcher != null && eventDispatcher.isEnabled()) {
+                eventDispatcher.dispatchEvent(FlowableJobEventBuilder.createEntityEvent(FlowableEngineEventType.JOB_EXECUTION_SUCCESS, jobToExecute),
+                        jobServiceConfiguration.getEngineName());
+            }
+        }
+
+        // Part of the same transaction to avoid a race condition with the
+        // potentially new jobs (wrt process instance locking) that are created
+        // during the execution of the jobs of the batch
+        new UnlockExclusiveJobCmd(job, jobServiceConfiguration).execute(commandContext);
+
+        return executedJobIds;
+    }
+
+    protected boolean isBatchable(JobEntity candidateJob, Date now) {
+        if (candidateJob.getId().equals(job.getId()) || !candidateJob.isExclusive() || candidateJob.getScopeType() != null) {
+            return false;
+        }
+
+        if (candidateJob.getDuedate() != null && candidateJob.getDuedate().after(now)) {
+            return false;
+        }
+
+        // Acquired jobs are left to the async executor that acquired them
+        return candidateJob.getLockOwner() == null;
+    }
+
+    protected void lockJob(JobEntity candidateJob, AsyncExecutor asyncExecutor) {
+
+        // This will use the regular updates flush in the DbSqlSession
+        // This will trigger an optimistic locking exception when another executor
+        // acquires the job concurrently, as the revision will not match.
+
+        GregorianCalendar lockExpirationTime = new GregorianCalendar();
+        lockExpirationTime.setTime(jobServiceConfiguration.getClock().getCurrentTime());
+        lockExpirationTime.add(Calendar.MILLISECOND, asyncExecutor.getAsyncJobLockTimeInMillis());
+        candidateJob.setLockOwner(asyncExecutor.getLockOwner());
+        candidateJob.setLockExpirationTime(lockExpirationTime.getTime());
+    }
+
+    public Job getJob() {
+        return job;
+    }
+
+    public void setJob(Job job) {
+        this.job = job;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public JobServiceConfiguration getJobServiceConfiguration() {
+        return jobServiceConfiguration;
+    }
+
+    public void setJobServiceConfiguration(JobServiceConfiguration jobServiceConfiguration) {
+        this.jobServiceConfiguration = jobServiceConfiguration;
+    }
+
+}
@@ -0,0 +1,72 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.cmd;
+
+import java.util.Date;
+import java.util.List;
+
+import org.apache.commons.lang3.StringUtils;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Moves a single timer job, which became due in the {@link org.flowable.job.service.impl.asyncexecutor.TimerJobWheel}, to an executable job.
+ * <p>
+ * The timer job is only moved when it still exists, is due, belongs to an enabled job category and is not locked by a timer job acquisition.
+ * Deleting the timer job uses the revision check, so when another node moves the same timer job concurrently
+ * one of both will fail with an optimistic locking exception and the timer job is never fired twice.
+ */
+public class MoveTimerJobToExecutableJobCmd implements Command<Boolean> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MoveTimerJobToExecutableJobCmd.class);
+
+    protected String timerJobId;
+    protected JobServiceConfiguration jobServiceConfiguration;
+
+    public MoveTimerJobToExecutableJobCmd(String timerJobId, JobServiceConfiguration jobServiceConfiguration) {
+        this.timerJobId = timerJobId;
+        this.jobServiceConfiguration = jobServiceConfiguration;
+    }
+
+    @Override
+    public Boolean execute(CommandContext commandContext) {
+        TimerJobEntity timerJob = jobServiceConfiguration.getTimerJobEntityManager().findById(timerJobId);
+        if (timerJob == null) {
+            // Already moved by another node or removed in the meantime
+            return false;
+        }
+
+        Date now = jobServiceConfiguration.getClock().getCurrentTime();
+        if (timerJob.getDuedate() != null && timerJob.getDuedate().after(now)) {
+            LOGGER.debug("Timer job {} is not yet due according to the engine clock, leaving it to the timer job acquisition", timerJobId);
+            return false;
+        }
+
+        if (timerJob.getLockOwner() != null && timerJob.getLockExpirationTime() != null && timerJob.getLockExpirationTime().after(now)) {
+            // Acquired by a timer job acquisition, which will move it
+            return false;
+        }
+
+        List<String> enabledJobCategories = jobServiceConfiguration.getEnabledJobCategories();
+        if (enabledJobCategories != null && !enabledJobCategories.isEmpty()
+                && (StringUtils.isEmpty(timerJob.getCategory()) || !enabledJobCategories.contains(timerJob.getCategory()))) {
+            return false;
+        }
+
+        return jobServiceConfiguration.getJobManager().moveTimerJobToExecutableJob(timerJob) != null;
+    }
+}
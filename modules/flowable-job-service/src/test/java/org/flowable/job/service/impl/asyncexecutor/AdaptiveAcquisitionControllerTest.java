@@ -0,0 +1,163 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class AdaptiveAcquisitionControllerTest {
+
+    @Test
+    void fullPagesIncreasePageSizeUpToMaximum() {
+        AdaptiveAcquisitionController controller = new AdaptiveAcquisitionController("test", 8, 100, 100, 10_000, 16, 5000);
+
+        assertThat(controller.acquired(16, 16, 0, 1000)).isZero();
+        assertThat(controller.getPageSize()).isEqualTo(32);
+        assertThat(controller.acquired(32, 32, 0, 1000)).isZero();
+        assertThat(controller.getPageSize()).isEqualTo(64);
+        assertThat(controller.acquired(64, 64, 0, 1000)).isZero();
+        assertThat(controller.getPageSize()).isEqualTo(100);
+        assertThat(controller.acquired(100, 100, 0, 1000)).isZero();
+        assertThat(controller.getPageSize()).isEqualTo(100);
+        assertThat(controller.getAcquisitionCycles()).isEqualTo(4);
+    }
+
+    @Test
+    void pageSizeIsNotIncreasedWhenQueueIsFillingUp() {
+        AdaptiveAcquisitionController controller = new AdaptiveAcquisitionController("test", 8, 1000, 100, 10_000, 16, 5000);
+
+        // An empty queue with a capacity of 100
+        controller.acquired(16, 16, 0, 100);
+        assertThat(controller.getPageSize()).isEqualTo(32);
+
+        // After this acquisition the queue is 80% full
+        assertThat(controller.acquired(32, 32, 0, 52)).isZero();
+        assertThat(controller.getPageSize()).isEqualTo(32);
+    }
+
+    @Test
+    void emptyAcquisitionsBackOffUpToMaximumWaitTime() {
+        AdaptiveAcquisitionController controller = new AdaptiveAcquisitionController("test", 8, 1000, 100, 1000, 512, 200);
+
+        assertThat(controller.acquired(512, 0, 0, 100)).isEqualTo(400);
+        assertThat(controller.acquired(512, 0, 0, 100)).isEqualTo(800);
+        assertThat(controller.acquired(512, 0, 0, 100)).isEqualTo(1000);
+        assertThat(controller.acquired(512, 0, 0, 100)).isEqualTo(1000);
+
+        // The yield stays low, so the page size is reduced
+        assertThat(controller.getPageSize()).isLessThan(512);
+        assertThat(controller.getAcquisitionYield()).isLessThan(0.25);
+
+        // Jobs are coming in again, poll with the minimum wait time
+        assertThat(controller.acquired(controller.getPageSize(), 5, 0, 100)).isEqualTo(100);
+    }
+
+    @Test
+    void optimisticLockingExceptionsReducePageSize() {
+        AdaptiveAcquisitionController controller = new AdaptiveAcquisitionController("test", 8, 1000, 100, 10_000, 64, 100);
+
+        assertThat(controller.optimisticLockingException(100)).isEqualTo(200);
+        assertThat(controller.getPageSize()).isEqualTo(32);
+        assertThat(controller.optimisticLockingException(100)).isEqualTo(400);
+        assertThat(controller.getPageSize()).isEqualTo(16);
+        controller.optimisticLockingException(100);
+        controller.optimisticLockingException(100);
+        assertThat(controller.getPageSize()).isEqualTo(8);
+
+        assertThat(controller.getOptimisticLockingExceptions()).isEqualTo(4);
+        assertThat(controller.getConflictRate()).isGreaterThan(0.5);
+    }
+
+    @Test
+    void queueFullWaitTimeIsBasedOnJobExecutionTime() {
+        AdaptiveAcquisitionController controller = new AdaptiveAcquisitionController("test", 8, 1000, 10, 60_000, 64, 1000);
+
+        // The queue has a capacity of 100
+        controller.acquired(64, 0, 0, 100);
+
+        // Jobs take 20 ms
+        controller.recordJobExecution(TimeUnit.MILLISECONDS.toNanos(20));
+        long waitTime = controller.queueFull(0);
+
+        assertThat(controller.getJobExecutionTimeInMillis()).isGreaterThan(0.0);
+        assertThat(controller.getQueueOccupancy()).isGreaterThan(0.0);
+        assertThat(waitTime).isBetween(10L, 60_000L);
+    }
+
+    @Test
+    void rejectedJobsReducePageSize() {
+        AdaptiveAcquisitionController controller = new AdaptiveAcquisitionController("test", 8, 1000, 100, 10_000, 64, 1000);
+
+        long waitTime = controller.acquired(64, 64, 40, 100);
+
+        assertThat(controller.getPageSize()).isEqualTo(24);
+        assertThat(waitTime).isBetween(100L, 10_000L);
+    }
+
+    @Test
+    void recordedRunnableIsExecuted() {
+        AdaptiveAcquisitionController controller = new AdaptiveAcquisitionController("test", 8, 1000, 100, 10_000, 64, 1000);
+        boolean[] executed = new boolean[1];
+
+        controller.recordJobExecution(() -> executed[0] = true).run();
+        controller.acquired(64, 1, 0, 100);
+
+        assertThat(executed[0]).isTrue();
+        assertThat(controller.getJobThroughputPerSecond()).isGreaterThan(0.0);
+    }
+
+    @Test
+    void decisionsArePassedToListener() {
+        AdaptiveAcquisitionController controller = new AdaptiveAcquisitionController("test", 8, 1000, 100, 10_000, 16, 5000);
+        List<String> decisions = new ArrayList<>();
+        controller.setListener((decidingController, reason, previousPageSize, previousWaitTimeInMillis) -> decisions.add(
+                decidingController.getName() + ": " + reason + ", " + previousPageSize + " -> " + decidingController.getPageSize()
+                        + ", " + previousWaitTimeInMillis + " -> " + decidingController.getWaitTimeInMillis()));
+
+        controller.acquired(16, 16, 0, 1000);
+        controller.acquired(32, 0, 0, 1000);
+        controller.optimisticLockingException(1000);
+
+        assertThat(decisions).containsExactly(
+                "test: full page acquired, 16 -> 32, 5000 -> 0",
+                "test: no jobs acquired, 32 -> 32, 0 -> 100",
+                "test: optimistic locking exception, 32 -> 16, 100 -> 200");
+    }
+
+    @Test
+    void failingListenerDoesNotStopAcquisition() {
+        AdaptiveAcquisitionController controller = new AdaptiveAcquisitionController("test", 8, 1000, 100, 10_000, 16, 5000);
+        controller.setListener((decidingController, reason, previousPageSize, previousWaitTimeInMillis) -> {
+            throw new IllegalStateException("failing listener");
+        });
+
+        assertThat(controller.acquired(16, 16, 0, 1000)).isZero();
+        assertThat(controller.getPageSize()).isEqualTo(32);
+    }
+
+    @Test
+    void invalidBounds() {
+        assertThatThrownBy(() -> new AdaptiveAcquisitionController("test", 0, 10, 100, 1000, 10, 100))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new AdaptiveAcquisitionController("test", 10, 5, 100, 1000, 10, 100))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new AdaptiveAcquisitionController("test", 1, 10, 1000, 100, 10, 100))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
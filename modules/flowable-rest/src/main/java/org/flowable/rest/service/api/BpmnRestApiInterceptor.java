@@ -36,6 +36,7 @@ import org.flowable.engine.runtime.Execution;
 import org.flowable.engine.runtime.ExecutionQuery;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.engine.runtime.ProcessInstanceBuilder;
+import org.flowable.engine.runtime.ProcessInstanceBulkStartBuilder;
 import org.flowable.engine.runtime.ProcessInstanceQuery;
 import org.flowable.engine.task.Attachment;
 import org.flowable.engine.task.Comment;
@@ -74,6 +75,7 @@ import org.flowable.rest.service.api.runtime.process.ExecutionActionRequest;
 import org.flowable.rest.service.api.runtime.process.ExecutionChangeActivityStateRequest;
 import org.flowable.rest.service.api.runtime.process.ExecutionQueryRequest;
 import org.flowable.rest.service.api.runtime.process.InjectActivityRequest;
+import org.flowable.rest.service.api.runtime.process.ProcessInstanceBulkStartRequest;
 import org.flowable.rest.service.api.runtime.process.ProcessInstanceCreateRequest;
 import org.flowable.rest.service.api.runtime.process.ProcessInstanceQueryRequest;
 import org.flowable.rest.service.api.runtime.process.ProcessInstanceUpdateRequest;
@@ -164,6 +166,10 @@ public interface BpmnRestApiInterceptor {
     
     void createProcessInstance(ProcessInstanceBuilder processInstanceBuilder, ProcessInstanceCreateRequest request);
 
+    default void bulkStartProcessInstances(ProcessInstanceBulkStartBuilder processInstanceBulkStartBuilder, ProcessInstanceBulkStartRequest request) {
+        // Nothing to do by default
+    }
+
     void updateProcessInstance(ProcessInstance processInstance, ProcessInstanceUpdateRequest updateRequest);
 
     void deleteProcessInstance(ProcessInstance processInstance);
@@ -15,14 +15,19 @@ package org.flowable.rest.service.api.history;
 
 import static org.flowable.common.rest.api.PaginateListUtil.paginateList;
 
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.FlowableObjectNotFoundException;
 import org.flowable.common.engine.api.query.QueryProperty;
 import org.flowable.common.rest.api.DataResponse;
+import org.flowable.common.rest.api.StreamingDataResponseWriter;
 import org.flowable.engine.HistoryService;
 import org.flowable.rest.service.api.BpmnRestApiInterceptor;
 import org.flowable.rest.service.api.RestResponseFactory;
@@ -32,6 +37,8 @@ import org.flowable.task.api.history.HistoricTaskInstanceQuery;
 import org.flowable.task.service.impl.HistoricTaskInstanceQueryProperty;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 /**
  * @author Tijs Rademakers
  */
@@ -71,7 +78,24 @@ public class HistoricTaskInstanceBaseResource {
     @Autowired(required=false)
     protected BpmnRestApiInterceptor restApiInterceptor;
 
+    @Autowired
+    protected ObjectMapper objectMapper;
+
     protected DataResponse<HistoricTaskInstanceResponse> getQueryResponse(HistoricTaskInstanceQueryRequest queryRequest, Map<String, String> allRequestParams) {
+        HistoricTaskInstanceQuery query = createHistoricTaskInstanceQuery(queryRequest);
+        return paginateList(allRequestParams, queryRequest, query, "taskInstanceId", allowedSortProperties,
+            restResponseFactory::createHistoricTaskInstanceResponseList);
+    }
+
+    protected void writeStreamingQueryResponse(HistoricTaskInstanceQueryRequest queryRequest, Map<String, String> allRequestParams,
+            HttpServletRequest request, HttpServletResponse response) throws IOException {
+
+        HistoricTaskInstanceQuery query = createHistoricTaskInstanceQuery(queryRequest);
+        new StreamingDataResponseWriter(objectMapper).writeList(request, response, allRequestParams, queryRequest, query, "taskInstanceId",
+                allowedSortProperties, restResponseFactory::createHistoricTaskInstanceResponseList);
+    }
+
+    protected HistoricTaskInstanceQuery createHistoricTaskInstanceQuery(HistoricTaskInstanceQueryRequest queryRequest) {
         HistoricTaskInstanceQuery query = historyService.createHistoricTaskInstanceQuery();
 
         // Populate query based on request
@@ -302,8 +326,7 @@ public class HistoricTaskInstanceBaseResource {
             restApiInterceptor.accessHistoryTaskInfoWithQuery(query, queryRequest);
         }
 
-        return paginateList(allRequestParams, queryRequest, query, "taskInstanceId", allowedSortProperties,
-            restResponseFactory::createHistoricTaskInstanceResponseList);
+        return query;
     }
     
     /**
@@ -13,9 +13,14 @@
 
 package org.flowable.rest.service.api.history;
 
+import java.io.IOException;
 import java.util.Map;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
 import org.flowable.common.rest.api.DataResponse;
+import org.flowable.common.rest.api.StreamingDataResponseWriter;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -46,4 +51,19 @@ public class HistoricTaskInstanceQueryResource extends HistoricTaskInstanceBaseR
 
         return getQueryResponse(queryRequest, allRequestParams);
     }
+
+    @ApiOperation(value = "Query for historic task instances and stream the result", tags = {"History Task", "Query" }, nickname = "streamQueryHistoricTaskInstance",
+            notes = "Accepts the same request body and paging and sorting query-parameters as the regular query, but writes the historic task instances to the response while they are fetched, "
+                    + "so that the memory used doesn't depend on the page size. The response is gzip compressed when the client accepts it. "
+                    + "When the client accepts application/x-ndjson, every historic task instance is written on its own line, without the paging attributes.")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Indicates request was successful and the tasks are returned"),
+            @ApiResponse(code = 400, message = "Indicates a parameter was passed in the wrong format . The status-message contains additional information.")
+    })
+    @PostMapping(value = "/query/historic-task-instances", params = "stream=true", produces = { "application/json", StreamingDataResponseWriter.NDJSON_MEDIA_TYPE })
+    public void streamQueryHistoricTaskInstances(@RequestBody HistoricTaskInstanceQueryRequest queryRequest, @ApiParam(hidden = true) @RequestParam Map<String, String> allRequestParams,
+            HttpServletRequest request, HttpServletResponse response) throws IOException {
+
+        writeStreamingQueryResponse(queryRequest, allRequestParams, request, response);
+    }
 }
@@ -15,16 +15,21 @@ package org.flowable.rest.service.api.runtime.process;
 
 import static org.flowable.common.rest.api.PaginateListUtil.paginateList;
 
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.FlowableObjectNotFoundException;
 import org.flowable.common.engine.api.query.QueryProperty;
 import org.flowable.common.rest.api.DataResponse;
+import org.flowable.common.rest.api.StreamingDataResponseWriter;
 import org.flowable.engine.RepositoryService;
 import org.flowable.engine.RuntimeService;
 import org.flowable.engine.impl.ProcessInstanceQueryProperty;
@@ -37,6 +42,8 @@ import org.flowable.rest.service.api.engine.variable.QueryVariable;
 import org.flowable.rest.service.api.engine.variable.QueryVariable.QueryVariableOperation;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 /**
  * @author Frederik Heremans
  */
@@ -65,8 +72,23 @@ public class BaseProcessInstanceResource {
     @Autowired(required=false)
     protected BpmnRestApiInterceptor restApiInterceptor;
 
+    @Autowired
+    protected ObjectMapper objectMapper;
+
     protected DataResponse<ProcessInstanceResponse> getQueryResponse(ProcessInstanceQueryRequest queryRequest, Map<String, String> requestParams) {
+        ProcessInstanceQuery query = createProcessInstanceQuery(queryRequest);
+        return paginateList(requestParams, queryRequest, query, "id", allowedSortProperties, this::createProcessInstanceResponseList);
+    }
+
+    protected void writeStreamingQueryResponse(ProcessInstanceQueryRequest queryRequest, Map<String, String> requestParams,
+            HttpServletRequest request, HttpServletResponse response) throws IOException {
 
+        ProcessInstanceQuery query = createProcessInstanceQuery(queryRequest);
+        new StreamingDataResponseWriter(objectMapper).writeList(request, response, requestParams, queryRequest, query, "id", allowedSortProperties,
+                this::createProcessInstanceResponseList);
+    }
+
+    protected ProcessInstanceQuery createProcessInstanceQuery(ProcessInstanceQueryRequest queryRequest) {
         ProcessInstanceQuery query = runtimeService.createProcessInstanceQuery();
 
         // Populate query based on request
@@ -225,10 +247,13 @@ public class BaseProcessInstanceResource {
             restApiInterceptor.accessProcessInstanceInfoWithQuery(query, queryRequest);
         }
 
-        DataResponse<ProcessInstanceResponse> responseList = paginateList(requestParams, queryRequest, query, "id", allowedSortProperties, restResponseFactory::createProcessInstanceResponseList);
-        
+        return query;
+    }
+
+    protected List<ProcessInstanceResponse> createProcessInstanceResponseList(List<ProcessInstance> processInstances) {
+        List<ProcessInstanceResponse> processInstanceList = restResponseFactory.createProcessInstanceResponseList(processInstances);
+
         Set<String> processDefinitionIds = new HashSet<>();
-        List<ProcessInstanceResponse> processInstanceList = responseList.getData();
         for (ProcessInstanceResponse processInstanceResponse : processInstanceList) {
             if (!processDefinitionIds.contains(processInstanceResponse.getProcessDefinitionId())) {
                 processDefinitionIds.add(processInstanceResponse.getProcessDefinitionId());
@@ -251,7 +276,7 @@ public class BaseProcessInstanceResource {
             }
         }
         
-        return responseList;
+        return processInstanceList;
     }
 
     protected void addVariables(ProcessInstanceQuery processInstanceQuery, List<QueryVariable> variables) {
@@ -0,0 +1,101 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.rest.service.api.runtime.process;
+
+import java.util.List;
+
+import org.flowable.rest.service.api.engine.variable.RestVariable;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.annotation.JsonTypeInfo.Id;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+
+@ApiModel(description = "Only one of processDefinitionId or processDefinitionKey can be used in the request body")
+public class ProcessInstanceBulkStartRequest {
+
+    protected String processDefinitionId;
+    protected String processDefinitionKey;
+    protected String tenantId;
+    protected Integer batchSize;
+    protected List<ProcessInstanceBulkStartInstance> instances;
+
+    @ApiModelProperty(example = "oneTaskProcess:1:158")
+    public String getProcessDefinitionId() {
+        return processDefinitionId;
+    }
+
+    public void setProcessDefinitionId(String processDefinitionId) {
+        this.processDefinitionId = processDefinitionId;
+    }
+
+    @ApiModelProperty(example = "oneTaskProcess")
+    public String getProcessDefinitionKey() {
+        return processDefinitionKey;
+    }
+
+    public void setProcessDefinitionKey(String processDefinitionKey) {
+        this.processDefinitionKey = processDefinitionKey;
+    }
+
+    @ApiModelProperty(example = "tenant1")
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    public void setTenantId(String tenantId) {
+        this.tenantId = tenantId;
+    }
+
+    @ApiModelProperty(value = "The number of process instances started in one transaction", example = "100")
+    public Integer getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(Integer batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public List<ProcessInstanceBulkStartInstance> getInstances() {
+        return instances;
+    }
+
+    public void setInstances(List<ProcessInstanceBulkStartInstance> instances) {
+        this.instances = instances;
+    }
+
+    public static class ProcessInstanceBulkStartInstance {
+
+        protected String businessKey;
+        protected List<RestVariable> variables;
+
+        @ApiModelProperty(example = "myBusinessKey")
+        public String getBusinessKey() {
+            return businessKey;
+        }
+
+        public void setBusinessKey(String businessKey) {
+            this.businessKey = businessKey;
+        }
+
+        @JsonTypeInfo(use = Id.CLASS, defaultImpl = RestVariable.class)
+        public List<RestVariable> getVariables() {
+            return variables;
+        }
+
+        public void setVariables(List<RestVariable> variables) {
+            this.variables = variables;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.rest.service.api.runtime.process;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.swagger.annotations.ApiModelProperty;
+
+public class ProcessInstanceBulkStartResponse {
+
+    protected List<String> processInstanceIds = new ArrayList<>();
+    protected List<ProcessInstanceBulkStartFailure> failures = new ArrayList<>();
+
+    @ApiModelProperty(value = "The ids of the started process instances, in the order of the request")
+    public List<String> getProcessInstanceIds() {
+        return processInstanceIds;
+    }
+
+    public void setProcessInstanceIds(List<String> processInstanceIds) {
+        this.processInstanceIds = processInstanceIds;
+    }
+
+    @ApiModelProperty(value = "The process instances that could not be started")
+    public List<ProcessInstanceBulkStartFailure> getFailures() {
+        return failures;
+    }
+
+    public void setFailures(List<ProcessInstanceBulkStartFailure> failures) {
+        this.failures = failures;
+    }
+
+    public static class ProcessInstanceBulkStartFailure {
+
+        protected int index;
+        protected String businessKey;
+        protected String message;
+
+        public ProcessInstanceBulkStartFailure() {
+        }
+
+        public ProcessInstanceBulkStartFailure(int index, String businessKey, String message) {
+            this.index = index;
+            this.businessKey = businessKey;
+            this.message = message;
+        }
+
+        @ApiModelProperty(value = "The position of the process instance in the request, starting at 0", example = "3")
+        public int getIndex() {
+            return index;
+        }
+
+        public void setIndex(int index) {
+            this.index = index;
+        }
+
+        @ApiModelProperty(example = "myBusinessKey")
+        public String getBusinessKey() {
+            return businessKey;
+        }
+
+        public void setBusinessKey(String businessKey) {
+            this.businessKey = businessKey;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        public void setMessage(String message) {
+            this.message = message;
+        }
+    }
+}
@@ -26,8 +26,12 @@ import org.flowable.engine.RepositoryService;
 import org.flowable.engine.repository.ProcessDefinition;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.engine.runtime.ProcessInstanceBuilder;
+import org.flowable.engine.runtime.ProcessInstanceBulkStartBuilder;
+import org.flowable.engine.runtime.ProcessInstanceBulkStartResult;
 import org.flowable.rest.service.api.BulkDeleteInstancesRestActionRequest;
 import org.flowable.rest.service.api.engine.variable.RestVariable;
+import org.flowable.rest.service.api.runtime.process.ProcessInstanceBulkStartRequest.ProcessInstanceBulkStartInstance;
+import org.flowable.rest.service.api.runtime.process.ProcessInstanceBulkStartResponse.ProcessInstanceBulkStartFailure;
 import org.flowable.variable.api.history.HistoricVariableInstance;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -425,6 +429,78 @@ public class ProcessInstanceCollectionResource extends BaseProcessInstanceResour
         }
     }
 
+    @ApiOperation(value = "Start process instances in bulk", tags = { "Process Instances" }, nickname = "bulkStartProcessInstances",
+            notes = "Only one of *processDefinitionId* or *processDefinitionKey* can be used in the request body.\n\n"
+            + "The process definition is resolved once and the process instances are started in batches, every batch in its own transaction.\n\n"
+            + "A process instance that can't be started is reported in the *failures* of the response and doesn't abort the other starts.",
+            code = 200)
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Indicates the process instances were started, except the ones reported as failures."),
+            @ApiResponse(code = 400, message = "Indicates the process definition was not found or an invalid variable has been passed. Status description contains additional information about the error.")
+    })
+    @PostMapping(value = "/runtime/process-instances/bulk-start", produces = "application/json")
+    public ProcessInstanceBulkStartResponse bulkStartProcessInstances(@RequestBody ProcessInstanceBulkStartRequest request) {
+        if (request.getProcessDefinitionId() == null && request.getProcessDefinitionKey() == null) {
+            throw new FlowableIllegalArgumentException("Either processDefinitionId or processDefinitionKey is required.");
+        }
+
+        if (request.getProcessDefinitionId() != null && request.getProcessDefinitionKey() != null) {
+            throw new FlowableIllegalArgumentException("Only one of processDefinitionId or processDefinitionKey should be set.");
+        }
+
+        if (request.getTenantId() != null && request.getProcessDefinitionId() != null) {
+            throw new FlowableIllegalArgumentException("TenantId can only be used with processDefinitionKey.");
+        }
+
+        ProcessInstanceBulkStartBuilder processInstanceBulkStartBuilder = runtimeService.createProcessInstanceBulkStartBuilder();
+        if (request.getProcessDefinitionId() != null) {
+            processInstanceBulkStartBuilder.processDefinitionId(request.getProcessDefinitionId());
+        }
+        if (request.getProcessDefinitionKey() != null) {
+            processInstanceBulkStartBuilder.processDefinitionKey(request.getProcessDefinitionKey());
+        }
+        if (request.getTenantId() != null) {
+            processInstanceBulkStartBuilder.tenantId(request.getTenantId());
+        }
+        if (request.getBatchSize() != null) {
+            processInstanceBulkStartBuilder.batchSize(request.getBatchSize());
+        }
+
+        if (request.getInstances() != null) {
+            for (ProcessInstanceBulkStartInstance instance : request.getInstances()) {
+                Map<String, Object> startVariables = null;
+                if (instance.getVariables() != null && !instance.getVariables().isEmpty()) {
+                    startVariables = new HashMap<>();
+                    for (RestVariable variable : instance.getVariables()) {
+                        if (variable.getName() == null) {
+                            throw new FlowableIllegalArgumentException("Variable name is required.");
+                        }
+                        startVariables.put(variable.getName(), restResponseFactory.getVariableValue(variable));
+                    }
+                }
+                processInstanceBulkStartBuilder.addProcessInstance(instance.getBusinessKey(), startVariables);
+            }
+        }
+
+        if (restApiInterceptor != null) {
+            restApiInterceptor.bulkStartProcessInstances(processInstanceBulkStartBuilder, request);
+        }
+
+        try {
+            ProcessInstanceBulkStartResult result = processInstanceBulkStartBuilder.start();
+
+            ProcessInstanceBulkStartResponse response = new ProcessInstanceBulkStartResponse();
+            response.getProcessInstanceIds().addAll(result.getProcessInstanceIds());
+            for (ProcessInstanceBulkStartResult.Failure failure : result.getFailures()) {
+                response.getFailures().add(new ProcessInstanceBulkStartFailure(failure.getIndex(), failure.getBusinessKey(), failure.getException().getMessage()));
+            }
+            return response;
+
+        } catch (FlowableObjectNotFoundException e) {
+            throw new FlowableIllegalArgumentException(e.getMessage(), e);
+        }
+    }
+
     @ApiOperation(value = "Bulk delete process instances", tags = { "Process Instances" }, nickname = "deleteProcessInstances", code = 204)
     @ApiResponses(value = {
             @ApiResponse(code = 204, message = "Indicates the bulk of process instances was found and deleted. Response body is left empty intentionally."),
@@ -837,6 +837,67 @@ public class ProcessInstanceCollectionResourceTest extends BaseSpringRestTestCas
         closeResponse(executeRequest(httpPost, HttpStatus.SC_BAD_REQUEST));
     }
 
+    @Test
+    @Deployment(resources = { "org/flowable/rest/service/api/runtime/ProcessInstanceResourceTest.process-one.bpmn20.xml" })
+    public void testBulkStartProcessInstances() throws Exception {
+        ObjectNode requestNode = objectMapper.createObjectNode();
+        requestNode.put("processDefinitionKey", "processOne");
+        requestNode.put("batchSize", 2);
+        ArrayNode instancesNode = requestNode.putArray("instances");
+        for (int i = 0; i < 3; i++) {
+            ObjectNode instanceNode = instancesNode.addObject();
+            instanceNode.put("businessKey", "key" + i);
+            ObjectNode variableNode = instanceNode.putArray("variables").addObject();
+            variableNode.put("name", "position");
+            variableNode.put("value", i);
+            variableNode.put("type", "integer");
+        }
+
+        HttpPost httpPost = new HttpPost(SERVER_URL_PREFIX + RestUrls.createRelativeResourceUrl(RestUrls.URL_PROCESS_INSTANCE_COLLECTION) + "/bulk-start");
+        httpPost.setEntity(new StringEntity(requestNode.toString()));
+        CloseableHttpResponse response = executeRequest(httpPost, HttpStatus.SC_OK);
+
+        JsonNode responseNode = objectMapper.readTree(response.getEntity().getContent());
+        closeResponse(response);
+
+        List<ProcessInstance> processInstances = runtimeService.createProcessInstanceQuery().orderByProcessInstanceBusinessKey().asc().list();
+        assertThat(processInstances)
+                .extracting(ProcessInstance::getBusinessKey)
+                .containsExactly("key0", "key1", "key2");
+        assertThat(runtimeService.getVariable(processInstances.get(2).getId(), "position")).isEqualTo(2);
+
+        assertThatJson(responseNode)
+                .isEqualTo("{"
+                        + "processInstanceIds: ['" + processInstances.get(0).getId() + "', '" + processInstances.get(1).getId() + "', '"
+                        + processInstances.get(2).getId() + "'],"
+                        + "failures: []"
+                        + "}");
+    }
+
+    @Test
+    public void testBulkStartProcessInstancesExceptions() throws Exception {
+        HttpPost httpPost = new HttpPost(SERVER_URL_PREFIX + RestUrls.createRelativeResourceUrl(RestUrls.URL_PROCESS_INSTANCE_COLLECTION) + "/bulk-start");
+
+        // Try starting without id and key
+        ObjectNode requestNode = objectMapper.createObjectNode();
+        requestNode.putArray("instances").addObject().put("businessKey", "key");
+        httpPost.setEntity(new StringEntity(requestNode.toString()));
+        closeResponse(executeRequest(httpPost, HttpStatus.SC_BAD_REQUEST));
+
+        // Try starting with both id and key
+        requestNode.put("processDefinitionId", "123");
+        requestNode.put("processDefinitionKey", "456");
+        httpPost.setEntity(new StringEntity(requestNode.toString()));
+        closeResponse(executeRequest(httpPost, HttpStatus.SC_BAD_REQUEST));
+
+        // Try starting with unexisting process definition key
+        requestNode.remove("processDefinitionId");
+        httpPost.setEntity(new StringEntity(requestNode.toString()));
+        closeResponse(executeRequest(httpPost, HttpStatus.SC_BAD_REQUEST));
+
+        assertThat(runtimeService.createProcessInstanceQuery().count()).isZero();
+    }
+
     /**
      * Explicitly testing the statelessness of the Rest API.
      */
@@ -14,13 +14,16 @@
 package org.flowable.rest.service.api.runtime;
 
 import static net.javacrumbs.jsonunit.assertj.JsonAssertions.assertThatJson;
+import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.HashMap;
 
+import org.apache.http.HttpHeaders;
 import org.apache.http.HttpStatus;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpPost;
 import org.apache.http.entity.StringEntity;
+import org.apache.http.util.EntityUtils;
 import org.flowable.common.engine.impl.identity.Authentication;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.engine.test.Deployment;
@@ -223,6 +226,57 @@ public class ProcessInstanceQueryResourceTest extends BaseSpringRestTestCase {
                         + "}");
 
     }
+
+    /**
+     * Test streaming the result of a process instance query. POST query/process-instances?stream=true
+     */
+    @Test
+    @Deployment(resources = { "org/flowable/rest/service/api/runtime/ProcessInstanceQueryResourceTest.testQueryProcessInstancesPagingAndSorting.bpmn20.xml" })
+    public void testStreamQueryProcessInstances() throws Exception {
+        ProcessInstance processInstance1 = runtimeService.startProcessInstanceByKey("aOneTaskProcess");
+        ProcessInstance processInstance2 = runtimeService.startProcessInstanceByKey("bOneTaskProcess");
+        ProcessInstance processInstance3 = runtimeService.startProcessInstanceByKey("cOneTaskProcess");
+
+        ObjectNode requestNode = objectMapper.createObjectNode();
+        requestNode.put("size", 2);
+        requestNode.put("order", "desc");
+        requestNode.put("sort", "processDefinitionKey");
+
+        String url = RestUrls.createRelativeResourceUrl(RestUrls.URL_PROCESS_INSTANCE_QUERY) + "?stream=true";
+        HttpPost httpPost = new HttpPost(SERVER_URL_PREFIX + url);
+        httpPost.setEntity(new StringEntity(requestNode.toString()));
+        CloseableHttpResponse response = executeRequest(httpPost, HttpStatus.SC_OK);
+
+        // The streamed document is the same as the regular one
+        JsonNode rootNode = objectMapper.readTree(response.getEntity().getContent());
+        closeResponse(response);
+        assertThatJson(rootNode)
+                .when(Option.IGNORING_EXTRA_FIELDS)
+                .isEqualTo("{"
+                        + "data: [ {"
+                        + "         id: '" + processInstance3.getId() + "',"
+                        + "         processDefinitionName: 'The One Task Process'"
+                        + "      }, {"
+                        + "         id: '" + processInstance2.getId() + "'"
+                        + "      } ],"
+                        + "total: 3,"
+                        + "start: 0,"
+                        + "size: 2,"
+                        + "sort: 'processDefinitionKey',"
+                        + "order: 'desc'"
+                        + "}");
+
+        // Newline delimited JSON
+        httpPost = new HttpPost(SERVER_URL_PREFIX + url);
+        httpPost.addHeader(HttpHeaders.ACCEPT, "application/x-ndjson");
+        httpPost.setEntity(new StringEntity("{\"sort\": \"processDefinitionKey\"}"));
+        response = executeRequest(httpPost, HttpStatus.SC_OK);
+        String[] lines = EntityUtils.toString(response.getEntity()).split("\n");
+        closeResponse(response);
+        assertThat(lines).hasSize(3);
+        assertThatJson(lines[0]).when(Option.IGNORING_EXTRA_FIELDS).isEqualTo("{ id: '" + processInstance1.getId() + "' }");
+        assertThatJson(lines[2]).when(Option.IGNORING_EXTRA_FIELDS).isEqualTo("{ id: '" + processInstance3.getId() + "' }");
+    }
     
     @Test
     @Deployment(resources = { "org/flowable/rest/service/api/twoTaskProcess.bpmn20.xml" })
@@ -67,6 +67,7 @@ public class TaskServiceConfiguration extends AbstractServiceConfiguration<TaskS
 
     protected boolean enableTaskRelationshipCounts;
     protected boolean enableLocalization;
+    protected boolean enableTaskCandidateIndex;
 
     protected TaskQueryInterceptor taskQueryInterceptor;
     protected HistoricTaskQueryInterceptor historicTaskQueryInterceptor;
@@ -256,6 +257,15 @@ public class TaskServiceConfiguration extends AbstractServiceConfiguration<TaskS
         return this;
     }
 
+    public boolean isEnableTaskCandidateIndex() {
+        return enableTaskCandidateIndex;
+    }
+
+    public TaskServiceConfiguration setEnableTaskCandidateIndex(boolean enableTaskCandidateIndex) {
+        this.enableTaskCandidateIndex = enableTaskCandidateIndex;
+        return this;
+    }
+
     public TaskQueryInterceptor getTaskQueryInterceptor() {
         return taskQueryInterceptor;
     }
@@ -26,6 +26,7 @@ import org.flowable.common.engine.api.scope.ScopeTypes;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
 import org.flowable.common.engine.impl.persistence.cache.EntityCache;
+import org.flowable.common.engine.impl.query.QueryKeyset;
 import org.flowable.idm.api.Group;
 import org.flowable.idm.api.IdmIdentityService;
 import org.flowable.task.api.history.HistoricTaskInstance;
@@ -46,6 +47,10 @@ public class HistoricTaskInstanceQueryImpl extends AbstractVariableQueryImpl<His
         implements HistoricTaskInstanceQuery, CacheAwareQuery<HistoricTaskInstanceEntity> {
 
     private static final long serialVersionUID = 1L;
+
+    protected static final QueryKeyset<HistoricTaskInstance> KEYSET = new QueryKeyset<HistoricTaskInstance>(
+            HistoricTaskInstanceQueryProperty.HISTORIC_TASK_INSTANCE_ID.getName(), HistoricTaskInstance::getId)
+            .column(HistoricTaskInstanceQueryProperty.START.getName(), HistoricTaskInstance::getCreateTime);
     
     protected TaskServiceConfiguration taskServiceConfiguration;
     protected VariableServiceConfiguration variableServiceConfiguration;
@@ -194,6 +199,11 @@ public class HistoricTaskInstanceQueryImpl extends AbstractVariableQueryImpl<His
         this.variableServiceConfiguration = variableServiceConfiguration;
     }
 
+    @Override
+    protected QueryKeyset<HistoricTaskInstance> getKeyset() {
+        return KEYSET;
+    }
+
     @Override
     public long executeCount(CommandContext commandContext) {
         ensureVariablesInitialized();
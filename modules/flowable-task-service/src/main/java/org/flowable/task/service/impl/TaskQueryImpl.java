@@ -26,6 +26,8 @@ import org.flowable.common.engine.impl.db.SuspensionState;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
 import org.flowable.common.engine.impl.persistence.cache.EntityCache;
+import org.flowable.common.engine.impl.query.QueryKeyset;
+import org.flowable.identitylink.service.impl.util.TaskCandidateIndexUtil;
 import org.flowable.idm.api.Group;
 import org.flowable.idm.api.IdmIdentityService;
 import org.flowable.task.api.DelegationState;
@@ -48,6 +50,9 @@ import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEnt
 public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> implements TaskQuery, CacheAwareQuery<TaskEntity> {
 
     private static final long serialVersionUID = 1L;
+
+    protected static final QueryKeyset<Task> KEYSET = new QueryKeyset<Task>(TaskQueryProperty.TASK_ID.getName(), Task::getId)
+            .column(TaskQueryProperty.CREATE_TIME.getName(), Task::getCreateTime);
     
     protected TaskServiceConfiguration taskServiceConfiguration;
     protected IdmIdentityService idmIdentityService;
@@ -171,6 +176,8 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
     protected TaskQueryImpl currentOrQueryObject;
 
     private Collection<String> cachedCandidateGroups;
+    private transient List<List<String>> safeCandidateIndexKeys;
+    private transient boolean useCandidateIndex;
 
     public TaskQueryImpl() {
     }
@@ -2005,6 +2012,25 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
         return null;
     }
 
+    /**
+     * @return the keys of the candidate user and groups of this query in the task candidate index
+     */
+    public List<String> getCandidateIndexKeys() {
+        List<String> keys = new ArrayList<>();
+        String user = bothCandidateAndAssigned ? userIdForCandidateAndAssignee : candidateUser;
+        if (user != null) {
+            keys.add(TaskCandidateIndexUtil.getUserKey(user));
+        }
+
+        Collection<String> groups = getCandidateGroups();
+        if (groups != null) {
+            for (String group : groups) {
+                keys.add(TaskCandidateIndexUtil.getGroupKey(group));
+            }
+        }
+        return keys;
+    }
+
     protected Collection<String> getGroupsForCandidateUser(String candidateUser) {
         Collection<String> groupIds = new ArrayList<>();
         if (idmIdentityService != null) {
@@ -2227,6 +2253,11 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
         }
     }
 
+    @Override
+    protected QueryKeyset<Task> getKeyset() {
+        return KEYSET;
+    }
+
     @Override
     public long executeCount(CommandContext commandContext) {
         ensureVariablesInitialized();
@@ -2665,6 +2696,22 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
         this.safeCandidateGroups = safeCandidateGroups;
     }
 
+    public List<List<String>> getSafeCandidateIndexKeys() {
+        return safeCandidateIndexKeys;
+    }
+
+    public void setSafeCandidateIndexKeys(List<List<String>> safeCandidateIndexKeys) {
+        this.safeCandidateIndexKeys = safeCandidateIndexKeys;
+    }
+
+    public boolean isUseCandidateIndex() {
+        return useCandidateIndex;
+    }
+
+    public void setUseCandidateIndex(boolean useCandidateIndex) {
+        this.useCandidateIndex = useCandidateIndex;
+    }
+
     public List<List<String>> getSafeInvolvedGroups() {
         return safeInvolvedGroups;
     }
@@ -176,6 +176,12 @@ public class MybatisTaskDataManager extends AbstractDataManager<TaskEntity> impl
         if (taskQuery.getInvolvedGroups() != null) {
             taskQuery.setSafeInvolvedGroups(createSafeInValuesList(taskQuery.getInvolvedGroups()));
         }
+
+        if (taskServiceConfiguration.isEnableTaskCandidateIndex()) {
+            List<String> candidateIndexKeys = taskQuery.getCandidateIndexKeys();
+            taskQuery.setUseCandidateIndex(!candidateIndexKeys.isEmpty());
+            taskQuery.setSafeCandidateIndexKeys(createSafeInValuesList(candidateIndexKeys));
+        }
         
         if (taskQuery.getOrQueryObjects() != null && !taskQuery.getOrQueryObjects().isEmpty()) {
             for (TaskQueryImpl orTaskQuery : taskQuery.getOrQueryObjects()) {
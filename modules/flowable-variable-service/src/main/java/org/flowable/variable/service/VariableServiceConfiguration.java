@@ -68,6 +68,12 @@ public class VariableServiceConfiguration extends AbstractServiceConfiguration<V
      */
     protected boolean serializableVariableTypeTrackDeserializedObjects = true;
 
+    /**
+     * Whether tracked 'json' and 'serializable' variables detect changes by comparing a fingerprint of the value that is computed when it is read,
+     * instead of a copy of the value. The value is then only serialized again when the fingerprint changed.
+     */
+    protected boolean trackedVariableFingerprints;
+
     public VariableServiceConfiguration(String engineName) {
         super(engineName);
     }
@@ -231,6 +237,14 @@ public class VariableServiceConfiguration extends AbstractServiceConfiguration<V
         this.serializableVariableTypeTrackDeserializedObjects = serializableVariableTypeTrackDeserializedObjects;
     }
 
+    public boolean isTrackedVariableFingerprints() {
+        return trackedVariableFingerprints;
+    }
+
+    public void setTrackedVariableFingerprints(boolean trackedVariableFingerprints) {
+        this.trackedVariableFingerprints = trackedVariableFingerprints;
+    }
+
     public VariableInstanceValueModifier getVariableInstanceValueModifier() {
         return variableInstanceValueModifier;
     }
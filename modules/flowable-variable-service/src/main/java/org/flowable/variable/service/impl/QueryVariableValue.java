@@ -35,8 +35,9 @@ public class QueryVariableValue implements Serializable {
     private Object value;
     private QueryOperator operator;
 
-    private ValueFields valueField;
-    private VariableType valueType;
+    // Derived from the value when the query is executed
+    private transient ValueFields valueField;
+    private transient VariableType valueType;
     private boolean local;
 
     private String scopeType;
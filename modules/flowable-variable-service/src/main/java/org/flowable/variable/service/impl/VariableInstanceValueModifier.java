@@ -42,4 +42,14 @@ public interface VariableInstanceValueModifier {
      * @param tenantId the ID of the tenant the variable instance belongs to
      */
     void updateVariableValue(VariableInstance variableInstance, Object value, String tenantId);
+
+    /**
+     * Whether changes to the value of a variable instance of a tracked type (e.g. 'json' or 'serializable') are tracked.
+     * When false, changes to the value object are not stored, unless the value is set again.
+     *
+     * @param variableInstance the variable instance of which the value is read or set
+     */
+    default boolean isValueTracked(VariableInstance variableInstance) {
+        return true;
+    }
 }
@@ -0,0 +1,694 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.variable.service.impl.types;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.Serializable;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import org.flowable.common.engine.impl.util.ReflectUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link SerializableVariableCodec} for records and Java beans of the configured classes and packages (including their sub packages).
+ * <p>
+ * The values are written property by property, with the property name in front of each value, and read back through accessors that are generated
+ * once per class. Properties that were added to or removed from a class after a value was written are therefore no problem:
+ * a property that is missing in the stored value keeps its default value, and a stored property that no longer exists is skipped.
+ * <p>
+ * Java beans need a no-argument constructor. Only properties with both a public getter and a public setter are written.
+ * Records are created with their canonical constructor.
+ * <p>
+ * Property values of the primitive wrapper types, {@link String}, {@code byte[]}, {@link Date}, {@link Instant}, {@link LocalDate},
+ * {@link LocalDateTime}, {@link BigDecimal}, {@link BigInteger}, {@link UUID}, enums, {@link ArrayList}, {@link HashSet}, {@link LinkedHashSet},
+ * {@link HashMap}, {@link LinkedHashMap} and of the classes of this codec are written compactly.
+ * Other {@link Serializable} property values are written with Java serialization.
+ * Shared references are written as separate copies, and object graphs with cycles cannot be written by this codec.
+ * <p>
+ * The classes named in a stored value are loaded without being initialized, and only classes of this codec are instantiated,
+ * so that the stored bytes can't run the static initializer of another class.
+ */
+public class CompactBeanSerializableVariableCodec implements SerializableVariableCodec {
+
+    public static final String TYPE_MARKER = "compact-bean";
+
+    protected static final byte NULL = 0;
+    protected static final byte BOOLEAN = 1;
+    protected static final byte BYTE = 2;
+    protected static final byte SHORT = 3;
+    protected static final byte CHARACTER = 4;
+    protected static final byte INTEGER = 5;
+    protected static final byte LONG = 6;
+    protected static final byte FLOAT = 7;
+    protected static final byte DOUBLE = 8;
+    protected static final byte STRING = 9;
+    protected static final byte BYTES = 10;
+    protected static final byte DATE = 11;
+    protected static final byte INSTANT = 12;
+    protected static final byte LOCAL_DATE = 13;
+    protected static final byte LOCAL_DATE_TIME = 14;
+    protected static final byte BIG_DECIMAL = 15;
+    protected static final byte BIG_INTEGER = 16;
+    protected static final byte UUID_VALUE = 17;
+    protected static final byte ENUM = 18;
+    protected static final byte ARRAY_LIST = 19;
+    protected static final byte HASH_SET = 20;
+    protected static final byte LINKED_HASH_SET = 21;
+    protected static final byte HASH_MAP = 22;
+    protected static final byte LINKED_HASH_MAP = 23;
+    protected static final byte OBJECT = 24;
+    protected static final byte SERIALIZED = 25;
+
+    protected static final int MAX_DEPTH = 64;
+
+    protected static final Object MISSING = new Object();
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CompactBeanSerializableVariableCodec.class);
+
+    protected final Set<String> classNames = new HashSet<>();
+    protected final List<String> packageNames = new ArrayList<>();
+
+    protected final ClassValue<Optional<BeanDescriptor>> beanDescriptors = new ClassValue<>() {
+
+        @Override
+        protected Optional<BeanDescriptor> computeValue(Class<?> type) {
+            return Optional.ofNullable(BeanDescriptor.create(type));
+        }
+    };
+
+    public CompactBeanSerializableVariableCodec() {
+    }
+
+    public CompactBeanSerializableVariableCodec(Collection<Class<?>> classes, Collection<String> packageNames) {
+        if (classes != null) {
+            for (Class<?> type : classes) {
+                addClass(type);
+            }
+        }
+        if (packageNames != null) {
+            for (String packageName : packageNames) {
+                addPackage(packageName);
+            }
+        }
+    }
+
+    public CompactBeanSerializableVariableCodec addClass(Class<?> type) {
+        classNames.add(type.getName());
+        return this;
+    }
+
+    public CompactBeanSerializableVariableCodec addPackage(String packageName) {
+        packageNames.add(packageName);
+        return this;
+    }
+
+    @Override
+    public String getTypeMarker() {
+        return TYPE_MARKER;
+    }
+
+    @Override
+    public boolean canEncode(Class<?> type) {
+        return isConfigured(type) && beanDescriptors.get(type).isPresent();
+    }
+
+    protected boolean isConfigured(Class<?> type) {
+        return isConfigured(type.getName(), type.getPackageName());
+    }
+
+    protected boolean isConfigured(String className, String typePackageName) {
+        if (classNames.contains(className)) {
+            return true;
+        }
+
+        for (String packageName : packageNames) {
+            if (typePackageName.equals(packageName)
+                    || (typePackageName.startsWith(packageName) && typePackageName.charAt(packageName.length()) == '.')) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void encode(Object value, DataOutput output) throws IOException {
+        writeObject(value, output, 0);
+    }
+
+    @Override
+    public Object decode(DataInput input) throws IOException {
+        return readObject(input, 0);
+    }
+
+    protected void writeObject(Object value, DataOutput output, int depth) throws IOException {
+        BeanDescriptor beanDescriptor = beanDescriptors.get(value.getClass()).get();
+        output.writeUTF(value.getClass().getName());
+        output.writeShort(beanDescriptor.propertyNames.length);
+        for (int i = 0; i < beanDescriptor.propertyNames.length; i++) {
+            output.writeUTF(beanDescriptor.propertyNames[i]);
+            writeValue(beanDescriptor.getters[i].apply(value), output, depth);
+        }
+    }
+
+    protected Object readObject(DataInput input, int depth) throws IOException {
+        String className = input.readUTF();
+        // Only classes of this codec are instantiated, whatever class name is stored
+        int packageEnd = className.lastIndexOf('.');
+        if (!isConfigured(className, packageEnd > 0 ? className.substring(0, packageEnd) : "")) {
+            throw new IOException("Class " + className + " is not handled by the " + TYPE_MARKER + " codec");
+        }
+
+        Class<?> type = loadClass(className);
+        if (!canEncode(type)) {
+            throw new IOException("Class " + className + " is not handled by the " + TYPE_MARKER + " codec");
+        }
+
+        BeanDescriptor beanDescriptor = beanDescriptors.get(type).get();
+        Object[] values = new Object[beanDescriptor.propertyNames.length];
+        Arrays.fill(values, MISSING);
+
+        int propertyCount = input.readUnsignedShort();
+        for (int i = 0; i < propertyCount; i++) {
+            String propertyName = input.readUTF();
+            Object value = readValue(input, depth);
+            Integer index = beanDescriptor.propertyIndexes.get(propertyName);
+            if (index != null) {
+                values[index] = value;
+            }
+        }
+
+        try {
+            return beanDescriptor.newInstance(values);
+        } catch (RuntimeException e) {
+            throw new IOException("Could not create " + className + " from the stored properties", e);
+        }
+    }
+
+    protected void writeValue(Object value, DataOutput output, int depth) throws IOException {
+        if (value == null) {
+            output.writeByte(NULL);
+            return;
+        }
+
+        Class<?> type = value.getClass();
+        if (depth > MAX_DEPTH) {
+            // Also stops collections and maps that contain themselves
+            throw new IOException("Value of " + type.getName() + " is nested deeper than " + MAX_DEPTH + " levels, it might contain a cycle");
+        }
+
+        if (type == String.class) {
+            output.writeByte(STRING);
+            writeString((String) value, output);
+        } else if (type == Integer.class) {
+            output.writeByte(INTEGER);
+            output.writeInt((Integer) value);
+        } else if (type == Long.class) {
+            output.writeByte(LONG);
+            output.writeLong((Long) value);
+        } else if (type == Boolean.class) {
+            output.writeByte(BOOLEAN);
+            output.writeBoolean((Boolean) value);
+        } else if (type == Double.class) {
+            output.writeByte(DOUBLE);
+            output.writeDouble((Double) value);
+        } else if (type == Float.class) {
+            output.writeByte(FLOAT);
+            output.writeFloat((Float) value);
+        } else if (type == Short.class) {
+            output.writeByte(SHORT);
+            output.writeShort((Short) value);
+        } else if (type == Byte.class) {
+            output.writeByte(BYTE);
+            output.writeByte((Byte) value);
+        } else if (type == Character.class) {
+            output.writeByte(CHARACTER);
+            output.writeChar((Character) value);
+        } else if (type == byte[].class) {
+            output.writeByte(BYTES);
+            writeBytes((byte[]) value, output);
+        } else if (type == Date.class) {
+            output.writeByte(DATE);
+            output.writeLong(((Date) value).getTime());
+        } else if (type == Instant.class) {
+            output.writeByte(INSTANT);
+            output.writeLong(((Instant) value).getEpochSecond());
+            output.writeInt(((Instant) value).getNano());
+        } else if (type == LocalDate.class) {
+            output.writeByte(LOCAL_DATE);
+            output.writeLong(((LocalDate) value).toEpochDay());
+        } else if (type == LocalDateTime.class) {
+            output.writeByte(LOCAL_DATE_TIME);
+            output.writeLong(((LocalDateTime) value).toLocalDate().toEpochDay());
+            output.writeLong(((LocalDateTime) value).toLocalTime().toNanoOfDay());
+        } else if (type == BigDecimal.class) {
+            output.writeByte(BIG_DECIMAL);
+            writeBytes(((BigDecimal) value).unscaledValue().toByteArray(), output);
+            output.writeInt(((BigDecimal) value).scale());
+        } else if (type == BigInteger.class) {
+            output.writeByte(BIG_INTEGER);
+            writeBytes(((BigInteger) value).toByteArray(), output);
+        } else if (type == UUID.class) {
+            output.writeByte(UUID_VALUE);
+            output.writeLong(((UUID) value).getMostSignificantBits());
+            output.writeLong(((UUID) value).getLeastSignificantBits());
+        } else if (value instanceof Enum) {
+            output.writeByte(ENUM);
+            output.writeUTF(((Enum<?>) value).getDeclaringClass().getName());
+            output.writeUTF(((Enum<?>) value).name());
+        } else if (type == ArrayList.class) {
+            output.writeByte(ARRAY_LIST);
+            writeCollection((Collection<?>) value, output, depth);
+        } else if (type == HashSet.class) {
+            output.writeByte(HASH_SET);
+            writeCollection((Collection<?>) value, output, depth);
+        } else if (type == LinkedHashSet.class) {
+            output.writeByte(LINKED_HASH_SET);
+            writeCollection((Collection<?>) value, output, depth);
+        } else if (type == HashMap.class) {
+            output.writeByte(HASH_MAP);
+            writeMap((Map<?, ?>) value, output, depth);
+        } else if (type == LinkedHashMap.class) {
+            output.writeByte(LINKED_HASH_MAP);
+            writeMap((Map<?, ?>) value, output, depth);
+        } else if (canEncode(type)) {
+            output.writeByte(OBJECT);
+            writeObject(value, output, depth + 1);
+        } else if (value instanceof Serializable) {
+            output.writeByte(SERIALIZED);
+            writeSerialized(value, output);
+        } else {
+            throw new NotSerializableException(type.getName());
+        }
+    }
+
+    protected Object readValue(DataInput input, int depth) throws IOException {
+        if (depth > MAX_DEPTH) {
+            throw new IOException("Stored value is nested deeper than " + MAX_DEPTH + " levels");
+        }
+
+        byte tag = input.readByte();
+        switch (tag) {
+            case NULL:
+                return null;
+            case BOOLEAN:
+                return input.readBoolean();
+            case BYTE:
+                return input.readByte();
+            case SHORT:
+                return input.readShort();
+            case CHARACTER:
+                return input.readChar();
+            case INTEGER:
+                return input.readInt();
+            case LONG:
+                return input.readLong();
+            case FLOAT:
+                return input.readFloat();
+            case DOUBLE:
+                return input.readDouble();
+            case STRING:
+                return readString(input);
+            case BYTES:
+                return readBytes(input);
+            case DATE:
+                return new Date(input.readLong());
+            case INSTANT:
+                return Instant.ofEpochSecond(input.readLong(), input.readInt());
+            case LOCAL_DATE:
+                return LocalDate.ofEpochDay(input.readLong());
+            case LOCAL_DATE_TIME:
+                return LocalDateTime.of(LocalDate.ofEpochDay(input.readLong()), LocalTime.ofNanoOfDay(input.readLong()));
+            case BIG_DECIMAL:
+                return new BigDecimal(new BigInteger(readBytes(input)), input.readInt());
+            case BIG_INTEGER:
+                return new BigInteger(readBytes(input));
+            case UUID_VALUE:
+                return new UUID(input.readLong(), input.readLong());
+            case ENUM:
+                return readEnum(input);
+            case ARRAY_LIST:
+                return readCollection(input, new ArrayList<>(), depth);
+            case HASH_SET:
+                return readCollection(input, new HashSet<>(), depth);
+            case LINKED_HASH_SET:
+                return readCollection(input, new LinkedHashSet<>(), depth);
+            case HASH_MAP:
+                return readMap(input, new HashMap<>(), depth);
+            case LINKED_HASH_MAP:
+                return readMap(input, new LinkedHashMap<>(), depth);
+            case OBJECT:
+                return readObject(input, depth + 1);
+            case SERIALIZED:
+                return readSerialized(input);
+            default:
+                throw new IOException("Unknown value tag " + tag);
+        }
+    }
+
+    protected void writeString(String value, DataOutput output) throws IOException {
+        // writeUTF is limited to 64K bytes
+        writeBytes(value.getBytes(StandardCharsets.UTF_8), output);
+    }
+
+    protected String readString(DataInput input) throws IOException {
+        return new String(readBytes(input), StandardCharsets.UTF_8);
+    }
+
+    protected void writeBytes(byte[] value, DataOutput output) throws IOException {
+        output.writeInt(value.length);
+        output.write(value);
+    }
+
+    protected byte[] readBytes(DataInput input) throws IOException {
+        byte[] bytes = new byte[input.readInt()];
+        input.readFully(bytes);
+        return bytes;
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    protected Object readEnum(DataInput input) throws IOException {
+        String className = input.readUTF();
+        String name = input.readUTF();
+        Class<?> type = loadClass(className);
+        if (!type.isEnum()) {
+            throw new IOException("Class " + className + " is not an enum");
+        }
+        return Enum.valueOf((Class) type, name);
+    }
+
+    protected void writeCollection(Collection<?> collection, DataOutput output, int depth) throws IOException {
+        output.writeInt(collection.size());
+        for (Object element : collection) {
+            writeValue(element, output, depth + 1);
+        }
+    }
+
+    protected Collection<Object> readCollection(DataInput input, Collection<Object> collection, int depth) throws IOException {
+        int size = input.readInt();
+        for (int i = 0; i < size; i++) {
+            collection.add(readValue(input, depth + 1));
+        }
+        return collection;
+    }
+
+    protected void writeMap(Map<?, ?> map, DataOutput output, int depth) throws IOException {
+        output.writeInt(map.size());
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            writeValue(entry.getKey(), output, depth + 1);
+            writeValue(entry.getValue(), output, depth + 1);
+        }
+    }
+
+    protected Map<Object, Object> readMap(DataInput input, Map<Object, Object> map, int depth) throws IOException {
+        int size = input.readInt();
+        for (int i = 0; i < size; i++) {
+            Object key = readValue(input, depth + 1);
+            map.put(key, readValue(input, depth + 1));
+        }
+        return map;
+    }
+
+    protected void writeSerialized(Object value, DataOutput output) throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(baos)) {
+            oos.writeObject(value);
+        }
+        writeBytes(baos.toByteArray(), output);
+    }
+
+    protected Object readSerialized(DataInput input) throws IOException {
+        try (ObjectInputStream ois = createObjectInputStream(new ByteArrayInputStream(readBytes(input)))) {
+            return ois.readObject();
+        } catch (ClassNotFoundException e) {
+            throw new IOException("Could not read serialized property value", e);
+        }
+    }
+
+    protected ObjectInputStream createObjectInputStream(InputStream is) throws IOException {
+        return new ObjectInputStream(is) {
+
+            @Override
+            protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+                return loadClass(desc.getName());
+            }
+        };
+    }
+
+    /**
+     * Loads a class with the class loaders of {@link ReflectUtil#loadClass(String)}, without initializing it,
+     * so that a class name in the stored value can't run code before the class is checked.
+     */
+    protected Class<?> loadClass(String className) throws IOException {
+        ClassNotFoundException failure = null;
+        for (ClassLoader classLoader : Arrays.asList(ReflectUtil.getClassLoader(), Thread.currentThread().getContextClassLoader(),
+                ReflectUtil.class.getClassLoader())) {
+            if (classLoader != null) {
+                try {
+                    return Class.forName(className, false, classLoader);
+                } catch (ClassNotFoundException e) {
+                    if (failure == null) {
+                        failure = e;
+                    }
+                }
+            }
+        }
+        throw new IOException("Could not load class " + className, failure);
+    }
+
+    /**
+     * The properties of a record or Java bean class, with the accessors that are generated for them.
+     */
+    protected static class BeanDescriptor {
+
+        protected final String[] propertyNames;
+        protected final Class<?>[] propertyTypes;
+        protected final Function<Object, Object>[] getters;
+        protected final BiConsumer<Object, Object>[] setters;
+        protected final Map<String, Integer> propertyIndexes = new HashMap<>();
+        protected final MethodHandle constructor;
+
+        protected BeanDescriptor(List<String> propertyNames, List<Class<?>> propertyTypes, List<Function<Object, Object>> getters,
+                List<BiConsumer<Object, Object>> setters, MethodHandle constructor) {
+
+            this.propertyNames = propertyNames.toArray(new String[0]);
+            this.propertyTypes = propertyTypes.toArray(new Class<?>[0]);
+            this.getters = toArray(getters, new Function[0]);
+            this.setters = setters != null ? toArray(setters, new BiConsumer[0]) : null;
+            this.constructor = constructor;
+            for (int i = 0; i < this.propertyNames.length; i++) {
+                propertyIndexes.put(this.propertyNames[i], i);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        protected static <T> T[] toArray(List<?> list, Object[] array) {
+            return (T[]) list.toArray(array);
+        }
+
+        protected static BeanDescriptor create(Class<?> type) {
+            if (type.isPrimitive() || type.isArray() || type.isEnum() || type.isInterface() || Modifier.isAbstract(type.getModifiers())) {
+                return null;
+            }
+
+            try {
+                MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+                if (type.isRecord()) {
+                    return createForRecord(type, lookup);
+                } else {
+                    return createForBean(type, lookup);
+                }
+
+            } catch (NoSuchMethodException e) {
+                return null;
+            } catch (Throwable e) {
+                LOGGER.warn("Could not create the accessors of {}, its values are written with Java serialization", type.getName(), e);
+                return null;
+            }
+        }
+
+        protected static BeanDescriptor createForRecord(Class<?> type, MethodHandles.Lookup lookup) throws Throwable {
+            RecordComponent[] components = type.getRecordComponents();
+            List<String> propertyNames = new ArrayList<>(components.length);
+            List<Class<?>> propertyTypes = new ArrayList<>(components.length);
+            List<Function<Object, Object>> getters = new ArrayList<>(components.length);
+            for (RecordComponent component : components) {
+                propertyNames.add(component.getName());
+                propertyTypes.add(component.getType());
+                getters.add(createGetter(type, component.getAccessor(), lookup));
+            }
+
+            MethodHandle constructor = lookup.findConstructor(type, MethodType.methodType(void.class, propertyTypes.toArray(new Class<?>[0])))
+                    .asSpreader(Object[].class, components.length)
+                    .asType(MethodType.methodType(Object.class, Object[].class));
+
+            return new BeanDescriptor(propertyNames, propertyTypes, getters, null, constructor);
+        }
+
+        protected static BeanDescriptor createForBean(Class<?> type, MethodHandles.Lookup lookup) throws Throwable {
+            Constructor<?> noArgConstructor = type.getDeclaredConstructor();
+            MethodHandle constructor = lookup.unreflectConstructor(noArgConstructor).asType(MethodType.methodType(Object.class));
+
+            Map<String, Method> getterMethods = new TreeMap<>();
+            Map<String, Method> setterMethods = new HashMap<>();
+            for (Method method : type.getMethods()) {
+                if (Modifier.isStatic(method.getModifiers()) || method.isBridge() || method.isSynthetic()) {
+                    continue;
+                }
+
+                String name = method.getName();
+                if (method.getParameterCount() == 0 && method.getReturnType() != void.class && method.getDeclaringClass() != Object.class) {
+                    if (name.startsWith("get") && name.length() > 3) {
+                        getterMethods.put(decapitalize(name.substring(3)), method);
+                    } else if (name.startsWith("is") && name.length() > 2 && method.getReturnType() == boolean.class) {
+                        getterMethods.putIfAbsent(decapitalize(name.substring(2)), method);
+                    }
+
+                } else if (method.getParameterCount() == 1 && method.getReturnType() == void.class && name.startsWith("set") && name.length() > 3) {
+                    setterMethods.put(decapitalize(name.substring(3)), method);
+                }
+            }
+
+            List<String> propertyNames = new ArrayList<>();
+            List<Class<?>> propertyTypes = new ArrayList<>();
+            List<Function<Object, Object>> getters = new ArrayList<>();
+            List<BiConsumer<Object, Object>> setters = new ArrayList<>();
+            for (Map.Entry<String, Method> entry : getterMethods.entrySet()) {
+                Method getter = entry.getValue();
+                Method setter = setterMethods.get(entry.getKey());
+                if (setter != null && setter.getParameterTypes()[0] == getter.getReturnType()) {
+                    propertyNames.add(entry.getKey());
+                    propertyTypes.add(getter.getReturnType());
+                    getters.add(createGetter(type, getter, lookup));
+                    setters.add(createSetter(type, setter, lookup));
+                }
+            }
+
+            return new BeanDescriptor(propertyNames, propertyTypes, getters, setters, constructor);
+        }
+
+        @SuppressWarnings("unchecked")
+        protected static Function<Object, Object> createGetter(Class<?> type, Method method, MethodHandles.Lookup lookup) throws Throwable {
+            MethodHandle handle = lookup.unreflect(method);
+            CallSite callSite = LambdaMetafactory.metafactory(lookup, "apply", MethodType.methodType(Function.class),
+                    MethodType.methodType(Object.class, Object.class), handle,
+                    MethodType.methodType(MethodType.methodType(method.getReturnType()).wrap().returnType(), type));
+            return (Function<Object, Object>) callSite.getTarget().invokeExact();
+        }
+
+        @SuppressWarnings("unchecked")
+        protected static BiConsumer<Object, Object> createSetter(Class<?> type, Method method, MethodHandles.Lookup lookup) throws Throwable {
+            MethodHandle handle = lookup.unreflect(method);
+            CallSite callSite = LambdaMetafactory.metafactory(lookup, "accept", MethodType.methodType(BiConsumer.class),
+                    MethodType.methodType(void.class, Object.class, Object.class), handle,
+                    MethodType.methodType(void.class, type, MethodType.methodType(method.getParameterTypes()[0]).wrap().returnType()));
+            return (BiConsumer<Object, Object>) callSite.getTarget().invokeExact();
+        }
+
+        protected static String decapitalize(String name) {
+            // Same rule as java.beans.Introspector#decapitalize
+            if (name.length() > 1 && Character.isUpperCase(name.charAt(1)) && Character.isUpperCase(name.charAt(0))) {
+                return name;
+            }
+            return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+        }
+
+        protected Object newInstance(Object[] values) {
+            try {
+                if (setters == null) {
+                    for (int i = 0; i < values.length; i++) {
+                        if (values[i] == MISSING) {
+                            values[i] = defaultValue(propertyTypes[i]);
+                        }
+                    }
+                    return (Object) constructor.invokeExact(values);
+                }
+
+                Object bean = (Object) constructor.invokeExact();
+                for (int i = 0; i < values.length; i++) {
+                    if (values[i] != MISSING && (values[i] != null || !propertyTypes[i].isPrimitive())) {
+                        setters[i].accept(bean, values[i]);
+                    }
+                }
+                return bean;
+
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        protected static Object defaultValue(Class<?> type) {
+            if (!type.isPrimitive()) {
+                return null;
+            } else if (type == boolean.class) {
+                return false;
+            } else if (type == char.class) {
+                return (char) 0;
+            } else if (type == byte.class) {
+                return (byte) 0;
+            } else if (type == short.class) {
+                return (short) 0;
+            } else if (type == int.class) {
+                return 0;
+            } else if (type == long.class) {
+                return 0L;
+            } else if (type == float.class) {
+                return 0f;
+            } else {
+                return 0d;
+            }
+        }
+    }
+}
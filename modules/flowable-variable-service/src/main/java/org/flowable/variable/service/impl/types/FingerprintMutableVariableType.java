@@ -0,0 +1,38 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.variable.service.impl.types;
+
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
+
+/**
+ * An interface that can be implemented by a {@link org.flowable.variable.api.types.VariableType VariableType}
+ * that tracks changes to the data that it is saving by comparing a fingerprint of the value, instead of a copy of the value.
+ *
+ * @param <O> The type of the object being tracked
+ * @see VariableFingerprint
+ */
+public interface FingerprintMutableVariableType<O> {
+
+    /**
+     * @return a fingerprint that is equal for equal values and (almost always) different for different values
+     */
+    Object getFingerprint(O tracedObject, VariableInstanceEntity variableInstanceEntity);
+
+    /**
+     * Stores the value of the tracked object, when its fingerprint changed.
+     *
+     * @return whether the stored value changed
+     */
+    boolean updateValue(O tracedObject, VariableInstanceEntity variableInstanceEntity);
+
+}
@@ -0,0 +1,46 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.variable.service.impl.types;
+
+import java.util.Objects;
+
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
+
+/**
+ * A {@link TraceableObject} that keeps the fingerprint of the value that was read, instead of a copy of it.
+ * The value is only stored again when its fingerprint changed.
+ *
+ * @param <O> The type of the object being tracked
+ */
+public class FingerprintTraceableObject<O> extends TraceableObject<O, Object> {
+
+    protected FingerprintMutableVariableType<O> fingerprintType;
+
+    public FingerprintTraceableObject(FingerprintMutableVariableType<O> fingerprintType, O tracedObject, Object originalFingerprint,
+            VariableInstanceEntity variableInstanceEntity) {
+
+        super(null, tracedObject, originalFingerprint, variableInstanceEntity);
+        this.fingerprintType = fingerprintType;
+    }
+
+    @Override
+    public void updateIfValueChanged() {
+        if (tracedObject == variableInstanceEntity.getCachedValue()
+                && !Objects.equals(tracedObjectOriginalValue, fingerprintType.getFingerprint(tracedObject, variableInstanceEntity))) {
+
+            if (fingerprintType.updateValue(tracedObject, variableInstanceEntity)) {
+                recordVariableUpdate();
+            }
+        }
+    }
+}
@@ -12,12 +12,19 @@
  */
 package org.flowable.variable.service.impl.types;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.util.Map;
 import java.util.Objects;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 import org.apache.commons.lang3.StringUtils;
+import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.scope.ScopeTypes;
 import org.flowable.common.engine.impl.AbstractEngineConfiguration;
 import org.flowable.common.engine.impl.HasVariableServiceConfiguration;
@@ -27,29 +34,53 @@ import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
 import org.flowable.variable.api.types.ValueFields;
 import org.flowable.variable.api.types.VariableType;
 import org.flowable.variable.service.VariableServiceConfiguration;
+import org.flowable.variable.service.impl.VariableInstanceValueModifier;
 import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 
 /**
+ * Stores a {@link JsonNode} as text, or in a byte array when the text is longer than the max length.
+ * <p>
+ * By default, the byte array contains the json text. When a {@link #setBinaryObjectMapper(ObjectMapper) binary object mapper}
+ * (e.g. an object mapper with a Smile or CBOR factory) or a {@link #setCompressionThreshold(int) compression threshold} is set,
+ * the byte array starts with a marker that describes how the value is encoded. Byte arrays without the marker are read as json text,
+ * so existing values can always be read.
+ *
  * @author Tijs Rademakers
  * @author Filip Hrisafov
  */
-public class JsonType implements VariableType, MutableVariableType<JsonNode, JsonNode> {
+public class JsonType implements VariableType, MutableVariableType<JsonNode, JsonNode>, FingerprintMutableVariableType<JsonNode> {
 
     public static final String TYPE_NAME = "json";
 
     protected static final String LONG_JSON_TYPE_NAME = "longJson";
 
+    /**
+     * The first byte of an encoded byte array value. Json text never starts with it.
+     */
+    protected static final byte ENCODED_VALUE_MARKER = 0;
+    protected static final int ENCODED_VALUE_HEADER_LENGTH = 2;
+    protected static final byte ENCODING_FLAG_BINARY = 1;
+    protected static final byte ENCODING_FLAG_COMPRESSED = 2;
+
     private static final Logger LOGGER = LoggerFactory.getLogger(JsonType.class);
 
+    /**
+     * Writes the same json text as {@link JsonNode#toString()}.
+     */
+    protected static final ObjectWriter TEXT_WRITER = new ObjectMapper().writer();
+
     protected final int maxLength;
     protected final boolean trackObjects;
     protected final String typeName;
     protected ObjectMapper objectMapper;
+    protected ObjectMapper binaryObjectMapper;
+    protected int compressionThreshold = -1;
 
     public JsonType(int maxLength, ObjectMapper objectMapper, boolean trackObjects) {
         this(maxLength, objectMapper, trackObjects, TYPE_NAME);
@@ -97,7 +128,7 @@ public class JsonType implements VariableType, MutableVariableType<JsonNode, Jso
             byte[] bytes = valueFields.getBytes();
             if (bytes != null && bytes.length > 0) {
                 try {
-                    jsonValue = objectMapper.readTree(bytes);
+                    jsonValue = readBytes(bytes);
                     valueFields.setCachedValue(jsonValue);
                     traceValue(jsonValue, valueFields);
                 } catch (IOException e) {
@@ -116,12 +147,12 @@ public class JsonType implements VariableType, MutableVariableType<JsonNode, Jso
             valueFields.setCachedValue(null);
         } else {
             JsonNode jsonNode = (JsonNode) value;
-            String textValue = value.toString();
-            if (textValue.length() <= maxLength) {
+            String textValue = writeText(jsonNode);
+            if (textValue != null && textValue.length() <= maxLength) {
                 valueFields.setTextValue(textValue);
                 valueFields.setBytes(null);
             } else {
-                valueFields.setBytes(textValue.getBytes(StandardCharsets.UTF_8));
+                valueFields.setBytes(writeBytes(jsonNode, textValue));
                 valueFields.setTextValue(null);
             }
             valueFields.setCachedValue(jsonNode);
@@ -133,19 +164,110 @@ public class JsonType implements VariableType, MutableVariableType<JsonNode, Jso
     public boolean updateValueIfChanged(JsonNode originalNode, JsonNode originalCopyNode, VariableInstanceEntity variableInstanceEntity) {
         boolean valueChanged = false;
         if (!Objects.equals(originalNode, originalCopyNode)) {
-            String textValue = originalNode.toString();
-            if (textValue.length() <= maxLength) {
-                variableInstanceEntity.setTextValue(textValue);
-                if (variableInstanceEntity.getByteArrayRef() != null) {
-                    variableInstanceEntity.getByteArrayRef().delete(getEngineType(variableInstanceEntity.getScopeType()));
+            updateValue(originalNode, variableInstanceEntity);
+            valueChanged = true;
+        }
+        return valueChanged;
+    }
+
+    @Override
+    public Object getFingerprint(JsonNode tracedObject, VariableInstanceEntity variableInstanceEntity) {
+        return VariableFingerprint.of(tracedObject);
+    }
+
+    @Override
+    public boolean updateValue(JsonNode jsonNode, VariableInstanceEntity variableInstanceEntity) {
+        String textValue = writeText(jsonNode);
+        if (textValue != null && textValue.length() <= maxLength) {
+            variableInstanceEntity.setTextValue(textValue);
+            if (variableInstanceEntity.getByteArrayRef() != null) {
+                variableInstanceEntity.getByteArrayRef().delete(getEngineType(variableInstanceEntity.getScopeType()));
+            }
+        } else {
+            variableInstanceEntity.setTextValue(null);
+            variableInstanceEntity.setBytes(writeBytes(jsonNode, textValue));
+        }
+        return true;
+    }
+
+    /**
+     * Returns the json text of the node. When a binary object mapper is set, null is returned as soon as the text is longer than the max length,
+     * so that a long node is only written once, by the binary object mapper.
+     */
+    protected String writeText(JsonNode jsonNode) {
+        if (binaryObjectMapper == null) {
+            return jsonNode.toString();
+        }
+
+        MaxLengthWriter writer = new MaxLengthWriter(maxLength);
+        try {
+            TEXT_WRITER.writeValue(writer, jsonNode);
+            return writer.toString();
+        } catch (MaxLengthExceededException e) {
+            return null;
+        } catch (IOException e) {
+            throw new FlowableException("Could not write json value", e);
+        }
+    }
+
+    /**
+     * @param textValue the json text of the node, which is null when the node is written by the binary object mapper
+     */
+    protected byte[] writeBytes(JsonNode jsonNode, String textValue) {
+        if (binaryObjectMapper == null && compressionThreshold < 0) {
+            return textValue.getBytes(StandardCharsets.UTF_8);
+        }
+
+        try {
+            byte flags = 0;
+            byte[] content;
+            if (binaryObjectMapper != null) {
+                content = binaryObjectMapper.writeValueAsBytes(jsonNode);
+                flags |= ENCODING_FLAG_BINARY;
+            } else {
+                content = textValue.getBytes(StandardCharsets.UTF_8);
+            }
+
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream(content.length + ENCODED_VALUE_HEADER_LENGTH);
+            if (compressionThreshold >= 0 && content.length >= compressionThreshold) {
+                flags |= ENCODING_FLAG_COMPRESSED;
+                outputStream.write(ENCODED_VALUE_MARKER);
+                outputStream.write(flags);
+                try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+                    gzipOutputStream.write(content);
                 }
             } else {
-                variableInstanceEntity.setTextValue(null);
-                variableInstanceEntity.setBytes(textValue.getBytes(StandardCharsets.UTF_8));
+                outputStream.write(ENCODED_VALUE_MARKER);
+                outputStream.write(flags);
+                outputStream.write(content);
             }
-            valueChanged = true;
+            return outputStream.toByteArray();
+
+        } catch (IOException e) {
+            throw new FlowableException("Could not encode json value", e);
+        }
+    }
+
+    protected JsonNode readBytes(byte[] bytes) throws IOException {
+        if (bytes[0] != ENCODED_VALUE_MARKER || bytes.length < ENCODED_VALUE_HEADER_LENGTH) {
+            return objectMapper.readTree(bytes);
+        }
+
+        byte flags = bytes[1];
+        InputStream inputStream = new ByteArrayInputStream(bytes, ENCODED_VALUE_HEADER_LENGTH, bytes.length - ENCODED_VALUE_HEADER_LENGTH);
+        if ((flags & ENCODING_FLAG_COMPRESSED) != 0) {
+            inputStream = new GZIPInputStream(inputStream);
+        }
+
+        try (InputStream contentStream = inputStream) {
+            if ((flags & ENCODING_FLAG_BINARY) != 0) {
+                if (binaryObjectMapper == null) {
+                    throw new FlowableException("Json value is stored in a binary format, but no binary object mapper is configured");
+                }
+                return binaryObjectMapper.readTree(contentStream);
+            }
+            return objectMapper.readTree(contentStream);
         }
-        return valueChanged;
     }
 
     protected void traceValue(JsonNode value, ValueFields valueFields) {
@@ -153,16 +275,27 @@ public class JsonType implements VariableType, MutableVariableType<JsonNode, Jso
             CommandContext commandContext = Context.getCommandContext();
             if (commandContext != null) {
                 VariableServiceConfiguration variableServiceConfiguration = getVariableServiceConfiguration(valueFields);
-                if (variableServiceConfiguration != null) {
-                    commandContext.addCloseListener(new TraceableVariablesCommandContextCloseListener(
-                        new TraceableObject<>(this, value, value.deepCopy(), (VariableInstanceEntity) valueFields)
-                    ));
-                    
+                if (variableServiceConfiguration != null && isValueTracked(variableServiceConfiguration, valueFields)) {
+                    VariableInstanceEntity variableInstanceEntity = (VariableInstanceEntity) valueFields;
+                    if (variableServiceConfiguration.isTrackedVariableFingerprints()) {
+                        commandContext.addCloseListener(new TraceableVariablesCommandContextCloseListener(
+                            new FingerprintTraceableObject<>(this, value, VariableFingerprint.of(value), variableInstanceEntity)
+                        ));
+                    } else {
+                        commandContext.addCloseListener(new TraceableVariablesCommandContextCloseListener(
+                            new TraceableObject<>(this, value, value.deepCopy(), variableInstanceEntity)
+                        ));
+                    }
                 }
             }
         }
     }
     
+    protected boolean isValueTracked(VariableServiceConfiguration variableServiceConfiguration, ValueFields valueFields) {
+        VariableInstanceValueModifier variableInstanceValueModifier = variableServiceConfiguration.getVariableInstanceValueModifier();
+        return variableInstanceValueModifier == null || variableInstanceValueModifier.isValueTracked((VariableInstanceEntity) valueFields);
+    }
+
     protected VariableServiceConfiguration getVariableServiceConfiguration(ValueFields valueFields) {
         String engineType = getEngineType(valueFields.getScopeType());
         Map<String, AbstractEngineConfiguration> engineConfigurationMap = Context.getCommandContext().getEngineConfigurations();
@@ -190,6 +323,29 @@ public class JsonType implements VariableType, MutableVariableType<JsonNode, Jso
         }
     }
 
+    public ObjectMapper getBinaryObjectMapper() {
+        return binaryObjectMapper;
+    }
+
+    /**
+     * Sets the object mapper that encodes the values that are stored in a byte array, e.g. an object mapper with a Smile or CBOR factory.
+     * When null (the default), the values are stored as json text.
+     */
+    public void setBinaryObjectMapper(ObjectMapper binaryObjectMapper) {
+        this.binaryObjectMapper = binaryObjectMapper;
+    }
+
+    public int getCompressionThreshold() {
+        return compressionThreshold;
+    }
+
+    /**
+     * Sets the number of bytes from which values that are stored in a byte array are compressed. A negative value (the default) disables compression.
+     */
+    public void setCompressionThreshold(int compressionThreshold) {
+        this.compressionThreshold = compressionThreshold;
+    }
+
     @Override
     public boolean isAbleToStore(Object value) {
         if (value == null) {
@@ -197,4 +353,43 @@ public class JsonType implements VariableType, MutableVariableType<JsonNode, Jso
         }
         return value instanceof JsonNode;
     }
+
+    /**
+     * Collects the written text, and fails as soon as the text is longer than the max length.
+     */
+    protected static class MaxLengthWriter extends Writer {
+
+        protected final StringBuilder text = new StringBuilder();
+        protected final int maxLength;
+
+        public MaxLengthWriter(int maxLength) {
+            this.maxLength = maxLength;
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) throws IOException {
+            if (text.length() + len > maxLength) {
+                throw new MaxLengthExceededException();
+            }
+            text.append(cbuf, off, len);
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public String toString() {
+            return text.toString();
+        }
+    }
+
+    protected static class MaxLengthExceededException extends IOException {
+
+        private static final long serialVersionUID = 1L;
+    }
 }
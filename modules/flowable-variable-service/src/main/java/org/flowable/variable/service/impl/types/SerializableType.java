@@ -14,6 +14,8 @@ package org.flowable.variable.service.impl.types;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.ObjectInputStream;
@@ -21,8 +23,12 @@ import java.io.ObjectOutputStream;
 import java.io.ObjectStreamClass;
 import java.io.OutputStream;
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.common.engine.api.FlowableException;
@@ -36,18 +42,28 @@ import org.flowable.common.engine.impl.util.IoUtil;
 import org.flowable.common.engine.impl.util.ReflectUtil;
 import org.flowable.variable.api.types.ValueFields;
 import org.flowable.variable.service.VariableServiceConfiguration;
+import org.flowable.variable.service.impl.VariableInstanceValueModifier;
 import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
 
 /**
  * @author Tom Baeyens
  * @author Marcus Klimstra (CGI)
  */
-public class SerializableType extends ByteArrayType implements MutableVariableType<Object, byte[]> {
+public class SerializableType extends ByteArrayType implements MutableVariableType<Object, byte[]>, FingerprintMutableVariableType<Object> {
 
     public static final String TYPE_NAME = "serializable";
 
+    /**
+     * The first byte of a value that is written by a {@link SerializableVariableCodec}. A Java serialization stream always starts with 0xAC.
+     */
+    protected static final int CODEC_MARKER = 0xF1;
+
     protected boolean trackDeserializedObjects;
 
+    protected List<SerializableVariableCodec> codecs = new ArrayList<>();
+    protected Map<String, SerializableVariableCodec> codecsByTypeMarker = new HashMap<>();
+    protected ClassValue<Optional<SerializableVariableCodec>> codecByClass = createCodecByClass();
+
     @Override
     public String getTypeName() {
         return TYPE_NAME;
@@ -95,10 +111,20 @@ public class SerializableType extends ByteArrayType implements MutableVariableTy
             CommandContext commandContext = Context.getCommandContext();
             if (commandContext != null) {
                 VariableServiceConfiguration variableServiceConfiguration = getVariableServiceConfiguration(valueFields);
-                if (variableServiceConfiguration != null) {
-                    commandContext.addCloseListener(new TraceableVariablesCommandContextCloseListener(
-                        new TraceableObject<>(this, value, valueBytes, (VariableInstanceEntity) valueFields)
-                    ));
+                if (variableServiceConfiguration != null && isValueTracked(variableServiceConfiguration, valueFields)) {
+                    VariableInstanceEntity variableInstanceEntity = (VariableInstanceEntity) valueFields;
+                    if (variableServiceConfiguration.isTrackedVariableFingerprints()) {
+                        // A null value cannot be changed
+                        if (valueBytes != null) {
+                            commandContext.addCloseListener(new TraceableVariablesCommandContextCloseListener(
+                                new FingerprintTraceableObject<>(this, value, VariableFingerprint.of(valueBytes), variableInstanceEntity)
+                            ));
+                        }
+                    } else {
+                        commandContext.addCloseListener(new TraceableVariablesCommandContextCloseListener(
+                            new TraceableObject<>(this, value, valueBytes, variableInstanceEntity)
+                        ));
+                    }
                 }
             }
         }
@@ -125,26 +151,71 @@ public class SerializableType extends ByteArrayType implements MutableVariableTy
         return valueChanged;
     }
 
+    @Override
+    public Object getFingerprint(Object tracedObject, VariableInstanceEntity variableInstanceEntity) {
+        VariableFingerprint.FingerprintOutputStream fingerprintOutputStream = new VariableFingerprint.FingerprintOutputStream();
+        try {
+            writeValue(tracedObject, fingerprintOutputStream);
+        } catch (Exception e) {
+            throw new FlowableException("Couldn't serialize value '" + tracedObject + "' in variable '" + variableInstanceEntity.getName() + "'", e);
+        }
+        return fingerprintOutputStream.getFingerprint();
+    }
+
+    @Override
+    public boolean updateValue(Object tracedObject, VariableInstanceEntity variableInstanceEntity) {
+        // The stored bytes are still the original bytes, so the check for byte differences due to JDK changes is still done
+        return updateValueIfChanged(tracedObject, variableInstanceEntity.getBytes(), variableInstanceEntity);
+    }
+
     public byte[] serialize(Object value, ValueFields valueFields) {
         if (value == null) {
             return null;
         }
         ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        ObjectOutputStream oos = null;
         try {
-            oos = createObjectOutputStream(baos);
-            oos.writeObject(value);
+            writeValue(value, baos);
         } catch (Exception e) {
             throw new FlowableException("Couldn't serialize value '" + value + "' in variable '" + valueFields.getName() + "'", e);
-        } finally {
-            IoUtil.closeSilently(oos);
         }
         return baos.toByteArray();
     }
 
+    protected void writeValue(Object value, OutputStream outputStream) throws IOException {
+        SerializableVariableCodec codec = getCodec(value.getClass());
+        if (codec != null) {
+            DataOutputStream dataOutputStream = new DataOutputStream(outputStream);
+            dataOutputStream.writeByte(CODEC_MARKER);
+            dataOutputStream.writeUTF(codec.getTypeMarker());
+            codec.encode(value, dataOutputStream);
+            dataOutputStream.flush();
+
+        } else {
+            ObjectOutputStream oos = null;
+            try {
+                oos = createObjectOutputStream(outputStream);
+                oos.writeObject(value);
+            } finally {
+                IoUtil.closeSilently(oos);
+            }
+        }
+    }
+
     public Object deserialize(byte[] bytes, ValueFields valueFields) {
         ByteArrayInputStream bais = new ByteArrayInputStream(bytes);
         try {
+            if (bytes.length > 0 && (bytes[0] & 0xFF) == CODEC_MARKER) {
+                DataInputStream dataInputStream = new DataInputStream(bais);
+                dataInputStream.readByte();
+                String typeMarker = dataInputStream.readUTF();
+                SerializableVariableCodec codec = codecsByTypeMarker.get(typeMarker);
+                if (codec == null) {
+                    throw new FlowableException("No serializable variable codec with type marker '" + typeMarker + "' is registered to deserialize variable '"
+                            + valueFields.getName() + "'");
+                }
+                return codec.decode(dataInputStream);
+            }
+
             ObjectInputStream ois = createObjectInputStream(bais);
             Object deserializedObject = ois.readObject();
 
@@ -155,7 +226,53 @@ public class SerializableType extends ByteArrayType implements MutableVariableTy
             IoUtil.closeSilently(bais);
         }
     }
+
+    protected SerializableVariableCodec getCodec(Class<?> type) {
+        return codecs.isEmpty() ? null : codecByClass.get(type).orElse(null);
+    }
+
+    protected ClassValue<Optional<SerializableVariableCodec>> createCodecByClass() {
+        List<SerializableVariableCodec> currentCodecs = codecs;
+        return new ClassValue<>() {
+
+            @Override
+            protected Optional<SerializableVariableCodec> computeValue(Class<?> type) {
+                for (SerializableVariableCodec codec : currentCodecs) {
+                    if (codec.canEncode(type)) {
+                        return Optional.of(codec);
+                    }
+                }
+                return Optional.empty();
+            }
+        };
+    }
+
+    public List<SerializableVariableCodec> getCodecs() {
+        return codecs;
+    }
+
+    /**
+     * Sets the codecs that write the values of the classes they can encode, instead of Java serialization.
+     * The first codec that can encode the class of a value is used.
+     * Values that were written with Java serialization or with one of these codecs can be read.
+     */
+    public void setCodecs(List<SerializableVariableCodec> codecs) {
+        this.codecs = codecs != null ? new ArrayList<>(codecs) : new ArrayList<>();
+        Map<String, SerializableVariableCodec> codecsByTypeMarker = new HashMap<>();
+        for (SerializableVariableCodec codec : this.codecs) {
+            if (codecsByTypeMarker.put(codec.getTypeMarker(), codec) != null) {
+                throw new FlowableException("Multiple serializable variable codecs with type marker '" + codec.getTypeMarker() + "'");
+            }
+        }
+        this.codecsByTypeMarker = codecsByTypeMarker;
+        this.codecByClass = createCodecByClass();
+    }
     
+    protected boolean isValueTracked(VariableServiceConfiguration variableServiceConfiguration, ValueFields valueFields) {
+        VariableInstanceValueModifier variableInstanceValueModifier = variableServiceConfiguration.getVariableInstanceValueModifier();
+        return variableInstanceValueModifier == null || variableInstanceValueModifier.isValueTracked((VariableInstanceEntity) valueFields);
+    }
+
     protected VariableServiceConfiguration getVariableServiceConfiguration(ValueFields valueFields) {
         String engineType = getEngineType(valueFields.getScopeType());
         Map<String, AbstractEngineConfiguration> engineConfigurationMap = Context.getCommandContext().getEngineConfigurations();
@@ -0,0 +1,47 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.variable.service.impl.types;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Encodes the values of 'serializable' variables of specific classes, instead of Java serialization.
+ * <p>
+ * The {@link SerializableType} stores the {@link #getTypeMarker() type marker} of the codec in front of the encoded bytes,
+ * so the codec that wrote a value is used to read it again. Values of classes that no codec can encode are written with Java serialization,
+ * and values that were written with Java serialization can always be read, also after a codec has been registered.
+ * <p>
+ * Implementations must be thread safe, as one codec instance is used for all variables.
+ *
+ * @see CompactBeanSerializableVariableCodec
+ */
+public interface SerializableVariableCodec {
+
+    /**
+     * The marker that is stored together with the encoded bytes. It must be unique among the registered codecs and must not change
+     * as long as values encoded with it are stored.
+     */
+    String getTypeMarker();
+
+    /**
+     * Whether values of the given class are encoded by this codec.
+     */
+    boolean canEncode(Class<?> type);
+
+    void encode(Object value, DataOutput output) throws IOException;
+
+    Object decode(DataInput input) throws IOException;
+
+}
@@ -50,12 +50,16 @@ public class TraceableObject<O, C> {
     public void updateIfValueChanged() {
         if (tracedObject == variableInstanceEntity.getCachedValue()) {
             if (type.updateValueIfChanged(tracedObject, tracedObjectOriginalValue, variableInstanceEntity)) {
-                VariableServiceConfiguration variableServiceConfiguration = getVariableServiceConfiguration();
-                variableServiceConfiguration.getInternalHistoryVariableManager().recordVariableUpdate(
-                        variableInstanceEntity, variableServiceConfiguration.getClock().getCurrentTime());
+                recordVariableUpdate();
             }
         }
     }
+
+    protected void recordVariableUpdate() {
+        VariableServiceConfiguration variableServiceConfiguration = getVariableServiceConfiguration();
+        variableServiceConfiguration.getInternalHistoryVariableManager().recordVariableUpdate(
+                variableInstanceEntity, variableServiceConfiguration.getClock().getCurrentTime());
+    }
     
     protected VariableServiceConfiguration getVariableServiceConfiguration() {
         String engineType = getEngineType(variableInstanceEntity.getScopeType());
@@ -0,0 +1,131 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.variable.service.impl.types;
+
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Computes 64-bit fingerprints (FNV-1a) of variable values, which are used to detect changes to tracked variables
+ * without keeping a copy of the value.
+ * <p>
+ * The fingerprint of a json value is computed by walking the tree, so no json text is created for it.
+ * The fingerprint of a byte array is the same as the fingerprint of the bytes written to a {@link FingerprintOutputStream}.
+ */
+public class VariableFingerprint {
+
+    protected static final long OFFSET_BASIS = 0xcbf29ce484222325L;
+    protected static final long PRIME = 0x100000001b3L;
+
+    public static long of(byte[] bytes) {
+        long fingerprint = OFFSET_BASIS;
+        for (byte b : bytes) {
+            fingerprint = addByte(fingerprint, b);
+        }
+        return fingerprint;
+    }
+
+    public static long of(JsonNode jsonNode) {
+        return add(OFFSET_BASIS, jsonNode);
+    }
+
+    protected static long add(long fingerprint, JsonNode jsonNode) {
+        if (jsonNode == null) {
+            return add(fingerprint, -1L);
+        }
+
+        fingerprint = add(fingerprint, jsonNode.getNodeType().ordinal());
+        if (jsonNode.isObject()) {
+            fingerprint = add(fingerprint, jsonNode.size());
+            Iterator<Map.Entry<String, JsonNode>> fields = jsonNode.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                fingerprint = add(fingerprint, field.getKey());
+                fingerprint = add(fingerprint, field.getValue());
+            }
+
+        } else if (jsonNode.isArray()) {
+            fingerprint = add(fingerprint, jsonNode.size());
+            for (JsonNode element : jsonNode) {
+                fingerprint = add(fingerprint, element);
+            }
+
+        } else if (jsonNode.isTextual()) {
+            fingerprint = add(fingerprint, jsonNode.textValue());
+
+        } else if (jsonNode.isBoolean()) {
+            fingerprint = add(fingerprint, jsonNode.booleanValue() ? 1L : 0L);
+
+        } else if (jsonNode.isIntegralNumber() && jsonNode.canConvertToLong()) {
+            fingerprint = add(fingerprint, jsonNode.numberType().ordinal());
+            fingerprint = add(fingerprint, jsonNode.longValue());
+
+        } else if (jsonNode.isFloatingPointNumber() && !jsonNode.isBigDecimal()) {
+            fingerprint = add(fingerprint, jsonNode.numberType().ordinal());
+            fingerprint = add(fingerprint, Double.doubleToLongBits(jsonNode.doubleValue()));
+
+        } else if (!jsonNode.isNull() && !jsonNode.isMissingNode()) {
+            // Big numbers, binary and pojo nodes
+            fingerprint = add(fingerprint, jsonNode.toString());
+        }
+        return fingerprint;
+    }
+
+    protected static long add(long fingerprint, String value) {
+        fingerprint = add(fingerprint, value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            fingerprint = addByte(fingerprint, c >>> 8);
+            fingerprint = addByte(fingerprint, c);
+        }
+        return fingerprint;
+    }
+
+    protected static long add(long fingerprint, long value) {
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            fingerprint = addByte(fingerprint, (int) (value >>> shift));
+        }
+        return fingerprint;
+    }
+
+    protected static long addByte(long fingerprint, int value) {
+        return (fingerprint ^ (value & 0xff)) * PRIME;
+    }
+
+    /**
+     * An output stream that computes the fingerprint of the written bytes, without keeping them.
+     */
+    public static class FingerprintOutputStream extends OutputStream {
+
+        protected long fingerprint = OFFSET_BASIS;
+
+        @Override
+        public void write(int b) {
+            fingerprint = addByte(fingerprint, b);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            for (int i = offset; i < offset + length; i++) {
+                fingerprint = addByte(fingerprint, bytes[i]);
+            }
+        }
+
+        public long getFingerprint() {
+            return fingerprint;
+        }
+    }
+}